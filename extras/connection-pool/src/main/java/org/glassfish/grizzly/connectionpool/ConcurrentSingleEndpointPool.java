@@ -0,0 +1,871 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.CloseListener;
+import org.glassfish.grizzly.CloseType;
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.impl.FutureImpl;
+import org.glassfish.grizzly.impl.SafeFutureImpl;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.glassfish.grizzly.utils.Futures;
+
+/**
+ * The non-blocking {@link SingleEndpointPool} implementation.
+ *
+ * Unlike {@link SingleEndpointPool}, which guards its state with a single monitor, this pool doesn't take any lock on
+ * the take/release path: ready {@link Connection}s are kept in a lock-free LIFO stack, registered {@link Connection}s
+ * in a {@link ConcurrentMap}, the pool size is tracked by atomic counters and asynchronous consumers are parked in a
+ * lock-free hand-off queue. Whoever publishes a ready {@link Connection} or a waiting consumer re-checks the opposite
+ * side afterwards, so a {@link Connection} can't get stuck in the pool while a consumer is waiting. The keep-alive and
+ * TTL checks claim a ready {@link Connection} by removing it from the stack, the same way the consumers do, so a
+ * {@link Connection} is never closed after it has been taken.
+ *
+ * The pool supports the same configuration options and follows the same semantics as {@link SingleEndpointPool}; the
+ * only difference is that the <tt>maxPoolSize</tt> limit is enforced when a {@link Connection} is being registered, so
+ * under contention the number of in-flight connect operations might briefly exceed it (an extra {@link Connection} is
+ * closed as soon as it is established).
+ *
+ * <pre>
+ * SingleEndpointPool&lt;SocketAddress&gt; pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class)
+ *         .connectorHandler(transport).endpointAddress(address).maxPoolSize(64).build();
+ * </pre>
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link SocketAddress}
+ */
+public class ConcurrentSingleEndpointPool<E> extends SingleEndpointPool<E> {
+    private static final Logger LOGGER = Grizzly.logger(ConcurrentSingleEndpointPool.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<ConnectionInfo> READY_TIME_STAMP_UPDATER = AtomicLongFieldUpdater.newUpdater(ConnectionInfo.class,
+            "readyTimeStamp");
+
+    /**
+     * Returns non-blocking single endpoint pool {@link Builder}.
+     *
+     * @param <T> endpoint type
+     * @param endpointType endpoint address type, for example {@link SocketAddress} for TCP and UDP transports
+     * @return {@link Builder}
+     */
+    public static <T> Builder<T> builder(Class<T> endpointType) {
+        return new Builder<>();
+    }
+
+    /**
+     * {@link CompletionHandler} to be notified once {@link Endpoint#connect()} is complete
+     */
+    private final ConnectCompletionHandler connectCompletionHandler = new ConnectCompletionHandler();
+    /**
+     * {@link CloseListener} to be notified once pooled {@link Connection} is closed
+     */
+    private final PoolConnectionCloseListener closeListener = new PoolConnectionCloseListener();
+
+    /**
+     * The stack of ready connections: the most recently released connection is taken first, the head of the deque holds
+     * the connections idle for the longest time
+     */
+    private final ConcurrentLinkedDeque<ConnectionInfo<E>> readyConnections = new ConcurrentLinkedDeque<>();
+    /**
+     * The number of ready connections (the deque size is not a constant-time operation)
+     */
+    private final AtomicInteger readyConnectionsCount = new AtomicInteger();
+
+    /**
+     * The {@link ConcurrentMap} contains *all* pooled {@link Connection}s
+     */
+    private final ConcurrentMap<Connection, ConnectionInfo<E>> connectionsMap = new ConcurrentHashMap<>();
+
+    /**
+     * The waiting list of asynchronous polling clients
+     */
+    private final ConcurrentLinkedQueue<Link<AsyncPoll>> asyncWaitingList = new ConcurrentLinkedQueue<>();
+    /**
+     * The number of asynchronous polling clients in the waiting list
+     */
+    private final AtomicInteger asyncWaitingListSize = new AtomicInteger();
+
+    /**
+     * current pool size
+     */
+    private final AtomicInteger poolSize = new AtomicInteger();
+    /**
+     * Number of connections we're currently trying to establish and waiting for the result
+     */
+    private final AtomicInteger pendingConnectionsCount = new AtomicInteger();
+    /**
+     * Number of failed connect attempts.
+     */
+    private final AtomicInteger failedConnectAttempts = new AtomicInteger();
+
+    /**
+     * close flag
+     */
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+
+    private final int corePoolSize;
+    private final long connectTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final int maxReconnectAttempts;
+    private final long keepAliveTimeoutMillis;
+    private final long keepAliveCheckIntervalMillis;
+    private final long asyncPollTimeoutMillis;
+    private final long connectionTTLMillis;
+
+    /**
+     * Constructs ConcurrentSingleEndpointPool instance.
+     *
+     * @param endpoint {@link Endpoint} to be used to establish new {@link Connection}s
+     * @param corePoolSize the number of {@link Connection}s, kept in the pool, that are immune to keep-alive mechanism
+     * @param maxPoolSize the max number of {@link Connection}s kept by this pool
+     * @param delayedExecutor custom {@link DelayedExecutor} to be used by keep-alive and reconnect mechanisms
+     * @param connectTimeoutMillis timeout, after which, if a connection is not established, it is considered failed
+     * @param keepAliveTimeoutMillis the maximum number of milliseconds an idle {@link Connection} will be kept in the pool
+     * @param keepAliveCheckIntervalMillis the interval, which specifies how often the pool will perform idle
+     * {@link Connection}s check
+     * @param reconnectDelayMillis the delay to be used before the pool will repeat the attempt to connect to the endpoint
+     * after previous connect had failed
+     * @param maxReconnectAttempts the maximum number of reconnect attempts that may be made before failure notification.
+     * @param asyncPollTimeoutMillis the maximum time, the async poll operation could wait for a connection to become
+     * available
+     * @param connectionTTLMillis the maximum time, a connection could stay registered with the pool
+     * @param failFastWhenMaxSizeReached <tt>true</tt> if the "take" method should fail fast if there is no free connection
+     * in the pool and max pool size is reached
+     */
+    protected ConcurrentSingleEndpointPool(final Endpoint<E> endpoint, final int corePoolSize, final int maxPoolSize, final DelayedExecutor delayedExecutor,
+            final long connectTimeoutMillis, final long keepAliveTimeoutMillis, final long keepAliveCheckIntervalMillis, final long reconnectDelayMillis,
+            final int maxReconnectAttempts, final long asyncPollTimeoutMillis, final long connectionTTLMillis, final boolean failFastWhenMaxSizeReached) {
+        super(endpoint, corePoolSize, maxPoolSize, delayedExecutor, connectTimeoutMillis, keepAliveTimeoutMillis, keepAliveCheckIntervalMillis,
+                reconnectDelayMillis, maxReconnectAttempts, asyncPollTimeoutMillis, connectionTTLMillis, failFastWhenMaxSizeReached);
+
+        this.corePoolSize = corePoolSize;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+        this.maxReconnectAttempts = maxReconnectAttempts;
+        this.keepAliveTimeoutMillis = keepAliveTimeoutMillis;
+        this.keepAliveCheckIntervalMillis = keepAliveCheckIntervalMillis;
+        this.asyncPollTimeoutMillis = asyncPollTimeoutMillis;
+        this.connectionTTLMillis = connectionTTLMillis;
+    }
+
+    @Override
+    public int size() {
+        return poolSize.get() + pendingConnectionsCount.get();
+    }
+
+    @Override
+    public int getOpenConnectionsCount() {
+        return poolSize.get();
+    }
+
+    @Override
+    public int getReadyConnectionsCount() {
+        return readyConnectionsCount.get();
+    }
+
+    @Override
+    public boolean isMaxCapacityReached() {
+        return maxPoolSize != -1 && size() >= maxPoolSize;
+    }
+
+    @Override
+    public boolean isRegistered(final Connection connection) {
+        return connectionsMap.containsKey(connection);
+    }
+
+    @Override
+    public boolean isBusy(final Connection connection) {
+        return isBusy0(connectionsMap.get(connection));
+    }
+
+    @Override
+    boolean isBusy0(final ConnectionInfo<E> connectionRecord) {
+        return connectionRecord != null && !connectionRecord.isReady();
+    }
+
+    @Override
+    boolean isReady0(final ConnectionInfo<E> info) {
+        return info.readyTimeStamp != -1;
+    }
+
+    @Override
+    long getReadyTimeStamp0(final ConnectionInfo<E> info) {
+        return info.readyTimeStamp;
+    }
+
+    @Override
+    public ConnectionInfo<E> getConnectionInfo(final Connection connection) {
+        return connectionsMap.get(connection);
+    }
+
+    @Override
+    public GrizzlyFuture<Connection> take() {
+        try {
+            if (isClosed.get()) {
+                return Futures.createReadyFuture(new IOException("The pool is closed"));
+            }
+
+            final ConnectionInfo<E> info = pollReady();
+            if (info != null) {
+                return Futures.createReadyFuture(info.connection);
+            }
+
+            if (!isWaitingAllowed()) {
+                return Futures.createReadyFuture(new IOException("Max connections exceeded"));
+            }
+
+            final AsyncPoll asyncPoll = new AsyncPoll(this);
+            final Link<AsyncPoll> pollLink = new Link<>(asyncPoll);
+
+            final FutureImpl<Connection> cancellableFuture = new SafeFutureImpl<Connection>() {
+                @Override
+                protected void onComplete() {
+                    try {
+                        if (!isCancelled()) {
+                            get();
+                            return;
+                        }
+                    } catch (Throwable ignored) {
+                    }
+
+                    removeFromAsyncWaitingList(pollLink);
+                }
+            };
+
+            asyncPoll.future = cancellableFuture;
+            enqueue(pollLink);
+
+            return cancellableFuture;
+        } catch (Exception e) {
+            return Futures.createReadyFuture(e);
+        }
+    }
+
+    @Override
+    public void take(final CompletionHandler<Connection> completionHandler) {
+        if (completionHandler == null) {
+            throw new IllegalArgumentException("The completionHandler argument can not be null");
+        }
+
+        try {
+            if (isClosed.get()) {
+                completionHandler.failed(new IOException("The pool is closed"));
+                return;
+            }
+
+            final ConnectionInfo<E> info = pollReady();
+            if (info != null) {
+                completionHandler.completed(info.connection);
+                return;
+            }
+
+            if (!isWaitingAllowed()) {
+                completionHandler.failed(new IOException("Max connections exceeded"));
+                return;
+            }
+
+            final AsyncPoll asyncPoll = new AsyncPoll(this);
+            asyncPoll.completionHandler = completionHandler;
+
+            enqueue(new Link<>(asyncPoll));
+        } catch (Exception e) {
+            completionHandler.failed(e);
+        }
+    }
+
+    @Override
+    public Connection poll() throws IOException {
+        if (isClosed.get()) {
+            throw new IOException("The pool is closed");
+        }
+
+        final ConnectionInfo<E> info = pollReady();
+        return info != null ? info.connection : null;
+    }
+
+    @Override
+    public boolean release(final Connection connection) {
+        final ConnectionInfo<E> info = connectionsMap.get(connection);
+        if (info == null) {
+            connection.closeSilently();
+            return false;
+        }
+
+        return release0(info);
+    }
+
+    @Override
+    boolean release0(final ConnectionInfo<E> info) {
+        if (info.isReady()) {
+            return false;
+        }
+
+        // close pooled connection, if keepAliveTimeoutMillis == 0
+        if (keepAliveTimeoutMillis == 0 && poolSize.get() > corePoolSize) {
+            detach(info.connection);
+            info.connection.closeSilently();
+            return false;
+        }
+
+        return offerReady(info);
+    }
+
+    @Override
+    public boolean attach(final Connection connection) throws IOException {
+        if (isClosed.get()) {
+            throw new IOException("The pool is closed");
+        }
+
+        if (connectionsMap.containsKey(connection)) {
+            return true;
+        }
+
+        if (!tryIncrementPoolSize(pendingConnectionsCount.get())) {
+            return false;
+        }
+
+        if (register(new ConnectionInfo<>(connection, this)) == null) {
+            // the connection has been attached concurrently
+            poolSize.decrementAndGet();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean detach(final Connection connection) {
+        final ConnectionInfo<E> info = connectionsMap.remove(connection);
+        if (info != null) {
+            connection.removeCloseListener(closeListener);
+            deregisterConnection(info);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (!isClosed.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            ConnectionInfo<E> info;
+            while ((info = pollReady()) != null) {
+                info.connection.closeSilently();
+            }
+
+            IOException exception = null;
+            AsyncPoll asyncPoll;
+            while ((asyncPoll = obtainFromAsyncWaitingList()) != null) {
+                if (exception == null) {
+                    exception = new IOException("The pool is closed");
+                }
+
+                try {
+                    Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, exception);
+                } catch (Exception ignored) {
+                }
+            }
+
+            for (ConnectionInfo<E> registered : connectionsMap.values()) {
+                if (connectionsMap.remove(registered.connection, registered)) {
+                    deregisterConnection(registered);
+                }
+            }
+        } finally {
+            // release the delayed executor resources
+            super.close();
+        }
+    }
+
+    @Override
+    protected boolean checkBeforeOpeningConnection() {
+        if (isClosed.get()) {
+            return false;
+        }
+
+        for (;;) {
+            final int pending = pendingConnectionsCount.get();
+            if (pending >= asyncWaitingListSize.get() || maxPoolSize != -1 && poolSize.get() + pending >= maxPoolSize) {
+                return false;
+            }
+
+            if (pendingConnectionsCount.compareAndSet(pending, pending + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    protected int getWaitingListSize() {
+        return asyncWaitingListSize.get();
+    }
+
+    @Override
+    boolean isOverflown() {
+        return maxPoolSize != -1 && poolSize.get() >= maxPoolSize;
+    }
+
+    @Override
+    void onConnected(final Connection connection) {
+        pendingConnectionsCount.decrementAndGet();
+    }
+
+    @Override
+    ConnectionInfo<E> attach0(final Connection connection) {
+        poolSize.incrementAndGet();
+
+        final ConnectionInfo<E> info = new ConnectionInfo<>(connection, this);
+        if (register(info) == null) {
+            poolSize.decrementAndGet();
+            return connectionsMap.get(connection);
+        }
+
+        return info;
+    }
+
+    @Override
+    void onCloseConnection(final ConnectionInfo<E> info) {
+        // If someone is waiting for a connection
+        // try to create a new one
+        if (asyncWaitingListSize.get() > pendingConnectionsCount.get()) {
+            createConnectionIfPossible();
+        }
+    }
+
+    @Override
+    void onConnectionTTLExpired(final ConnectionInfo<E> info) {
+        info.isExpired = true;
+
+        if (removeReady(info)) {
+            // the ready connection is claimed, so it can't be taken concurrently
+            detach(info.connection);
+            info.connection.closeSilently();
+        } else {
+            // the busy connection is closed, once it's released
+            detach(info.connection);
+        }
+    }
+
+    @Override
+    boolean cleanupIdleConnections(final KeepAliveCleanerTask cleanerTask) {
+        if (isClosed.get()) {
+            return true;
+        }
+
+        final long now = System.currentTimeMillis();
+
+        try {
+            while (poolSize.get() > corePoolSize) {
+                final ConnectionInfo<E> info = readyConnections.peekFirst();
+                if (info == null) {
+                    break;
+                }
+
+                final long readyTimeStamp = info.readyTimeStamp;
+                if (readyTimeStamp != -1 && now - readyTimeStamp < keepAliveTimeoutMillis) {
+                    // the rest of connections are ok
+                    break;
+                }
+
+                if (removeReady(info)) {
+                    detach(info.connection);
+                    info.connection.closeSilently();
+                }
+            }
+        } catch (Exception ignore) {
+        }
+
+        cleanerTask.timeoutMillis = System.currentTimeMillis() + keepAliveCheckIntervalMillis;
+        return false;
+    }
+
+    @Override
+    boolean removeTimedOutAsyncPoll(final Link<AsyncPoll> asyncPollLink) {
+        return removeFromAsyncWaitingList(asyncPollLink);
+    }
+
+    @Override
+    protected boolean createConnectionIfPossible() {
+        return createConnectionIfPossibleNoSync();
+    }
+
+    @Override
+    boolean createConnectionIfPossibleNoSync() {
+        if (checkBeforeOpeningConnection()) {
+            connect();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return <tt>true</tt> if a consumer may be put on the waiting list, or <tt>false</tt> if it has to fail fast
+     */
+    private boolean isWaitingAllowed() {
+        return !isFailFastWhenMaxSizeReached() || !isMaxCapacityReached() || pendingConnectionsCount.get() >= asyncWaitingListSize.get() + 1;
+    }
+
+    /**
+     * Puts the consumer on the waiting list and makes sure it will be served either by a {@link Connection} released
+     * concurrently or by a newly established one.
+     */
+    private void enqueue(final Link<AsyncPoll> pollLink) {
+        addToAsyncWaitingList(pollLink);
+
+        if (isClosed.get()) {
+            // the pool has been closed concurrently, make sure the consumer is notified
+            if (removeFromAsyncWaitingList(pollLink)) {
+                final AsyncPoll asyncPoll = pollLink.getValue();
+                Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, new IOException("The pool is closed"));
+            }
+
+            return;
+        }
+
+        dispatch();
+        createConnectionIfPossible();
+    }
+
+    /**
+     * Hands ready {@link Connection}s off to the waiting consumers, while there are both.
+     */
+    private void dispatch() {
+        while (asyncWaitingListSize.get() > 0 && readyConnectionsCount.get() > 0) {
+            final ConnectionInfo<E> info = pollReady();
+            if (info == null) {
+                return;
+            }
+
+            final AsyncPoll asyncPoll = obtainFromAsyncWaitingList();
+            if (asyncPoll == null) {
+                // the consumer has gone (cancelled or timed out)
+                offerReady0(info);
+                continue;
+            }
+
+            Futures.notifyResult(asyncPoll.future, asyncPoll.completionHandler, info.connection);
+        }
+    }
+
+    /**
+     * Switches the {@link Connection} to ready state and hands it off to a waiting consumer, if any.
+     *
+     * @return <tt>true</tt> if the {@link Connection} has been returned to the pool, or <tt>false</tt> if it had already
+     * been ready or the pool is closed
+     */
+    private boolean offerReady(final ConnectionInfo<E> info) {
+        if (!offerReady0(info)) {
+            return false;
+        }
+
+        if (isClosed.get()) {
+            // the pool has been closed concurrently
+            if (removeReady(info)) {
+                info.connection.closeSilently();
+            }
+
+            return false;
+        }
+
+        dispatch();
+        return true;
+    }
+
+    private boolean offerReady0(final ConnectionInfo<E> info) {
+        if (!READY_TIME_STAMP_UPDATER.compareAndSet(info, -1, System.currentTimeMillis())) {
+            return false;
+        }
+
+        readyConnections.offerLast(info);
+        readyConnectionsCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * @return the most recently released {@link Connection}, which is still registered in the pool, or <tt>null</tt> if
+     * there is none
+     */
+    private ConnectionInfo<E> pollReady() {
+        ConnectionInfo<E> info;
+        while ((info = readyConnections.pollLast()) != null) {
+            readyConnectionsCount.decrementAndGet();
+            info.readyTimeStamp = -1;
+
+            // skip the connection, that has been concurrently detached
+            if (connectionsMap.get(info.connection) == info) {
+                return info;
+            }
+
+            if (info.isExpired) {
+                // the TTL has expired, while the connection was being taken, so nobody else is going to close it
+                info.connection.closeSilently();
+            }
+        }
+
+        return null;
+    }
+
+    private boolean removeReady(final ConnectionInfo<E> info) {
+        if (readyConnections.removeFirstOccurrence(info)) {
+            readyConnectionsCount.decrementAndGet();
+            info.readyTimeStamp = -1;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Registers the {@link ConnectionInfo}.
+     *
+     * @return the registered {@link ConnectionInfo}, or <tt>null</tt> if the {@link Connection} had been already
+     * registered
+     */
+    private ConnectionInfo<E> register(final ConnectionInfo<E> info) {
+        if (connectionsMap.putIfAbsent(info.connection, info) != null) {
+            return null;
+        }
+
+        if (connectionTTLMillis >= 0) {
+            getConnectionTTLQueue().add(info, connectionTTLMillis, TimeUnit.MILLISECONDS);
+        }
+
+        info.connection.addCloseListener(closeListener);
+        return info;
+    }
+
+    private void deregisterConnection(final ConnectionInfo<E> info) {
+        if (connectionTTLMillis >= 0) {
+            getConnectionTTLQueue().remove(info);
+        }
+
+        removeReady(info);
+        poolSize.decrementAndGet();
+
+        onCloseConnection(info);
+    }
+
+    /**
+     * Increments the pool size, unless it would exceed the max pool size.
+     *
+     * @param reserved the number of {@link Connection}s, which have to be taken into account in addition to the current
+     * pool size
+     */
+    private boolean tryIncrementPoolSize(final int reserved) {
+        for (;;) {
+            final int size = poolSize.get();
+            if (maxPoolSize != -1 && size + reserved >= maxPoolSize) {
+                return false;
+            }
+
+            if (poolSize.compareAndSet(size, size + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Establish new pool connection.
+     */
+    private void connect() {
+        final GrizzlyFuture<Connection> future = getEndpoint().connect();
+        future.addCompletionHandler(connectCompletionHandler);
+
+        if (connectTimeoutMillis >= 0) {
+            getConnectTimeoutQueue().add(new ConnectTimeoutTask(future), connectTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void notifyAsyncPollersOfFailure(final Throwable t) {
+        failedConnectAttempts.set(0);
+        final int waitersToFail = asyncWaitingListSize.get() - pendingConnectionsCount.get();
+
+        for (int i = 0; i < waitersToFail; i++) {
+            final AsyncPoll asyncPoll = obtainFromAsyncWaitingList();
+            if (asyncPoll == null) {
+                return;
+            }
+
+            Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, t);
+        }
+    }
+
+    private void addToAsyncWaitingList(final Link<AsyncPoll> pollLink) {
+        if (asyncPollTimeoutMillis >= 0) {
+            getAsyncPollTimeoutQueue().add(pollLink, asyncPollTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        asyncWaitingList.offer(pollLink);
+        asyncWaitingListSize.incrementAndGet();
+    }
+
+    /**
+     * Removes the first consumer from the waiting list. The successful removal from the queue is what claims the
+     * consumer, so it's notified exactly once even if it's concurrently cancelled or timed out.
+     */
+    private AsyncPoll obtainFromAsyncWaitingList() {
+        final Link<AsyncPoll> link = asyncWaitingList.poll();
+        if (link == null) {
+            return null;
+        }
+
+        asyncWaitingListSize.decrementAndGet();
+
+        if (asyncPollTimeoutMillis >= 0) {
+            getAsyncPollTimeoutQueue().remove(link);
+        }
+
+        return link.getValue();
+    }
+
+    private boolean removeFromAsyncWaitingList(final Link<AsyncPoll> pollLink) {
+        if (!asyncWaitingList.remove(pollLink)) {
+            return false;
+        }
+
+        asyncWaitingListSize.decrementAndGet();
+
+        if (asyncPollTimeoutMillis >= 0) {
+            getAsyncPollTimeoutQueue().remove(pollLink);
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "@" + Integer.toHexString(hashCode()) + "{" + "endpoint=" + getEndpoint() + ", corePoolSize=" + corePoolSize
+                + ", maxPoolSize=" + maxPoolSize + ", poolSize=" + poolSize + ", isClosed=" + isClosed + "}";
+    }
+
+    /**
+     * {@link CompletionHandler} to be notified once new {@link Connection} is connected or failed to connect.
+     */
+    private final class ConnectCompletionHandler extends EmptyCompletionHandler<Connection> {
+
+        @Override
+        public void completed(final Connection connection) {
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.log(Level.FINEST, "Pool connection is established {0}", connection);
+            }
+
+            failedConnectAttempts.set(0);
+
+            // increment the pool size before decrementing the pending counter,
+            // so the pool doesn't look smaller than it is in between
+            final boolean isOk = !isClosed.get() && tryIncrementPoolSize(0);
+            onConnected(connection);
+
+            if (!isOk) {
+                connection.closeSilently();
+                return;
+            }
+
+            final ConnectionInfo<E> info = new ConnectionInfo<>(connection, ConcurrentSingleEndpointPool.this);
+            register(info);
+
+            getEndpoint().onConnect(connection, ConcurrentSingleEndpointPool.this);
+            offerReady(info);
+        }
+
+        @Override
+        public void cancelled() {
+            onFailedToConnect(new ConnectException("Connect timeout"));
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            onFailedToConnect(throwable);
+        }
+
+        private void onFailedToConnect(final Throwable t) {
+            pendingConnectionsCount.decrementAndGet();
+
+            onFailedConnection();
+
+            // check if there is still a thread(s) waiting for a connection
+            // and reconnect mechanism is enabled
+            if (getReconnectQueue() != null && asyncWaitingListSize.get() > 0 && !isClosed.get()) {
+                if (LOGGER.isLoggable(Level.FINEST)) {
+                    LOGGER.log(Level.FINEST, "Pool connect operation failed, schedule reconnect");
+                }
+
+                if (failedConnectAttempts.incrementAndGet() <= maxReconnectAttempts) {
+                    getReconnectQueue().add(new ReconnectTask<>(ConcurrentSingleEndpointPool.this), reconnectDelayMillis, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            }
+
+            notifyAsyncPollersOfFailure(t);
+        }
+    }
+
+    /**
+     * The {@link CloseListener} to be notified, when pool {@link Connection} either busy or ready has been closed, so the
+     * pool can adjust its counters.
+     */
+    private final class PoolConnectionCloseListener implements CloseListener<Connection, CloseType> {
+
+        @Override
+        public void onClosed(final Connection connection, final CloseType type) throws IOException {
+            final ConnectionInfo<E> info = connectionsMap.remove(connection);
+            if (info != null) {
+                deregisterConnection(info);
+            }
+        }
+    }
+
+    /**
+     * The Builder class responsible for constructing {@link ConcurrentSingleEndpointPool}. The configuration options are
+     * the same as for {@link SingleEndpointPool.Builder}.
+     *
+     * @param <E> endpoint address type, for example {@link SocketAddress} for TCP and UDP transports
+     */
+    public static class Builder<E> extends SingleEndpointPool.Builder<E> {
+
+        protected Builder() {
+        }
+
+        @Override
+        protected SingleEndpointPool<E> build0(final Endpoint<E> e) {
+            return new ConcurrentSingleEndpointPool<>(e, corePoolSize, maxPoolSize, delayedExecutor, connectTimeoutMillis, keepAliveTimeoutMillis,
+                    keepAliveCheckIntervalMillis, reconnectDelayMillis, maxReconnectAttempts, asyncPollTimeoutMillis, connectionTTLMillis,
+                    failFastWhenMaxSizeReached);
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -30,6 +31,8 @@ public final class ConnectionInfo<E> {
     final SingleEndpointPool<E> endpointPool;
 
     long ttlTimeout; // the place holder for TTL time stamp
+    volatile long readyTimeStamp = -1; // the ready state holder used by ConcurrentSingleEndpointPool
+    volatile boolean isExpired; // the TTL expiration flag used by ConcurrentSingleEndpointPool
 
     private final long pooledTimeStamp;
 
@@ -45,9 +48,7 @@ public final class ConnectionInfo<E> {
      * Returns <tt>false</tt> if the {@link Connection} is currently busy.
      */
     public boolean isReady() {
-        synchronized (endpointPool.poolSync) {
-            return readyStateLink.isAttached();
-        }
+        return endpointPool.isReady0(this);
     }
 
     /**
@@ -55,9 +56,7 @@ public final class ConnectionInfo<E> {
      * to ready, or <tt>-1</tt> if the {@link Connection} is currently in busy state.
      */
     public long getReadyTimeStamp() {
-        synchronized (endpointPool.poolSync) {
-            return readyStateLink.getAttachmentTimeStamp();
-        }
+        return endpointPool.getReadyTimeStamp0(this);
     }
 
     /**
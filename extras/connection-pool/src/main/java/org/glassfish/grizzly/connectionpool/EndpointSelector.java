@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.util.List;
+
+/**
+ * The strategy, which is used by {@link LoadBalancedEndpointPool} to pick an {@link Endpoint} for the next request.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ *
+ * @see PowerOfTwoChoicesSelector
+ * @see LeastOutstandingRequestsSelector
+ */
+public interface EndpointSelector<E> {
+
+    /**
+     * Selects the {@link Endpoint} for the next request. The method is called concurrently, so implementations must be
+     * thread-safe.
+     *
+     * @param candidates the non-empty list of {@link EndpointStats}, which are eligible for the selection
+     * @return the selected {@link EndpointStats}, it must be one of the candidates
+     */
+    EndpointStats<E> select(List<EndpointStats<E>> candidates);
+}
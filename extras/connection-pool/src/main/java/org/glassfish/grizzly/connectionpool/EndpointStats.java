@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.Connection;
+
+/**
+ * The load and latency statistics of an {@link Endpoint}, which is a part of {@link LoadBalancedEndpointPool}. The
+ * statistics is used by {@link EndpointSelector} to pick the {@link Endpoint} for the next request.
+ *
+ * The latency is tracked as an exponentially weighted moving average (EWMA), which decays with time: the older a
+ * sample is, the less it contributes to the average. A failure raises the average to at least the failure penalty right
+ * away, so the failing endpoint doesn't look attractive just because it fails fast.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ */
+public final class EndpointStats<E> {
+    private final Endpoint<E> endpoint;
+
+    /**
+     * The number of {@link Connection}s taken for this endpoint, but not released yet
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Sync for the latency and the ejection state updates
+     */
+    private final Object sync = new Object();
+
+    private volatile double latencyEwmaNanos;
+    private long lastLatencySampleNanos;
+    private volatile boolean hasLatencySample;
+
+    private int consecutiveConnectFailures;
+    private int ejectionsCount;
+    private volatile boolean isEjected;
+    private volatile long ejectedUntilNanos;
+
+    EndpointStats(final Endpoint<E> endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the {@link Endpoint}
+     */
+    public Endpoint<E> getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the number of {@link Connection}s taken for the endpoint, which are not released yet
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the EWMA latency in nanoseconds, or <tt>0</tt> if there were no latency samples yet
+     */
+    public double getLatencyEwmaNanos() {
+        return latencyEwmaNanos;
+    }
+
+    /**
+     * @return <tt>true</tt> if the EWMA latency has been measured, or <tt>false</tt> if there were no latency samples yet
+     */
+    public boolean hasLatencySample() {
+        return hasLatencySample;
+    }
+
+    /**
+     * @param timeUnit {@link TimeUnit}
+     * @return the EWMA latency, or <tt>0</tt> if there were no latency samples yet
+     */
+    public long getLatencyEwma(final TimeUnit timeUnit) {
+        return timeUnit.convert((long) latencyEwmaNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of connect attempts, which failed one after another
+     */
+    public int getConsecutiveConnectFailures() {
+        synchronized (sync) {
+            return consecutiveConnectFailures;
+        }
+    }
+
+    /**
+     * @return <tt>true</tt> if the endpoint is currently ejected from the load balancing, or <tt>false</tt> otherwise
+     */
+    public boolean isEjected() {
+        return isEjected(System.nanoTime());
+    }
+
+    boolean isEjected(final long nowNanos) {
+        return isEjected && nowNanos - ejectedUntilNanos < 0;
+    }
+
+    void onTake() {
+        inFlight.incrementAndGet();
+    }
+
+    void onRelease() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Adds the latency sample to the EWMA.
+     *
+     * @param latencyNanos the latency sample
+     * @param nowNanos the current time
+     * @param decayNanos the time, after which a sample's weight decays to <tt>1/e</tt>
+     */
+    void recordLatency(final long latencyNanos, final long nowNanos, final long decayNanos) {
+        synchronized (sync) {
+            if (!hasLatencySample) {
+                hasLatencySample = true;
+                latencyEwmaNanos = latencyNanos;
+            } else {
+                final long elapsed = Math.max(nowNanos - lastLatencySampleNanos, 0);
+                final double weight = Math.exp(-(double) elapsed / decayNanos);
+                latencyEwmaNanos = latencyEwmaNanos * weight + latencyNanos * (1 - weight);
+            }
+
+            lastLatencySampleNanos = nowNanos;
+        }
+    }
+
+    /**
+     * Registers the failure: unlike the regular sample, the penalty isn't averaged, but raises the EWMA latency to at
+     * least <tt>penaltyNanos</tt> immediately. The EWMA decays back with the next successful samples.
+     *
+     * @param nowNanos the current time
+     * @param penaltyNanos the latency penalty
+     */
+    void recordFailure(final long nowNanos, final long penaltyNanos) {
+        synchronized (sync) {
+            hasLatencySample = true;
+            latencyEwmaNanos = Math.max(latencyEwmaNanos, penaltyNanos);
+            lastLatencySampleNanos = nowNanos;
+        }
+    }
+
+    void onConnected() {
+        synchronized (sync) {
+            consecutiveConnectFailures = 0;
+            ejectionsCount = 0;
+            isEjected = false;
+        }
+    }
+
+    /**
+     * Registers the failed connect attempt and ejects the endpoint, if the number of consecutive failures reaches the
+     * threshold. Every next ejection in a row lasts longer: <tt>baseEjectionTime * ejectionsCount</tt>, but no longer
+     * than <tt>maxEjectionTime</tt>.
+     *
+     * @return <tt>true</tt> if the endpoint has been ejected as a result of this call
+     */
+    boolean onConnectFailed(final long nowNanos, final int maxConsecutiveFailures, final long baseEjectionTimeNanos, final long maxEjectionTimeNanos) {
+        synchronized (sync) {
+            if (++consecutiveConnectFailures < maxConsecutiveFailures || isEjected(nowNanos)) {
+                return false;
+            }
+
+            consecutiveConnectFailures = 0;
+            ejectionsCount++;
+            ejectedUntilNanos = nowNanos + Math.min(baseEjectionTimeNanos * ejectionsCount, maxEjectionTimeNanos);
+            isEjected = true;
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointStats{" + "endpoint=" + endpoint + ", inFlight=" + inFlight + ", latencyEwmaNanos=" + (long) latencyEwmaNanos + ", isEjected="
+                + isEjected() + "}";
+    }
+}
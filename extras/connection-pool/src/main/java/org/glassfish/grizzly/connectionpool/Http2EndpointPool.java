@@ -0,0 +1,620 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.CloseListener;
+import org.glassfish.grizzly.CloseType;
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.http2.Http2ClientFilter;
+import org.glassfish.grizzly.http2.Http2Session;
+import org.glassfish.grizzly.impl.FutureImpl;
+import org.glassfish.grizzly.impl.SafeFutureImpl;
+
+/**
+ * The stream-aware HTTP/2 pool, built on top of a {@link SingleEndpointPool}. Unlike the {@link SingleEndpointPool},
+ * which hands out a {@link Connection} exclusively, this pool leases HTTP/2 streams, so one {@link Connection} is
+ * shared by as many concurrent requests as the peer allows (<tt>SETTINGS_MAX_CONCURRENT_STREAMS</tt>, negotiated by
+ * the {@link Http2ClientFilter}) or as configured by <tt>maxStreamsPerConnection</tt>, whichever is lower.
+ *
+ * New {@link Connection}s are taken from the underlying {@link SingleEndpointPool} only when all the {@link Connection}s
+ * in use are saturated, so the underlying pool settings (max pool size, connect timeout, reconnect, keep-alive, etc.)
+ * are still applied. A {@link Connection} without leased streams is returned to the underlying pool.
+ *
+ * Once the peer sends GOAWAY, the {@link Connection} is not used for new streams anymore. It is closed as soon as all
+ * the streams leased on it are released.
+ *
+ * If the {@link Connection} hasn't been upgraded to HTTP/2 (yet), it is treated as an HTTP/1.1 {@link Connection}, which
+ * can carry one request at a time.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ */
+public class Http2EndpointPool<E> {
+    private static final Logger LOGGER = Grizzly.logger(Http2EndpointPool.class);
+
+    /**
+     * The number of streams a new HTTP/2 {@link Connection} is expected to carry, before its SETTINGS are known. The
+     * value is recommended by RFC 7540 as the minimum <tt>SETTINGS_MAX_CONCURRENT_STREAMS</tt> value.
+     */
+    private static final int DEFAULT_EXPECTED_STREAMS_PER_CONNECTION = 100;
+
+    /**
+     * The underlying pool, used to establish new {@link Connection}s
+     */
+    private final SingleEndpointPool<E> connectionPool;
+
+    /**
+     * The max number of streams leased per {@link Connection}, <tt>-1</tt> means the limit is set by the peer only
+     */
+    private final int maxStreamsPerConnection;
+
+    /**
+     * {@link CloseListener} to be notified once a {@link Connection} in use is closed
+     */
+    private final SessionCloseListener closeListener = new SessionCloseListener();
+
+    /**
+     * Sync object
+     */
+    private final Object sync = new Object();
+
+    /**
+     * The {@link Connection}s taken from the underlying pool and used to lease streams
+     */
+    private final List<SessionEntry> sessions = new ArrayList<>();
+
+    /**
+     * The waiting list of clients
+     */
+    private final Deque<CompletionHandler<StreamLease<E>>> waitingList = new ArrayDeque<>();
+
+    /**
+     * Number of {@link Connection}s requested from the underlying pool, but not obtained yet
+     */
+    private int pendingConnections;
+
+    /**
+     * The number of streams a new {@link Connection} is expected to carry
+     */
+    private int expectedStreamsPerConnection;
+
+    private boolean isClosed;
+
+    /**
+     * Constructs <tt>Http2EndpointPool</tt>, where the number of streams per {@link Connection} is limited by the peer
+     * only.
+     *
+     * @param connectionPool the underlying {@link SingleEndpointPool}
+     */
+    public Http2EndpointPool(final SingleEndpointPool<E> connectionPool) {
+        this(connectionPool, -1);
+    }
+
+    /**
+     * Constructs <tt>Http2EndpointPool</tt>.
+     *
+     * @param connectionPool the underlying {@link SingleEndpointPool}
+     * @param maxStreamsPerConnection the max number of streams to be leased on one {@link Connection}, or <tt>-1</tt> if
+     * the number is limited by the peer only
+     */
+    public Http2EndpointPool(final SingleEndpointPool<E> connectionPool, final int maxStreamsPerConnection) {
+        if (connectionPool == null) {
+            throw new IllegalArgumentException("The connectionPool argument can not be null");
+        }
+
+        if (maxStreamsPerConnection == 0 || maxStreamsPerConnection < -1) {
+            throw new IllegalArgumentException("The maxStreamsPerConnection has to be positive or -1");
+        }
+
+        this.connectionPool = connectionPool;
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+        this.expectedStreamsPerConnection = maxStreamsPerConnection > 0 ? maxStreamsPerConnection : DEFAULT_EXPECTED_STREAMS_PER_CONNECTION;
+    }
+
+    /**
+     * @return the underlying {@link SingleEndpointPool}
+     */
+    public SingleEndpointPool<E> getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * @return the max number of streams to be leased on one {@link Connection}, or <tt>-1</tt> if the number is limited
+     * by the peer only
+     */
+    public int getMaxStreamsPerConnection() {
+        return maxStreamsPerConnection;
+    }
+
+    /**
+     * @return the number of {@link Connection}s currently used to lease streams, including the ones being obtained from
+     * the underlying pool
+     */
+    public int size() {
+        synchronized (sync) {
+            return sessions.size() + pendingConnections;
+        }
+    }
+
+    /**
+     * @return the number of currently leased streams
+     */
+    public int getLeasedStreamsCount() {
+        synchronized (sync) {
+            int count = 0;
+            for (SessionEntry entry : sessions) {
+                count += entry.leased;
+            }
+
+            return count;
+        }
+    }
+
+    /**
+     * @return the number of streams which could be leased right away, without opening a new {@link Connection}
+     */
+    public int getAvailableStreamsCount() {
+        synchronized (sync) {
+            int count = 0;
+            for (SessionEntry entry : sessions) {
+                if (!entry.isGoingAway()) {
+                    count += Math.max(0, entry.capacity() - entry.leased);
+                }
+            }
+
+            return count;
+        }
+    }
+
+    /**
+     * @return the number of consumers waiting for a stream
+     */
+    public int getWaitingListSize() {
+        synchronized (sync) {
+            return waitingList.size();
+        }
+    }
+
+    /**
+     * Leases a stream in non-blocking/asynchronous fashion. Returns a {@link GrizzlyFuture} representing the pending
+     * result of the lease operation.
+     *
+     * <p>
+     * Note: if you gave up on waiting for a stream, the proper release code has to look like:
+     *
+     * <pre>
+     * if (!future.cancel(false)) {
+     *     // means the stream is leased
+     *     future.get().release();
+     * }
+     * </pre>
+     *
+     * @return {@link GrizzlyFuture}
+     */
+    public GrizzlyFuture<StreamLease<E>> take() {
+        final FutureImpl<StreamLease<E>> future = new SafeFutureImpl<StreamLease<E>>() {
+            @Override
+            protected void onComplete() {
+                if (isCancelled()) {
+                    synchronized (sync) {
+                        waitingList.remove(completionHandler(this));
+                    }
+                }
+            }
+        };
+
+        take(completionHandler(future));
+        return future;
+    }
+
+    /**
+     * Leases a stream in non-blocking/asynchronous fashion. The passed {@link CompletionHandler} will be notified about the
+     * result of the lease operation.
+     *
+     * @param completionHandler to be notified once the stream is leased or an error occurred
+     */
+    public void take(final CompletionHandler<StreamLease<E>> completionHandler) {
+        if (completionHandler == null) {
+            throw new IllegalArgumentException("The completionHandler argument can not be null");
+        }
+
+        final List<SessionEntry> drained = new ArrayList<>(0);
+        StreamLease<E> lease = null;
+        boolean isCreateNewConnection = false;
+        boolean isPoolClosed = false;
+
+        synchronized (sync) {
+            if (isClosed) {
+                isPoolClosed = true;
+            } else {
+                final SessionEntry entry = leastLoaded(drained);
+                if (entry != null) {
+                    entry.leased++;
+                    lease = new StreamLease<>(entry);
+                } else {
+                    waitingList.offerLast(completionHandler);
+                    isCreateNewConnection = checkBeforeOpeningConnection();
+                }
+            }
+        }
+
+        closeDrained(drained);
+
+        if (isPoolClosed) {
+            completionHandler.failed(new IOException("The pool is closed"));
+        } else if (lease != null) {
+            completionHandler.completed(lease);
+        } else if (isCreateNewConnection) {
+            connect();
+        }
+    }
+
+    /**
+     * Closes the pool and the underlying {@link SingleEndpointPool}. The consumers waiting for a stream will be notified
+     * about the failure. The {@link Connection}s with leased streams will be closed once the streams are released.
+     */
+    public void close() {
+        final List<CompletionHandler<StreamLease<E>>> waiters;
+        synchronized (sync) {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            waiters = new ArrayList<>(waitingList);
+            waitingList.clear();
+
+            for (SessionEntry entry : sessions) {
+                entry.isRemoved = true;
+                entry.connection.removeCloseListener(closeListener);
+            }
+            sessions.clear();
+        }
+
+        connectionPool.close();
+
+        if (!waiters.isEmpty()) {
+            final IOException exception = new IOException("The pool is closed");
+            for (CompletionHandler<StreamLease<E>> waiter : waiters) {
+                waiter.failed(exception);
+            }
+        }
+    }
+
+    /**
+     * Returns the stream back to the pool. Is called by {@link StreamLease#release()}.
+     */
+    void release0(final StreamLease<E> lease) {
+        final SessionEntry entry = lease.sessionEntry;
+
+        CompletionHandler<StreamLease<E>> waiter = null;
+        boolean isReturnConnection = false;
+        boolean isCloseConnection = false;
+
+        synchronized (sync) {
+            entry.leased--;
+
+            if (entry.isRemoved) {
+                isReturnConnection = entry.leased == 0;
+            } else if (entry.isGoingAway()) {
+                if (entry.leased == 0) {
+                    remove(entry);
+                    isCloseConnection = true;
+                }
+            } else if (!waitingList.isEmpty()) {
+                waiter = waitingList.pollFirst();
+                entry.leased++;
+            } else if (entry.leased == 0) {
+                remove(entry);
+                isReturnConnection = true;
+            }
+        }
+
+        if (waiter != null) {
+            waiter.completed(new StreamLease<>(entry));
+        } else if (isReturnConnection) {
+            connectionPool.release(entry.connection);
+        } else if (isCloseConnection) {
+            entry.connection.closeSilently();
+        }
+    }
+
+    /**
+     * Returns the least loaded {@link SessionEntry}, which is able to carry one more stream, or <tt>null</tt> if all the
+     * entries are saturated. The entries, which are going away and don't have leased streams, are removed and added to
+     * the passed list, so they could be closed outside the sync block.
+     */
+    private SessionEntry leastLoaded(final List<SessionEntry> drained) {
+        SessionEntry candidate = null;
+        int candidateFree = 0;
+
+        for (int i = 0; i < sessions.size(); i++) {
+            final SessionEntry entry = sessions.get(i);
+            if (entry.isGoingAway()) {
+                if (entry.leased == 0) {
+                    drained.add(entry);
+                }
+
+                continue;
+            }
+
+            final int free = entry.capacity() - entry.leased;
+            if (free > candidateFree) {
+                candidate = entry;
+                candidateFree = free;
+            }
+        }
+
+        for (SessionEntry entry : drained) {
+            remove(entry);
+        }
+
+        return candidate;
+    }
+
+    /**
+     * Checks if a new {@link Connection} is needed to serve the waiting consumers. If the method returns <tt>true</tt>, it
+     * also increases the {@link #pendingConnections} counter.
+     */
+    private boolean checkBeforeOpeningConnection() {
+        if (waitingList.size() > (long) pendingConnections * expectedStreamsPerConnection) {
+            pendingConnections++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void connect() {
+        connectionPool.take(new ConnectionCompletionHandler());
+    }
+
+    private void remove(final SessionEntry entry) {
+        entry.isRemoved = true;
+        sessions.remove(entry);
+        entry.connection.removeCloseListener(closeListener);
+    }
+
+    private void closeDrained(final List<SessionEntry> drained) {
+        for (SessionEntry entry : drained) {
+            entry.connection.closeSilently();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "@" + Integer.toHexString(hashCode()) + "{" + "connectionPool=" + connectionPool
+                + ", maxStreamsPerConnection=" + maxStreamsPerConnection + ", isClosed=" + isClosed + "}";
+    }
+
+    /**
+     * Wraps the {@link FutureImpl} into {@link CompletionHandler}, which releases the stream, if the future has been
+     * already cancelled.
+     */
+    private CompletionHandler<StreamLease<E>> completionHandler(final FutureImpl<StreamLease<E>> future) {
+        return new FutureCompletionHandler(future);
+    }
+
+    /**
+     * The {@link Connection} used by the pool to lease streams.
+     */
+    final class SessionEntry {
+        final Connection connection;
+        int leased;
+        boolean isRemoved;
+
+        SessionEntry(final Connection connection) {
+            this.connection = connection;
+        }
+
+        Http2EndpointPool<E> pool() {
+            return Http2EndpointPool.this;
+        }
+
+        /**
+         * @return the max number of streams the {@link Connection} is able to carry
+         */
+        int capacity() {
+            final Http2Session http2Session = Http2Session.get(connection);
+            if (http2Session == null) {
+                // not HTTP/2 (yet) - one request at a time
+                return 1;
+            }
+
+            // SETTINGS_MAX_CONCURRENT_STREAMS is unsigned
+            int capacity = http2Session.getPeerMaxConcurrentStreams();
+            if (capacity < 0) {
+                capacity = Integer.MAX_VALUE;
+            }
+
+            return maxStreamsPerConnection > 0 ? Math.min(capacity, maxStreamsPerConnection) : capacity;
+        }
+
+        boolean isGoingAway() {
+            if (!connection.isOpen()) {
+                return true;
+            }
+
+            final Http2Session http2Session = Http2Session.get(connection);
+            return http2Session != null && http2Session.isGoingAway();
+        }
+    }
+
+    /**
+     * {@link CompletionHandler} to be notified once the underlying pool provides a {@link Connection}.
+     */
+    private final class ConnectionCompletionHandler extends EmptyCompletionHandler<Connection> {
+
+        @Override
+        public void completed(final Connection connection) {
+            final List<CompletionHandler<StreamLease<E>>> waiters = new ArrayList<>();
+            SessionEntry entry = null;
+            boolean isReturnConnection = false;
+            boolean isCreateNewConnection = false;
+
+            synchronized (sync) {
+                pendingConnections--;
+
+                if (isClosed) {
+                    isReturnConnection = true;
+                } else {
+                    entry = new SessionEntry(connection);
+                    final int capacity = entry.capacity();
+                    if (Http2Session.get(connection) != null && maxStreamsPerConnection <= 0) {
+                        expectedStreamsPerConnection = Math.max(1, capacity);
+                    }
+
+                    while (!waitingList.isEmpty() && entry.leased < capacity) {
+                        waiters.add(waitingList.pollFirst());
+                        entry.leased++;
+                    }
+
+                    if (entry.leased == 0) {
+                        // the waiters have been served by other connections
+                        isReturnConnection = true;
+                    } else {
+                        sessions.add(entry);
+                        connection.addCloseListener(closeListener);
+                    }
+
+                    // the connection turned out to carry less streams than expected
+                    isCreateNewConnection = !waitingList.isEmpty() && checkBeforeOpeningConnection();
+                }
+            }
+
+            if (isCreateNewConnection) {
+                connect();
+            }
+
+            if (isReturnConnection) {
+                connectionPool.release(connection);
+                return;
+            }
+
+            for (CompletionHandler<StreamLease<E>> waiter : waiters) {
+                waiter.completed(new StreamLease<>(entry));
+            }
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            final List<CompletionHandler<StreamLease<E>>> waiters = new ArrayList<>();
+
+            synchronized (sync) {
+                pendingConnections--;
+
+                // fail the consumers, which can't be served by other pending connections
+                while (waitingList.size() > (long) pendingConnections * expectedStreamsPerConnection) {
+                    waiters.add(waitingList.pollLast());
+                }
+            }
+
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.log(Level.FINEST, "Failed to obtain a connection from " + connectionPool, throwable);
+            }
+
+            for (CompletionHandler<StreamLease<E>> waiter : waiters) {
+                waiter.failed(throwable);
+            }
+        }
+    }
+
+    /**
+     * The {@link CloseListener} to be notified, when a {@link Connection} used to lease streams is closed.
+     */
+    private final class SessionCloseListener implements CloseListener<Connection, CloseType> {
+
+        @Override
+        public void onClosed(final Connection connection, final CloseType type) throws IOException {
+            boolean isCreateNewConnection = false;
+
+            synchronized (sync) {
+                for (int i = 0; i < sessions.size(); i++) {
+                    final SessionEntry entry = sessions.get(i);
+                    if (entry.connection == connection) {
+                        entry.isRemoved = true;
+                        sessions.remove(i);
+                        break;
+                    }
+                }
+
+                if (!isClosed && !waitingList.isEmpty()) {
+                    isCreateNewConnection = checkBeforeOpeningConnection();
+                }
+            }
+
+            if (isCreateNewConnection) {
+                connect();
+            }
+        }
+    }
+
+    /**
+     * The {@link CompletionHandler} passing the result to the {@link FutureImpl}.
+     */
+    private final class FutureCompletionHandler implements CompletionHandler<StreamLease<E>> {
+        private final FutureImpl<StreamLease<E>> future;
+
+        private FutureCompletionHandler(final FutureImpl<StreamLease<E>> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void cancelled() {
+            future.cancel(false);
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            future.failure(throwable);
+        }
+
+        @Override
+        public void completed(final StreamLease<E> lease) {
+            if (future.isCancelled()) {
+                lease.release();
+            } else {
+                future.result(lease);
+            }
+        }
+
+        @Override
+        public void updated(final StreamLease<E> lease) {
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Http2EndpointPool.FutureCompletionHandler && ((Http2EndpointPool.FutureCompletionHandler) o).future == future;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(future);
+        }
+    }
+}
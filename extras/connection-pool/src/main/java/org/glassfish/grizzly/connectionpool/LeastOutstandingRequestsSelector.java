@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The "least outstanding requests" {@link EndpointSelector}: selects the candidate with the smallest number of in-flight
+ * requests, the ties are resolved in favor of the lower EWMA latency. The scan starts at a random position, so the
+ * endpoints with equal statistics are selected evenly.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ */
+public class LeastOutstandingRequestsSelector<E> implements EndpointSelector<E> {
+
+    @Override
+    public EndpointStats<E> select(final List<EndpointStats<E>> candidates) {
+        final int size = candidates.size();
+        final int offset = size > 1 ? ThreadLocalRandom.current().nextInt(size) : 0;
+
+        EndpointStats<E> best = null;
+        int bestInFlight = Integer.MAX_VALUE;
+        double bestLatency = Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            final EndpointStats<E> stats = candidates.get((i + offset) % size);
+            final int inFlight = stats.getInFlight();
+            final double latency = stats.getLatencyEwmaNanos();
+
+            if (inFlight < bestInFlight || inFlight == bestInFlight && latency < bestLatency) {
+                best = stats;
+                bestInFlight = inFlight;
+                bestLatency = latency;
+            }
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.utils.Futures;
+
+/**
+ * The {@link Connection} pool, which spreads the requests among a group of equivalent {@link Endpoint}s, taking into
+ * account their latency and load. The pool is built on top of {@link MultiEndpointPool}, which manages the actual
+ * {@link Connection}s.
+ *
+ * For each endpoint the pool tracks the number of in-flight requests (the {@link Connection}s taken, but not released
+ * yet) and the EWMA of the request latency, which is measured as the time between a {@link Connection} is taken and
+ * released. The {@link EndpointSelector} uses these statistics to pick the endpoint for the next request, by default
+ * it's {@link PowerOfTwoChoicesSelector}. The failed {@link Connection} obtain attempts and the {@link Connection}s
+ * released closed are not measured, but raise the endpoint EWMA latency to at least the failure penalty.
+ *
+ * The pool also performs outlier ejection: once the number of consecutive connect failures for an endpoint (including
+ * the failed reconnect attempts made by the {@link MultiEndpointPool}) reaches the configured threshold - the endpoint
+ * is excluded from the selection for the ejection time, which grows with every next ejection in a row. If all the
+ * endpoints are ejected, the pool ignores the ejection and selects among all of them.
+ *
+ * Each {@link Connection} taken from the pool has to be returned by {@link #release(Connection)}, even if it was
+ * closed, so the in-flight counters stay accurate.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ */
+public class LoadBalancedEndpointPool<E> {
+    private static final Logger LOGGER = Grizzly.logger(LoadBalancedEndpointPool.class);
+
+    private static final long DEFAULT_LATENCY_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long DEFAULT_FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int DEFAULT_MAX_CONSECUTIVE_CONNECT_FAILURES = 5;
+    private static final long DEFAULT_BASE_EJECTION_TIME_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long DEFAULT_MAX_EJECTION_TIME_NANOS = TimeUnit.SECONDS.toNanos(300);
+
+    private final MultiEndpointPool<E> pool;
+    private final EndpointSelector<E> selector;
+
+    /**
+     * The statistics of the load balanced endpoints
+     */
+    private final List<EndpointStats<E>> endpointStats = new CopyOnWriteArrayList<>();
+
+    /**
+     * Maps taken {@link Connection} -to- its lease
+     */
+    private final ConcurrentMap<Connection, Lease<E>> leases = new ConcurrentHashMap<>();
+
+    private final MultiEndpointPool.ConnectListener<E> connectListener = new EjectionConnectListener();
+
+    private volatile long latencyDecayNanos = DEFAULT_LATENCY_DECAY_NANOS;
+    private volatile long failurePenaltyNanos = DEFAULT_FAILURE_PENALTY_NANOS;
+    private volatile int maxConsecutiveConnectFailures = DEFAULT_MAX_CONSECUTIVE_CONNECT_FAILURES;
+    private volatile long baseEjectionTimeNanos = DEFAULT_BASE_EJECTION_TIME_NANOS;
+    private volatile long maxEjectionTimeNanos = DEFAULT_MAX_EJECTION_TIME_NANOS;
+
+    /**
+     * Constructs LoadBalancedEndpointPool, which uses {@link PowerOfTwoChoicesSelector}.
+     *
+     * @param pool the {@link MultiEndpointPool} to take {@link Connection}s from
+     * @param endpoints the {@link Endpoint}s to balance the load among
+     */
+    public LoadBalancedEndpointPool(final MultiEndpointPool<E> pool, final Collection<Endpoint<E>> endpoints) {
+        this(pool, endpoints, new PowerOfTwoChoicesSelector<E>());
+    }
+
+    /**
+     * Constructs LoadBalancedEndpointPool.
+     *
+     * @param pool the {@link MultiEndpointPool} to take {@link Connection}s from
+     * @param endpoints the {@link Endpoint}s to balance the load among
+     * @param selector the {@link EndpointSelector}
+     */
+    public LoadBalancedEndpointPool(final MultiEndpointPool<E> pool, final Collection<Endpoint<E>> endpoints, final EndpointSelector<E> selector) {
+        if (pool == null) {
+            throw new IllegalArgumentException("The pool argument can not be null");
+        }
+
+        if (selector == null) {
+            throw new IllegalArgumentException("The selector argument can not be null");
+        }
+
+        this.pool = pool;
+        this.selector = selector;
+
+        for (Endpoint<E> endpoint : endpoints) {
+            addEndpoint(endpoint);
+        }
+
+        pool.addConnectListener(connectListener);
+    }
+
+    /**
+     * @return the underlying {@link MultiEndpointPool}
+     */
+    public MultiEndpointPool<E> getPool() {
+        return pool;
+    }
+
+    /**
+     * @return the {@link EndpointSelector}
+     */
+    public EndpointSelector<E> getSelector() {
+        return selector;
+    }
+
+    /**
+     * Adds the {@link Endpoint} to the load balancing group. If the {@link Endpoint} had been already added - the method
+     * call doesn't have any effect.
+     *
+     * @param endpoint {@link Endpoint}
+     */
+    public void addEndpoint(final Endpoint<E> endpoint) {
+        synchronized (endpointStats) {
+            if (getEndpointStats(endpoint) == null) {
+                endpointStats.add(new EndpointStats<>(endpoint));
+            }
+        }
+    }
+
+    /**
+     * Removes the {@link Endpoint} from the load balancing group. The {@link Connection}s to the {@link Endpoint} are kept
+     * in the {@link MultiEndpointPool}, use {@link MultiEndpointPool#close(Endpoint)} to close them.
+     *
+     * @param endpoint {@link Endpoint}
+     * @return <tt>true</tt> if the {@link Endpoint} has been removed, or <tt>false</tt> if it was not a part of the group
+     */
+    public boolean removeEndpoint(final Endpoint<E> endpoint) {
+        synchronized (endpointStats) {
+            final EndpointStats<E> stats = getEndpointStats(endpoint);
+            return stats != null && endpointStats.remove(stats);
+        }
+    }
+
+    /**
+     * @param endpoint {@link Endpoint}
+     * @return the {@link EndpointStats} of the {@link Endpoint}, or <tt>null</tt> if the {@link Endpoint} is not a part of
+     * the load balancing group
+     */
+    public EndpointStats<E> getEndpointStats(final Endpoint<E> endpoint) {
+        for (EndpointStats<E> stats : endpointStats) {
+            if (stats.getEndpoint().equals(endpoint)) {
+                return stats;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the {@link EndpointStats} of all the load balanced {@link Endpoint}s
+     */
+    public List<EndpointStats<E>> getEndpointStats() {
+        return new ArrayList<>(endpointStats);
+    }
+
+    /**
+     * Sets the time, after which the weight of a latency sample in the EWMA latency decays to <tt>1/e</tt>. Default
+     * value is 10 seconds.
+     *
+     * @param latencyDecay the latency decay time
+     * @param timeUnit a <tt>TimeUnit</tt> determining how to interpret the <tt>latencyDecay</tt> parameter
+     */
+    public void setLatencyDecay(final long latencyDecay, final TimeUnit timeUnit) {
+        if (latencyDecay <= 0) {
+            throw new IllegalArgumentException("The latency decay has to be positive");
+        }
+
+        this.latencyDecayNanos = timeUnit.toNanos(latencyDecay);
+    }
+
+    /**
+     * @param timeUnit {@link TimeUnit}
+     * @return the time, after which the weight of a latency sample in the EWMA latency decays to <tt>1/e</tt>
+     */
+    public long getLatencyDecay(final TimeUnit timeUnit) {
+        return timeUnit.convert(latencyDecayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the latency penalty of a failure: the failed {@link Connection} obtain attempt, or the {@link Connection}
+     * released closed, raises the endpoint EWMA latency to at least this value. Default value is 1 second.
+     *
+     * @param failurePenalty the failure penalty
+     * @param timeUnit a <tt>TimeUnit</tt> determining how to interpret the <tt>failurePenalty</tt> parameter
+     */
+    public void setFailurePenalty(final long failurePenalty, final TimeUnit timeUnit) {
+        if (failurePenalty < 0) {
+            throw new IllegalArgumentException("The failure penalty can't be negative");
+        }
+
+        this.failurePenaltyNanos = timeUnit.toNanos(failurePenalty);
+    }
+
+    /**
+     * @param timeUnit {@link TimeUnit}
+     * @return the latency penalty of a failure
+     */
+    public long getFailurePenalty(final TimeUnit timeUnit) {
+        return timeUnit.convert(failurePenaltyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Configures the outlier ejection. Default values are 5 consecutive connect failures, 30 seconds base ejection time and
+     * 300 seconds max ejection time.
+     *
+     * @param maxConsecutiveConnectFailures the number of consecutive connect failures, after which the endpoint is ejected.
+     * The value &lt;= 0 disables the outlier ejection.
+     * @param baseEjectionTime the ejection time, which gets multiplied by the number of ejections in a row
+     * @param maxEjectionTime the max ejection time
+     * @param timeUnit a <tt>TimeUnit</tt> determining how to interpret the ejection time parameters
+     */
+    public void setOutlierEjection(final int maxConsecutiveConnectFailures, final long baseEjectionTime, final long maxEjectionTime,
+            final TimeUnit timeUnit) {
+        this.maxConsecutiveConnectFailures = maxConsecutiveConnectFailures;
+        this.baseEjectionTimeNanos = timeUnit.toNanos(baseEjectionTime);
+        this.maxEjectionTimeNanos = timeUnit.toNanos(maxEjectionTime);
+    }
+
+    /**
+     * @return the number of consecutive connect failures, after which the endpoint is ejected, the value &lt;= 0 means the
+     * outlier ejection is disabled
+     */
+    public int getMaxConsecutiveConnectFailures() {
+        return maxConsecutiveConnectFailures;
+    }
+
+    /**
+     * Obtains a {@link Connection} to the selected {@link Endpoint} in non-blocking/asynchronous fashion. The
+     * {@link GrizzlyFuture} semantics is the same as for {@link MultiEndpointPool#take(Endpoint)}.
+     *
+     * @return {@link GrizzlyFuture}
+     */
+    public GrizzlyFuture<Connection> take() {
+        final EndpointStats<E> stats;
+        try {
+            stats = select();
+        } catch (IOException e) {
+            return Futures.createReadyFuture(e);
+        }
+
+        stats.onTake();
+
+        final GrizzlyFuture<Connection> future = pool.take(stats.getEndpoint());
+        future.addCompletionHandler(new LeaseCompletionHandler(stats, null));
+
+        return future;
+    }
+
+    /**
+     * Obtains a {@link Connection} to the selected {@link Endpoint} in non-blocking/asynchronous fashion. The passed
+     * {@link CompletionHandler} will be notified about the result of the non-blocking/asynchronous obtain task.
+     *
+     * @param completionHandler to be notified once {@link Connection} is available or an error occurred
+     */
+    public void take(final CompletionHandler<Connection> completionHandler) {
+        if (completionHandler == null) {
+            throw new IllegalArgumentException("The completionHandler argument can not be null");
+        }
+
+        final EndpointStats<E> stats;
+        try {
+            stats = select();
+        } catch (IOException e) {
+            completionHandler.failed(e);
+            return;
+        }
+
+        stats.onTake();
+        pool.take(stats.getEndpoint(), new LeaseCompletionHandler(stats, completionHandler));
+    }
+
+    /**
+     * Returns the {@link Connection} to the pool and updates the statistics of its {@link Endpoint}. If the
+     * {@link Connection} is closed, it's accounted as a failure.
+     *
+     * @param connection the {@link Connection} to return
+     * @return <code>true</code> if the connection was successfully released. If the connection cannot be released, the
+     * connection will be closed and <code>false</code> will be returned.
+     *
+     * @see MultiEndpointPool#release(Connection)
+     */
+    public boolean release(final Connection connection) {
+        final Lease<E> lease = leases.remove(connection);
+        if (lease != null) {
+            final long now = System.nanoTime();
+            lease.stats.onRelease();
+            if (connection.isOpen()) {
+                lease.stats.recordLatency(now - lease.takenNanos, now, latencyDecayNanos);
+            } else {
+                lease.stats.recordFailure(now, failurePenaltyNanos);
+            }
+        }
+
+        return pool.release(connection);
+    }
+
+    /**
+     * Detaches the load balancer from the underlying {@link MultiEndpointPool}, the {@link MultiEndpointPool} itself is
+     * not closed.
+     */
+    public void close() {
+        pool.removeConnectListener(connectListener);
+    }
+
+    /**
+     * Selects the {@link Endpoint} for the next request.
+     */
+    EndpointStats<E> select() throws IOException {
+        final List<EndpointStats<E>> all = endpointStats;
+        if (all.isEmpty()) {
+            throw new IOException("No endpoints available");
+        }
+
+        final long now = System.nanoTime();
+        List<EndpointStats<E>> candidates = null;
+        for (int i = 0; i < all.size(); i++) {
+            final EndpointStats<E> stats = all.get(i);
+            if (stats.isEjected(now)) {
+                if (candidates == null) {
+                    // copy the healthy endpoints seen so far
+                    candidates = new ArrayList<>(all.subList(0, i));
+                }
+            } else if (candidates != null) {
+                candidates.add(stats);
+            }
+        }
+
+        if (candidates == null) {
+            candidates = all;
+        } else if (candidates.isEmpty()) {
+            // all the endpoints are ejected, it's better to try any than to fail
+            candidates = all;
+        }
+
+        return selector.select(candidates);
+    }
+
+    private static final class Lease<E> {
+        private final EndpointStats<E> stats;
+        private final long takenNanos;
+
+        private Lease(final EndpointStats<E> stats, final long takenNanos) {
+            this.stats = stats;
+            this.takenNanos = takenNanos;
+        }
+    }
+
+    /**
+     * Registers the lease once the {@link Connection} is obtained, or rolls back the in-flight counter otherwise.
+     */
+    private final class LeaseCompletionHandler implements CompletionHandler<Connection> {
+        private final EndpointStats<E> stats;
+        private final CompletionHandler<Connection> completionHandler;
+
+        private LeaseCompletionHandler(final EndpointStats<E> stats, final CompletionHandler<Connection> completionHandler) {
+            this.stats = stats;
+            this.completionHandler = completionHandler;
+        }
+
+        @Override
+        public void completed(final Connection connection) {
+            if (leases.putIfAbsent(connection, new Lease<>(stats, System.nanoTime())) != null) {
+                // shouldn't happen, unless the connection was not released properly
+                stats.onRelease();
+            }
+
+            if (completionHandler != null) {
+                completionHandler.completed(connection);
+            }
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            stats.onRelease();
+            stats.recordFailure(System.nanoTime(), failurePenaltyNanos);
+
+            if (completionHandler != null) {
+                completionHandler.failed(throwable);
+            }
+        }
+
+        @Override
+        public void cancelled() {
+            stats.onRelease();
+
+            if (completionHandler != null) {
+                completionHandler.cancelled();
+            }
+        }
+
+        @Override
+        public void updated(final Connection result) {
+            if (completionHandler != null) {
+                completionHandler.updated(result);
+            }
+        }
+    }
+
+    /**
+     * Tracks the connect results reported by the {@link MultiEndpointPool} and ejects the outliers.
+     */
+    private final class EjectionConnectListener implements MultiEndpointPool.ConnectListener<E> {
+
+        @Override
+        public void onConnected(final Endpoint<E> endpoint, final Connection connection) {
+            final EndpointStats<E> stats = getEndpointStats(endpoint);
+            if (stats != null) {
+                stats.onConnected();
+            }
+        }
+
+        @Override
+        public void onConnectFailed(final Endpoint<E> endpoint) {
+            final int maxFailures = maxConsecutiveConnectFailures;
+            if (maxFailures <= 0) {
+                return;
+            }
+
+            final EndpointStats<E> stats = getEndpointStats(endpoint);
+            if (stats != null && stats.onConnectFailed(System.nanoTime(), maxFailures, baseEjectionTimeNanos, maxEjectionTimeNanos)) {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, "Endpoint {0} is ejected after {1} consecutive connect failures", new Object[] { endpoint, maxFailures });
+                }
+            }
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,8 +19,10 @@ package org.glassfish.grizzly.connectionpool;
 
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -96,6 +99,11 @@ public class MultiEndpointPool<E> {
      */
     private final Map<Connection, ConnectionInfo<E>> connectionToSubPoolMap = new ConcurrentHashMap<>();
 
+    /**
+     * The listeners to be notified about endpoint connect results
+     */
+    private final List<ConnectListener<E>> connectListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Sync for endpointToPoolMap updates
      */
@@ -534,6 +542,26 @@ public class MultiEndpointPool<E> {
         return sePool != null ? sePool.poll() : null;
     }
 
+    /**
+     * Adds the {@link ConnectListener} to be notified about the results of the connect operations initiated by the pool,
+     * including the reconnect attempts.
+     *
+     * @param connectListener {@link ConnectListener}
+     */
+    public void addConnectListener(final ConnectListener<E> connectListener) {
+        connectListeners.add(connectListener);
+    }
+
+    /**
+     * Removes the {@link ConnectListener}.
+     *
+     * @param connectListener {@link ConnectListener}
+     * @return <tt>true</tt> if the listener has been removed, or <tt>false</tt> if it was not registered
+     */
+    public boolean removeConnectListener(final ConnectListener<E> connectListener) {
+        return connectListeners.remove(connectListener);
+    }
+
     /**
      * Returns the {@link Connection} to the pool.
      *
@@ -805,6 +833,29 @@ public class MultiEndpointPool<E> {
         void customize(Endpoint<E> endpoint, EndpointPoolBuilder<E> builder);
     }
 
+    /**
+     * The listener to be notified about the results of the connect operations initiated by the pool. The listener is
+     * called while the endpoint pool state is being updated, so it must not block.
+     *
+     * @param <E> the address type, for example for TCP transport it's {@link SocketAddress}
+     */
+    public interface ConnectListener<E> {
+        /**
+         * The method is called once new {@link Connection} to the endpoint is established.
+         *
+         * @param endpoint the {@link Endpoint}
+         * @param connection the {@link Connection}
+         */
+        void onConnected(Endpoint<E> endpoint, Connection connection);
+
+        /**
+         * The method is called once the connect (or reconnect) attempt to the endpoint failed or timed out.
+         *
+         * @param endpoint the {@link Endpoint}
+         */
+        void onConnectFailed(Endpoint<E> endpoint);
+    }
+
     /**
      * {@link SingleEndpointPool} implementation used by this <tt>MultiEndpointPool</tt>.
      */
@@ -856,6 +907,10 @@ public class MultiEndpointPool<E> {
             synchronized (countersSync) {
                 totalPendingConnections--;
             }
+
+            for (ConnectListener<E> connectListener : connectListeners) {
+                connectListener.onConnected(getEndpoint(), connection);
+            }
         }
 
         /**
@@ -894,6 +949,10 @@ public class MultiEndpointPool<E> {
                 totalPendingConnections--;
             }
 
+            for (ConnectListener<E> connectListener : connectListeners) {
+                connectListener.onConnectFailed(getEndpoint());
+            }
+
             super.onFailedConnection();
         }
 
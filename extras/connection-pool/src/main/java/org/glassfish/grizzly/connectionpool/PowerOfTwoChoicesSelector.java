@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The "power of two choices" {@link EndpointSelector}: picks two random candidates and selects the one with the lower
+ * cost, where the cost is the EWMA latency multiplied by the number of in-flight requests (plus one). Unlike always
+ * selecting the globally best candidate, this doesn't make all the clients herd to the same endpoint, while still
+ * avoiding the slow and the overloaded ones.
+ *
+ * The endpoint without latency samples is assumed to be as fast as the other candidate, so it's neither favored over
+ * the measured endpoints nor starved, and the pair is compared by load. The failures are accounted by
+ * {@link LoadBalancedEndpointPool} as the latency penalty.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ */
+public class PowerOfTwoChoicesSelector<E> implements EndpointSelector<E> {
+
+    @Override
+    public EndpointStats<E> select(final List<EndpointStats<E>> candidates) {
+        final int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int i = random.nextInt(size);
+        int j = random.nextInt(size - 1);
+        if (j >= i) {
+            j++;
+        }
+
+        final EndpointStats<E> first = candidates.get(i);
+        final EndpointStats<E> second = candidates.get(j);
+
+        final double firstLatency = first.getLatencyEwmaNanos();
+        final double secondLatency = second.getLatencyEwmaNanos();
+        final boolean hasFirstLatency = first.hasLatencySample();
+        final boolean hasSecondLatency = second.hasLatencySample();
+
+        final double firstCost = cost(first, hasFirstLatency || !hasSecondLatency ? firstLatency : secondLatency);
+        final double secondCost = cost(second, hasSecondLatency || !hasFirstLatency ? secondLatency : firstLatency);
+
+        return firstCost <= secondCost ? first : second;
+    }
+
+    /**
+     * @param stats the endpoint statistics
+     * @param latencyNanos the endpoint latency, which is the EWMA latency or, if the endpoint doesn't have latency samples
+     * yet, the latency of the other candidate
+     * @return the cost of sending the next request to the endpoint
+     */
+    protected double cost(final EndpointStats<E> stats, final double latencyNanos) {
+        // +1 makes the endpoints without latency samples comparable by load
+        return (latencyNanos + 1) * (stats.getInFlight() + 1);
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.WriteResult;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.http.HttpBrokenContent;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.HttpHeader;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.Protocol;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.http.util.HttpStatus;
+import org.glassfish.grizzly.http.util.MimeHeaders;
+import org.glassfish.grizzly.memory.Buffers;
+
+/**
+ * The single request/response exchange of the {@link ReverseProxyHttpHandler}.
+ *
+ * The exchange couples the client and the upstream {@link Connection}s: the request body is pulled from the client
+ * {@link Request} only when the upstream {@link Connection} can accept more data, and the upstream response
+ * {@link FilterChainContext} is suspended, until the client {@link Response} can accept more data. The exchange plays
+ * the role of the response body {@link Flow.Publisher} and {@link Flow.Subscription}.
+ */
+final class ProxyExchange implements Flow.Publisher<Buffer>, Flow.Subscription {
+    private static final Logger LOGGER = Grizzly.logger(ProxyExchange.class);
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String X_FORWARDED_PROTO = "X-Forwarded-Proto";
+
+    private static final Header[] HOP_BY_HOP_HEADERS = { Header.Connection, Header.KeepAlive, Header.ProxyAuthenticate,
+            Header.ProxyAuthorization, Header.ProxyConnection, Header.TE, Header.Trailer, Header.TransferEncoding, Header.Upgrade };
+
+    private final MultiEndpointPool<SocketAddress> pool;
+    private final ReverseProxyHttpHandler.Route route;
+    private final Request request;
+    private final Response response;
+
+    /**
+     * The request body publisher, <tt>null</tt> if the request doesn't have a body
+     */
+    private final Flow.Publisher<Buffer> requestBodyPublisher;
+
+    private final CompletionHandler<WriteResult> upstreamWriteCompletionHandler = new EmptyCompletionHandler<WriteResult>() {
+        @Override
+        public void failed(final Throwable throwable) {
+            fail(throwable);
+        }
+    };
+
+    private volatile Connection upstreamConnection;
+    private volatile HttpRequestPacket upstreamRequest;
+    private volatile boolean isRequestBodySent;
+    private volatile boolean isTimedOut;
+    private volatile RequestBodySubscriber requestBodySubscriber;
+
+    // the response body publisher state, guarded by "this"
+    private Flow.Subscriber<? super Buffer> responseBodySubscriber;
+    private long demand;
+    private HttpContent pendingContent;
+    private FilterChainContext suspendedContext;
+    private boolean isDone;
+
+    ProxyExchange(final MultiEndpointPool<SocketAddress> pool, final ReverseProxyHttpHandler.Route route, final Request request, final Response response) {
+        this.pool = pool;
+        this.route = route;
+        this.request = request;
+        this.response = response;
+
+        final HttpRequestPacket requestPacket = request.getRequest();
+        if (requestPacket.getContentLength() > 0 || requestPacket.isChunked()) {
+            // must be obtained before HttpHandler.service(...) returns
+            requestBodyPublisher = request.getBodyPublisher();
+        } else {
+            requestBodyPublisher = null;
+            isRequestBodySent = true;
+        }
+    }
+
+    ReverseProxyHttpHandler.Route getRoute() {
+        return route;
+    }
+
+    /**
+     * @return the {@link CompletionHandler} to be notified, when the suspended client {@link Response} is resumed or
+     * cancelled
+     */
+    CompletionHandler<Response> getSuspendCompletionHandler() {
+        return new EmptyCompletionHandler<Response>() {
+            @Override
+            public void cancelled() {
+                // the client connection has been closed
+                abort(new CancellationException("The client connection has been closed"));
+            }
+        };
+    }
+
+    /**
+     * Takes the upstream {@link Connection} from the pool and sends the request.
+     */
+    void start() {
+        pool.take(route.getEndpoint(), new EmptyCompletionHandler<Connection>() {
+            @Override
+            public void completed(final Connection connection) {
+                onUpstreamConnection(connection);
+            }
+
+            @Override
+            public void failed(final Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void cancelled() {
+                fail(new CancellationException());
+            }
+        });
+    }
+
+    private void onUpstreamConnection(final Connection connection) {
+        synchronized (this) {
+            if (isDone) {
+                pool.release(connection);
+                return;
+            }
+
+            upstreamConnection = connection;
+        }
+
+        ReverseProxyHttpHandler.EXCHANGE_ATTR.set(connection, this);
+
+        final HttpRequestPacket packet = createUpstreamRequest(request);
+        upstreamRequest = packet;
+        connection.write(packet, upstreamWriteCompletionHandler);
+
+        if (requestBodyPublisher != null) {
+            final RequestBodySubscriber subscriber = new RequestBodySubscriber(connection, packet);
+            requestBodySubscriber = subscriber;
+            requestBodyPublisher.subscribe(subscriber);
+        }
+    }
+
+    /**
+     * Processes the upstream response {@link HttpContent}. If the client {@link Response} can't accept the content right
+     * away - the upstream {@link FilterChainContext} is suspended, so no more data is read from the upstream
+     * {@link Connection}, until the client {@link Response} requests it.
+     */
+    NextAction onResponseContent(final FilterChainContext ctx, final HttpContent httpContent) {
+        if (HttpContent.isBroken(httpContent)) {
+            fail(((HttpBrokenContent) httpContent).getException());
+            return ctx.getStopAction();
+        }
+
+        synchronized (this) {
+            if (isDone) {
+                return ctx.getStopAction();
+            }
+
+            if (responseBodySubscriber == null) {
+                // the response is started under the lock, so a concurrent failure either sees the subscriber or
+                // sends the error status itself
+                copyResponseHeader((HttpResponsePacket) httpContent.getHttpHeader(), response);
+                response.setBodyPublisher(this);
+            }
+
+            if (demand == 0) {
+                pendingContent = httpContent;
+                suspendedContext = ctx;
+                return ctx.getSuspendAction();
+            }
+
+            demand--;
+        }
+
+        deliver(httpContent);
+        return ctx.getStopAction();
+    }
+
+    // ----------------------------------------------------- Flow.Publisher
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Buffer> subscriber) {
+        synchronized (this) {
+            responseBodySubscriber = subscriber;
+        }
+
+        subscriber.onSubscribe(this);
+    }
+
+    // ----------------------------------------------------- Flow.Subscription
+
+    @Override
+    public void request(final long n) {
+        final HttpContent content;
+        final FilterChainContext ctx;
+
+        synchronized (this) {
+            if (isDone) {
+                return;
+            }
+
+            demand = n > Long.MAX_VALUE - demand ? Long.MAX_VALUE : demand + n;
+            if (pendingContent == null) {
+                return;
+            }
+
+            content = pendingContent;
+            ctx = suspendedContext;
+            pendingContent = null;
+            suspendedContext = null;
+            demand--;
+        }
+
+        deliver(content);
+        ctx.resume(ctx.getStopAction());
+    }
+
+    @Override
+    public void cancel() {
+        abort(new CancellationException("The response body subscription has been cancelled"));
+    }
+
+    // -----------------------------------------------------------------------
+
+    void onTimeout() {
+        isTimedOut = true;
+    }
+
+    void onUpstreamClosed() {
+        fail(isTimedOut ? new TimeoutException("The upstream server timed out") : new IOException("The upstream connection has been closed"));
+    }
+
+    /**
+     * Fails the exchange because of the upstream error. If the client {@link Response} hasn't been started yet - the
+     * {@link HttpStatus#GATEWAY_TIMEOUT_504} or {@link HttpStatus#BAD_GATEWAY_502} status is sent.
+     */
+    void fail(final Throwable t) {
+        final Flow.Subscriber<? super Buffer> subscriber;
+        synchronized (this) {
+            if (isDone) {
+                return;
+            }
+
+            isDone = true;
+            subscriber = responseBodySubscriber;
+        }
+
+        LOGGER.log(Level.FINE, "The upstream exchange failed", t);
+        releaseResources(false);
+
+        if (subscriber != null) {
+            subscriber.onError(t);
+        } else {
+            response.setStatus(isTimedOut || t instanceof TimeoutException ? HttpStatus.GATEWAY_TIMEOUT_504 : HttpStatus.BAD_GATEWAY_502);
+            response.resume();
+        }
+    }
+
+    /**
+     * Aborts the exchange because the client side has gone.
+     */
+    private void abort(final Throwable t) {
+        synchronized (this) {
+            if (isDone) {
+                return;
+            }
+
+            isDone = true;
+        }
+
+        LOGGER.log(Level.FINE, "The client exchange has been aborted", t);
+        releaseResources(false);
+    }
+
+    private void deliver(final HttpContent httpContent) {
+        final Buffer content = httpContent.getContent();
+        final boolean isLast = httpContent.isLast();
+        final Flow.Subscriber<? super Buffer> subscriber = responseBodySubscriber;
+
+        if (content.hasRemaining()) {
+            subscriber.onNext(content);
+        }
+
+        if (isLast) {
+            final boolean isKeepAlive = httpContent.getHttpHeader().getProcessingState().isKeepAlive();
+            synchronized (this) {
+                if (isDone) {
+                    return;
+                }
+
+                isDone = true;
+            }
+
+            releaseResources(isKeepAlive && isRequestBodySent);
+            subscriber.onComplete();
+        } else if (!content.hasRemaining()) {
+            // nothing has been passed to the subscriber, so the demand is still there
+            request(1);
+        }
+    }
+
+    /**
+     * Detaches the upstream {@link Connection} from this exchange and either returns it to the pool, or closes it.
+     */
+    private void releaseResources(final boolean isReusable) {
+        final RequestBodySubscriber subscriber = requestBodySubscriber;
+        if (subscriber != null && !isRequestBodySent) {
+            subscriber.cancel();
+        }
+
+        final FilterChainContext ctx;
+        synchronized (this) {
+            ctx = suspendedContext;
+            suspendedContext = null;
+            pendingContent = null;
+        }
+
+        final Connection connection = upstreamConnection;
+        if (connection != null) {
+            ReverseProxyHttpHandler.EXCHANGE_ATTR.remove(connection);
+            if (isReusable) {
+                pool.release(connection);
+            } else {
+                connection.closeSilently();
+            }
+        }
+
+        if (ctx != null) {
+            ctx.resume(ctx.getStopAction());
+        }
+    }
+
+    private static HttpRequestPacket createUpstreamRequest(final Request request) {
+        final HttpRequestPacket clientRequest = request.getRequest();
+
+        final HttpRequestPacket upstreamRequest = HttpRequestPacket.builder().method(clientRequest.getMethod())
+                .uri(clientRequest.getRequestURIRef().getOriginalRequestURIBC().toString()).query(clientRequest.getQueryString())
+                .protocol(Protocol.HTTP_1_1).build();
+
+        final MimeHeaders headers = upstreamRequest.getHeaders();
+        headers.copyFrom(clientRequest.getHeaders());
+        removeHopByHopHeaders(headers);
+        headers.removeHeader(Header.ContentLength);
+        headers.removeHeader(Header.Expect);
+
+        if (clientRequest.isChunked()) {
+            upstreamRequest.setChunked(true);
+        } else if (clientRequest.getContentLength() >= 0) {
+            upstreamRequest.setContentLengthLong(clientRequest.getContentLength());
+        }
+
+        final String remoteAddr = request.getRemoteAddr();
+        if (remoteAddr != null) {
+            final String forwardedFor = headers.getHeader(X_FORWARDED_FOR);
+            headers.setValue(X_FORWARDED_FOR).setString(forwardedFor != null ? forwardedFor + ", " + remoteAddr : remoteAddr);
+        }
+
+        headers.setValue(X_FORWARDED_PROTO).setString(request.getScheme());
+
+        return upstreamRequest;
+    }
+
+    private static void copyResponseHeader(final HttpResponsePacket upstreamResponse, final Response response) {
+        response.setStatus(upstreamResponse.getStatus(), upstreamResponse.getReasonPhrase());
+
+        final MimeHeaders headers = response.getResponse().getHeaders();
+        headers.copyFrom(upstreamResponse.getHeaders());
+        removeHopByHopHeaders(headers);
+        headers.removeHeader(Header.ContentLength);
+
+        final long contentLength = upstreamResponse.getContentLength();
+        if (contentLength >= 0) {
+            response.setContentLengthLong(contentLength);
+        }
+    }
+
+    private static void removeHopByHopHeaders(final MimeHeaders headers) {
+        // the headers listed in the Connection header are hop-by-hop as well
+        final String connection = headers.getHeader(Header.Connection);
+        if (connection != null) {
+            for (final String token : connection.split(",")) {
+                final String name = token.trim();
+                if (!name.isEmpty() && !"close".equals(name.toLowerCase(Locale.ENGLISH))) {
+                    headers.removeHeader(name);
+                }
+            }
+        }
+
+        for (final Header header : HOP_BY_HOP_HEADERS) {
+            headers.removeHeader(header);
+        }
+    }
+
+    /**
+     * Writes the client request body to the upstream {@link Connection}, requesting the next chunk only when the
+     * upstream {@link Connection} can accept it.
+     */
+    private final class RequestBodySubscriber implements Flow.Subscriber<Buffer> {
+        private final Connection connection;
+        private final HttpHeader upstreamRequest;
+        private final WriteHandler writeHandler = new WriteHandler() {
+            @Override
+            public void onWritePossible() {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                fail(t);
+            }
+        };
+
+        private volatile Flow.Subscription subscription;
+
+        RequestBodySubscriber(final Connection connection, final HttpHeader upstreamRequest) {
+            this.connection = connection;
+            this.upstreamRequest = upstreamRequest;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            requestNext();
+        }
+
+        @Override
+        public void onNext(final Buffer buffer) {
+            Objects.requireNonNull(buffer, "buffer can't be null");
+
+            connection.write(HttpContent.builder(upstreamRequest).content(buffer).build(), upstreamWriteCompletionHandler);
+            requestNext();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            abort(t);
+        }
+
+        @Override
+        public void onComplete() {
+            isRequestBodySent = true;
+            connection.write(HttpContent.builder(upstreamRequest).content(Buffers.EMPTY_BUFFER).last(true).build(), upstreamWriteCompletionHandler);
+        }
+
+        void cancel() {
+            final Flow.Subscription localSubscription = subscription;
+            if (localSubscription != null) {
+                localSubscription.cancel();
+            }
+        }
+
+        private void requestNext() {
+            if (connection.canWrite()) {
+                subscription.request(1);
+            } else {
+                connection.notifyCanWrite(writeHandler);
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.attributes.Attribute;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChain;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.http.HttpClientFilter;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http.util.HttpStatus;
+import org.glassfish.grizzly.nio.transport.TCPNIOConnectorHandler;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.glassfish.grizzly.utils.IdleTimeoutFilter;
+
+/**
+ * The {@link HttpHandler}, which forwards the requests to the upstream HTTP/1.1 servers. The upstream server is chosen
+ * by the longest {@link Route} path prefix matching the request URI, if no {@link Route} matches - the
+ * {@link HttpStatus#NOT_FOUND_404} status is sent.
+ *
+ * The upstream {@link Connection}s are taken from the {@link MultiEndpointPool} and returned back once the exchange is
+ * completed, so the keep-alive upstream {@link Connection}s are reused by the next requests. The request and response
+ * bodies are streamed chunk by chunk and never buffered as a whole: the request body is read from the client only as
+ * fast as it can be written to the upstream {@link Connection}, and the upstream response is read only as fast as it
+ * can be written to the client.
+ *
+ * Each {@link Route} has its own timeout, which limits the time the upstream {@link Connection} may stay idle during the
+ * exchange. Once the timeout expires, the upstream {@link Connection} is closed and the
+ * {@link HttpStatus#GATEWAY_TIMEOUT_504} status is sent, if the response hasn't been committed yet. Other upstream
+ * failures are reported with the {@link HttpStatus#BAD_GATEWAY_502} status.
+ *
+ * The upstream <tt>TCPNIOTransport</tt> has to be started before the first request is served. It may be shared with
+ * other clients, because the upstream {@link Connection}s use their own {@link FilterChain}.
+ */
+public class ReverseProxyHttpHandler extends HttpHandler {
+    /**
+     * The default {@link Route} timeout in milliseconds
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60000;
+
+    /**
+     * The {@link ProxyExchange} the upstream {@link Connection} is currently used for
+     */
+    static final Attribute<ProxyExchange> EXCHANGE_ATTR = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(ReverseProxyHttpHandler.class.getName() + ".exchange");
+
+    /**
+     * The routes sorted in the reverse order, so the longer path prefix comes first
+     */
+    private final Map<String, Route> routes = new ConcurrentSkipListMap<>((p1, p2) -> p2.compareTo(p1));
+
+    private final MultiEndpointPool<SocketAddress> pool;
+    private final DelayedExecutor delayedExecutor;
+    private final TCPNIOConnectorHandler connectorHandler;
+
+    /**
+     * Constructs the <tt>ReverseProxyHttpHandler</tt> with the default {@link MultiEndpointPool} settings.
+     *
+     * @param upstreamTransport the transport to be used to connect to the upstream servers
+     */
+    public ReverseProxyHttpHandler(final TCPNIOTransport upstreamTransport) {
+        this(upstreamTransport, MultiEndpointPool.builder(SocketAddress.class).build());
+    }
+
+    /**
+     * Constructs the <tt>ReverseProxyHttpHandler</tt>, which takes the upstream {@link Connection}s from the given
+     * {@link MultiEndpointPool}. The pool is closed, when the handler is destroyed.
+     *
+     * @param upstreamTransport the transport to be used to connect to the upstream servers
+     * @param pool the {@link MultiEndpointPool} of the upstream {@link Connection}s
+     */
+    public ReverseProxyHttpHandler(final TCPNIOTransport upstreamTransport, final MultiEndpointPool<SocketAddress> pool) {
+        Objects.requireNonNull(upstreamTransport, "upstreamTransport can't be null");
+        Objects.requireNonNull(pool, "pool can't be null");
+
+        this.pool = pool;
+        delayedExecutor = IdleTimeoutFilter.createDefaultIdleDelayedExecutor();
+        delayedExecutor.start();
+
+        final FilterChain filterChain = FilterChainBuilder.stateless().add(new TransportFilter())
+                .add(new IdleTimeoutFilter(delayedExecutor, new RouteTimeoutResolver(), new RouteTimeoutHandler())).add(new HttpClientFilter())
+                .add(new UpstreamFilter()).build();
+
+        connectorHandler = TCPNIOConnectorHandler.builder(upstreamTransport).processor(filterChain).build();
+    }
+
+    /**
+     * Adds the {@link Route}, which forwards the requests, whose URI starts with the given path prefix, to the upstream
+     * server. If the {@link Route} with the same path prefix has been already added, it's replaced.
+     *
+     * @param pathPrefix the request URI path prefix, for example <tt>"/api/"</tt>, <tt>"/"</tt> matches all the requests
+     * @param upstreamAddress the upstream server address
+     * @return the {@link Route}
+     */
+    public Route addRoute(final String pathPrefix, final SocketAddress upstreamAddress) {
+        Objects.requireNonNull(pathPrefix, "pathPrefix can't be null");
+        Objects.requireNonNull(upstreamAddress, "upstreamAddress can't be null");
+
+        final Route route = new Route(pathPrefix, Endpoint.Factory.create(upstreamAddress, connectorHandler));
+        routes.put(pathPrefix, route);
+        return route;
+    }
+
+    /**
+     * Removes the {@link Route} with the given path prefix.
+     *
+     * @param pathPrefix the request URI path prefix
+     * @return <tt>true</tt> if the {@link Route} has been removed, or <tt>false</tt> otherwise
+     */
+    public boolean removeRoute(final String pathPrefix) {
+        return routes.remove(pathPrefix) != null;
+    }
+
+    /**
+     * @return the {@link MultiEndpointPool} of the upstream {@link Connection}s
+     */
+    public MultiEndpointPool<SocketAddress> getConnectionPool() {
+        return pool;
+    }
+
+    @Override
+    public void service(final Request request, final Response response) throws Exception {
+        final Route route = findRoute(request.getRequestURI());
+        if (route == null) {
+            response.sendError(HttpStatus.NOT_FOUND_404.getStatusCode());
+            return;
+        }
+
+        final ProxyExchange exchange = new ProxyExchange(pool, route, request, response);
+        response.suspend(-1, TimeUnit.MILLISECONDS, exchange.getSuspendCompletionHandler());
+        exchange.start();
+    }
+
+    @Override
+    public void destroy() {
+        pool.close();
+        delayedExecutor.stop();
+        delayedExecutor.destroy();
+    }
+
+    private Route findRoute(final String uri) {
+        if (uri == null) {
+            return null;
+        }
+
+        for (final Route route : routes.values()) {
+            if (uri.startsWith(route.pathPrefix)) {
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * The mapping of the request URI path prefix to the upstream server.
+     */
+    public static final class Route {
+        private final String pathPrefix;
+        private final Endpoint<SocketAddress> endpoint;
+        private volatile long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+        private Route(final String pathPrefix, final Endpoint<SocketAddress> endpoint) {
+            this.pathPrefix = pathPrefix;
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * @return the request URI path prefix
+         */
+        public String getPathPrefix() {
+            return pathPrefix;
+        }
+
+        /**
+         * @return the upstream server {@link Endpoint}
+         */
+        public Endpoint<SocketAddress> getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * Returns the max time the upstream {@link Connection} may stay idle, while waiting for the request to be written
+         * or the response to be received.
+         *
+         * @param timeUnit the {@link TimeUnit}
+         * @return the timeout, a negative value means the timeout is disabled
+         */
+        public long getTimeout(final TimeUnit timeUnit) {
+            return timeoutMillis < 0 ? -1 : timeUnit.convert(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Sets the max time the upstream {@link Connection} may stay idle, while waiting for the request to be written or
+         * the response to be received. A negative value disables the timeout.
+         *
+         * @param timeout the timeout
+         * @param timeUnit the {@link TimeUnit}
+         * @return this {@link Route}
+         */
+        public Route setTimeout(final long timeout, final TimeUnit timeUnit) {
+            timeoutMillis = timeout < 0 ? -1 : TimeUnit.MILLISECONDS.convert(timeout, timeUnit);
+            return this;
+        }
+
+        long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Route{" + "pathPrefix=" + pathPrefix + ", endpoint=" + endpoint + ", timeoutMillis=" + timeoutMillis + '}';
+        }
+    }
+
+    /**
+     * Applies the {@link Route} timeout to the upstream {@link Connection}, which is in use. The idle pooled
+     * {@link Connection}s are controlled by the {@link MultiEndpointPool} keep-alive settings.
+     */
+    private static final class RouteTimeoutResolver implements IdleTimeoutFilter.TimeoutResolver {
+        @Override
+        public long getTimeout(final FilterChainContext ctx) {
+            final ProxyExchange exchange = EXCHANGE_ATTR.get(ctx.getConnection());
+            if (exchange == null) {
+                return IdleTimeoutFilter.FOREVER;
+            }
+
+            final long timeoutMillis = exchange.getRoute().getTimeoutMillis();
+            return timeoutMillis < 0 ? IdleTimeoutFilter.FOREVER : timeoutMillis;
+        }
+    }
+
+    private static final class RouteTimeoutHandler implements IdleTimeoutFilter.TimeoutHandler {
+        @Override
+        public void onTimeout(final Connection c) {
+            final ProxyExchange exchange = EXCHANGE_ATTR.get(c);
+            if (exchange != null) {
+                exchange.onTimeout();
+            }
+        }
+    }
+
+    /**
+     * Passes the upstream response to the {@link ProxyExchange} the {@link Connection} is used for.
+     */
+    private static final class UpstreamFilter extends BaseFilter {
+        @Override
+        public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+            final ProxyExchange exchange = EXCHANGE_ATTR.get(ctx.getConnection());
+            final HttpContent httpContent = ctx.getMessage();
+
+            if (exchange == null) {
+                // unsolicited response, the connection can't be reused
+                httpContent.recycle();
+                ctx.getConnection().closeSilently();
+                return ctx.getStopAction();
+            }
+
+            return exchange.onResponseContent(ctx, httpContent);
+        }
+
+        @Override
+        public NextAction handleClose(final FilterChainContext ctx) throws IOException {
+            final ProxyExchange exchange = EXCHANGE_ATTR.get(ctx.getConnection());
+            if (exchange != null) {
+                exchange.onUpstreamClosed();
+            }
+
+            return ctx.getInvokeAction();
+        }
+
+        @Override
+        public void exceptionOccurred(final FilterChainContext ctx, final Throwable error) {
+            final ProxyExchange exchange = EXCHANGE_ATTR.get(ctx.getConnection());
+            if (exchange != null) {
+                exchange.fail(error);
+            }
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -911,6 +912,69 @@ public class SingleEndpointPool<E> {
         return asyncWaitingList.size();
     }
 
+    /**
+     * @return <tt>true</tt> if the {@link ConnectionInfo} is currently in ready state
+     */
+    boolean isReady0(final ConnectionInfo<E> info) {
+        synchronized (poolSync) {
+            return info.readyStateLink.isAttached();
+        }
+    }
+
+    /**
+     * @return the timestamp when the {@link ConnectionInfo} switched to ready state, or <tt>-1</tt> if it's busy
+     */
+    long getReadyTimeStamp0(final ConnectionInfo<E> info) {
+        synchronized (poolSync) {
+            return info.readyStateLink.getAttachmentTimeStamp();
+        }
+    }
+
+    /**
+     * Removes the timed out async poll from the waiting list.
+     *
+     * @return <tt>true</tt> if the async poll was still waiting and has been removed, or <tt>false</tt> otherwise
+     */
+    boolean removeTimedOutAsyncPoll(final Link<AsyncPoll> asyncPollLink) {
+        // even though it's not volatile - dirty check should be good
+        // enough for us, because we don't plan to use asyncPollLink in this thread
+        if (asyncPollLink.isAttached()) {
+            synchronized (poolSync) {
+                return asyncWaitingList.remove(asyncPollLink);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the {@link DelayQueue} used by connect timeout mechanism, or <tt>null</tt> if it's disabled
+     */
+    DelayQueue<ConnectTimeoutTask> getConnectTimeoutQueue() {
+        return connectTimeoutQueue;
+    }
+
+    /**
+     * @return the {@link DelayQueue} used by reconnect mechanism, or <tt>null</tt> if it's disabled
+     */
+    DelayQueue<ReconnectTask> getReconnectQueue() {
+        return reconnectQueue;
+    }
+
+    /**
+     * @return the {@link DelayQueue} used by async connection poll mechanism, or <tt>null</tt> if it's disabled
+     */
+    DelayQueue<Link<AsyncPoll>> getAsyncPollTimeoutQueue() {
+        return asyncPollTimeoutQueue;
+    }
+
+    /**
+     * @return the {@link DelayQueue} used by connection TTL mechanism, or <tt>null</tt> if it's disabled
+     */
+    DelayQueue<ConnectionInfo> getConnectionTTLQueue() {
+        return connectionTTLQueue;
+    }
+
     /**
      * @return <tt>true</tt> if number of live connections is more or equal to max pool size
      */
@@ -960,6 +1024,20 @@ public class SingleEndpointPool<E> {
         }
     }
 
+    /**
+     * The method will be called once the {@link Connection} TTL has expired: the ready {@link Connection} is closed, the
+     * busy one is detached, so it's closed once it's released.
+     */
+    void onConnectionTTLExpired(final ConnectionInfo<E> info) {
+        synchronized (poolSync) {
+            if (info.isReady()) {
+                info.connection.close();
+            } else {
+                detach(info.connection);
+            }
+        }
+    }
+
     /**
      * Perform keep-alive check on the ready connections and close connections, that keep-alive timeout has been expired.
      */
@@ -1012,7 +1090,7 @@ public class SingleEndpointPool<E> {
      *
      * @return <tt>true</tt> if a new {@link Connection} could be open, or <tt>false</tt> otherwise
      */
-    private boolean createConnectionIfPossibleNoSync() {
+    boolean createConnectionIfPossibleNoSync() {
         if (checkBeforeOpeningConnection()) {
             connect();
             return true;
@@ -1331,24 +1409,16 @@ public class SingleEndpointPool<E> {
 
         @Override
         public boolean doWork(final Link<AsyncPoll> asyncPollLink) {
-            // even though it's not volatile - dirty check should be good
-            // enough for us, because we don't plan to use asyncPollLink in this thread
-            if (asyncPollLink.isAttached()) {
-                final boolean removed;
-                // no volatile barrier, but should be safe, because we access final fields
-                final SingleEndpointPool<?> pool = asyncPollLink.getValue().pool;
-                synchronized (pool.poolSync) {
-                    removed = pool.asyncWaitingList.remove(asyncPollLink);
-                }
-
-                if (removed) {
-                    if (LOGGER.isLoggable(Level.FINEST)) {
-                        LOGGER.log(Level.FINEST, "Async poll timed out for {0}", asyncPollLink.getValue());
-                    }
+            // no volatile barrier, but should be safe, because we access final fields
+            final SingleEndpointPool<?> pool = asyncPollLink.getValue().pool;
 
-                    final AsyncPoll asyncPoll = asyncPollLink.getValue();
-                    Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, new TimeoutException("Poll timeout expired"));
+            if (pool.removeTimedOutAsyncPoll(asyncPollLink)) {
+                if (LOGGER.isLoggable(Level.FINEST)) {
+                    LOGGER.log(Level.FINEST, "Async poll timed out for {0}", asyncPollLink.getValue());
                 }
+
+                final AsyncPoll asyncPoll = asyncPollLink.getValue();
+                Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, new TimeoutException("Poll timeout expired"));
             }
 
             return true;
@@ -1375,9 +1445,9 @@ public class SingleEndpointPool<E> {
     }
 
     protected static final class AsyncPoll {
-        private final SingleEndpointPool pool;
-        private FutureImpl<Connection> future;
-        private CompletionHandler<Connection> completionHandler;
+        final SingleEndpointPool pool;
+        FutureImpl<Connection> future;
+        CompletionHandler<Connection> completionHandler;
 
         private long timeout; // timeout stamp
 
@@ -1394,19 +1464,13 @@ public class SingleEndpointPool<E> {
     protected static final class ConnectionTTLWorker implements DelayedExecutor.Worker<ConnectionInfo> {
 
         @Override
+        @SuppressWarnings("unchecked")
         public boolean doWork(final ConnectionInfo ci) {
             if (LOGGER.isLoggable(Level.FINEST)) {
                 LOGGER.log(Level.FINEST, "Connection {0} TTL expired", ci.connection);
             }
 
-            synchronized (ci.endpointPool.poolSync) {
-                if (ci.isReady()) {
-                    ci.connection.close();
-                } else {
-                    ci.endpointPool.detach(ci.connection);
-                }
-            }
-
+            ci.endpointPool.onConnectionTTLExpired(ci);
             return true;
         }
     }
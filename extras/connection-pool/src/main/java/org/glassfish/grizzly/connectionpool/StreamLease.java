@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.http2.Http2Session;
+
+/**
+ * The lease of one HTTP/2 stream obtained from the {@link Http2EndpointPool}. The leased {@link Connection} may be
+ * shared with other leases, so it must only be used to send one request (open one stream). Once the request/response
+ * exchange is complete the lease has to be returned to the pool using {@link #release()}.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link java.net.SocketAddress}
+ */
+public final class StreamLease<E> {
+    final Http2EndpointPool<E>.SessionEntry sessionEntry;
+    private final AtomicBoolean isReleased = new AtomicBoolean();
+
+    StreamLease(final Http2EndpointPool<E>.SessionEntry sessionEntry) {
+        this.sessionEntry = sessionEntry;
+    }
+
+    /**
+     * @return the {@link Connection} the stream has to be opened on.
+     */
+    public Connection getConnection() {
+        return sessionEntry.connection;
+    }
+
+    /**
+     * @return the {@link Http2Session} associated with the leased {@link Connection}, or <tt>null</tt> if the
+     * {@link Connection} hasn't been upgraded to HTTP/2 (yet).
+     */
+    public Http2Session getHttp2Session() {
+        return Http2Session.get(sessionEntry.connection);
+    }
+
+    /**
+     * Returns the stream capacity back to the pool. Repeated calls don't have any effect.
+     */
+    public void release() {
+        if (isReleased.compareAndSet(false, true)) {
+            sessionEntry.pool().release0(this);
+        }
+    }
+
+    /**
+     * @return <tt>true</tt> if the lease has already been released, or <tt>false</tt> otherwise.
+     */
+    public boolean isReleased() {
+        return isReleased.get();
+    }
+
+    @Override
+    public String toString() {
+        return "StreamLease{" + "connection=" + sessionEntry.connection + ", isReleased=" + isReleased.get() + '}';
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChain;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The {@link ConcurrentSingleEndpointPool} tests.
+ */
+public class ConcurrentSingleEndPointPoolTest {
+    private static final int PORT = SingleEndPointPoolTest.PORT();
+
+    private final Set<Connection> serverSideConnections = newSetFromMap(new ConcurrentHashMap<>());
+
+    private TCPNIOTransport transport;
+
+    @Before
+    public void init() throws IOException {
+        FilterChain filterChain = FilterChainBuilder.stateless().add(new TransportFilter()).add(new BaseFilter() {
+
+            @Override
+            public NextAction handleAccept(FilterChainContext ctx) throws IOException {
+                serverSideConnections.add(ctx.getConnection());
+                return ctx.getStopAction();
+            }
+
+            @Override
+            public NextAction handleClose(FilterChainContext ctx) throws IOException {
+                serverSideConnections.remove(ctx.getConnection());
+                return ctx.getStopAction();
+            }
+        }).build();
+
+        transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(filterChain);
+
+        transport.bind(PORT);
+        transport.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        serverSideConnections.clear();
+
+        if (transport != null) {
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+        SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).corePoolSize(1).maxPoolSize(3).build();
+
+        try {
+            assertTrue(pool instanceof ConcurrentSingleEndpointPool);
+            assertEquals(1, pool.getCorePoolSize());
+            assertEquals(3, pool.getMaxPoolSize());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testBasicPollRelease() throws Exception {
+        SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).build();
+
+        try {
+            Connection c1 = pool.take().get();
+            assertNotNull(c1);
+            assertEquals(1, pool.size());
+            Connection c2 = pool.take().get();
+            assertNotNull(c2);
+            assertEquals(2, pool.size());
+            assertTrue(pool.isBusy(c1));
+
+            assertTrue(pool.release(c1));
+            assertFalse(pool.release(c1));
+            assertFalse(pool.isBusy(c1));
+            assertTrue(pool.getConnectionInfo(c1).isReady());
+            assertEquals(2, pool.size());
+
+            assertTrue(pool.release(c2));
+            assertEquals(2, pool.size());
+            assertEquals(2, pool.getReadyConnectionsCount());
+
+            // the most recently released connection is returned first
+            assertEquals(c2, pool.poll());
+            assertEquals(c1, pool.take().get());
+            assertNull(pool.poll());
+
+            assertTrue(pool.detach(c1));
+            assertEquals(1, pool.size());
+            assertFalse(pool.isRegistered(c1));
+
+            assertTrue(pool.attach(c1));
+            assertEquals(2, pool.size());
+            assertTrue(pool.release(c1));
+            assertEquals(1, pool.getReadyConnectionsCount());
+
+            c1 = pool.take().get();
+            c1.close().get(10, SECONDS);
+            assertEquals(1, pool.size());
+
+            c2.close().get(10, SECONDS);
+            assertEquals(0, pool.size());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testPollWaitForRelease() throws Exception {
+        SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(1).build();
+
+        try {
+            Connection c1 = pool.take().get();
+            assertNotNull(c1);
+
+            final AtomicReference<Connection> result = new AtomicReference<>();
+            final CountDownLatch latch = new CountDownLatch(1);
+            pool.take(new EmptyCompletionHandler<Connection>() {
+                @Override
+                public void completed(Connection connection) {
+                    result.set(connection);
+                    latch.countDown();
+                }
+            });
+
+            assertEquals(1, pool.size());
+            assertEquals(1, pool.getWaitingListSize());
+
+            assertTrue(pool.release(c1));
+            assertTrue(latch.await(10, SECONDS));
+            assertEquals(c1, result.get());
+            assertEquals(0, pool.getWaitingListSize());
+            assertEquals(0, pool.getReadyConnectionsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testFailFastWhenMaxSizeReached() throws Exception {
+        SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(1).failFastWhenMaxSizeReached(true).build();
+
+        try {
+            Connection c1 = pool.take().get();
+            assertNotNull(c1);
+
+            try {
+                pool.take().get();
+                fail("ExecutionException had to be thrown");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testEmbeddedPollTimeout() throws Exception {
+        SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).corePoolSize(1).maxPoolSize(1).asyncPollTimeout(1, SECONDS).build();
+
+        try {
+            Connection c1 = pool.take().get();
+            assertNotNull(c1);
+
+            GrizzlyFuture<Connection> c2Future = pool.take();
+            try {
+                c2Future.get(10, SECONDS);
+                fail("ExecutionException had to be thrown");
+            } catch (ExecutionException e) {
+                assertTrue("Unexpected exception " + e.getCause(), e.getCause() instanceof TimeoutException);
+            }
+
+            assertEquals(0, pool.getWaitingListSize());
+
+            pool.release(c1);
+            assertEquals(c1, pool.take().get(2, SECONDS));
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testKeepAliveTimeout() throws Exception {
+        long keepAliveTimeoutMillis = 1000;
+        long keepAliveCheckIntervalMillis = 200;
+
+        int corePoolSize = 1;
+        int maxPoolSize = 3;
+
+        SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).corePoolSize(corePoolSize).maxPoolSize(maxPoolSize)
+                .keepAliveTimeout(keepAliveTimeoutMillis, MILLISECONDS).keepAliveCheckInterval(keepAliveCheckIntervalMillis, MILLISECONDS)
+                .build();
+
+        try {
+            Connection[] connections = new Connection[maxPoolSize];
+
+            for (int i = 0; i < maxPoolSize; i++) {
+                connections[i] = pool.take().get();
+                assertNotNull(connections[i]);
+            }
+
+            for (int i = 0; i < maxPoolSize; i++) {
+                pool.release(connections[i]);
+                assertEquals(i + 1, pool.getReadyConnectionsCount());
+            }
+
+            Thread.sleep(keepAliveTimeoutMillis * 3);
+
+            assertEquals(corePoolSize, pool.size());
+            assertEquals(corePoolSize, pool.getReadyConnectionsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testConnectionTTL() throws Exception {
+        final SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).connectionTTL(1, SECONDS).build();
+
+        try {
+            final Connection c1 = pool.take().get(10, SECONDS);
+            final Connection c2 = pool.take().get(10, SECONDS);
+            assertEquals(2, pool.size());
+
+            pool.release(c1);
+
+            final long t1 = System.currentTimeMillis();
+            while (pool.size() > 0) {
+                assertTrue("Timeout. pool size is still: " + pool.size(), System.currentTimeMillis() - t1 <= 5000);
+                Thread.sleep(100);
+            }
+
+            // the ready connection is closed, the busy one is detached
+            assertFalse(c1.isOpen());
+            assertTrue(c2.isOpen());
+            assertEquals(0, pool.getReadyConnectionsCount());
+
+            pool.release(c2);
+            assertFalse(c2.isOpen());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testConnectionTTLDuringTakeRelease() throws Exception {
+        final int threadsCount = 4;
+        final long durationMillis = 2000;
+
+        final SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(threadsCount).connectionTTL(50, MILLISECONDS).build();
+
+        try {
+            final AtomicInteger errors = new AtomicInteger();
+            final AtomicInteger closedTakes = new AtomicInteger();
+            final CountDownLatch latch = new CountDownLatch(threadsCount);
+            final long deadline = System.currentTimeMillis() + durationMillis;
+
+            for (int i = 0; i < threadsCount; i++) {
+                new Thread() {
+                    @Override
+                    public void run() {
+                        try {
+                            while (System.currentTimeMillis() < deadline) {
+                                final Connection c = pool.take().get(10, SECONDS);
+                                // the expired connection is never closed after it's been taken
+                                if (!c.isOpen()) {
+                                    closedTakes.incrementAndGet();
+                                }
+
+                                pool.release(c);
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                }.start();
+            }
+
+            assertTrue(latch.await(60, SECONDS));
+            assertEquals(0, errors.get());
+            assertEquals(0, closedTakes.get());
+            assertEquals(pool.getOpenConnectionsCount(), pool.getReadyConnectionsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentTakeRelease() throws Exception {
+        final int maxPoolSize = 4;
+        final int threadsCount = 8;
+        final int iterations = 500;
+
+        final SingleEndpointPool<SocketAddress> pool = ConcurrentSingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(maxPoolSize).build();
+
+        try {
+            final AtomicInteger errors = new AtomicInteger();
+            final Set<Connection> inUse = newSetFromMap(new ConcurrentHashMap<>());
+            final CountDownLatch latch = new CountDownLatch(threadsCount);
+
+            for (int i = 0; i < threadsCount; i++) {
+                new Thread() {
+                    @Override
+                    public void run() {
+                        try {
+                            for (int j = 0; j < iterations; j++) {
+                                final Connection c = pool.take().get(10, SECONDS);
+                                if (!inUse.add(c) || pool.size() > maxPoolSize) {
+                                    errors.incrementAndGet();
+                                }
+
+                                inUse.remove(c);
+                                pool.release(c);
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                }.start();
+            }
+
+            assertTrue(latch.await(60, SECONDS));
+            assertEquals(0, errors.get());
+            assertEquals(pool.getOpenConnectionsCount(), pool.getReadyConnectionsCount());
+            assertEquals(0, pool.getWaitingListSize());
+        } finally {
+            pool.close();
+        }
+
+        assertEquals(0, pool.getReadyConnectionsCount());
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.http.HttpClientFilter;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.Method;
+import org.glassfish.grizzly.http.Protocol;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http2.Http2AddOn;
+import org.glassfish.grizzly.http2.Http2ClientFilter;
+import org.glassfish.grizzly.http2.Http2Configuration;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The {@link Http2EndpointPool} tests. The connections to the plain TCP server are not upgraded to HTTP/2, so each of
+ * them carries one stream at a time, the connections to the h2c server are HTTP/2 from the start (prior knowledge).
+ */
+public class Http2EndpointPoolTest {
+    private TCPNIOTransport transport;
+    private int port;
+
+    private HttpServer h2cServer;
+    private TCPNIOTransport h2cTransport;
+
+    @Before
+    public void init() throws IOException {
+        transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(FilterChainBuilder.stateless().add(new TransportFilter()).build());
+        // the ephemeral ports, so the port released by the previous test is never rebound
+        port = ((InetSocketAddress) transport.bind(0).getLocalAddress()).getPort();
+        transport.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (transport != null) {
+            transport.shutdownNow();
+        }
+
+        if (h2cTransport != null) {
+            h2cTransport.shutdownNow();
+        }
+
+        if (h2cServer != null) {
+            h2cServer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNonHttp2ConnectionIsLeasedExclusively() throws Exception {
+        final Http2EndpointPool<SocketAddress> pool = createPool(4);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            final StreamLease<SocketAddress> l2 = pool.take().get(10, TimeUnit.SECONDS);
+
+            assertNotSame(l1.getConnection(), l2.getConnection());
+            assertNull(l1.getHttp2Session());
+            assertEquals(2, pool.size());
+            assertEquals(2, pool.getLeasedStreamsCount());
+            assertEquals(0, pool.getAvailableStreamsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testReleaseReturnsConnectionToUnderlyingPool() throws Exception {
+        final Http2EndpointPool<SocketAddress> pool = createPool(4);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            assertTrue(pool.getConnectionPool().isBusy(l1.getConnection()));
+
+            l1.release();
+            assertTrue(l1.isReleased());
+            assertEquals(0, pool.size());
+            assertEquals(1, pool.getConnectionPool().getReadyConnectionsCount());
+
+            // repeated release has no effect
+            l1.release();
+            assertEquals(1, pool.getConnectionPool().getReadyConnectionsCount());
+
+            final StreamLease<SocketAddress> l2 = pool.take().get(10, TimeUnit.SECONDS);
+            assertSame(l1.getConnection(), l2.getConnection());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testWaiterIsServedOnRelease() throws Exception {
+        final Http2EndpointPool<SocketAddress> pool = createPool(1);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            final GrizzlyFuture<StreamLease<SocketAddress>> f2 = pool.take();
+
+            assertFalse(f2.isDone());
+            assertEquals(1, pool.getWaitingListSize());
+
+            l1.release();
+
+            final StreamLease<SocketAddress> l2 = f2.get(10, TimeUnit.SECONDS);
+            assertSame(l1.getConnection(), l2.getConnection());
+            assertEquals(0, pool.getWaitingListSize());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testCancelledTakeIsRemovedFromWaitingList() throws Exception {
+        final Http2EndpointPool<SocketAddress> pool = createPool(1);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            final GrizzlyFuture<StreamLease<SocketAddress>> f2 = pool.take();
+
+            assertTrue(f2.cancel(false));
+            assertEquals(0, pool.getWaitingListSize());
+
+            l1.release();
+            assertEquals(1, pool.getConnectionPool().getReadyConnectionsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testCloseFailsWaiters() throws Exception {
+        final Http2EndpointPool<SocketAddress> pool = createPool(1);
+
+        final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+        final GrizzlyFuture<StreamLease<SocketAddress>> f2 = pool.take();
+
+        pool.close();
+
+        try {
+            f2.get(10, TimeUnit.SECONDS);
+            fail("The pool is closed, take must fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        // the connection is closed once the stream is released
+        assertTrue(l1.getConnection().isOpen());
+        l1.release();
+        assertFalse(l1.getConnection().isOpen());
+
+        try {
+            pool.take().get(10, TimeUnit.SECONDS);
+            fail("The pool is closed, take must fail");
+        } catch (ExecutionException e) {
+            assertNotNull(e.getCause());
+        }
+    }
+
+    @Test
+    public void testStreamsAreMultiplexedOnOneConnection() throws Exception {
+        // each request completes only once all of them are being processed
+        final CountDownLatch requests = new CountDownLatch(3);
+        startH2cServer(-1, new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                requests.countDown();
+                requests.await(10, TimeUnit.SECONDS);
+                response.getWriter().write(String.valueOf(requests.getCount()));
+            }
+        });
+
+        final CountDownLatch responses = new CountDownLatch(3);
+        final Http2EndpointPool<SocketAddress> pool = createH2cPool(1, responses);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            final StreamLease<SocketAddress> l2 = pool.take().get(10, TimeUnit.SECONDS);
+            final StreamLease<SocketAddress> l3 = pool.take().get(10, TimeUnit.SECONDS);
+
+            assertNotNull(l1.getHttp2Session());
+            assertSame(l1.getConnection(), l2.getConnection());
+            assertSame(l1.getConnection(), l3.getConnection());
+            assertEquals(1, pool.size());
+            assertEquals(3, pool.getLeasedStreamsCount());
+
+            for (final StreamLease<SocketAddress> lease : new StreamLease[] { l1, l2, l3 }) {
+                sendRequest(lease);
+            }
+
+            assertTrue(responses.await(10, TimeUnit.SECONDS));
+
+            l1.release();
+            l2.release();
+            assertEquals(1, pool.size());
+
+            // the connection without the leased streams is returned to the underlying pool
+            l3.release();
+            assertEquals(0, pool.size());
+            assertEquals(1, pool.getConnectionPool().getReadyConnectionsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testSaturationAtMaxConcurrentStreams() throws Exception {
+        startH2cServer(2, null);
+        final Http2EndpointPool<SocketAddress> pool = createH2cPool(2, null);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            awaitPeerMaxConcurrentStreams(l1, 2);
+
+            final StreamLease<SocketAddress> l2 = pool.take().get(10, TimeUnit.SECONDS);
+            assertSame(l1.getConnection(), l2.getConnection());
+            assertEquals(0, pool.getAvailableStreamsCount());
+
+            // the first connection is saturated
+            final StreamLease<SocketAddress> l3 = pool.take().get(10, TimeUnit.SECONDS);
+            assertNotSame(l1.getConnection(), l3.getConnection());
+            awaitPeerMaxConcurrentStreams(l3, 2);
+            assertEquals(2, pool.size());
+            assertEquals(1, pool.getAvailableStreamsCount());
+
+            final StreamLease<SocketAddress> l4 = pool.take().get(10, TimeUnit.SECONDS);
+            assertSame(l3.getConnection(), l4.getConnection());
+
+            // both connections are saturated and the underlying pool is exhausted
+            final GrizzlyFuture<StreamLease<SocketAddress>> f5 = pool.take();
+            assertFalse(f5.isDone());
+            assertEquals(1, pool.getWaitingListSize());
+
+            l2.release();
+
+            final StreamLease<SocketAddress> l5 = f5.get(10, TimeUnit.SECONDS);
+            assertSame(l1.getConnection(), l5.getConnection());
+            assertEquals(4, pool.getLeasedStreamsCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testConnectionIsDrainedOnGoAway() throws Exception {
+        startH2cServer(-1, null);
+        final Http2EndpointPool<SocketAddress> pool = createH2cPool(2, null);
+
+        try {
+            final StreamLease<SocketAddress> l1 = pool.take().get(10, TimeUnit.SECONDS);
+            final StreamLease<SocketAddress> l2 = pool.take().get(10, TimeUnit.SECONDS);
+            assertSame(l1.getConnection(), l2.getConnection());
+
+            // the graceful shutdown sends GOAWAY and stops listening
+            h2cServer.shutdown(10, TimeUnit.SECONDS);
+
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (!l1.getHttp2Session().isGoingAway()) {
+                assertTrue("GOAWAY hasn't been received", System.currentTimeMillis() < deadline);
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, pool.getAvailableStreamsCount());
+
+            // the connection going away is not used for new streams, and no new connection can be established
+            try {
+                pool.take().get(10, TimeUnit.SECONDS);
+                fail("The server doesn't accept new connections, take must fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+
+            // the connection is closed once the last stream is released
+            l1.release();
+            assertTrue(l1.getConnection().isOpen());
+            l2.release();
+            assertFalse(l1.getConnection().isOpen());
+            assertEquals(0, pool.size());
+        } finally {
+            pool.close();
+        }
+    }
+
+    private Http2EndpointPool<SocketAddress> createPool(final int maxPoolSize) {
+        final SingleEndpointPool<SocketAddress> connectionPool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", port)).maxPoolSize(maxPoolSize).build();
+
+        return new Http2EndpointPool<>(connectionPool);
+    }
+
+    /**
+     * Starts the h2c server, which allows <tt>maxConcurrentStreams</tt> streams per connection (<tt>-1</tt> for the
+     * default).
+     */
+    private void startH2cServer(final int maxConcurrentStreams, final HttpHandler httpHandler) throws IOException {
+        h2cServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("h2c", "localhost", 0);
+        listener.registerAddOn(new Http2AddOn(Http2Configuration.builder().maxConcurrentStreams(maxConcurrentStreams).build()));
+        h2cServer.addListener(listener);
+        // enough worker threads to process the streams of the connection concurrently
+        listener.getTransport().getWorkerThreadPoolConfig().setCorePoolSize(4).setMaxPoolSize(4);
+
+        if (httpHandler != null) {
+            h2cServer.getServerConfiguration().addHttpHandler(httpHandler, "/");
+        }
+
+        h2cServer.start();
+    }
+
+    /**
+     * Creates the pool of the h2c connections, the <tt>responses</tt> latch (if any) is counted down once a response is
+     * received.
+     */
+    private Http2EndpointPool<SocketAddress> createH2cPool(final int maxPoolSize, final CountDownLatch responses) throws IOException {
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless().add(new TransportFilter()).add(new HttpClientFilter())
+                .add(new Http2ClientFilter(Http2Configuration.builder().priorKnowledge(true).build()));
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                final HttpContent httpContent = ctx.getMessage();
+                if (httpContent.isLast() && responses != null) {
+                    responses.countDown();
+                }
+
+                return ctx.getStopAction();
+            }
+        });
+
+        h2cTransport = TCPNIOTransportBuilder.newInstance().build();
+        h2cTransport.setProcessor(filterChainBuilder.build());
+        h2cTransport.start();
+
+        final SingleEndpointPool<SocketAddress> connectionPool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(h2cTransport)
+                .endpointAddress(new InetSocketAddress("localhost", h2cServer.getListener("h2c").getPort())).maxPoolSize(maxPoolSize).build();
+
+        return new Http2EndpointPool<>(connectionPool);
+    }
+
+    /**
+     * The default limit is assumed, until the server SETTINGS are received.
+     */
+    private static void awaitPeerMaxConcurrentStreams(final StreamLease<SocketAddress> lease, final int maxConcurrentStreams)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (lease.getHttp2Session().getPeerMaxConcurrentStreams() != maxConcurrentStreams) {
+            assertTrue("SETTINGS haven't been received", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void sendRequest(final StreamLease<SocketAddress> lease) {
+        final HttpRequestPacket request = HttpRequestPacket.builder().method(Method.GET).uri("/").protocol(Protocol.HTTP_2_0).host("localhost")
+                .build();
+        lease.getConnection().write(HttpContent.builder(request).content(Buffers.EMPTY_BUFFER).last(true).build());
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The {@link LoadBalancedEndpointPool} tests.
+ */
+public class LoadBalancedEndpointPoolTest {
+    private static final int PORT = SingleEndPointPoolTest.PORT();
+    private static final int CLOSED_PORT = PORT + 1000;
+
+    private TCPNIOTransport transport;
+
+    @Before
+    public void init() throws IOException {
+        transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(FilterChainBuilder.stateless().add(new TransportFilter()).build());
+
+        transport.bind(PORT);
+        transport.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (transport != null) {
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() {
+        final EndpointStats<String> idle = new EndpointStats<>(new TestEndpoint("idle"));
+        final EndpointStats<String> busy = new EndpointStats<>(new TestEndpoint("busy"));
+        for (int i = 0; i < 10; i++) {
+            busy.onTake();
+        }
+
+        final List<EndpointStats<String>> candidates = Arrays.asList(idle, busy);
+        final PowerOfTwoChoicesSelector<String> selector = new PowerOfTwoChoicesSelector<>();
+        for (int i = 0; i < 100; i++) {
+            assertSame(idle, selector.select(candidates));
+        }
+
+        // the slow endpoint loses even if it's less loaded
+        idle.onTake();
+        idle.recordLatency(MILLISECONDS.toNanos(100), System.nanoTime(), SECONDS.toNanos(10));
+        busy.recordLatency(MILLISECONDS.toNanos(1), System.nanoTime(), SECONDS.toNanos(10));
+        assertSame(busy, selector.select(candidates));
+    }
+
+    @Test
+    public void testPowerOfTwoChoicesUnsampledAndFailing() {
+        final EndpointStats<String> measured = new EndpointStats<>(new TestEndpoint("measured"));
+        final EndpointStats<String> unsampled = new EndpointStats<>(new TestEndpoint("unsampled"));
+        measured.recordLatency(MILLISECONDS.toNanos(1), System.nanoTime(), SECONDS.toNanos(10));
+
+        final List<EndpointStats<String>> candidates = Arrays.asList(measured, unsampled);
+        final PowerOfTwoChoicesSelector<String> selector = new PowerOfTwoChoicesSelector<>();
+
+        // the unsampled endpoint isn't favored just because its latency is unknown, the pair is compared by load
+        unsampled.onTake();
+        for (int i = 0; i < 100; i++) {
+            assertSame(measured, selector.select(candidates));
+        }
+
+        unsampled.onRelease();
+        measured.onTake();
+        for (int i = 0; i < 100; i++) {
+            assertSame(unsampled, selector.select(candidates));
+        }
+
+        // the fast failing endpoint loses to the loaded one
+        unsampled.recordFailure(System.nanoTime(), SECONDS.toNanos(1));
+        assertTrue(unsampled.hasLatencySample());
+        assertEquals(SECONDS.toNanos(1), unsampled.getLatencyEwmaNanos(), 0.001);
+        for (int i = 0; i < 100; i++) {
+            assertSame(measured, selector.select(candidates));
+        }
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() {
+        final EndpointStats<String> first = new EndpointStats<>(new TestEndpoint("first"));
+        final EndpointStats<String> second = new EndpointStats<>(new TestEndpoint("second"));
+        final EndpointStats<String> third = new EndpointStats<>(new TestEndpoint("third"));
+        first.onTake();
+        third.onTake();
+
+        final List<EndpointStats<String>> candidates = Arrays.asList(first, second, third);
+        final LeastOutstandingRequestsSelector<String> selector = new LeastOutstandingRequestsSelector<>();
+        for (int i = 0; i < 10; i++) {
+            assertSame(second, selector.select(candidates));
+        }
+
+        // ties are resolved by latency
+        second.onTake();
+        first.recordLatency(MILLISECONDS.toNanos(5), System.nanoTime(), SECONDS.toNanos(10));
+        second.recordLatency(MILLISECONDS.toNanos(1), System.nanoTime(), SECONDS.toNanos(10));
+        third.recordLatency(MILLISECONDS.toNanos(3), System.nanoTime(), SECONDS.toNanos(10));
+        for (int i = 0; i < 10; i++) {
+            assertSame(second, selector.select(candidates));
+        }
+    }
+
+    @Test
+    public void testLatencyEwma() {
+        final EndpointStats<String> stats = new EndpointStats<>(new TestEndpoint("ewma"));
+        final long decay = SECONDS.toNanos(1);
+
+        stats.recordLatency(1000, 0, decay);
+        assertEquals(1000, stats.getLatencyEwmaNanos(), 0.001);
+
+        // the sample taken at the same moment doesn't change the average
+        stats.recordLatency(5000, 0, decay);
+        assertEquals(1000, stats.getLatencyEwmaNanos(), 0.001);
+
+        // after one decay period the old average weighs 1/e
+        stats.recordLatency(2000, decay, decay);
+        assertEquals(1000 / Math.E + 2000 * (1 - 1 / Math.E), stats.getLatencyEwmaNanos(), 0.001);
+    }
+
+    @Test
+    public void testEjection() {
+        final EndpointStats<String> stats = new EndpointStats<>(new TestEndpoint("ejection"));
+
+        assertFalse(stats.onConnectFailed(0, 2, 100, 250));
+        assertTrue(stats.onConnectFailed(0, 2, 100, 250));
+        assertTrue(stats.isEjected(99));
+        assertFalse(stats.isEjected(100));
+
+        // the second ejection in a row lasts twice longer
+        assertFalse(stats.onConnectFailed(100, 2, 100, 250));
+        assertTrue(stats.onConnectFailed(100, 2, 100, 250));
+        assertTrue(stats.isEjected(299));
+        assertFalse(stats.isEjected(300));
+
+        // the successful connect resets the state
+        stats.onConnected();
+        assertFalse(stats.isEjected(100));
+        assertEquals(0, stats.getConsecutiveConnectFailures());
+    }
+
+    @Test
+    public void testInFlightAndLatencyTracking() throws Exception {
+        final MultiEndpointPool<SocketAddress> pool = MultiEndpointPool.builder(SocketAddress.class).build();
+        final Endpoint<SocketAddress> endpoint = Endpoint.Factory.create(new InetSocketAddress("localhost", PORT), transport);
+        final LoadBalancedEndpointPool<SocketAddress> lbPool = new LoadBalancedEndpointPool<>(pool, Arrays.asList(endpoint));
+
+        try {
+            final EndpointStats<SocketAddress> stats = lbPool.getEndpointStats(endpoint);
+            assertNotNull(stats);
+
+            final Connection c1 = lbPool.take().get(10, SECONDS);
+            final Connection c2 = lbPool.take().get(10, SECONDS);
+            assertEquals(2, stats.getInFlight());
+
+            Thread.sleep(10);
+
+            assertTrue(lbPool.release(c1));
+            assertTrue(lbPool.release(c2));
+            assertEquals(0, stats.getInFlight());
+            assertTrue(stats.getLatencyEwma(MILLISECONDS) >= 10);
+            assertEquals(2, pool.getOpenConnectionsCount());
+        } finally {
+            lbPool.close();
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testOutlierEjection() throws Exception {
+        final MultiEndpointPool<SocketAddress> pool = MultiEndpointPool.builder(SocketAddress.class).build();
+        final Endpoint<SocketAddress> live = Endpoint.Factory.create(new InetSocketAddress("localhost", PORT), transport);
+        final Endpoint<SocketAddress> dead = Endpoint.Factory.create(new InetSocketAddress("localhost", CLOSED_PORT), transport);
+
+        final LoadBalancedEndpointPool<SocketAddress> lbPool = new LoadBalancedEndpointPool<>(pool, Arrays.asList(dead, live),
+                new LeastOutstandingRequestsSelector<SocketAddress>());
+        lbPool.setOutlierEjection(2, 1, 1, MINUTES);
+        // let the selector retry the failed endpoint
+        lbPool.setFailurePenalty(0, SECONDS);
+
+        try {
+            int failures = 0;
+            for (int i = 0; i < 20; i++) {
+                try {
+                    final Connection c = lbPool.take().get(10, SECONDS);
+                    assertEquals(new InetSocketAddress("localhost", PORT), c.getPeerAddress());
+                    lbPool.release(c);
+                } catch (ExecutionException e) {
+                    failures++;
+                }
+            }
+
+            assertEquals(2, failures);
+            assertTrue(lbPool.getEndpointStats(dead).isEjected());
+            assertFalse(lbPool.getEndpointStats(live).isEjected());
+            assertEquals(0, lbPool.getEndpointStats(dead).getInFlight());
+        } finally {
+            lbPool.close();
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testNoEndpoints() throws Exception {
+        final MultiEndpointPool<SocketAddress> pool = MultiEndpointPool.builder(SocketAddress.class).build();
+        final LoadBalancedEndpointPool<SocketAddress> lbPool = new LoadBalancedEndpointPool<>(pool, Arrays.<Endpoint<SocketAddress>> asList());
+
+        try {
+            lbPool.take().get(10, SECONDS);
+            fail("ExecutionException had to be thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        } finally {
+            pool.close();
+        }
+    }
+
+    private static final class TestEndpoint extends Endpoint<String> {
+        private final String id;
+
+        private TestEndpoint(final String id) {
+            this.id = id;
+        }
+
+        @Override
+        public Object getId() {
+            return id;
+        }
+
+        @Override
+        public GrizzlyFuture<Connection> connect() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
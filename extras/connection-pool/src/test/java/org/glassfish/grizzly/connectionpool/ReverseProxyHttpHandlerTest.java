@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The {@link ReverseProxyHttpHandler} tests.
+ */
+public class ReverseProxyHttpHandlerTest {
+    private static final int UPSTREAM_PORT = SingleEndPointPoolTest.PORT();
+    private static final int PROXY_PORT = UPSTREAM_PORT + 1;
+
+    private HttpServer upstreamServer;
+    private HttpServer proxyServer;
+    private TCPNIOTransport upstreamTransport;
+    private ReverseProxyHttpHandler proxyHandler;
+
+    @Before
+    public void init() throws IOException {
+        upstreamServer = new HttpServer();
+        upstreamServer.addListener(new NetworkListener("upstream", "localhost", UPSTREAM_PORT));
+        upstreamServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                if (request.getRequestURI().startsWith("/slow")) {
+                    Thread.sleep(3000);
+                }
+
+                response.setHeader("X-Upstream-Forwarded-For", request.getHeader("X-Forwarded-For"));
+                response.setHeader("X-Upstream-Connection", String.valueOf(System.identityHashCode(request.getRequest().getConnection())));
+
+                final InputStream in = request.getInputStream();
+                final OutputStream out = response.getOutputStream();
+                final byte[] buffer = new byte[8192];
+                int len;
+                while ((len = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, len);
+                }
+            }
+        });
+        upstreamServer.start();
+
+        upstreamTransport = TCPNIOTransportBuilder.newInstance().build();
+        upstreamTransport.start();
+
+        proxyHandler = new ReverseProxyHttpHandler(upstreamTransport);
+        proxyHandler.addRoute("/", new InetSocketAddress("localhost", UPSTREAM_PORT));
+        proxyHandler.addRoute("/slow", new InetSocketAddress("localhost", UPSTREAM_PORT)).setTimeout(500, TimeUnit.MILLISECONDS);
+        proxyHandler.addRoute("/unused", new InetSocketAddress("localhost", UPSTREAM_PORT));
+        proxyHandler.removeRoute("/unused");
+
+        proxyServer = new HttpServer();
+        proxyServer.addListener(new NetworkListener("proxy", "localhost", PROXY_PORT));
+        proxyServer.getServerConfiguration().addHttpHandler(proxyHandler, "/");
+        proxyServer.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (proxyServer != null) {
+            proxyServer.shutdownNow();
+        }
+
+        if (upstreamTransport != null) {
+            upstreamTransport.shutdownNow();
+        }
+
+        if (upstreamServer != null) {
+            upstreamServer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStreamedBody() throws Exception {
+        final byte[] body = new byte[8 * 1024 * 1024];
+        new Random(47).nextBytes(body);
+
+        final HttpURLConnection c = open("/echo");
+        c.setRequestMethod("POST");
+        c.setDoOutput(true);
+        c.setFixedLengthStreamingMode(body.length);
+        try (OutputStream out = c.getOutputStream()) {
+            out.write(body);
+        }
+
+        assertEquals(200, c.getResponseCode());
+        assertEquals("127.0.0.1", c.getHeaderField("X-Upstream-Forwarded-For"));
+        assertArrayEquals(body, readFully(c.getInputStream()));
+    }
+
+    @Test
+    public void testChunkedRequestBody() throws Exception {
+        final byte[] body = new byte[300000];
+        new Random(48).nextBytes(body);
+
+        final HttpURLConnection c = open("/echo");
+        c.setRequestMethod("PUT");
+        c.setDoOutput(true);
+        c.setChunkedStreamingMode(4096);
+        try (OutputStream out = c.getOutputStream()) {
+            out.write(body);
+        }
+
+        assertEquals(200, c.getResponseCode());
+        assertArrayEquals(body, readFully(c.getInputStream()));
+    }
+
+    @Test
+    public void testKeepAliveConnectionIsReused() throws Exception {
+        String upstreamConnection = null;
+        for (int i = 0; i < 5; i++) {
+            final HttpURLConnection c = open("/get" + i);
+            assertEquals(200, c.getResponseCode());
+            readFully(c.getInputStream());
+
+            if (upstreamConnection == null) {
+                upstreamConnection = c.getHeaderField("X-Upstream-Connection");
+            } else {
+                assertEquals(upstreamConnection, c.getHeaderField("X-Upstream-Connection"));
+            }
+        }
+
+        assertEquals(1, proxyHandler.getConnectionPool().size());
+    }
+
+    @Test
+    public void testRouteTimeout() throws Exception {
+        final long start = System.currentTimeMillis();
+        final HttpURLConnection c = open("/slow");
+        assertEquals(504, c.getResponseCode());
+        assertEquals(true, System.currentTimeMillis() - start < 2900);
+    }
+
+    @Test
+    public void testNoRoute() throws Exception {
+        proxyHandler.removeRoute("/");
+
+        final HttpURLConnection c = open("/echo");
+        assertEquals(404, c.getResponseCode());
+    }
+
+    private static HttpURLConnection open(final String path) throws IOException {
+        final HttpURLConnection c = (HttpURLConnection) new URL("http://localhost:" + PROXY_PORT + path).openConnection();
+        c.setReadTimeout(30000);
+        // the servers are restarted for each test, so the client connections must not be cached
+        c.setRequestProperty("Connection", "close");
+        return c;
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int len;
+        while ((len = in.read(buffer)) != -1) {
+            out.write(buffer, 0, len);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+}
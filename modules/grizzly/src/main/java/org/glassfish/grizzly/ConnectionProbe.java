@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,8 @@
 
 package org.glassfish.grizzly;
 
+import org.glassfish.grizzly.nio.ConnectionStatistics;
+
 /**
  * Monitoring probe providing callbacks that may be invoked by Grizzly {@link Connection} implementations.
  *
@@ -104,6 +107,18 @@ public interface ConnectionProbe {
      */
     void onIOEventDisableEvent(Connection connection, IOEvent ioEvent);
 
+    /**
+     * Method will be called, when new {@link ConnectionStatistics} sample is taken for the specific {@link Connection}.
+     * The statistics are sampled only for the connections, which have statistics collection enabled.
+     *
+     * @param connection {@link Connection}, the event belongs to.
+     * @param statistics {@link ConnectionStatistics}.
+     *
+     * @see org.glassfish.grizzly.nio.NIOConnection#enableStatistics()
+     */
+    default void onStatisticsSampleEvent(Connection connection, ConnectionStatistics statistics) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2025 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Services Ltd.
  *
@@ -66,6 +67,8 @@ public abstract class NIOTransportBuilder<T extends NIOTransportBuilder> {
     protected int maxPendingBytesPerConnection = AsyncQueueWriter.AUTO_SIZE;
     protected boolean optimizedForMultiplexing = NIOTransport.DEFAULT_OPTIMIZED_FOR_MULTIPLEXING;
 
+    protected boolean connectionStatisticsEnabled;
+
     protected long readTimeout = TimeUnit.MILLISECONDS.convert(Transport.DEFAULT_READ_TIMEOUT, TimeUnit.SECONDS);
     protected long writeTimeout = TimeUnit.MILLISECONDS.convert(Transport.DEFAULT_WRITE_TIMEOUT, TimeUnit.SECONDS);
 
@@ -567,6 +570,26 @@ public abstract class NIOTransportBuilder<T extends NIOTransportBuilder> {
         return getThis();
     }
 
+    /**
+     * @return true, if connection statistics are collected for every connection created by the NIOTransport, or false
+     * otherwise.
+     * @see org.glassfish.grizzly.nio.NIOTransport#isConnectionStatisticsEnabled()
+     */
+    public boolean isConnectionStatisticsEnabled() {
+        return connectionStatisticsEnabled;
+    }
+
+    /**
+     * @param connectionStatisticsEnabled enable or disable connection statistics collection
+     * @see org.glassfish.grizzly.nio.NIOTransport#setConnectionStatisticsEnabled(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public T setConnectionStatisticsEnabled(final boolean connectionStatisticsEnabled) {
+        this.connectionStatisticsEnabled = connectionStatisticsEnabled;
+        return getThis();
+    }
+
     /**
      * @return an {@link NIOTransport} based on the builder's configuration.
      */
@@ -597,6 +620,7 @@ public abstract class NIOTransportBuilder<T extends NIOTransportBuilder> {
         transport.setReuseAddress(reuseAddress);
         transport.setReusePort(reusePort);
         transport.setOptimizedForMultiplexing(isOptimizedForMultiplexing());
+        transport.setConnectionStatisticsEnabled(isConnectionStatisticsEnabled());
         transport.getAsyncQueueIO().getWriter().setMaxPendingBytesPerConnection(maxPendingBytesPerConnection);
         return transport;
     }
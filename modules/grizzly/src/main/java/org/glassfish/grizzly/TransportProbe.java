@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -104,6 +105,29 @@ public interface TransportProbe {
      */
     void onErrorEvent(Transport transport, Throwable error);
 
+    /**
+     * Method will be called, when a server {@link Connection} has completed an accept pass, triggered by a single
+     * {@link IOEvent#SERVER_ACCEPT} event. The accept rate and the per wake-up batch size distribution could be derived
+     * from this event. A batch size, which is equal to the transport's configured accept limit, means more connections
+     * could be pending in the listen backlog.
+     *
+     * @param transport {@link Transport}, the event belongs to.
+     * @param serverConnection the server {@link Connection}, which accepted the client connections.
+     * @param acceptedCount the number of client connections accepted during the pass.
+     */
+    default void onAcceptBatchEvent(Transport transport, Connection serverConnection, int acceptedCount) {
+    }
+
+    /**
+     * Method will be called, when a server {@link Connection} failed to accept or to initialize a client connection.
+     *
+     * @param transport {@link Transport}, the event belongs to.
+     * @param serverConnection the server {@link Connection}, which failed to accept.
+     * @param error error
+     */
+    default void onAcceptErrorEvent(Transport transport, Connection serverConnection, Throwable error) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
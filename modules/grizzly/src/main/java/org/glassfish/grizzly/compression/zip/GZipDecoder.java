@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -51,8 +52,17 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
     private final static int FNAME = 8; // File name
     private final static int FCOMMENT = 16; // File comment
 
+    /*
+     * The decoded size, after which the decoding ratio limit is checked, so small, highly compressible payloads are not
+     * rejected.
+     */
+    private static final int RATIO_CHECK_MIN_DECODED_SIZE = 64 * 1024;
+
     private final int bufferSize;
 
+    private volatile long maxDecodedSize = -1;
+    private volatile int maxDecodingRatio = -1;
+
     public GZipDecoder() {
         this(512);
     }
@@ -61,6 +71,58 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
         this.bufferSize = bufferSize;
     }
 
+    /**
+     * @return the max number of bytes, which could be decoded from a single stream, or <tt>-1</tt> if the decoded size is
+     * not limited.
+     */
+    public long getMaxDecodedSize() {
+        return maxDecodedSize;
+    }
+
+    /**
+     * Sets the max number of bytes, which could be decoded from a single stream. Once the limit is exceeded, the decoding
+     * fails with {@link TransformationException}. The value <tt>-1</tt> (default) means the decoded size is not limited.
+     *
+     * @param maxDecodedSize the max number of bytes, which could be decoded from a single stream
+     */
+    public void setMaxDecodedSize(final long maxDecodedSize) {
+        this.maxDecodedSize = maxDecodedSize;
+    }
+
+    /**
+     * @return the max allowed ratio between the decoded and encoded stream sizes, or <tt>-1</tt> if the ratio is not
+     * limited.
+     */
+    public int getMaxDecodingRatio() {
+        return maxDecodingRatio;
+    }
+
+    /**
+     * Sets the max allowed ratio between the decoded and encoded stream sizes. The ratio is checked while the stream is
+     * being inflated, once more than 64K have been decoded, and if the ratio is exceeded, the decoding fails with
+     * {@link TransformationException}. The value <tt>-1</tt> (default) means the ratio is not limited.
+     *
+     * @param maxDecodingRatio the max allowed ratio between the decoded and encoded stream sizes
+     */
+    public void setMaxDecodingRatio(final int maxDecodingRatio) {
+        this.maxDecodingRatio = maxDecodingRatio;
+    }
+
+    /**
+     * Releases the decoding state associated with the {@link AttributeStorage} and frees the native resources of the
+     * {@link Inflater} right away, without waiting for the garbage collector.
+     */
+    @Override
+    public void release(final AttributeStorage storage) {
+        final GZipInputState state = (GZipInputState) stateAttr.get(storage);
+        super.release(storage);
+
+        if (state != null && state.getInflater() != null) {
+            state.getInflater().end();
+            state.setInflater(null);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -171,6 +233,14 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
                     decodedBuffer.position(lastInflated);
                     decodedBuffer.trim();
                     resultBuffer = Buffers.appendBuffers(memoryManager, resultBuffer, decodedBuffer);
+
+                    if (!checkLimits(inflater, state)) {
+                        byteBufferArray.restore();
+                        byteBufferArray.recycle();
+                        resultBuffer.dispose();
+                        throw new TransformationException("GZip decoded content exceeds the limits. Max decoded size: " + maxDecodedSize
+                                + " Max decoding ratio: " + maxDecodingRatio);
+                    }
                 } else {
                     decodedBuffer.dispose();
                     if (inflater.finished() || inflater.needsDictionary()) {
@@ -211,6 +281,9 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
             state.setCrc32(crc32);
         } else if (state.getDecodeStatus() == DecodeStatus.DONE) {
             state.setDecodeStatus(DecodeStatus.INITIAL);
+            // the next member of the same stream
+            state.encodedSize += inflater.getBytesRead();
+            state.decodedSize += inflater.getBytesWritten();
             inflater.reset();
             state.getCrc32().reset();
         }
@@ -224,6 +297,22 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
         return true;
     }
 
+    /*
+     * Checks if the stream decoded so far doesn't exceed the size and ratio limits.
+     */
+    private boolean checkLimits(final Inflater inflater, final GZipInputState state) {
+        final long decodedSize = state.decodedSize + inflater.getBytesWritten();
+
+        final long maxDecodedSizeLocal = maxDecodedSize;
+        if (maxDecodedSizeLocal >= 0 && decodedSize > maxDecodedSizeLocal) {
+            return false;
+        }
+
+        final int maxDecodingRatioLocal = maxDecodingRatio;
+        return maxDecodingRatioLocal <= 0 || decodedSize <= RATIO_CHECK_MIN_DECODED_SIZE
+                || decodedSize <= (state.encodedSize + inflater.getBytesRead()) * maxDecodingRatioLocal;
+    }
+
     /*
      * Reads GZIP member header.
      */
@@ -413,6 +502,12 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
 
         private int headerParseStateValue;
 
+        /**
+         * The encoded and decoded sizes of the previous members of the stream.
+         */
+        private long encodedSize;
+        private long decodedSize;
+
         public boolean isInitialized() {
             return isInitialized;
         }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -112,7 +113,7 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         final GZipOutputState state = (GZipOutputState) obtainStateObject(storage);
 
         if (!state.isInitialized) {
-            state.initialize(compressionLevel, compressionStrategy);
+            state.initialize(state.isLevelSet ? state.compressionLevel : compressionLevel, compressionStrategy);
         }
 
         Buffer encodedBuffer = null;
@@ -134,6 +135,28 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         return TransformationResult.createCompletedResult(encodedBuffer, null);
     }
 
+    /**
+     * Overrides the compression level for the GZIP stream associated with the given {@link AttributeStorage}. If the
+     * stream compression has already been started, the new level is applied to the subsequent input. The override is
+     * discarded once the stream is {@link #finish(AttributeStorage) finished}.
+     *
+     * @param storage the {@link AttributeStorage} the GZIP stream is associated with
+     * @param compressionLevel the compression level (0-9), or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public void setCompressionLevel(final AttributeStorage storage, final int compressionLevel) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+
+        final GZipOutputState state = (GZipOutputState) obtainStateObject(storage);
+        if (state.isInitialized) {
+            state.deflater.setLevel(compressionLevel);
+        } else {
+            state.compressionLevel = compressionLevel;
+            state.isLevelSet = true;
+        }
+    }
+
     /**
      * Finishes to compress data to the output stream without closing the underlying stream. Use this method when applying
      * multiple filters in succession to the same output stream.
@@ -280,6 +303,12 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         private boolean isInitialized;
         private boolean isHeaderWritten;
 
+        /**
+         * The compression level override for this stream, valid if <tt>isLevelSet</tt> is <tt>true</tt>.
+         */
+        private boolean isLevelSet;
+        private int compressionLevel;
+
         /**
          * CRC-32 of uncompressed data.
          */
@@ -303,6 +332,7 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         private void reset() {
             isInitialized = false;
             isHeaderWritten = false;
+            isLevelSet = false;
             deflater.end(); // ensure we don't leak memory in native compression library
             crc32 = null;
             deflater = null;
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -95,6 +96,9 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
     // the max buffer size pooled by this memory manager
     private final int maxPooledBufferSize;
 
+    // true, if the pooled buffers are direct
+    private final boolean isDirect;
+
     // ------------------------------------------------------------ Constructors
 
     /**
@@ -175,6 +179,14 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             pools[i] = new Pool(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, monitoringConfig);
         }
         maxPooledBufferSize = pools[numberOfPools - 1].bufferSize;
+        this.isDirect = isDirect;
+    }
+
+    /**
+     * @return <tt>true</tt>, if the pooled {@link Buffer}s are direct, or <tt>false</tt> if they're heap based
+     */
+    public boolean isDirect() {
+        return isDirect;
     }
 
     // ---------------------------------------------- Methods from MemoryManager
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -178,6 +179,11 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
         final int pendingBytes = writeTaskQueue.reserveSpace(bytesToReserve);
         final boolean isCurrent = pendingBytes == bytesToReserve;
 
+        if (isCurrent) {
+            // the queue has just become non-empty
+            onWriteQueued(nioConnection);
+        }
+
         final boolean isLogFine = LOGGER.isLoggable(Level.FINEST);
 
         if (isLogFine) {
@@ -225,6 +231,10 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
                             pendingBytesAfterRelease);
                 }
 
+                if (isQueueEmpty) {
+                    onWriteQueueEmpty(nioConnection);
+                }
+
                 if (isFinished) {
                     queueRecord.notifyCompleteAndRecycle();
                     if (!isQueueEmpty) {
@@ -327,6 +337,9 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
                 }
 
                 isComplete = writeTaskQueue.releaseSpace(bytesReleased) == 0;
+                if (isComplete) {
+                    onWriteQueueEmpty(nioConnection);
+                }
             }
 
             if (isLogFine) {
@@ -374,6 +387,20 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
         }
     }
 
+    private static void onWriteQueued(final NIOConnection nioConnection) {
+        final ConnectionStatistics statistics = nioConnection.getStatistics();
+        if (statistics != null) {
+            statistics.onWriteQueued();
+        }
+    }
+
+    private static void onWriteQueueEmpty(final NIOConnection nioConnection) {
+        final ConnectionStatistics statistics = nioConnection.getStatistics();
+        if (statistics != null) {
+            statistics.onWriteQueueEmpty();
+        }
+    }
+
     private static WritableMessage cloneRecordIfNeeded(final Connection connection, final MessageCloner<WritableMessage> cloner,
             final WritableMessage message) {
 
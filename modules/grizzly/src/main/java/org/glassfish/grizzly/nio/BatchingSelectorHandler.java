@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link SelectorHandler} implementation, which reduces the per select cycle overhead of the
+ * {@link DefaultSelectorHandler}:
+ * <ul>
+ * <li>the ready {@link SelectionKey}s are collected using {@link Selector#select(Consumer, long)} into a preallocated
+ * array, which is reused between select cycles, instead of walking and clearing the {@link Selector#selectedKeys()}
+ * <tt>HashSet</tt>;</li>
+ * <li>interest ops changes are not applied to the {@link SelectionKey} immediately, but tracked per
+ * {@link NIOConnection} and applied once at the end of the select cycle, so a typical "disable interest, process the
+ * event, enable interest" sequence doesn't update the {@link SelectionKey} at all;</li>
+ * <li>interest registrations coming from non-selector threads are coalesced, so no more than one pending task per
+ * {@link NIOConnection} is added to the {@link SelectorRunner} queue.</li>
+ * </ul>
+ *
+ * The handler is pure JDK and works with any {@link java.nio.channels.spi.SelectorProvider}, the ready events are still
+ * level-triggered. It is not used by default and could be enabled using
+ * {@link NIOTransport#setSelectorHandler(SelectorHandler)}.
+ */
+public class BatchingSelectorHandler extends DefaultSelectorHandler {
+    private static final int INITIAL_SELECTED_KEYS_CAPACITY = 256;
+    private static final int SPIN_RATE_THRESHOLD = 2000;
+
+    public BatchingSelectorHandler() {
+        super();
+    }
+
+    public BatchingSelectorHandler(final long selectTimeout, final TimeUnit timeunit) {
+        super(selectTimeout, timeunit);
+    }
+
+    @Override
+    public boolean preSelect(final SelectorRunner selectorRunner) throws IOException {
+        if (!super.preSelect(selectorRunner)) {
+            return false;
+        }
+
+        flushInterestOps(getState(selectorRunner));
+        return true;
+    }
+
+    @Override
+    public Set<SelectionKey> select(final SelectorRunner selectorRunner) throws IOException {
+        final Selector selector = selectorRunner.getSelector();
+        final boolean hasPostponedTasks = !selectorRunner.getPostponedTasks().isEmpty();
+        final RunnerState state = getState(selectorRunner);
+        final SelectedKeys selectedKeys = state.selectedKeys;
+
+        if (!hasPostponedTasks) {
+            selector.select(state.selectedKeysCollector, selectTimeout);
+        } else {
+            selector.selectNow(state.selectedKeysCollector);
+        }
+
+        if (IS_WORKAROUND_SELECTOR_SPIN) {
+            selectorRunner.checkSelectorSpin(!selectedKeys.isEmpty() || hasPostponedTasks, SPIN_RATE_THRESHOLD);
+        }
+
+        return selectedKeys;
+    }
+
+    @Override
+    public void registerKeyInterest(final SelectorRunner selectorRunner, final SelectionKey key, final int interest) throws IOException {
+        final NIOConnection connection = getConnection(selectorRunner, key);
+        if (connection == null) {
+            super.registerKeyInterest(selectorRunner, key, interest);
+            return;
+        }
+
+        if (isSelectorRunnerThread(selectorRunner)) {
+            updateInterestOps(getState(selectorRunner), connection, interest, 0);
+            return;
+        }
+
+        // coalesce registrations: schedule a task only if there is no task pending for the connection
+        int requested;
+        do {
+            requested = NIOConnection.requestedInterestOpsUpdater.get(connection);
+            if ((requested & interest) == interest) {
+                return;
+            }
+        } while (!NIOConnection.requestedInterestOpsUpdater.compareAndSet(connection, requested, requested | interest));
+
+        if (requested == 0) {
+            selectorRunner.addPendingTask(new RegisterInterestTask(connection));
+        }
+    }
+
+    @Override
+    public void deregisterKeyInterest(final SelectorRunner selectorRunner, final SelectionKey key, final int interest) throws IOException {
+        final NIOConnection connection = getConnection(selectorRunner, key);
+        if (connection == null) {
+            super.deregisterKeyInterest(selectorRunner, key, interest);
+            return;
+        }
+
+        if (isSelectorRunnerThread(selectorRunner)) {
+            updateInterestOps(getState(selectorRunner), connection, 0, interest);
+            return;
+        }
+
+        // the registrations requested so far have to be applied before the deregistration
+        final int requested = NIOConnection.requestedInterestOpsUpdater.getAndSet(connection, 0);
+        selectorRunner.addPendingTask(new DeregisterInterestTask(connection, requested, interest));
+    }
+
+    /**
+     * Returns the interest ops the {@link NIOConnection}'s {@link SelectionKey} is going to have after the current select
+     * cycle is complete. Must be called from the selector thread.
+     *
+     * @param connection {@link NIOConnection}
+     * @return the interest ops the {@link SelectionKey} is going to have after the current select cycle is complete, or
+     * <tt>-1</tt> if the {@link SelectionKey} is not valid.
+     */
+    public static int getInterestOps(final NIOConnection connection) {
+        final int ops = connection.batchedInterestOps;
+        if (ops != -1) {
+            return ops;
+        }
+
+        final SelectionKey key = connection.getSelectionKey();
+        return key != null && key.isValid() ? key.interestOps() : -1;
+    }
+
+    private static void updateInterestOps(final RunnerState state, final NIOConnection connection, final int registerOps, final int deregisterOps) {
+        int ops = connection.batchedInterestOps;
+        if (ops == -1) {
+            final SelectionKey key = connection.getSelectionKey();
+            if (key == null || !key.isValid()) {
+                return;
+            }
+
+            ops = key.interestOps();
+            if (((ops | registerOps) & ~deregisterOps) == ops) {
+                // nothing to change
+                return;
+            }
+
+            state.addDirty(connection);
+        }
+
+        connection.batchedInterestOps = (ops | registerOps) & ~deregisterOps;
+    }
+
+    private static void flushInterestOps(final RunnerState state) {
+        final NIOConnection[] dirty = state.dirtyConnections;
+        final int size = state.dirtyCount;
+
+        for (int i = 0; i < size; i++) {
+            final NIOConnection connection = dirty[i];
+            dirty[i] = null;
+
+            final int ops = connection.batchedInterestOps;
+            connection.batchedInterestOps = -1;
+
+            final SelectionKey key = connection.getSelectionKey();
+            if (key != null && key.isValid()) {
+                try {
+                    if (key.interestOps() != ops) {
+                        key.interestOps(ops);
+                    }
+                } catch (CancelledKeyException ignored) {
+                    // the connection has been closed concurrently
+                }
+            }
+        }
+
+        state.dirtyCount = 0;
+    }
+
+    private static NIOConnection getConnection(final SelectorRunner selectorRunner, final SelectionKey key) {
+        return selectorRunner != null ? selectorRunner.getTransport().getSelectionKeyHandler().getConnectionForKey(key) : null;
+    }
+
+    private static RunnerState getState(final SelectorRunner selectorRunner) {
+        RunnerState state = selectorRunner.batchingState;
+        if (state == null) {
+            state = new RunnerState();
+            selectorRunner.batchingState = state;
+        }
+
+        return state;
+    }
+
+    private static boolean isSelectorRunnerThread(final SelectorRunner selectorRunner) {
+        return Thread.currentThread() == selectorRunner.getRunnerThread();
+    }
+
+    /**
+     * The {@link SelectorRunner} state, accessed by the selector thread only.
+     */
+    static final class RunnerState {
+        final SelectedKeys selectedKeys = new SelectedKeys();
+        final Consumer<SelectionKey> selectedKeysCollector = selectedKeys::add;
+
+        NIOConnection[] dirtyConnections = new NIOConnection[16];
+        int dirtyCount;
+
+        void addDirty(final NIOConnection connection) {
+            if (dirtyCount == dirtyConnections.length) {
+                dirtyConnections = Arrays.copyOf(dirtyConnections, dirtyCount << 1);
+            }
+
+            dirtyConnections[dirtyCount++] = connection;
+        }
+    }
+
+    /**
+     * Array based selected {@link SelectionKey}s {@link Set}. The {@link Selector} never adds the same key twice during
+     * a select operation, so uniqueness is not checked. The set and its iterator are reused by subsequent select cycles.
+     */
+    static final class SelectedKeys extends AbstractSet<SelectionKey> {
+        private SelectionKey[] keys = new SelectionKey[INITIAL_SELECTED_KEYS_CAPACITY];
+        private int size;
+
+        private final KeysIterator iterator = new KeysIterator();
+
+        @Override
+        public boolean add(final SelectionKey key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size << 1);
+            }
+
+            keys[size++] = key;
+            return true;
+        }
+
+        @Override
+        public Iterator<SelectionKey> iterator() {
+            iterator.index = 0;
+            return iterator;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(keys, 0, size, null);
+            size = 0;
+        }
+
+        private final class KeysIterator implements Iterator<SelectionKey> {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public SelectionKey next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return keys[index++];
+            }
+        }
+    }
+
+    private static final class RegisterInterestTask implements SelectorHandlerTask {
+        private final NIOConnection connection;
+
+        private RegisterInterestTask(final NIOConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public boolean run(final SelectorRunner selectorRunner) throws IOException {
+            final int requested = NIOConnection.requestedInterestOpsUpdater.getAndSet(connection, 0);
+            if (requested != 0) {
+                updateInterestOps(getState(selectorRunner), connection, requested, 0);
+            }
+
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static final class DeregisterInterestTask implements SelectorHandlerTask {
+        private final NIOConnection connection;
+        private final int registerOps;
+        private final int deregisterOps;
+
+        private DeregisterInterestTask(final NIOConnection connection, final int registerOps, final int deregisterOps) {
+            this.connection = connection;
+            this.registerOps = registerOps;
+            this.deregisterOps = deregisterOps;
+        }
+
+        @Override
+        public boolean run(final SelectorRunner selectorRunner) throws IOException {
+            final RunnerState state = getState(selectorRunner);
+            if (registerOps != 0) {
+                updateInterestOps(state, connection, registerOps, 0);
+            }
+
+            updateInterestOps(state, connection, 0, deregisterOps);
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
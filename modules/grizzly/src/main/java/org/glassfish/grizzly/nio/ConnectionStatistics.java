@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.glassfish.grizzly.ConnectionProbe;
+import org.glassfish.grizzly.asyncqueue.AsyncQueueWriter;
+
+/**
+ * Rolling per-{@link NIOConnection} statistics: the number of bytes read and written, the read and write rates
+ * (bytes per second), the {@link AsyncQueueWriter} queue depth and age, and the time the connection was blocked waiting
+ * for the channel to become writable.
+ * <p>
+ * The rates are exponential moving averages, which are re-sampled at most once per {@link #SAMPLE_INTERVAL_MILLIS}
+ * either by read/write events or by an explicit {@link #sample()} call. Every new sample is reported to the
+ * connection's {@link ConnectionProbe}s via {@link ConnectionProbe#onStatisticsSampleEvent(org.glassfish.grizzly.Connection, ConnectionStatistics)}.
+ * <p>
+ * The statistics are collected only if they were enabled either using {@link NIOTransport#setConnectionStatisticsEnabled(boolean)}
+ * or {@link NIOConnection#enableStatistics()}.
+ *
+ * @see NIOConnection#getStatistics()
+ */
+public final class ConnectionStatistics {
+    /**
+     * The minimal interval between two rate samples.
+     */
+    public static final long SAMPLE_INTERVAL_MILLIS = 1000;
+
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(SAMPLE_INTERVAL_MILLIS);
+
+    // the time window the moving average rates are smoothed over
+    private static final double RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final AtomicLongFieldUpdater<ConnectionStatistics> BYTES_READ_UPDATER = AtomicLongFieldUpdater.newUpdater(ConnectionStatistics.class,
+            "bytesRead");
+    private static final AtomicLongFieldUpdater<ConnectionStatistics> BYTES_WRITTEN_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(ConnectionStatistics.class, "bytesWritten");
+    private static final AtomicLongFieldUpdater<ConnectionStatistics> WRITE_BLOCKED_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(ConnectionStatistics.class, "writeBlockedNanos");
+    private static final AtomicLongFieldUpdater<ConnectionStatistics> WRITE_QUEUE_NON_EMPTY_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(ConnectionStatistics.class, "writeQueueNonEmptyNanos");
+    private static final AtomicLongFieldUpdater<ConnectionStatistics> WRITE_INTEREST_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(ConnectionStatistics.class, "writeInterestNanos");
+
+    private final NIOConnection connection;
+    private final long createdNanos = System.nanoTime();
+
+    private volatile long bytesRead;
+    private volatile long bytesWritten;
+
+    private volatile long sampleNanos = createdNanos;
+    private long sampleBytesRead;
+    private long sampleBytesWritten;
+    private volatile double readRate;
+    private volatile double writeRate;
+
+    // the time the async write queue became non-empty, or -1
+    private volatile long writeQueueNonEmptyNanos = -1;
+
+    // the time OP_WRITE interest was registered, or -1
+    private volatile long writeInterestNanos = -1;
+    private volatile long writeBlockedNanos;
+
+    ConnectionStatistics(final NIOConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * @return the total number of bytes read from the connection
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return the total number of bytes written to the connection
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * @return the moving average read rate in bytes per second
+     */
+    public double getReadRate() {
+        return readRate;
+    }
+
+    /**
+     * @return the moving average write rate in bytes per second, in other words the rate the peer drains the data the
+     * connection sends
+     */
+    public double getWriteRate() {
+        return writeRate;
+    }
+
+    /**
+     * @return the number of bytes pending in the connection's async write queue
+     */
+    public int getWriteQueueSize() {
+        return connection.getAsyncWriteQueue().spaceInBytes();
+    }
+
+    /**
+     * @return the number of records pending in the connection's async write queue
+     */
+    public int getWriteQueueRecords() {
+        return connection.getAsyncWriteQueue().size();
+    }
+
+    /**
+     * @return for how long the connection's async write queue has been non-empty, or <tt>0</tt> if it's empty
+     */
+    public long getWriteQueueAge(final TimeUnit timeUnit) {
+        final long since = writeQueueNonEmptyNanos;
+        return since == -1 || isWriteQueueEmpty() ? 0 : timeUnit.convert(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the total time the connection has been waiting for the channel to become writable, including the
+     * current wait (if any)
+     */
+    public long getWriteBlockedTime(final TimeUnit timeUnit) {
+        final long since = writeInterestNanos;
+        final long current = since == -1 ? 0 : System.nanoTime() - since;
+        return timeUnit.convert(writeBlockedNanos + current, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return for how long the statistics have been collected
+     */
+    public long getAge(final TimeUnit timeUnit) {
+        return timeUnit.convert(System.nanoTime() - createdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Re-samples the read and write rates, if at least {@link #SAMPLE_INTERVAL_MILLIS} passed since the previous sample.
+     * The method is useful to update the rates of a connection, which doesn't have any read/write activity.
+     *
+     * @return <tt>true</tt> if the rates were re-sampled, or <tt>false</tt> otherwise
+     */
+    public boolean sample() {
+        return sample(System.nanoTime());
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionStatistics{" + "bytesRead=" + bytesRead + ", bytesWritten=" + bytesWritten + ", readRate=" + (long) readRate + ", writeRate="
+                + (long) writeRate + ", writeQueueSize=" + getWriteQueueSize() + ", writeQueueAgeMillis=" + getWriteQueueAge(TimeUnit.MILLISECONDS)
+                + ", writeBlockedMillis=" + getWriteBlockedTime(TimeUnit.MILLISECONDS) + '}';
+    }
+
+    // ------------------------------------------------------- Package-private
+
+    void onRead(final long size) {
+        BYTES_READ_UPDATER.addAndGet(this, size);
+        sample(System.nanoTime());
+    }
+
+    void onWrite(final long size) {
+        BYTES_WRITTEN_UPDATER.addAndGet(this, size);
+        sample(System.nanoTime());
+    }
+
+    /**
+     * Called, when the async write queue becomes non-empty.
+     */
+    void onWriteQueued() {
+        final long now = System.nanoTime();
+        if (WRITE_QUEUE_NON_EMPTY_UPDATER.compareAndSet(this, -1, now) && isWriteQueueEmpty()) {
+            // the queue has been drained concurrently, before the timestamp was set
+            WRITE_QUEUE_NON_EMPTY_UPDATER.compareAndSet(this, now, -1);
+        }
+    }
+
+    /**
+     * Called, when the async write queue becomes empty.
+     */
+    void onWriteQueueEmpty() {
+        final long since = writeQueueNonEmptyNanos;
+        if (since != -1 && WRITE_QUEUE_NON_EMPTY_UPDATER.compareAndSet(this, since, -1) && !isWriteQueueEmpty()) {
+            // the queue has been refilled concurrently, keep the original timestamp
+            WRITE_QUEUE_NON_EMPTY_UPDATER.compareAndSet(this, -1, since);
+        }
+    }
+
+    void onWriteInterestEnabled() {
+        if (writeInterestNanos == -1) {
+            WRITE_INTEREST_UPDATER.compareAndSet(this, -1, System.nanoTime());
+        }
+    }
+
+    void onWriteReady() {
+        final long since = writeInterestNanos;
+        if (since != -1 && WRITE_INTEREST_UPDATER.compareAndSet(this, since, -1)) {
+            WRITE_BLOCKED_UPDATER.addAndGet(this, System.nanoTime() - since);
+        }
+    }
+
+    // -------------------------------------------------------- Private Methods
+
+    private boolean isWriteQueueEmpty() {
+        return connection.getAsyncWriteQueue().spaceInBytes() <= 0;
+    }
+
+    private boolean sample(final long now) {
+        if (now - sampleNanos < SAMPLE_INTERVAL_NANOS) {
+            return false;
+        }
+
+        synchronized (this) {
+            final long elapsed = now - sampleNanos;
+            if (elapsed < SAMPLE_INTERVAL_NANOS) {
+                return false;
+            }
+
+            final long read = bytesRead;
+            final long written = bytesWritten;
+
+            // the weight of the new sample grows with the time elapsed since the previous one
+            final double weight = 1 - Math.exp(-elapsed / RATE_WINDOW_NANOS);
+            final double seconds = elapsed / 1e9;
+            readRate += weight * ((read - sampleBytesRead) / seconds - readRate);
+            writeRate += weight * ((written - sampleBytesWritten) / seconds - writeRate);
+
+            sampleBytesRead = read;
+            sampleBytesWritten = written;
+            sampleNanos = now;
+        }
+
+        NIOConnection.notifyProbesStatisticsSample(connection, this);
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import java.io.IOException;
+import java.nio.channels.SelectableChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+
+/**
+ * {@link NIOChannelDistributor} implementation, which registers each new channel with the least loaded
+ * {@link SelectorRunner}. The runner load is the number of channels registered with the runner's selector plus the
+ * number of channel registrations, which have been passed to the runner, but haven't been completed yet, so a burst of
+ * accepted connections is spread across the runners even before their registrations are processed.
+ *
+ * If the dedicated acceptor mode is on, the server {@link Connection}s, responsible for accepting client connections,
+ * are registered with the first {@link SelectorRunner}, which doesn't get any other channels (if there are other
+ * runners).
+ */
+public final class LeastLoadedConnectionDistributor extends AbstractNIOConnectionDistributor {
+    private final boolean useDedicatedAcceptor;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile AtomicIntegerArray pendingRegistrations = new AtomicIntegerArray(0);
+
+    public LeastLoadedConnectionDistributor(final NIOTransport transport) {
+        this(transport, false);
+    }
+
+    /**
+     * Constructs LeastLoadedConnectionDistributor with the given configuration.
+     *
+     * @param transport
+     * @param useDedicatedAcceptor depending on this flag server {@link Connection}s, responsible for accepting client
+     * connections, will or will not use dedicated {@link SelectorRunner}
+     */
+    public LeastLoadedConnectionDistributor(final NIOTransport transport, final boolean useDedicatedAcceptor) {
+        super(transport);
+        this.useDedicatedAcceptor = useDedicatedAcceptor;
+    }
+
+    @Override
+    public void registerChannel(final SelectableChannel channel, final int interestOps, final Object attachment) throws IOException {
+        final SelectorRunner[] runners = getTransportSelectorRunners();
+        final AtomicIntegerArray pending = getPendingRegistrations(runners.length);
+        final int idx = nextIndex(runners, pending);
+
+        pending.incrementAndGet(idx);
+        try {
+            transport.getSelectorHandler().registerChannel(runners[idx], channel, interestOps, attachment);
+        } finally {
+            pending.decrementAndGet(idx);
+        }
+    }
+
+    @Override
+    public void registerChannelAsync(final SelectableChannel channel, final int interestOps, final Object attachment,
+            final CompletionHandler<RegisterChannelResult> completionHandler) {
+        final SelectorRunner[] runners = getTransportSelectorRunners();
+        final AtomicIntegerArray pending = getPendingRegistrations(runners.length);
+        final int idx = nextIndex(runners, pending);
+
+        pending.incrementAndGet(idx);
+        transport.getSelectorHandler().registerChannelAsync(runners[idx], channel, interestOps, attachment,
+                new PendingRegistrationCompletionHandler(pending, idx, completionHandler));
+    }
+
+    @Override
+    public void registerServiceChannelAsync(final SelectableChannel channel, final int interestOps, final Object attachment,
+            final CompletionHandler<RegisterChannelResult> completionHandler) {
+        if (useDedicatedAcceptor) {
+            transport.getSelectorHandler().registerChannelAsync(getTransportSelectorRunners()[0], channel, interestOps, attachment, completionHandler);
+        } else {
+            registerChannelAsync(channel, interestOps, attachment, completionHandler);
+        }
+    }
+
+    /**
+     * Returns the index of the least loaded {@link SelectorRunner}. The scan starts from a rotating position, so equally
+     * loaded runners are picked in round-robin order.
+     */
+    private int nextIndex(final SelectorRunner[] runners, final AtomicIntegerArray pending) {
+        final int first = useDedicatedAcceptor && runners.length > 1 ? 1 : 0;
+        final int count = runners.length - first;
+        if (count == 1) {
+            return first;
+        }
+
+        final int offset = (counter.getAndIncrement() & 0x7fffffff) % count;
+
+        int minIdx = -1;
+        int minLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            final int idx = first + (offset + i) % count;
+            final int load = runners[idx].getRegisteredKeysCount() + pending.get(idx);
+            if (load < minLoad) {
+                minLoad = load;
+                minIdx = idx;
+            }
+        }
+
+        return minIdx;
+    }
+
+    private AtomicIntegerArray getPendingRegistrations(final int runnersCount) {
+        AtomicIntegerArray pending = pendingRegistrations;
+        if (pending.length() != runnersCount) {
+            synchronized (this) {
+                pending = pendingRegistrations;
+                if (pending.length() != runnersCount) {
+                    pending = new AtomicIntegerArray(runnersCount);
+                    pendingRegistrations = pending;
+                }
+            }
+        }
+
+        return pending;
+    }
+
+    private static final class PendingRegistrationCompletionHandler implements CompletionHandler<RegisterChannelResult> {
+        private final AtomicIntegerArray pending;
+        private final int idx;
+        private final CompletionHandler<RegisterChannelResult> completionHandler;
+
+        private PendingRegistrationCompletionHandler(final AtomicIntegerArray pending, final int idx,
+                final CompletionHandler<RegisterChannelResult> completionHandler) {
+            this.pending = pending;
+            this.idx = idx;
+            this.completionHandler = completionHandler;
+        }
+
+        @Override
+        public void cancelled() {
+            pending.decrementAndGet(idx);
+            if (completionHandler != null) {
+                completionHandler.cancelled();
+            }
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            pending.decrementAndGet(idx);
+            if (completionHandler != null) {
+                completionHandler.failed(throwable);
+            }
+        }
+
+        @Override
+        public void completed(final RegisterChannelResult result) {
+            pending.decrementAndGet(idx);
+            if (completionHandler != null) {
+                completionHandler.completed(result);
+            }
+        }
+
+        @Override
+        public void updated(final RegisterChannelResult result) {
+            if (completionHandler != null) {
+                completionHandler.updated(result);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -33,6 +33,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
@@ -132,6 +133,26 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
      */
     protected final DefaultMonitoringConfig<ConnectionProbe> monitoringConfig = new DefaultMonitoringConfig<>(ConnectionProbe.class);
 
+    /**
+     * Connection statistics, or <tt>null</tt> if statistics are not collected
+     */
+    private volatile ConnectionStatistics statistics;
+
+    /**
+     * {@link BatchingSelectorHandler} state: the interest ops to be applied at the end of the current select cycle, or
+     * <tt>-1</tt> if there is no pending update. Accessed by the selector thread only.
+     */
+    int batchedInterestOps = -1;
+
+    /**
+     * {@link BatchingSelectorHandler} state: the interest ops registered by non-selector threads, which haven't been
+     * passed to the selector thread yet.
+     */
+    static final AtomicIntegerFieldUpdater<NIOConnection> requestedInterestOpsUpdater = AtomicIntegerFieldUpdater.newUpdater(NIOConnection.class,
+            "requestedInterestOps");
+    @SuppressWarnings("unused")
+    private volatile int requestedInterestOps;
+
     public NIOConnection(final NIOTransport transport) {
         this.transport = transport;
         asyncWriteQueue = TaskQueue.createTaskQueue(new TaskQueue.MutableMaxQueueSize() {
@@ -143,6 +164,10 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
         });
 
         attributes = transport.getAttributeBuilder().createSafeAttributeHolder();
+
+        if (transport.isConnectionStatisticsEnabled()) {
+            statistics = new ConnectionStatistics(this);
+        }
     }
 
     @Override
@@ -662,6 +687,26 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
         return monitoringConfig;
     }
 
+    /**
+     * @return the {@link ConnectionStatistics}, or <tt>null</tt> if statistics are not collected for this connection
+     */
+    public ConnectionStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Enables the {@link ConnectionStatistics} collection for this connection, if it's not enabled yet.
+     *
+     * @return the {@link ConnectionStatistics}
+     */
+    public synchronized ConnectionStatistics enableStatistics() {
+        if (statistics == null) {
+            statistics = new ConnectionStatistics(this);
+        }
+
+        return statistics;
+    }
+
     /**
      * Notify registered {@link ConnectionProbe}s about the bind event.
      *
@@ -709,6 +754,11 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
      * Notify registered {@link ConnectionProbe}s about the read event.
      */
     protected static void notifyProbesRead(NIOConnection connection, Buffer data, int size) {
+        final ConnectionStatistics stats = connection.statistics;
+        if (stats != null) {
+            stats.onRead(size);
+        }
+
         final ConnectionProbe[] probes = connection.monitoringConfig.getProbesUnsafe();
         if (probes != null) {
             for (ConnectionProbe probe : probes) {
@@ -721,6 +771,11 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
      * Notify registered {@link ConnectionProbe}s about the write event.
      */
     protected static void notifyProbesWrite(NIOConnection connection, Buffer data, long size) {
+        final ConnectionStatistics stats = connection.statistics;
+        if (stats != null) {
+            stats.onWrite(size);
+        }
+
         final ConnectionProbe[] probes = connection.monitoringConfig.getProbesUnsafe();
         if (probes != null) {
             for (ConnectionProbe probe : probes) {
@@ -736,6 +791,11 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
      * @param ioEvent the {@link IOEvent}.
      */
     protected static void notifyIOEventReady(NIOConnection connection, IOEvent ioEvent) {
+        final ConnectionStatistics stats = connection.statistics;
+        if (stats != null && ioEvent == IOEvent.WRITE) {
+            stats.onWriteReady();
+        }
+
         final ConnectionProbe[] probes = connection.monitoringConfig.getProbesUnsafe();
         if (probes != null) {
             for (ConnectionProbe probe : probes) {
@@ -751,6 +811,11 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
      * @param ioEvent the {@link IOEvent}.
      */
     protected static void notifyIOEventEnabled(NIOConnection connection, IOEvent ioEvent) {
+        final ConnectionStatistics stats = connection.statistics;
+        if (stats != null && ioEvent == IOEvent.WRITE) {
+            stats.onWriteInterestEnabled();
+        }
+
         final ConnectionProbe[] probes = connection.monitoringConfig.getProbesUnsafe();
         if (probes != null) {
             for (ConnectionProbe probe : probes) {
@@ -774,6 +839,21 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
         }
     }
 
+    /**
+     * Notify registered {@link ConnectionProbe}s about the new {@link ConnectionStatistics} sample.
+     *
+     * @param connection the <tt>Connection</tt> event occurred on.
+     * @param statistics the {@link ConnectionStatistics}.
+     */
+    protected static void notifyProbesStatisticsSample(NIOConnection connection, ConnectionStatistics statistics) {
+        final ConnectionProbe[] probes = connection.monitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (ConnectionProbe probe : probes) {
+                probe.onStatisticsSampleEvent(connection, statistics);
+            }
+        }
+    }
+
     /**
      * Notify registered {@link ConnectionProbe}s about the close event.
      *
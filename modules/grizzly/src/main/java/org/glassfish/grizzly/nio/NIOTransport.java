@@ -116,6 +116,8 @@ public abstract class NIOTransport extends AbstractTransport
 
     private boolean optimizedForMultiplexing = DEFAULT_OPTIMIZED_FOR_MULTIPLEXING;
 
+    private volatile boolean connectionStatisticsEnabled;
+
     protected SelectorRunner[] selectorRunners;
 
     protected NIOChannelDistributor nioChannelDistributor;
@@ -269,6 +271,26 @@ public abstract class NIOTransport extends AbstractTransport
         getAsyncQueueIO().getWriter().setAllowDirectWrite(!optimizedForMultiplexing);
     }
 
+    /**
+     * Returns <tt>true</tt>, if {@link ConnectionStatistics} are collected for every {@link NIOConnection} created by
+     * this <tt>NIOTransport</tt>, or <tt>false</tt> otherwise.
+     *
+     * @return <tt>true</tt>, if {@link ConnectionStatistics} are collected for every {@link NIOConnection} created by
+     * this <tt>NIOTransport</tt>, or <tt>false</tt> otherwise.
+     */
+    public boolean isConnectionStatisticsEnabled() {
+        return connectionStatisticsEnabled;
+    }
+
+    /**
+     * Enables or disables {@link ConnectionStatistics} collection for the {@link NIOConnection}s, which will be created
+     * by this <tt>NIOTransport</tt>. The statistics could also be enabled per connection using
+     * {@link NIOConnection#enableStatistics()}.
+     */
+    public void setConnectionStatisticsEnabled(final boolean connectionStatisticsEnabled) {
+        this.connectionStatisticsEnabled = connectionStatisticsEnabled;
+    }
+
     protected synchronized void startSelectorRunners() throws IOException {
         selectorRunners = new SelectorRunner[selectorRunnersCount];
 
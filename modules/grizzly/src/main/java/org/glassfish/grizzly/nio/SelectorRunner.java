@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -78,6 +79,9 @@ public final class SelectorRunner implements Runnable {
     private SelectionKey key = null;
     private int keyReadyOps;
 
+    // BatchingSelectorHandler state, accessed by the selector thread only
+    BatchingSelectorHandler.RunnerState batchingState;
+
     private final AtomicBoolean selectorWakeupFlag = new AtomicBoolean();
     private final AtomicInteger runnerThreadActivityCounter = new AtomicInteger();
 
@@ -457,6 +461,25 @@ public final class SelectorRunner implements Runnable {
         return lastSelectedKeysCount;
     }
 
+    /**
+     * Number of channels registered with this runner's {@link Selector}. The value is an estimate, which could be used to
+     * compare the {@link SelectorRunner}s' load.
+     *
+     * @return number of channels registered with this runner's {@link Selector}.
+     */
+    public int getRegisteredKeysCount() {
+        final Selector localSelector = getSelector();
+        if (localSelector == null) {
+            return 0;
+        }
+
+        try {
+            return localSelector.keys().size();
+        } catch (ClosedSelectorException e) {
+            return 0;
+        }
+    }
+
     protected void switchToNewSelector() throws IOException {
         final Selector oldSelector = selector;
         final Selector newSelector = Selectors.newSelector(transport.getSelectorProvider());
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+/**
+ * Predicts the size of the next read on a {@link TCPNIOConnection} using an exponential moving average of the
+ * recent read sizes. If a read fills up the whole buffer, the next read size is doubled, so bulk transfers quickly get
+ * large buffers (and fewer syscalls), otherwise the next read size slowly converges to the moving average plus some
+ * headroom, so mostly idle connections don't allocate full-size buffers for small requests.
+ * <p>
+ * The predicted size is always a power of two bounded by {@link #MIN_READ_SIZE} and the connection's maximum read size.
+ * Reads on a connection are serialized, so the class is not thread-safe.
+ */
+final class ReadSizePredictor {
+    /**
+     * The minimum read size.
+     */
+    static final int MIN_READ_SIZE = 512;
+
+    /**
+     * The initial read size.
+     */
+    static final int INITIAL_READ_SIZE = 2048;
+
+    private int average;
+    private int nextSize;
+
+    ReadSizePredictor() {
+        average = INITIAL_READ_SIZE;
+        nextSize = INITIAL_READ_SIZE;
+    }
+
+    /**
+     * @param maxSize the maximum read size
+     * @return the size of the buffer to be used for the next read
+     */
+    int nextReadSize(final int maxSize) {
+        return Math.max(Math.min(nextSize, maxSize), 1);
+    }
+
+    /**
+     * Updates the prediction.
+     *
+     * @param read the number of bytes read
+     * @param attempted the number of bytes the read could have returned
+     * @param maxSize the maximum read size
+     */
+    void onRead(final int read, final int attempted, final int maxSize) {
+        if (read <= 0) {
+            return;
+        }
+
+        if (read >= attempted) {
+            // the buffer was filled up, so more data is likely to be available
+            average = Math.max(average, read);
+            nextSize = (int) Math.min(maxSize, (long) attempted << 1);
+        } else {
+            // moving average with 1/4 weight of the last read
+            average += (read - average) >> 2;
+            nextSize = Math.min(maxSize, roundUpToPowerOfTwo(average + (average >> 1)));
+        }
+    }
+
+    private static int roundUpToPowerOfTwo(final int size) {
+        if (size <= MIN_READ_SIZE) {
+            return MIN_READ_SIZE;
+        }
+
+        final int highestOneBit = Integer.highestOneBit(size);
+        return highestOneBit == size || highestOneBit == 1 << 30 ? highestOneBit : highestOneBit << 1;
+    }
+}
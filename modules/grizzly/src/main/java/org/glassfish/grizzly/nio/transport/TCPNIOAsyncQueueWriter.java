@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -55,10 +56,61 @@ import org.glassfish.grizzly.nio.NIOTransport;
 public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
     private final static Logger LOGGER = Grizzly.logger(TCPNIOAsyncQueueWriter.class);
 
+    /**
+     * The default max number of queue records, which could be gathered into one write.
+     */
+    public static final int DEFAULT_MAX_GATHERING_RECORDS = 256;
+
+    private volatile int maxGatheringRecords = DEFAULT_MAX_GATHERING_RECORDS;
+
+    private volatile int maxGatheringBytes = AUTO_SIZE;
+
     public TCPNIOAsyncQueueWriter(final NIOTransport transport) {
         super(transport);
     }
 
+    /**
+     * @return the max number of queue records, which could be gathered into one write
+     */
+    public int getMaxGatheringRecords() {
+        return maxGatheringRecords;
+    }
+
+    /**
+     * Sets the max number of queue records, which could be gathered into one {@link SocketChannel#write(java.nio.ByteBuffer[])}
+     * call, when several small messages are queued for the same {@link Connection}. The value <tt>1</tt> disables
+     * gathering writes.
+     *
+     * @param maxGatheringRecords the max number of queue records, which could be gathered into one write
+     */
+    public void setMaxGatheringRecords(final int maxGatheringRecords) {
+        if (maxGatheringRecords < 1) {
+            throw new IllegalArgumentException("maxGatheringRecords should be positive");
+        }
+
+        this.maxGatheringRecords = maxGatheringRecords;
+    }
+
+    /**
+     * @return the max number of bytes, which could be gathered into one write, or {@link #AUTO_SIZE} if the value is
+     * derived from the {@link Connection}'s write buffer size
+     */
+    public int getMaxGatheringBytes() {
+        return maxGatheringBytes;
+    }
+
+    /**
+     * Sets the max number of bytes, which could be gathered from several queue records into one write. By default
+     * ({@link #AUTO_SIZE}) the limit is 1.5 times the {@link Connection}'s write buffer size. The limit only bounds the
+     * aggregation of the queue records, each write is still bounded by the {@link Connection}'s write buffer size, which
+     * also sizes the direct buffer the heap buffers are copied to.
+     *
+     * @param maxGatheringBytes the max number of bytes, which could be gathered into one write
+     */
+    public void setMaxGatheringBytes(final int maxGatheringBytes) {
+        this.maxGatheringBytes = maxGatheringBytes <= 0 ? AUTO_SIZE : maxGatheringBytes;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected RecordWriteResult write0(final NIOConnection connection, final AsyncWriteQueueRecord queueRecord) throws IOException {
@@ -128,6 +180,7 @@ public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
         }
 
         if (queueRecord.size > 0) {
+            // the thread-local direct copy buffer is sized by the socket write buffer, not by the gathering limit
             final int bufferSize = Math.min(queueRecord.size, connection.getWriteBufferSize() * 3 / 2);
 
             final DirectByteBufferRecord directByteBufferRecord = DirectByteBufferRecord.get();
@@ -276,6 +329,14 @@ public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
             return currentRecord;
         }
 
+        final int maxRecords = maxGatheringRecords;
+        final int maxBytes = getGatheringBytesLimit((NIOConnection) currentRecord.getConnection());
+
+        final int recordsCount = currentRecord instanceof CompositeQueueRecord ? ((CompositeQueueRecord) currentRecord).queue.size() : 1;
+        if (recordsCount >= maxRecords || currentRecord.remaining() >= maxBytes) {
+            return currentRecord;
+        }
+
         AsyncWriteQueueRecord nextRecord = checkAndGetNextRecord(writeTaskQueue);
 
         if (nextRecord == null) {
@@ -286,11 +347,17 @@ public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
 
         do {
             compositeQueueRecord.append(nextRecord);
-        } while (compositeQueueRecord.remaining() < queueSize && (nextRecord = checkAndGetNextRecord(writeTaskQueue)) != null);
+        } while (compositeQueueRecord.remaining() < queueSize && compositeQueueRecord.queue.size() < maxRecords
+                && compositeQueueRecord.remaining() < maxBytes && (nextRecord = checkAndGetNextRecord(writeTaskQueue)) != null);
 
         return compositeQueueRecord;
     }
 
+    private int getGatheringBytesLimit(final NIOConnection connection) {
+        final int maxBytes = maxGatheringBytes;
+        return maxBytes == AUTO_SIZE ? connection.getWriteBufferSize() * 3 / 2 : maxBytes;
+    }
+
     private static AsyncWriteQueueRecord checkAndGetNextRecord(final TaskQueue<AsyncWriteQueueRecord> writeTaskQueue) {
 
         final AsyncWriteQueueRecord nextRecord = writeTaskQueue.getQueue().poll();
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,11 +20,15 @@ package org.glassfish.grizzly.nio.transport;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
 import java.nio.channels.ServerSocketChannel;
 import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.glassfish.grizzly.AbstractBindingHandler;
 import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.utils.Exceptions;
 
 /**
@@ -42,6 +47,8 @@ import org.glassfish.grizzly.utils.Exceptions;
  */
 public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
+    private static final Logger LOGGER = Grizzly.logger(TCPNIOBindingHandler.class);
+
     private final TCPNIOTransport tcpTransport;
 
     // ------------------------------------------------------------ Constructors
@@ -60,12 +67,23 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
     @Override
     public TCPNIOServerConnection bind(SocketAddress socketAddress, int backlog) throws IOException {
-        return bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), socketAddress, backlog);
+        if (tcpTransport.isReusePortSharding()) {
+            final int shardsCount = tcpTransport.getSelectorRunnersCount();
+            if (shardsCount > 1) {
+                if (tcpTransport.isReusePortAvailable()) {
+                    return bindShards(socketAddress, backlog, shardsCount);
+                }
+
+                LOGGER.log(Level.WARNING, "SO_REUSEPORT is not supported, server connection sharding is disabled for {0}", socketAddress);
+            }
+        }
+
+        return bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), socketAddress, backlog, -1);
     }
 
     @Override
     public TCPNIOServerConnection bindToInherited() throws IOException {
-        return bindToChannelAndAddress(this.<ServerSocketChannel>getSystemInheritedChannel(ServerSocketChannel.class), null, -1);
+        return bindToChannelAndAddress(this.<ServerSocketChannel>getSystemInheritedChannel(ServerSocketChannel.class), null, -1, -1);
     }
 
     @Override
@@ -79,8 +97,31 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
     // --------------------------------------------------------- Private Methods
 
-    private TCPNIOServerConnection bindToChannelAndAddress(final ServerSocketChannel serverSocketChannel, final SocketAddress socketAddress, final int backlog)
-            throws IOException {
+    private TCPNIOServerConnection bindShards(final SocketAddress socketAddress, final int backlog, final int shardsCount) throws IOException {
+        final Lock lock = tcpTransport.getState().getStateLocker().writeLock();
+        lock.lock();
+        try {
+            final TCPNIOServerConnection primary = bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), socketAddress,
+                    backlog, 0);
+            try {
+                // the other shards have to bind to the actual port, if an ephemeral one was requested
+                final SocketAddress shardAddress = primary.getLocalAddress();
+                for (int i = 1; i < shardsCount; i++) {
+                    primary.addShard(bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), shardAddress, backlog, i));
+                }
+            } catch (IOException e) {
+                tcpTransport.unbind(primary);
+                throw e;
+            }
+
+            return primary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TCPNIOServerConnection bindToChannelAndAddress(final ServerSocketChannel serverSocketChannel, final SocketAddress socketAddress, final int backlog,
+            final int shardIndex) throws IOException {
         TCPNIOServerConnection serverConnection = null;
 
         final Lock lock = tcpTransport.getState().getStateLocker().writeLock();
@@ -91,6 +132,10 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
             tcpTransport.getChannelConfigurator().preConfigure(transport, serverSocketChannel);
 
+            if (shardIndex >= 0) {
+                serverSocketChannel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            }
+
             if (socketAddress != null) {
                 serverSocket.bind(socketAddress, backlog);
             }
@@ -98,6 +143,7 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
             tcpTransport.getChannelConfigurator().postConfigure(transport, serverSocketChannel);
 
             serverConnection = tcpTransport.obtainServerNIOConnection(serverSocketChannel);
+            serverConnection.shardIndex = shardIndex;
             serverConnection.setProcessor(getProcessor());
             serverConnection.setProcessorSelector(getProcessorSelector());
             tcpTransport.serverConnections.add(serverConnection);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -35,6 +36,8 @@ import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.WriteHandler;
 import org.glassfish.grizzly.asyncqueue.AsyncQueueWriter;
 import org.glassfish.grizzly.localization.LogMessages;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.glassfish.grizzly.memory.PooledMemoryManager;
 import org.glassfish.grizzly.nio.NIOConnection;
 import org.glassfish.grizzly.nio.SelectorRunner;
 import org.glassfish.grizzly.utils.Holder;
@@ -54,6 +57,11 @@ public class TCPNIOConnection extends NIOConnection {
     private int readBufferSize = -1;
     private int writeBufferSize = -1;
 
+    // the next read size predictor, or null if adaptive read buffer sizing is disabled
+    private ReadSizePredictor readSizePredictor;
+    // true, if the data is read directly into the pooled direct buffers
+    private boolean isScatterRead;
+
     private AtomicReference<ConnectResultHandler> connectHandlerRef;
 
     public TCPNIOConnection(TCPNIOTransport transport, SelectableChannel channel) {
@@ -106,6 +114,9 @@ public class TCPNIOConnection extends NIOConnection {
         if (channel != null) {
             setReadBufferSize(transport.getReadBufferSize());
             setWriteBufferSize(transport.getWriteBufferSize());
+            isScatterRead = isScatterRead((TCPNIOTransport) transport);
+            // the scatter read size is always adapted, so the small reads don't allocate the whole read window
+            readSizePredictor = ((TCPNIOTransport) transport).isAdaptiveReadBufferSizing() || isScatterRead ? new ReadSizePredictor() : null;
 
             final int transportMaxAsyncWriteQueueSize = ((TCPNIOTransport) transport).getAsyncQueueIO().getWriter().getMaxPendingBytesPerConnection();
 
@@ -166,6 +177,49 @@ public class TCPNIOConnection extends NIOConnection {
         }
     }
 
+    /**
+     * @return the size of the buffer to be allocated for the next read
+     */
+    int nextReadSize() {
+        final int maxReadSize = maxReadSize();
+        return readSizePredictor != null ? readSizePredictor.nextReadSize(maxReadSize) : maxReadSize;
+    }
+
+    /**
+     * Updates the next read size prediction, if adaptive read buffer sizing is enabled.
+     */
+    void onReadSize(final int read, final int attempted) {
+        if (readSizePredictor != null) {
+            readSizePredictor.onRead(read, attempted, maxReadSize());
+        }
+    }
+
+    /**
+     * @return <tt>true</tt>, if the data is read with a single scatter read directly into the pooled direct buffers
+     */
+    boolean isScatterRead() {
+        return isScatterRead;
+    }
+
+    private int maxReadSize() {
+        final int readBufferSizeLocal = getReadBufferSize();
+        if (readSizePredictor == null) {
+            return Math.min(TCPNIOTransport.MAX_RECEIVE_BUFFER_SIZE, readBufferSizeLocal);
+        }
+
+        // let bulk readers grow beyond the (initial) socket receive buffer size, which may be auto-tuned by the OS.
+        // The single buffer read needs the contiguous thread-local direct buffer of the read size, the scatter read
+        // uses the pooled chunks, and returns the unused ones, so it's given the larger read window
+        final int shift = isScatterRead ? 3 : 2;
+        return (int) Math.min(TCPNIOTransport.MAX_RECEIVE_BUFFER_SIZE, Math.max((long) readBufferSizeLocal << shift, ReadSizePredictor.MIN_READ_SIZE));
+    }
+
+    private static boolean isScatterRead(final TCPNIOTransport transport) {
+        // the heap buffers would be read through the JDK temporary direct buffer, so there's nothing to gain
+        final MemoryManager memoryManager = transport.getMemoryManager();
+        return transport.isScatterReadEnabled() && memoryManager instanceof PooledMemoryManager && ((PooledMemoryManager) memoryManager).isDirect();
+    }
+
     /**
      * {@inheritDoc}
      */
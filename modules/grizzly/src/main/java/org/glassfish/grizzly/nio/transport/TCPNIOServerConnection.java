@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +22,9 @@ import java.net.SocketAddress;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -58,6 +62,15 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
     private final RegisterAcceptedChannelCompletionHandler defaultCompletionHandler;
     private final Object acceptSync = new Object();
 
+    /**
+     * The SO_REUSEPORT shard index, or <tt>-1</tt>, if the server connection is not a shard.
+     */
+    int shardIndex = -1;
+    /**
+     * The other shards bound to the same address (for the primary shard only).
+     */
+    private final List<TCPNIOServerConnection> shards = new CopyOnWriteArrayList<>();
+
     public TCPNIOServerConnection(TCPNIOTransport transport, ServerSocketChannel serverSocketChannel) {
         super(transport, serverSocketChannel);
         defaultCompletionHandler = new RegisterAcceptedChannelCompletionHandler();
@@ -68,8 +81,15 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
 
         final FutureImpl<RegisterChannelResult> future = SafeFutureImpl.create();
 
-        transport.getNIOChannelDistributor().registerServiceChannelAsync(channel, SelectionKey.OP_ACCEPT, this,
-                new CompletionHandlerAdapter<RegisterChannelResult, RegisterChannelResult>(future, registerCompletionHandler));
+        final CompletionHandler<RegisterChannelResult> completionHandler = new CompletionHandlerAdapter<RegisterChannelResult, RegisterChannelResult>(future,
+                registerCompletionHandler);
+        if (shardIndex >= 0) {
+            // each shard is served by its own selector runner
+            transport.getSelectorHandler().registerChannelAsync(((TCPNIOTransport) transport).getShardSelectorRunner(shardIndex), channel,
+                    SelectionKey.OP_ACCEPT, this, completionHandler);
+        } else {
+            transport.getNIOChannelDistributor().registerServiceChannelAsync(channel, SelectionKey.OP_ACCEPT, this, completionHandler);
+        }
         try {
             future.get(10, TimeUnit.SECONDS);
         } catch (ExecutionException e) {
@@ -82,6 +102,22 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
         notifyProbesBind(this);
     }
 
+    /**
+     * Returns the other server connections bound to the same address, if this is the primary server connection opened
+     * in the SO_REUSEPORT sharding mode, or an empty list otherwise.
+     *
+     * @return the other server connections bound to the same address.
+     *
+     * @see TCPNIOTransport#setReusePortSharding(boolean)
+     */
+    public List<TCPNIOServerConnection> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    void addShard(final TCPNIOServerConnection shard) {
+        shards.add(shard);
+    }
+
     @Override
     public boolean isBlocking() {
         return transport.isBlocking();
@@ -178,8 +214,14 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
 
         final TCPNIOTransport tcpNIOTransport = (TCPNIOTransport) transport;
 
-        tcpNIOTransport.getNIOChannelDistributor().registerChannelAsync(acceptedConnection.getChannel(), initialSelectionKeyInterest, acceptedConnection,
-                completionHandler);
+        if (shardIndex >= 0) {
+            // serve the accepted connection by the shard's selector runner, no hand-off
+            tcpNIOTransport.getSelectorHandler().registerChannelAsync(getSelectorRunner(), acceptedConnection.getChannel(), initialSelectionKeyInterest,
+                    acceptedConnection, completionHandler);
+        } else {
+            tcpNIOTransport.getNIOChannelDistributor().registerChannelAsync(acceptedConnection.getChannel(), initialSelectionKeyInterest,
+                    acceptedConnection, completionHandler);
+        }
     }
 
     @Override
@@ -194,7 +236,8 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
     }
 
     /**
-     * Method will be called by framework, when async accept will be ready
+     * Method will be called by framework, when async accept will be ready. In non-standalone mode up to
+     * {@link TCPNIOTransport#getMaxAcceptsPerEvent()} client connections are accepted per call.
      *
      * @throws java.io.IOException
      */
@@ -203,17 +246,34 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
         final TCPNIOConnection acceptedConnection;
 
         if (!isStandalone()) {
-            final SocketChannel acceptedChannel = doAccept();
-            if (acceptedChannel == null) {
-                return;
-            }
+            final TCPNIOTransport tcpNIOTransport = (TCPNIOTransport) transport;
+            final int maxAccepts = tcpNIOTransport.getMaxAcceptsPerEvent();
+            int acceptedCount = 0;
 
-            configureAcceptedChannel(acceptedChannel);
-            acceptedConnection = createClientConnection(acceptedChannel);
+            try {
+                while (acceptedCount < maxAccepts) {
+                    final SocketChannel acceptedChannel = doAccept();
+                    if (acceptedChannel == null) {
+                        break;
+                    }
+
+                    acceptedCount++;
+
+                    configureAcceptedChannel(acceptedChannel);
+                    final TCPNIOConnection connection = createClientConnection(acceptedChannel);
 
-            notifyProbesAccept(this, acceptedConnection);
+                    notifyProbesAccept(this, connection);
 
-            registerAcceptedChannel(acceptedConnection, defaultCompletionHandler, SelectionKey.OP_READ);
+                    registerAcceptedChannel(connection, defaultCompletionHandler, SelectionKey.OP_READ);
+                }
+            } catch (IOException e) {
+                TCPNIOTransport.notifyProbesAcceptError(tcpNIOTransport, this, e);
+                throw e;
+            } finally {
+                if (acceptedCount > 0) {
+                    TCPNIOTransport.notifyProbesAcceptBatch(tcpNIOTransport, this, acceptedCount);
+                }
+            }
         } else {
             synchronized (acceptSync) {
                 if (acceptListener == null) {
@@ -56,6 +56,7 @@ import org.glassfish.grizzly.ProcessorSelector;
 import org.glassfish.grizzly.Reader;
 import org.glassfish.grizzly.StandaloneProcessor;
 import org.glassfish.grizzly.StandaloneProcessorSelector;
+import org.glassfish.grizzly.TransportProbe;
 import org.glassfish.grizzly.WriteResult;
 import org.glassfish.grizzly.Writer;
 import org.glassfish.grizzly.asyncqueue.AsyncQueueEnabledTransport;
@@ -99,6 +100,7 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
     public static final boolean DEFAULT_KEEP_ALIVE = true;
     public static final int DEFAULT_LINGER = -1;
     public static final int DEFAULT_SERVER_CONNECTION_BACKLOG = 4096;
+    public static final int DEFAULT_MAX_ACCEPTS_PER_EVENT = 1;
 
     private static final String DEFAULT_TRANSPORT_NAME = "TCPNIOTransport";
     /**
@@ -128,6 +130,22 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
      * The socket keepAlive mode.
      */
     boolean isKeepAlive = DEFAULT_KEEP_ALIVE;
+    /**
+     * The adaptive read buffer sizing mode.
+     */
+    volatile boolean adaptiveReadBufferSizing;
+    /**
+     * The scatter read mode.
+     */
+    volatile boolean scatterReadEnabled;
+    /**
+     * The max number of connections accepted per {@link org.glassfish.grizzly.IOEvent#SERVER_ACCEPT} event.
+     */
+    volatile int maxAcceptsPerEvent = DEFAULT_MAX_ACCEPTS_PER_EVENT;
+    /**
+     * The SO_REUSEPORT server connection sharding mode.
+     */
+    volatile boolean reusePortSharding;
 
     private final Filter defaultTransportFilter;
     final RegisterChannelCompletionHandler selectorRegistrationHandler;
@@ -182,6 +200,14 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
         return Runtime.getRuntime().availableProcessors() + 1;
     }
 
+    /**
+     * Returns the {@link SelectorRunner}, which serves the server connection shard with the given index.
+     */
+    SelectorRunner getShardSelectorRunner(final int shardIndex) {
+        final SelectorRunner[] runners = getSelectorRunners();
+        return runners[shardIndex % runners.length];
+    }
+
     void listenServerConnection(TCPNIOServerConnection serverConnection) throws IOException {
         serverConnection.listen();
     }
@@ -264,6 +290,12 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
         try {
             // noinspection SuspiciousMethodCalls
             if (connection != null && serverConnections.remove(connection)) {
+                if (connection instanceof TCPNIOServerConnection) {
+                    for (TCPNIOServerConnection shard : ((TCPNIOServerConnection) connection).getShards()) {
+                        unbind(shard);
+                    }
+                }
+
                 final GrizzlyFuture future = connection.close();
                 try {
                     future.get(1000, TimeUnit.MILLISECONDS);
@@ -452,6 +484,116 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
         notifyProbesConfigChanged(this);
     }
 
+    /**
+     * Returns <tt>true</tt>, if the size of the buffers allocated to read data from a {@link TCPNIOConnection} is adapted
+     * to the sizes of the recent reads on the connection, or <tt>false</tt>, if the buffer size always equals to the
+     * connection's read buffer size.
+     *
+     * @return <tt>true</tt>, if adaptive read buffer sizing is enabled, or <tt>false</tt> otherwise.
+     */
+    public boolean isAdaptiveReadBufferSizing() {
+        return adaptiveReadBufferSizing;
+    }
+
+    /**
+     * Enables or disables adaptive read buffer sizing. If enabled, each {@link TCPNIOConnection} grows or shrinks its next
+     * read buffer based on the moving average of its recent read sizes: mostly idle connections, which receive small
+     * requests, allocate small buffers, and connections, which receive bulk data, grow their buffers up to 4 times the
+     * connection's read buffer size to reduce the number of reads.
+     *
+     * @param adaptiveReadBufferSizing <tt>true</tt> to enable adaptive read buffer sizing
+     */
+    public void setAdaptiveReadBufferSizing(final boolean adaptiveReadBufferSizing) {
+        this.adaptiveReadBufferSizing = adaptiveReadBufferSizing;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * Returns <tt>true</tt>, if the data is read directly into pooled memory chunks using scatter reads, when the
+     * transport's memory manager is a direct {@link org.glassfish.grizzly.memory.PooledMemoryManager}, or <tt>false</tt>
+     * otherwise.
+     *
+     * @return <tt>true</tt>, if scatter reads are enabled, or <tt>false</tt> otherwise.
+     */
+    public boolean isScatterReadEnabled() {
+        return scatterReadEnabled;
+    }
+
+    /**
+     * Enables or disables scatter reads. If enabled and the transport's memory manager is a
+     * {@link org.glassfish.grizzly.memory.PooledMemoryManager}, which pools direct buffers, the data is read with a single
+     * {@link java.nio.channels.SocketChannel#read(java.nio.ByteBuffer[])} call directly into an array of pooled chunks,
+     * which is returned as one {@link CompositeBuffer}, instead of being read into a temporary direct buffer and copied.
+     * The unused chunks are returned to the pool, once the read {@link Buffer} is trimmed by the transport filter. The
+     * scatter read size is adapted the same way as with {@link #setAdaptiveReadBufferSizing(boolean)}, but grows up to 8
+     * times the connection's read buffer size. The option has no effect for the heap based memory managers, because the
+     * JDK reads into heap buffers through its own temporary direct buffer anyway.
+     *
+     * @param scatterReadEnabled <tt>true</tt> to enable scatter reads
+     */
+    public void setScatterReadEnabled(final boolean scatterReadEnabled) {
+        this.scatterReadEnabled = scatterReadEnabled;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * Returns the max number of client connections a server connection accepts per
+     * {@link org.glassfish.grizzly.IOEvent#SERVER_ACCEPT} event (per selector wake-up).
+     *
+     * @return the max number of client connections accepted per {@link org.glassfish.grizzly.IOEvent#SERVER_ACCEPT}
+     * event.
+     */
+    public int getMaxAcceptsPerEvent() {
+        return maxAcceptsPerEvent;
+    }
+
+    /**
+     * Sets the max number of client connections a server connection accepts per
+     * {@link org.glassfish.grizzly.IOEvent#SERVER_ACCEPT} event (per selector wake-up). Accepting in bulk drains the
+     * listen backlog faster during connection storms, at the cost of a longer accept pass on the acceptor selector
+     * thread. The default value is <tt>1</tt>.
+     *
+     * @param maxAcceptsPerEvent the max number of client connections accepted per
+     * {@link org.glassfish.grizzly.IOEvent#SERVER_ACCEPT} event, must be positive.
+     */
+    public void setMaxAcceptsPerEvent(final int maxAcceptsPerEvent) {
+        if (maxAcceptsPerEvent < 1) {
+            throw new IllegalArgumentException("maxAcceptsPerEvent should be positive");
+        }
+
+        this.maxAcceptsPerEvent = maxAcceptsPerEvent;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * Returns <tt>true</tt>, if each bind operation opens one SO_REUSEPORT server channel per {@link SelectorRunner},
+     * or <tt>false</tt> otherwise.
+     *
+     * @return <tt>true</tt>, if SO_REUSEPORT server connection sharding is enabled, or <tt>false</tt> otherwise.
+     *
+     * @see #setReusePortSharding(boolean)
+     */
+    public boolean isReusePortSharding() {
+        return reusePortSharding;
+    }
+
+    /**
+     * Enables or disables SO_REUSEPORT server connection sharding. If enabled and SO_REUSEPORT is supported by the
+     * platform, each bind operation opens {@link #getSelectorRunnersCount()} server channels on the same address, each
+     * one is served by its own {@link SelectorRunner}. The kernel load-balances incoming connections between the
+     * channels, and each accepted connection is registered with the {@link SelectorRunner} that accepted it, so there
+     * is no cross-thread hand-off.
+     * <p/>
+     * The bind methods return the primary server connection, the rest could be obtained using
+     * {@link TCPNIOServerConnection#getShards()}. Unbinding the primary server connection unbinds all its shards.
+     *
+     * @param reusePortSharding <tt>true</tt> to enable SO_REUSEPORT server connection sharding
+     */
+    public void setReusePortSharding(final boolean reusePortSharding) {
+        this.reusePortSharding = reusePortSharding;
+        notifyProbesConfigChanged(this);
+    }
+
     /**
      * Get the default server connection backlog size.
      * 
@@ -845,4 +987,36 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
             lock.unlock();
         }
     }
+
+    /**
+     * Notify registered {@link TransportProbe}s about the accept pass completion.
+     *
+     * @param transport the <tt>Transport</tt> event occurred on.
+     * @param serverConnection the server {@link Connection}, which accepted the client connections.
+     * @param acceptedCount the number of accepted client connections.
+     */
+    static void notifyProbesAcceptBatch(final TCPNIOTransport transport, final Connection serverConnection, final int acceptedCount) {
+        final TransportProbe[] probes = transport.transportMonitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (TransportProbe probe : probes) {
+                probe.onAcceptBatchEvent(transport, serverConnection, acceptedCount);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link TransportProbe}s about the accept error.
+     *
+     * @param transport the <tt>Transport</tt> event occurred on.
+     * @param serverConnection the server {@link Connection}, which failed to accept.
+     * @param error the error.
+     */
+    static void notifyProbesAcceptError(final TCPNIOTransport transport, final Connection serverConnection, final Throwable error) {
+        final TransportProbe[] probes = transport.transportMonitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (TransportProbe probe : probes) {
+                probe.onAcceptErrorEvent(transport, serverConnection, error);
+            }
+        }
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -32,6 +33,10 @@ public class TCPNIOTransportBuilder extends NIOTransportBuilder<TCPNIOTransportB
     protected int serverConnectionBackLog = TCPNIOTransport.DEFAULT_SERVER_CONNECTION_BACKLOG;
     protected int serverSocketSoTimeout = TCPNIOTransport.DEFAULT_SERVER_SOCKET_SO_TIMEOUT;
     protected boolean tcpNoDelay = TCPNIOTransport.DEFAULT_TCP_NO_DELAY;
+    protected boolean adaptiveReadBufferSizing;
+    protected boolean scatterReadEnabled;
+    protected int maxAcceptsPerEvent = TCPNIOTransport.DEFAULT_MAX_ACCEPTS_PER_EVENT;
+    protected boolean reusePortSharding;
 
     // ------------------------------------------------------------ Constructors
 
@@ -130,6 +135,74 @@ public class TCPNIOTransportBuilder extends NIOTransportBuilder<TCPNIOTransportB
         return getThis();
     }
 
+    /**
+     * @see TCPNIOTransport#isAdaptiveReadBufferSizing()
+     */
+    public boolean isAdaptiveReadBufferSizing() {
+        return adaptiveReadBufferSizing;
+    }
+
+    /**
+     * @see TCPNIOTransport#setAdaptiveReadBufferSizing(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setAdaptiveReadBufferSizing(boolean adaptiveReadBufferSizing) {
+        this.adaptiveReadBufferSizing = adaptiveReadBufferSizing;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#isScatterReadEnabled()
+     */
+    public boolean isScatterReadEnabled() {
+        return scatterReadEnabled;
+    }
+
+    /**
+     * @see TCPNIOTransport#setScatterReadEnabled(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setScatterReadEnabled(boolean scatterReadEnabled) {
+        this.scatterReadEnabled = scatterReadEnabled;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#getMaxAcceptsPerEvent()
+     */
+    public int getMaxAcceptsPerEvent() {
+        return maxAcceptsPerEvent;
+    }
+
+    /**
+     * @see TCPNIOTransport#setMaxAcceptsPerEvent(int)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setMaxAcceptsPerEvent(int maxAcceptsPerEvent) {
+        this.maxAcceptsPerEvent = maxAcceptsPerEvent;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#isReusePortSharding()
+     */
+    public boolean isReusePortSharding() {
+        return reusePortSharding;
+    }
+
+    /**
+     * @see TCPNIOTransport#setReusePortSharding(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setReusePortSharding(boolean reusePortSharding) {
+        this.reusePortSharding = reusePortSharding;
+        return getThis();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -140,6 +213,10 @@ public class TCPNIOTransportBuilder extends NIOTransportBuilder<TCPNIOTransportB
         transport.setLinger(linger);
         transport.setServerConnectionBackLog(serverConnectionBackLog);
         transport.setTcpNoDelay(tcpNoDelay);
+        transport.setAdaptiveReadBufferSizing(adaptiveReadBufferSizing);
+        transport.setScatterReadEnabled(scatterReadEnabled);
+        transport.setMaxAcceptsPerEvent(maxAcceptsPerEvent);
+        transport.setReusePortSharding(reusePortSharding);
         transport.setServerSocketSoTimeout(serverSocketSoTimeout);
         return transport;
     }
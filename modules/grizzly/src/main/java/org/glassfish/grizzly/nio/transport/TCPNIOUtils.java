@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -187,9 +188,9 @@ public class TCPNIOUtils {
         Buffer buffer = null;
 
         try {
-            final int receiveBufferSize = Math.min(TCPNIOTransport.MAX_RECEIVE_BUFFER_SIZE, connection.getReadBufferSize());
+            final int receiveBufferSize = connection.nextReadSize();
 
-            if (!memoryManager.willAllocateDirect(receiveBufferSize)) {
+            if (!memoryManager.willAllocateDirect(receiveBufferSize) && !connection.isScatterRead()) {
                 final DirectByteBufferRecord ioRecord = DirectByteBufferRecord.get();
                 final ByteBuffer directByteBuffer = ioRecord.allocate(receiveBufferSize);
 
@@ -203,9 +204,15 @@ public class TCPNIOUtils {
                 } finally {
                     ioRecord.release();
                 }
+
+                connection.onReadSize(read, receiveBufferSize);
             } else {
+                // for the direct PooledMemoryManager big enough allocation is a composite of pooled chunks,
+                // which is read using a single scatter read
                 buffer = memoryManager.allocateAtLeast(receiveBufferSize);
+                final int attempted = buffer.remaining();
                 read = readBuffer(connection, buffer);
+                connection.onReadSize(read, attempted);
             }
         } catch (Throwable e) {
             error = e;
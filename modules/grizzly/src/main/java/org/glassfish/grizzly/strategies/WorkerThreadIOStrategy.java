@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2009, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,7 @@ package org.glassfish.grizzly.strategies;
 
 import java.io.IOException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.glassfish.grizzly.Connection;
@@ -37,6 +39,17 @@ public final class WorkerThreadIOStrategy extends AbstractIOStrategy {
 
     private static final Logger logger = Grizzly.logger(WorkerThreadIOStrategy.class);
 
+    /**
+     * Holds the time the {@link IOEvent}, which is currently processed by the worker thread, spent in the thread pool
+     * queue.
+     */
+    private static final ThreadLocal<long[]> QUEUE_WAIT = ThreadLocal.withInitial(() -> new long[] { -1 });
+
+    /**
+     * The number of the registered queue wait probes, the queue wait time is tracked only if there is at least one.
+     */
+    private static final AtomicInteger QUEUE_WAIT_PROBES = new AtomicInteger();
+
     // ------------------------------------------------------------ Constructors
 
     private WorkerThreadIOStrategy() {
@@ -48,6 +61,35 @@ public final class WorkerThreadIOStrategy extends AbstractIOStrategy {
         return INSTANCE;
     }
 
+    /**
+     * Returns the time the {@link IOEvent}, which is currently processed by the calling thread, spent in the worker
+     * thread pool queue after it had been handed off by the selector thread.
+     *
+     * @return the queue wait time in nanoseconds, or <tt>-1</tt> if the calling thread doesn't process an {@link IOEvent}
+     * dispatched by this strategy, or there was no queue wait probe registered, when the event was dispatched
+     *
+     * @see #addQueueWaitProbe()
+     */
+    public static long getQueueWaitNanos() {
+        return QUEUE_WAIT_PROBES.get() > 0 ? QUEUE_WAIT.get()[0] : -1;
+    }
+
+    /**
+     * Registers the queue wait probe, so the time the dispatched {@link IOEvent}s spend in the worker thread pool
+     * queue is tracked and available via {@link #getQueueWaitNanos()}. The tracking costs nothing unless there is a
+     * registered probe.
+     */
+    public static void addQueueWaitProbe() {
+        QUEUE_WAIT_PROBES.incrementAndGet();
+    }
+
+    /**
+     * Unregisters the queue wait probe registered by {@link #addQueueWaitProbe()}.
+     */
+    public static void removeQueueWaitProbe() {
+        QUEUE_WAIT_PROBES.decrementAndGet();
+    }
+
     // ------------------------------------------------- Methods from IOStrategy
 
     @Override
@@ -88,17 +130,29 @@ public final class WorkerThreadIOStrategy extends AbstractIOStrategy {
         final Connection connection;
         final IOEvent ioEvent;
         final IOEventLifeCycleListener lifeCycleListener;
+        final long queuedTimeNanos;
 
         private WorkerThreadRunnable(final Connection connection, final IOEvent ioEvent, final IOEventLifeCycleListener lifeCycleListener) {
             this.connection = connection;
             this.ioEvent = ioEvent;
             this.lifeCycleListener = lifeCycleListener;
-
+            this.queuedTimeNanos = QUEUE_WAIT_PROBES.get() > 0 ? System.nanoTime() : -1;
         }
 
         @Override
         public void run() {
-            run0(connection, ioEvent, lifeCycleListener);
+            if (queuedTimeNanos == -1) {
+                run0(connection, ioEvent, lifeCycleListener);
+                return;
+            }
+
+            final long[] queueWait = QUEUE_WAIT.get();
+            queueWait[0] = System.nanoTime() - queuedTimeNanos;
+            try {
+                run0(connection, ioEvent, lifeCycleListener);
+            } finally {
+                queueWait[0] = -1;
+            }
         }
     }
 
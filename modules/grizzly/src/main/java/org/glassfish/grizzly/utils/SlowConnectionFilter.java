@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.utils;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.attributes.Attribute;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.nio.ConnectionStatistics;
+import org.glassfish.grizzly.nio.NIOConnection;
+
+/**
+ * The Filter is responsible for detecting slow readers: {@link Connection}s, which drain the data written to them
+ * slower than the configured rate, so the data accumulates in the async write queue and occupies server memory.
+ * <p>
+ * A {@link Connection} is considered slow, if its async write queue has been non-empty for longer than the grace period
+ * and its {@link ConnectionStatistics#getWriteRate() write rate} is below the configured minimum drain rate. Once a slow
+ * {@link Connection} is detected the {@link SlowConnectionHandler} is notified. The handler is notified on every check
+ * as long as the {@link Connection} remains slow. By default the slow {@link Connection} is closed, alternatively it
+ * could be throttled using {@link #throttle(int)}.
+ * <p>
+ * The Filter enables {@link ConnectionStatistics} collection for every {@link Connection} it processes.
+ *
+ * @see IdleTimeoutFilter
+ */
+public class SlowConnectionFilter extends BaseFilter {
+    private static final Logger LOGGER = Grizzly.logger(SlowConnectionFilter.class);
+
+    public static final String SLOW_CONNECTION_ATTRIBUTE_NAME = "connection-slow-check-attribute";
+    private static final Attribute<CheckRecord> CHECK_ATTR = Grizzly.DEFAULT_ATTRIBUTE_BUILDER.createAttribute(SLOW_CONNECTION_ATTRIBUTE_NAME,
+            CheckRecord::new);
+
+    /**
+     * {@link SlowConnectionHandler}, which terminates the slow {@link Connection} without waiting for the pending data
+     * to be written.
+     */
+    public static final SlowConnectionHandler CLOSE = new SlowConnectionHandler() {
+
+        @Override
+        public void onSlowConnection(final Connection connection, final ConnectionStatistics statistics) {
+            connection.terminateWithReason(new IOException("Connection drain rate is too low: " + statistics));
+        }
+    };
+
+    private final DelayedExecutor.DelayQueue<Connection> queue;
+    private final long minDrainRate;
+    private final long gracePeriodMillis;
+    private final SlowConnectionHandler handler;
+
+    // ------------------------------------------------------------ Constructors
+
+    /**
+     * Constructs the Filter, which closes slow {@link Connection}s.
+     *
+     * @param executor the {@link DelayedExecutor}, which checks the {@link Connection}s periodically
+     * @param minDrainRate the minimum write rate in bytes per second
+     * @param gracePeriod the time the async write queue should be non-empty before the {@link Connection} could be
+     * considered slow
+     * @param timeUnit the grace period {@link TimeUnit}
+     */
+    public SlowConnectionFilter(final DelayedExecutor executor, final long minDrainRate, final long gracePeriod, final TimeUnit timeUnit) {
+        this(executor, minDrainRate, gracePeriod, timeUnit, CLOSE);
+    }
+
+    /**
+     * Constructs the Filter.
+     *
+     * @param executor the {@link DelayedExecutor}, which checks the {@link Connection}s periodically
+     * @param minDrainRate the minimum write rate in bytes per second
+     * @param gracePeriod the time the async write queue should be non-empty before the {@link Connection} could be
+     * considered slow
+     * @param timeUnit the grace period {@link TimeUnit}
+     * @param handler the {@link SlowConnectionHandler} to be notified about slow {@link Connection}s
+     */
+    public SlowConnectionFilter(final DelayedExecutor executor, final long minDrainRate, final long gracePeriod, final TimeUnit timeUnit,
+            final SlowConnectionHandler handler) {
+
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+
+        if (handler == null) {
+            throw new IllegalArgumentException("handler cannot be null");
+        }
+
+        this.minDrainRate = minDrainRate;
+        this.gracePeriodMillis = TimeUnit.MILLISECONDS.convert(gracePeriod, timeUnit);
+        this.handler = handler;
+        queue = executor.createDelayQueue(new Worker(), new Resolver());
+    }
+
+    // ----------------------------------------------------- Methods from Filter
+
+    @Override
+    public NextAction handleAccept(final FilterChainContext ctx) throws IOException {
+        register(ctx.getConnection());
+        return ctx.getInvokeAction();
+    }
+
+    @Override
+    public NextAction handleConnect(final FilterChainContext ctx) throws IOException {
+        register(ctx.getConnection());
+        return ctx.getInvokeAction();
+    }
+
+    @Override
+    public NextAction handleClose(final FilterChainContext ctx) throws IOException {
+        queue.remove(ctx.getConnection());
+        return ctx.getInvokeAction();
+    }
+
+    // ---------------------------------------------------------- Public Methods
+
+    /**
+     * @return the minimum write rate in bytes per second
+     */
+    public long getMinDrainRate() {
+        return minDrainRate;
+    }
+
+    /**
+     * @return the time the async write queue should be non-empty before the {@link Connection} could be considered slow
+     */
+    public long getGracePeriod(final TimeUnit timeUnit) {
+        return timeUnit.convert(gracePeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the {@link SlowConnectionHandler}, which throttles the slow {@link Connection} by limiting its async write
+     * queue size, so the code that writes to the {@link Connection} and respects {@link Connection#canWrite()} and
+     * {@link Connection#notifyCanWrite(org.glassfish.grizzly.WriteHandler)} stops buffering data in memory until the peer
+     * drains the queue.
+     *
+     * @param maxAsyncWriteQueueSize the async write queue size limit (in bytes) to be set for the slow {@link Connection}
+     */
+    public static SlowConnectionHandler throttle(final int maxAsyncWriteQueueSize) {
+        return new SlowConnectionHandler() {
+
+            @Override
+            public void onSlowConnection(final Connection connection, final ConnectionStatistics statistics) {
+                if (connection.getMaxAsyncWriteQueueSize() != maxAsyncWriteQueueSize) {
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE, "Throttling slow connection {0}: {1}", new Object[] { connection, statistics });
+                    }
+
+                    connection.setMaxAsyncWriteQueueSize(maxAsyncWriteQueueSize);
+                }
+            }
+        };
+    }
+
+    public static DelayedExecutor createDefaultDelayedExecutor() {
+        return createDefaultDelayedExecutor(ConnectionStatistics.SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public static DelayedExecutor createDefaultDelayedExecutor(final long checkInterval, final TimeUnit checkIntervalUnit) {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            final Thread newThread = new Thread(r);
+            newThread.setName("Grizzly-SlowConnectionFilter-Check");
+            newThread.setDaemon(true);
+            return newThread;
+        });
+
+        return new DelayedExecutor(executor, checkInterval > 0 ? checkInterval : ConnectionStatistics.SAMPLE_INTERVAL_MILLIS,
+                checkIntervalUnit != null ? checkIntervalUnit : TimeUnit.MILLISECONDS);
+    }
+
+    // ------------------------------------------------------- Protected Methods
+
+    /**
+     * @return <tt>true</tt>, if the {@link Connection} with the given {@link ConnectionStatistics} has to be considered
+     * slow, or <tt>false</tt> otherwise. An idle connection, which has nothing queued to write, is never slow.
+     */
+    protected boolean isSlow(final ConnectionStatistics statistics) {
+        return statistics.getWriteQueueSize() > 0 && statistics.getWriteQueueAge(TimeUnit.MILLISECONDS) >= gracePeriodMillis
+                && statistics.getWriteRate() < minDrainRate;
+    }
+
+    // ------------------------------------------------------- Private Methods
+
+    private void register(final Connection connection) {
+        if (connection instanceof NIOConnection) {
+            ((NIOConnection) connection).enableStatistics();
+            queue.add(connection, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ----------------------------------------------------------- Inner Classes
+
+    /**
+     * The handler, which is notified about slow {@link Connection}s.
+     */
+    public interface SlowConnectionHandler {
+
+        void onSlowConnection(Connection connection, ConnectionStatistics statistics);
+
+    }
+
+    private final class Worker implements DelayedExecutor.Worker<Connection> {
+
+        @Override
+        public boolean doWork(final Connection connection) {
+            if (!connection.isOpen()) {
+                return true;
+            }
+
+            final ConnectionStatistics statistics = ((NIOConnection) connection).getStatistics();
+            statistics.sample();
+
+            if (isSlow(statistics)) {
+                try {
+                    handler.onSlowConnection(connection, statistics);
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "SlowConnectionHandler " + handler + " failed", e);
+                }
+            }
+
+            // keep checking the connection until it's closed
+            return !connection.isOpen();
+        }
+
+    } // END Worker
+
+    private static final class Resolver implements DelayedExecutor.Resolver<Connection> {
+
+        @Override
+        public boolean removeTimeout(final Connection connection) {
+            CHECK_ATTR.get(connection).timeoutMillis = DelayedExecutor.UNSET_TIMEOUT;
+            return true;
+        }
+
+        @Override
+        public long getTimeoutMillis(final Connection connection) {
+            return CHECK_ATTR.get(connection).timeoutMillis;
+        }
+
+        @Override
+        public void setTimeoutMillis(final Connection connection, final long timeoutMillis) {
+            CHECK_ATTR.get(connection).timeoutMillis = timeoutMillis;
+        }
+
+    } // END Resolver
+
+    private static final class CheckRecord {
+        private volatile long timeoutMillis = DelayedExecutor.UNSET_TIMEOUT;
+    } // END CheckRecord
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.spi.AbstractSelectionKey;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.IOStrategy;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.glassfish.grizzly.strategies.SameThreadIOStrategy;
+import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
+import org.glassfish.grizzly.utils.EchoFilter;
+import org.junit.Test;
+
+/**
+ * Test {@link BatchingSelectorHandler}.
+ */
+public class BatchingSelectorHandlerTest {
+    private static final int PORT = 7685;
+
+    @Test
+    public void testSelectedKeys() {
+        final BatchingSelectorHandler.SelectedKeys selectedKeys = new BatchingSelectorHandler.SelectedKeys();
+        assertTrue(selectedKeys.isEmpty());
+
+        final SelectionKey[] keys = new SelectionKey[300];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new DummySelectionKey();
+            selectedKeys.add(keys[i]);
+        }
+
+        assertEquals(keys.length, selectedKeys.size());
+        final Iterator<SelectionKey> it = selectedKeys.iterator();
+        for (SelectionKey key : keys) {
+            assertTrue(it.hasNext());
+            assertTrue(key == it.next());
+        }
+        assertFalse(it.hasNext());
+
+        selectedKeys.clear();
+        assertTrue(selectedKeys.isEmpty());
+        assertFalse(selectedKeys.iterator().hasNext());
+    }
+
+    @Test
+    public void testEchoSameThreadStrategy() throws Exception {
+        testEcho(SameThreadIOStrategy.getInstance());
+    }
+
+    @Test
+    public void testEchoWorkerThreadStrategy() throws Exception {
+        testEcho(WorkerThreadIOStrategy.getInstance());
+    }
+
+    private static void testEcho(final IOStrategy strategy) throws Exception {
+        final int clientsCount = 8;
+        final int messagesCount = 200;
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new EchoFilter());
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setIOStrategy(strategy)
+                .setSelectorHandler(new BatchingSelectorHandler()).build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(clientsCount);
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            final Callable<Boolean> client = new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    try (Socket socket = new Socket("localhost", PORT)) {
+                        socket.setSoTimeout(10000);
+                        final OutputStream out = socket.getOutputStream();
+                        final DataInputStream in = new DataInputStream(socket.getInputStream());
+                        for (int i = 0; i < messagesCount; i++) {
+                            final byte[] message = ("message-" + i).getBytes();
+                            out.write(message);
+                            out.flush();
+
+                            final byte[] echo = new byte[message.length];
+                            in.readFully(echo);
+                            assertArrayEquals(message, echo);
+                        }
+                    }
+                    return true;
+                }
+            };
+
+            final Future<?>[] futures = new Future<?>[clientsCount];
+            for (int i = 0; i < clientsCount; i++) {
+                futures[i] = executor.submit(client);
+            }
+
+            for (Future<?> future : futures) {
+                assertEquals(Boolean.TRUE, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+            transport.shutdownNow();
+        }
+    }
+
+    private static final class DummySelectionKey extends AbstractSelectionKey {
+        @Override
+        public SelectableChannel channel() {
+            return null;
+        }
+
+        @Override
+        public Selector selector() {
+            return null;
+        }
+
+        @Override
+        public int interestOps() {
+            return 0;
+        }
+
+        @Override
+        public SelectionKey interestOps(final int ops) {
+            return this;
+        }
+
+        @Override
+        public int readyOps() {
+            return 0;
+        }
+    }
+}
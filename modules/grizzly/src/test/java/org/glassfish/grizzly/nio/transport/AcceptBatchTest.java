@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.Socket;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Transport;
+import org.glassfish.grizzly.TransportProbe;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.nio.LeastLoadedConnectionDistributor;
+import org.glassfish.grizzly.nio.NIOConnection;
+import org.glassfish.grizzly.nio.SelectorRunner;
+import org.junit.Test;
+
+/**
+ * Test bulk accepts and the {@link LeastLoadedConnectionDistributor}.
+ */
+public class AcceptBatchTest {
+    private static final int PORT = 7686;
+
+    @Test
+    public void testAcceptBatches() throws Exception {
+        final int clientsCount = 64;
+        final int maxAcceptsPerEvent = 16;
+        final AtomicInteger acceptedInBatches = new AtomicInteger();
+        final AtomicInteger maxBatchSize = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        final CountDownLatch acceptedLatch = new CountDownLatch(clientsCount);
+        final Map<SelectorRunner, AtomicInteger> runnerConnections = new ConcurrentHashMap<>();
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleAccept(final FilterChainContext ctx) {
+                final SelectorRunner runner = ((NIOConnection) ctx.getConnection()).getSelectorRunner();
+                runnerConnections.computeIfAbsent(runner, r -> new AtomicInteger()).incrementAndGet();
+                acceptedLatch.countDown();
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setSelectorRunnersCount(4).setMaxAcceptsPerEvent(maxAcceptsPerEvent)
+                .build();
+        assertEquals(maxAcceptsPerEvent, transport.getMaxAcceptsPerEvent());
+        transport.setNIOChannelDistributor(new LeastLoadedConnectionDistributor(transport, true));
+        transport.setProcessor(filterChainBuilder.build());
+        transport.getMonitoringConfig().addProbes(new TransportProbe.Adapter() {
+            @Override
+            public void onAcceptBatchEvent(final Transport transport, final Connection serverConnection, final int acceptedCount) {
+                acceptedInBatches.addAndGet(acceptedCount);
+                int max;
+                while (acceptedCount > (max = maxBatchSize.get()) && !maxBatchSize.compareAndSet(max, acceptedCount)) {
+                }
+            }
+
+            @Override
+            public void onAcceptErrorEvent(final Transport transport, final Connection serverConnection, final Throwable error) {
+                errors.incrementAndGet();
+            }
+        });
+
+        final Socket[] sockets = new Socket[clientsCount];
+        try {
+            final Connection serverConnection = transport.bind(PORT);
+            transport.start();
+
+            for (int i = 0; i < clientsCount; i++) {
+                sockets[i] = new Socket("localhost", PORT);
+            }
+
+            assertTrue(acceptedLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(clientsCount, acceptedInBatches.get());
+            assertTrue(maxBatchSize.get() <= maxAcceptsPerEvent);
+            assertEquals(0, errors.get());
+
+            final SelectorRunner serverRunner = ((NIOConnection) serverConnection).getSelectorRunner();
+            // the dedicated acceptor runner serves the server connection only
+            assertEquals(1, serverRunner.getRegisteredKeysCount());
+            assertEquals(3, runnerConnections.size());
+
+            // the accepted channels are registered asynchronously, so wait until all the keys are registered
+            awaitRegisteredKeysCount(runnerConnections.keySet(), clientsCount);
+
+            int registered = 0;
+            for (Map.Entry<SelectorRunner, AtomicInteger> entry : runnerConnections.entrySet()) {
+                final int keysCount = entry.getKey().getRegisteredKeysCount();
+                assertTrue("Runner got " + keysCount + " connections", keysCount >= clientsCount / 3 - 1);
+                assertEquals(entry.getValue().get(), keysCount);
+                registered += keysCount;
+            }
+            assertEquals(clientsCount, registered);
+        } finally {
+            for (Socket socket : sockets) {
+                if (socket != null) {
+                    socket.close();
+                }
+            }
+            transport.shutdownNow();
+        }
+    }
+
+    private static void awaitRegisteredKeysCount(final Collection<SelectorRunner> runners, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            int registered = 0;
+            for (SelectorRunner runner : runners) {
+                registered += runner.getRegisteredKeysCount();
+            }
+
+            if (registered >= count) {
+                return;
+            }
+
+            Thread.sleep(10);
+        }
+    }
+}
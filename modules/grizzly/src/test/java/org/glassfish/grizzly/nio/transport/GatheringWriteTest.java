@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.WriteResult;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.memory.Buffers;
+import org.junit.Test;
+
+/**
+ * Test gathering writes of queued records in {@link TCPNIOAsyncQueueWriter}.
+ */
+public class GatheringWriteTest {
+    @Test
+    public void testGatheringWrites() throws Exception {
+        testGatheringWrites(2000, 100, -1, 16, 1000);
+    }
+
+    /**
+     * The gathered records exceed the socket write buffer size, so they're written by several writes.
+     */
+    @Test
+    public void testMaxGatheringBytesAboveWriteBufferSize() throws Exception {
+        testGatheringWrites(2000, 100, 4096, 256, 1024 * 1024);
+    }
+
+    private void testGatheringWrites(final int messagesCount, final int messageSize, final int writeBufferSize, final int maxRecords, final int maxBytes)
+            throws Exception {
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger wrongSize = new AtomicInteger();
+        final CountDownLatch completeLatch = new CountDownLatch(messagesCount);
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleAccept(final FilterChainContext ctx) throws IOException {
+                final Connection connection = ctx.getConnection();
+                int counter = 0;
+                for (int i = 0; i < messagesCount; i++) {
+                    final byte[] message = new byte[messageSize];
+                    for (int j = 0; j < messageSize; j++) {
+                        message[j] = (byte) counter++;
+                    }
+
+                    final Buffer buffer = Buffers.wrap(ctx.getMemoryManager(), message);
+                    connection.write(buffer, new EmptyCompletionHandler<WriteResult>() {
+                        @Override
+                        public void completed(final WriteResult result) {
+                            if (result.getWrittenSize() != messageSize) {
+                                wrongSize.incrementAndGet();
+                            }
+                            completed.incrementAndGet();
+                            completeLatch.countDown();
+                        }
+                    });
+                }
+                return ctx.getInvokeAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setOptimizedForMultiplexing(true).setMaxAsyncWriteQueueSizeInBytes(-1)
+                .build();
+        if (writeBufferSize > 0) {
+            transport.setWriteBufferSize(writeBufferSize);
+        }
+
+        final TCPNIOAsyncQueueWriter writer = (TCPNIOAsyncQueueWriter) transport.getAsyncQueueIO().getWriter();
+        writer.setMaxGatheringRecords(maxRecords);
+        writer.setMaxGatheringBytes(maxBytes);
+        assertEquals(maxRecords, writer.getMaxGatheringRecords());
+        assertEquals(maxBytes, writer.getMaxGatheringBytes());
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            final TCPNIOServerConnection serverConnection = transport.bind(0);
+            transport.start();
+
+            try (Socket socket = new Socket("localhost", ((InetSocketAddress) serverConnection.getLocalAddress()).getPort())) {
+                final DataInputStream in = new DataInputStream(socket.getInputStream());
+                final byte[] data = new byte[messagesCount * messageSize];
+                in.readFully(data);
+                for (int i = 0; i < data.length; i++) {
+                    assertEquals("Unexpected byte at " + i, (byte) i, data[i]);
+                }
+
+                assertTrue(completeLatch.await(10, TimeUnit.SECONDS));
+                assertEquals(messagesCount, completed.get());
+                assertEquals(0, wrongSize.get());
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.junit.Test;
+
+/**
+ * Test {@link ReadSizePredictor} and adaptive read buffer sizing.
+ */
+public class ReadSizePredictorTest {
+    private static final int PORT = 7682;
+
+    @Test
+    public void testShrinkForSmallReads() {
+        final ReadSizePredictor predictor = new ReadSizePredictor();
+        assertEquals(ReadSizePredictor.INITIAL_READ_SIZE, predictor.nextReadSize(65536));
+
+        for (int i = 0; i < 32; i++) {
+            predictor.onRead(300, predictor.nextReadSize(65536), 65536);
+        }
+
+        assertEquals(ReadSizePredictor.MIN_READ_SIZE, predictor.nextReadSize(65536));
+    }
+
+    @Test
+    public void testGrowForBulkReads() {
+        final ReadSizePredictor predictor = new ReadSizePredictor();
+
+        int reads = 0;
+        while (predictor.nextReadSize(262144) < 262144) {
+            final int size = predictor.nextReadSize(262144);
+            predictor.onRead(size, size, 262144);
+            reads++;
+        }
+
+        // 2K -> 256K doubling
+        assertEquals(7, reads);
+
+        // partial reads shrink the prediction gradually
+        predictor.onRead(1000, 262144, 262144);
+        assertTrue(predictor.nextReadSize(262144) > 65536);
+    }
+
+    @Test
+    public void testMaxSize() {
+        final ReadSizePredictor predictor = new ReadSizePredictor();
+        predictor.onRead(2048, 2048, 3000);
+        assertEquals(3000, predictor.nextReadSize(3000));
+        assertEquals(1024, predictor.nextReadSize(1024));
+    }
+
+    @Test
+    public void testAdaptiveTransport() throws Exception {
+        final int size = 4 * 1024 * 1024;
+        final AtomicLong received = new AtomicLong();
+        final AtomicInteger maxChunk = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                final int remaining = buffer.remaining();
+                maxChunk.accumulateAndGet(remaining, Math::max);
+                buffer.tryDispose();
+                if (received.addAndGet(remaining) == size) {
+                    latch.countDown();
+                }
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setAdaptiveReadBufferSizing(true).setReadBufferSize(8192).build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            try (Socket socket = new Socket("localhost", PORT)) {
+                final OutputStream os = socket.getOutputStream();
+                final byte[] chunk = new byte[65536];
+                for (int i = 0; i < size / chunk.length; i++) {
+                    os.write(chunk);
+                }
+                os.flush();
+
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+                assertEquals(size, received.get());
+                assertTrue(maxChunk.get() <= 4 * 8192);
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.ConnectionProbe;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.junit.Test;
+
+/**
+ * Test SO_REUSEPORT server connection sharding.
+ */
+public class ReusePortShardingTest {
+    private static final int PORT = 7687;
+
+    @Test
+    public void testSharding() throws Exception {
+        final int runnersCount = 4;
+        final int clientsCount = 40;
+        final Map<Connection, Connection> acceptedBy = new ConcurrentHashMap<>();
+        final AtomicInteger handOffs = new AtomicInteger();
+        final CountDownLatch acceptedLatch = new CountDownLatch(clientsCount);
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleAccept(final FilterChainContext ctx) {
+                final TCPNIOConnection connection = (TCPNIOConnection) ctx.getConnection();
+                final TCPNIOServerConnection serverConnection = (TCPNIOServerConnection) acceptedBy.get(connection);
+                if (serverConnection == null || serverConnection.getSelectorRunner() != connection.getSelectorRunner()) {
+                    handOffs.incrementAndGet();
+                }
+                acceptedLatch.countDown();
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setSelectorRunnersCount(runnersCount).setReusePortSharding(true).build();
+        if (!transport.isReusePortAvailable()) {
+            return;
+        }
+
+        transport.setProcessor(filterChainBuilder.build());
+        transport.getConnectionMonitoringConfig().addProbes(new ConnectionProbe.Adapter() {
+            @Override
+            public void onAcceptEvent(final Connection serverConnection, final Connection clientConnection) {
+                acceptedBy.put(clientConnection, serverConnection);
+            }
+        });
+
+        final Socket[] sockets = new Socket[clientsCount];
+        try {
+            final TCPNIOServerConnection serverConnection = transport.bind(PORT);
+            transport.start();
+
+            assertEquals(runnersCount - 1, serverConnection.getShards().size());
+            for (TCPNIOServerConnection shard : serverConnection.getShards()) {
+                assertEquals(PORT, ((InetSocketAddress) shard.getLocalAddress()).getPort());
+                assertTrue(shard.getSelectorRunner() != serverConnection.getSelectorRunner());
+            }
+
+            for (int i = 0; i < clientsCount; i++) {
+                sockets[i] = new Socket("localhost", PORT);
+            }
+
+            assertTrue(acceptedLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(0, handOffs.get());
+
+            transport.unbind(serverConnection);
+            assertFalse(serverConnection.isOpen());
+            for (TCPNIOServerConnection shard : serverConnection.getShards()) {
+                assertFalse(shard.isOpen());
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                if (socket != null) {
+                    socket.close();
+                }
+            }
+            transport.shutdownNow();
+        }
+    }
+}
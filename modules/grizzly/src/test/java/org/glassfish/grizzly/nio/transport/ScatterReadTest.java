@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.memory.PooledMemoryManager;
+import org.junit.Test;
+
+/**
+ * Test scatter reads into {@link PooledMemoryManager} chunks.
+ */
+public class ScatterReadTest {
+    private static final int PORT = 7683;
+
+    @Test
+    public void testScatterRead() throws Exception {
+        final int size = 4 * 1024 * 1024;
+        final AtomicLong received = new AtomicLong();
+        final AtomicBoolean isCorrupted = new AtomicBoolean();
+        final AtomicBoolean isCompositeRead = new AtomicBoolean();
+        final AtomicBoolean isScatterRead = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                isScatterRead.set(((TCPNIOConnection) ctx.getConnection()).isScatterRead());
+                if (buffer.isComposite()) {
+                    isCompositeRead.set(true);
+                }
+
+                long offset = received.get();
+                while (buffer.hasRemaining()) {
+                    if (buffer.get() != (byte) offset++) {
+                        isCorrupted.set(true);
+                    }
+                }
+                buffer.tryDispose();
+
+                if (received.getAndSet(offset) < size && offset == size) {
+                    latch.countDown();
+                }
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setMemoryManager(new PooledMemoryManager(true)).setScatterReadEnabled(true)
+                .setReadBufferSize(262144).build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            try (Socket socket = new Socket("localhost", PORT)) {
+                final OutputStream os = socket.getOutputStream();
+                final byte[] chunk = new byte[65536];
+                for (int i = 0; i < size; i += chunk.length) {
+                    for (int j = 0; j < chunk.length; j++) {
+                        chunk[j] = (byte) (i + j);
+                    }
+                    os.write(chunk);
+                }
+                os.flush();
+
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+                assertEquals(size, received.get());
+                assertTrue(!isCorrupted.get());
+                assertTrue(isCompositeRead.get());
+                assertTrue(isScatterRead.get());
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNoScatterReadIntoHeapPool() throws Exception {
+        final AtomicBoolean isScatterRead = new AtomicBoolean(true);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                isScatterRead.set(((TCPNIOConnection) ctx.getConnection()).isScatterRead());
+                latch.countDown();
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setMemoryManager(new PooledMemoryManager()).setScatterReadEnabled(true)
+                .build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            try (Socket socket = new Socket("localhost", PORT)) {
+                socket.getOutputStream().write(1);
+
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+                // the heap buffers are not scatter read
+                assertFalse(isScatterRead.get());
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+}
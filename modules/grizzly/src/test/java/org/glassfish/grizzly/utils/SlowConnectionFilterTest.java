@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.nio.ConnectionStatistics;
+import org.glassfish.grizzly.nio.NIOConnection;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.junit.Test;
+
+/**
+ * Test {@link ConnectionStatistics} and {@link SlowConnectionFilter}.
+ */
+public class SlowConnectionFilterTest {
+    public static final int PORT = 7681;
+
+    @Test
+    public void testStatistics() throws Exception {
+        final AtomicReference<Connection> serverConnection = new AtomicReference<>();
+        final CountDownLatch readLatch = new CountDownLatch(1);
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            private int received;
+
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                received += buffer.remaining();
+                buffer.tryDispose();
+                if (received == 8192) {
+                    serverConnection.set(ctx.getConnection());
+                    readLatch.countDown();
+                }
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setConnectionStatisticsEnabled(true).build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            try (Socket socket = new Socket("localhost", PORT)) {
+                final OutputStream os = socket.getOutputStream();
+                os.write(new byte[8192]);
+                os.flush();
+
+                assertTrue(readLatch.await(10, TimeUnit.SECONDS));
+                final ConnectionStatistics statistics = ((NIOConnection) serverConnection.get()).getStatistics();
+                assertNotNull(statistics);
+                assertEquals(8192, statistics.getBytesRead());
+                assertEquals(0, statistics.getBytesWritten());
+                assertEquals(0, statistics.getWriteQueueSize());
+                assertEquals(0, statistics.getWriteQueueAge(TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSlowReaderDetected() throws Exception {
+        final AtomicReference<Connection> serverConnection = new AtomicReference<>();
+        final AtomicReference<ConnectionStatistics> slowStatistics = new AtomicReference<>();
+        final CountDownLatch slowLatch = new CountDownLatch(1);
+
+        final DelayedExecutor executor = SlowConnectionFilter.createDefaultDelayedExecutor(200, TimeUnit.MILLISECONDS);
+        executor.start();
+        final SlowConnectionFilter slowConnectionFilter = new SlowConnectionFilter(executor, 1024 * 1024, 1, TimeUnit.SECONDS,
+                new SlowConnectionFilter.SlowConnectionHandler() {
+
+                    @Override
+                    public void onSlowConnection(final Connection connection, final ConnectionStatistics statistics) {
+                        slowStatistics.set(statistics);
+                        slowLatch.countDown();
+                        SlowConnectionFilter.CLOSE.onSlowConnection(connection, statistics);
+                    }
+                });
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(slowConnectionFilter);
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleAccept(final FilterChainContext ctx) throws IOException {
+                serverConnection.set(ctx.getConnection());
+                // flood the client, which never reads
+                for (int i = 0; i < 128; i++) {
+                    ctx.write(Buffers.wrap(ctx.getMemoryManager(), new byte[65536]));
+                }
+                return ctx.getInvokeAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.getAsyncQueueIO().getWriter().setMaxPendingBytesPerConnection(-1);
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            try (Socket socket = new Socket()) {
+                socket.setReceiveBufferSize(4096);
+                socket.connect(new InetSocketAddress("localhost", PORT));
+
+                assertTrue(slowLatch.await(10, TimeUnit.SECONDS));
+                final ConnectionStatistics statistics = slowStatistics.get();
+                assertTrue(statistics.getWriteRate() < 1024 * 1024);
+                assertTrue(statistics.getWriteQueueAge(TimeUnit.MILLISECONDS) >= 1000);
+                assertTrue(statistics.getBytesWritten() < 128 * 65536);
+                assertTrue(statistics.getWriteBlockedTime(TimeUnit.MILLISECONDS) > 0);
+
+                final long deadline = System.currentTimeMillis() + 5000;
+                while (serverConnection.get().isOpen() && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertFalse(serverConnection.get().isOpen());
+            }
+        } finally {
+            executor.stop();
+            executor.destroy();
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIdleConnectionAfterBurstNotClosed() throws Exception {
+        final AtomicReference<Connection> serverConnection = new AtomicReference<>();
+        final CountDownLatch slowLatch = new CountDownLatch(1);
+        final int burstSize = 16 * 65536;
+
+        final DelayedExecutor executor = SlowConnectionFilter.createDefaultDelayedExecutor(100, TimeUnit.MILLISECONDS);
+        executor.start();
+        // the grace period is shorter than the idle time, so the stale queue timestamp would make the connection slow
+        final SlowConnectionFilter slowConnectionFilter = new SlowConnectionFilter(executor, 1024 * 1024 * 1024, 300, TimeUnit.MILLISECONDS,
+                new SlowConnectionFilter.SlowConnectionHandler() {
+
+                    @Override
+                    public void onSlowConnection(final Connection connection, final ConnectionStatistics statistics) {
+                        slowLatch.countDown();
+                        SlowConnectionFilter.CLOSE.onSlowConnection(connection, statistics);
+                    }
+                });
+
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(slowConnectionFilter);
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleAccept(final FilterChainContext ctx) throws IOException {
+                serverConnection.set(ctx.getConnection());
+                // the burst the client reads completely
+                for (int i = 0; i < 16; i++) {
+                    ctx.write(Buffers.wrap(ctx.getMemoryManager(), new byte[65536]));
+                }
+                return ctx.getInvokeAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.getAsyncQueueIO().getWriter().setMaxPendingBytesPerConnection(-1);
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            try (Socket socket = new Socket("localhost", PORT)) {
+                socket.setSoTimeout(10000);
+                final InputStream is = socket.getInputStream();
+                final byte[] buf = new byte[8192];
+                int received = 0;
+                while (received < burstSize) {
+                    final int len = is.read(buf);
+                    assertTrue(len > 0);
+                    received += len;
+                }
+
+                final ConnectionStatistics statistics = ((NIOConnection) serverConnection.get()).getStatistics();
+                final long deadline = System.currentTimeMillis() + 5000;
+                while (statistics.getBytesWritten() < burstSize && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+
+                // stay idle for several grace periods
+                assertFalse(slowLatch.await(1500, TimeUnit.MILLISECONDS));
+                assertEquals(0, statistics.getWriteQueueSize());
+                assertEquals(0, statistics.getWriteQueueAge(TimeUnit.MILLISECONDS));
+                assertTrue(serverConnection.get().isOpen());
+            }
+        } finally {
+            executor.stop();
+            executor.destroy();
+            transport.shutdownNow();
+        }
+    }
+}
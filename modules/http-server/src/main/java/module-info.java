@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,7 +23,9 @@ module org.glassfish.grizzly.http.server {
     exports org.glassfish.grizzly.http.server.http2;
     exports org.glassfish.grizzly.http.server.io;
     exports org.glassfish.grizzly.http.server.jmxbase;
+    exports org.glassfish.grizzly.http.server.metrics;
     exports org.glassfish.grizzly.http.server.naming;
+    exports org.glassfish.grizzly.http.server.ratelimit;
     exports org.glassfish.grizzly.http.server.util;
 
     opens org.glassfish.grizzly.http.server;
@@ -31,10 +34,15 @@ module org.glassfish.grizzly.http.server {
     opens org.glassfish.grizzly.http.server.http2;
     opens org.glassfish.grizzly.http.server.io;
     opens org.glassfish.grizzly.http.server.jmxbase;
+    opens org.glassfish.grizzly.http.server.metrics;
     opens org.glassfish.grizzly.http.server.naming;
+    opens org.glassfish.grizzly.http.server.ratelimit;
     opens org.glassfish.grizzly.http.server.util;
     
     requires java.logging;
     requires org.glassfish.grizzly.http;
     requires org.glassfish.grizzly;
+
+    uses org.glassfish.grizzly.http.ContentEncodingProvider;
+    uses org.glassfish.grizzly.http.server.metrics.LatencyMetricsExporter;
 }
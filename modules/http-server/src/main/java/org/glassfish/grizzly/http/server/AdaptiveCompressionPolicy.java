@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import org.glassfish.grizzly.threadpool.ThreadPoolInfo;
+import org.glassfish.grizzly.threadpool.ThreadPoolProbe;
+
+/**
+ * The adaptive response compression policy, which chooses the compression level per response based on the recent
+ * worker thread pool utilization, the response size and the response content-type.
+ *
+ * The policy is a {@link ThreadPoolProbe}, which tracks the number of busy worker threads and the worker thread pool
+ * queue size. The worker load is calculated as the number of busy and queued tasks divided by the max thread pool size:
+ * <ul>
+ * <li>if the load doesn't exceed the <tt>lowLoadThreshold</tt>, the <tt>maxCompressionLevel</tt> is used;</li>
+ * <li>if the load reaches the <tt>highLoadThreshold</tt>, the <tt>minCompressionLevel</tt> is used and the responses,
+ * which content-type is only marginally compressible, are not compressed at all;</li>
+ * <li>in between, the compression level is interpolated linearly.</li>
+ * </ul>
+ * The responses, which content-length is known and is not smaller than <tt>largeResponseSize</tt>, never use a
+ * compression level higher than the midpoint between the min and max levels.
+ *
+ * The compression level is applied by the content-encodings, which support the level tuning, like gzip. If the policy
+ * is not registered as a worker thread pool probe (for example if the transport doesn't use the worker
+ * thread pool), the load is considered to be zero.
+ *
+ * @see NetworkListener#setCompressionPolicy(AdaptiveCompressionPolicy)
+ */
+public class AdaptiveCompressionPolicy extends ThreadPoolProbe.Adapter {
+    private static final String[] DEFAULT_MARGINALLY_COMPRESSIBLE_MIME_TYPES = { "application/octet-stream", "application/pdf", "font/" };
+
+    private final AtomicInteger busyTasks = new AtomicInteger();
+    private volatile ThreadPoolInfo threadPool;
+
+    private volatile int minCompressionLevel = Deflater.BEST_SPEED;
+    private volatile int maxCompressionLevel = 6;
+    private volatile float lowLoadThreshold = 0.5f;
+    private volatile float highLoadThreshold = 0.9f;
+    private volatile long largeResponseSize = 1024 * 1024;
+    private volatile String[] marginallyCompressibleMimeTypes = DEFAULT_MARGINALLY_COMPRESSIBLE_MIME_TYPES;
+
+    /**
+     * Returns <tt>true</tt> if the response with the given content-type may be compressed under the current worker load,
+     * or <tt>false</tt> if the worker load is high and the content-type is only marginally compressible.
+     *
+     * @param contentType the response content-type, might be <tt>null</tt>
+     */
+    public boolean isCompressionAllowed(final String contentType) {
+        if (contentType == null || getLoad() < highLoadThreshold) {
+            return true;
+        }
+
+        for (String mimeType : marginallyCompressibleMimeTypes) {
+            if (contentType.startsWith(mimeType)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the compression level to be used for the response with the given content-length under the current worker
+     * load.
+     *
+     * @param contentLength the response content-length, or <tt>-1</tt> if unknown
+     */
+    public int getCompressionLevel(final long contentLength) {
+        final int minLevel = minCompressionLevel;
+        int maxLevel = maxCompressionLevel;
+        if (contentLength >= largeResponseSize) {
+            maxLevel = (minLevel + maxLevel) / 2;
+        }
+
+        final float low = lowLoadThreshold;
+        final float high = highLoadThreshold;
+        final float load = getLoad();
+        if (load <= low) {
+            return maxLevel;
+        }
+
+        if (load >= high) {
+            return minLevel;
+        }
+
+        return maxLevel - Math.round((maxLevel - minLevel) * (load - low) / (high - low));
+    }
+
+    /**
+     * @return the current worker load: the number of busy and queued worker tasks divided by the max worker thread pool
+     * size, or <tt>0</tt> if the worker thread pool is unknown
+     */
+    public float getLoad() {
+        final ThreadPoolInfo localThreadPool = threadPool;
+        if (localThreadPool == null) {
+            return 0;
+        }
+
+        final int maxPoolSize = localThreadPool.getConfig().getMaxPoolSize();
+        if (maxPoolSize <= 0) {
+            return 0;
+        }
+
+        return (float) (Math.max(busyTasks.get(), 0) + localThreadPool.getQueueSize()) / maxPoolSize;
+    }
+
+    /**
+     * @return the compression level used when the worker load is high, <tt>1</tt> by default
+     */
+    public int getMinCompressionLevel() {
+        return minCompressionLevel;
+    }
+
+    /**
+     * Sets the compression level used when the worker load is high.
+     *
+     * @param minCompressionLevel the compression level (1-9)
+     */
+    public void setMinCompressionLevel(final int minCompressionLevel) {
+        this.minCompressionLevel = checkCompressionLevel(minCompressionLevel);
+    }
+
+    /**
+     * @return the compression level used when the worker load is low, <tt>6</tt> by default
+     */
+    public int getMaxCompressionLevel() {
+        return maxCompressionLevel;
+    }
+
+    /**
+     * Sets the compression level used when the worker load is low.
+     *
+     * @param maxCompressionLevel the compression level (1-9)
+     */
+    public void setMaxCompressionLevel(final int maxCompressionLevel) {
+        this.maxCompressionLevel = checkCompressionLevel(maxCompressionLevel);
+    }
+
+    /**
+     * @return the worker load, up to which the max compression level is used, <tt>0.5</tt> by default
+     */
+    public float getLowLoadThreshold() {
+        return lowLoadThreshold;
+    }
+
+    /**
+     * Sets the worker load, up to which the max compression level is used.
+     *
+     * @param lowLoadThreshold the worker load
+     */
+    public void setLowLoadThreshold(final float lowLoadThreshold) {
+        this.lowLoadThreshold = lowLoadThreshold;
+    }
+
+    /**
+     * @return the worker load, starting from which the min compression level is used and the marginally compressible
+     * responses are not compressed, <tt>0.9</tt> by default
+     */
+    public float getHighLoadThreshold() {
+        return highLoadThreshold;
+    }
+
+    /**
+     * Sets the worker load, starting from which the min compression level is used and the marginally compressible
+     * responses are not compressed.
+     *
+     * @param highLoadThreshold the worker load
+     */
+    public void setHighLoadThreshold(final float highLoadThreshold) {
+        this.highLoadThreshold = highLoadThreshold;
+    }
+
+    /**
+     * @return the response content-length, starting from which the compression level is capped by the midpoint between
+     * the min and max compression levels, 1M by default
+     */
+    public long getLargeResponseSize() {
+        return largeResponseSize;
+    }
+
+    /**
+     * Sets the response content-length, starting from which the compression level is capped by the midpoint between the
+     * min and max compression levels.
+     *
+     * @param largeResponseSize the response content-length in bytes
+     */
+    public void setLargeResponseSize(final long largeResponseSize) {
+        this.largeResponseSize = largeResponseSize;
+    }
+
+    /**
+     * @return the mime-type prefixes of the responses, which are not compressed when the worker load is high
+     */
+    public String[] getMarginallyCompressibleMimeTypes() {
+        return marginallyCompressibleMimeTypes.clone();
+    }
+
+    /**
+     * Sets the mime-type prefixes of the responses, which are not compressed when the worker load is high.
+     *
+     * @param marginallyCompressibleMimeTypes the mime-type prefixes
+     */
+    public void setMarginallyCompressibleMimeTypes(final String... marginallyCompressibleMimeTypes) {
+        this.marginallyCompressibleMimeTypes = marginallyCompressibleMimeTypes != null ? marginallyCompressibleMimeTypes.clone() : new String[0];
+    }
+
+    // ---------------------------------------------------- ThreadPoolProbe
+
+    @Override
+    public void onThreadPoolStartEvent(final ThreadPoolInfo threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public void onTaskDequeueEvent(final ThreadPoolInfo threadPool, final Runnable task) {
+        if (this.threadPool == null) {
+            // the probe has been registered after the thread pool was started
+            this.threadPool = threadPool;
+        }
+
+        busyTasks.incrementAndGet();
+    }
+
+    @Override
+    public void onTaskCancelEvent(final ThreadPoolInfo threadPool, final Runnable task) {
+        busyTasks.decrementAndGet();
+    }
+
+    @Override
+    public void onTaskCompleteEvent(final ThreadPoolInfo threadPool, final Runnable task) {
+        busyTasks.decrementAndGet();
+    }
+
+    private static int checkCompressionLevel(final int compressionLevel) {
+        if (compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+
+        return compressionLevel;
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,8 @@ package org.glassfish.grizzly.http.server;
 
 import java.util.Arrays;
 
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.attributes.Attribute;
 import org.glassfish.grizzly.http.CompressionConfig;
 import org.glassfish.grizzly.http.CompressionConfig.CompressionMode;
 import org.glassfish.grizzly.http.CompressionConfig.CompressionModeI;
@@ -30,12 +33,31 @@ import org.glassfish.grizzly.http.util.Header;
 import org.glassfish.grizzly.http.util.MimeHeaders;
 
 public class CompressionEncodingFilter implements EncodingFilter {
+    private static final Attribute<Integer> COMPRESSION_LEVEL_ATTR = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(CompressionEncodingFilter.class.getName() + ".compression-level");
+
     private final CompressionConfig compressionConfig;
     private final String[] aliases;
+    private final AdaptiveCompressionPolicy compressionPolicy;
 
     public CompressionEncodingFilter(final CompressionConfig compressionConfig, final String[] aliases) {
+        this(compressionConfig, aliases, null);
+    }
+
+    /**
+     * Creates a new CompressionEncodingFilter, which chooses the compression level per response using the given
+     * {@link AdaptiveCompressionPolicy}.
+     *
+     * @param compressionConfig the {@link CompressionConfig}
+     * @param aliases aliases for the compression name as defined in the accept-encoding header of the request.
+     * @param compressionPolicy the {@link AdaptiveCompressionPolicy}, or <tt>null</tt> to always use the
+     * content-encoding's configured compression level
+     */
+    public CompressionEncodingFilter(final CompressionConfig compressionConfig, final String[] aliases,
+            final AdaptiveCompressionPolicy compressionPolicy) {
         this.compressionConfig = new CompressionConfig(compressionConfig);
         this.aliases = Arrays.copyOf(aliases, aliases.length);
+        this.compressionPolicy = compressionPolicy;
     }
 
     /**
@@ -86,6 +108,7 @@ public class CompressionEncodingFilter implements EncodingFilter {
         compressionConfig.setNoCompressionUserAgents(noCompressionUserAgents);
 
         this.aliases = Arrays.copyOf(aliases, aliases.length);
+        this.compressionPolicy = null;
     }
 
     @Override
@@ -96,7 +119,33 @@ public class CompressionEncodingFilter implements EncodingFilter {
         }
 
         assert httpPacket instanceof HttpResponsePacket;
-        return canCompressHttpResponse((HttpResponsePacket) httpPacket, compressionConfig, aliases);
+        final HttpResponsePacket response = (HttpResponsePacket) httpPacket;
+        if (compressionPolicy == null) {
+            return canCompressHttpResponse(response, compressionConfig, aliases);
+        }
+
+        if (!compressionPolicy.isCompressionAllowed(response.getContentType())) {
+            return false;
+        }
+
+        // the content-length is reset, if the response is going to be compressed
+        final long contentLength = response.getContentLength();
+        if (!canCompressHttpResponse(response, compressionConfig, aliases)) {
+            return false;
+        }
+
+        COMPRESSION_LEVEL_ATTR.set(response, compressionPolicy.getCompressionLevel(contentLength));
+        return true;
+    }
+
+    @Override
+    public int getCompressionLevel(final HttpHeader httpPacket) {
+        if (compressionPolicy == null) {
+            return DEFAULT_COMPRESSION_LEVEL;
+        }
+
+        final Integer compressionLevel = COMPRESSION_LEVEL_ATTR.get(httpPacket);
+        return compressionLevel != null ? compressionLevel : DEFAULT_COMPRESSION_LEVEL;
     }
 
     @Override
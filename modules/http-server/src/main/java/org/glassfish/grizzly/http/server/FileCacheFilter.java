@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,7 +20,9 @@ package org.glassfish.grizzly.http.server;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,8 +44,11 @@ import org.glassfish.grizzly.http.Method;
 import org.glassfish.grizzly.http.server.filecache.FileCache;
 import org.glassfish.grizzly.http.server.filecache.FileCache.CacheType;
 import org.glassfish.grizzly.http.server.filecache.FileCacheEntry;
+import org.glassfish.grizzly.http.server.util.ByteRanges;
 import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.http.util.HttpStatus;
 import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.MemoryManager;
 
 /**
  *
@@ -71,6 +77,12 @@ public class FileCacheFilter extends BaseFilter {
             final FileCacheEntry cacheEntry = fileCache.get(request);
             if (cacheEntry != null) {
                 final HttpResponsePacket response = request.getResponse();
+                final List<ByteRanges.Range> ranges = response.getStatus() == 200 ? resolveRanges(cacheEntry, request) : null;
+                if (ranges != null && ranges.size() > 1 && cacheEntry.type == CacheType.FILE) {
+                    // let the static handler serve multipart/byteranges for the file-based entry
+                    return ctx.getInvokeAction();
+                }
+
                 prepareResponse(cacheEntry, response);
 
                 if (response.getStatus() != 200) {
@@ -80,6 +92,10 @@ public class FileCacheFilter extends BaseFilter {
                     return flush(ctx);
                 }
 
+                if (ranges != null) {
+                    return sendRanges(ctx, response, cacheEntry, ranges);
+                }
+
                 // check if we can send plain or compressed data back.
                 // depends on client request headers and file cache entry
                 final boolean isServeCompressed = cacheEntry.canServeCompressed(request);
@@ -127,6 +143,7 @@ public class FileCacheFilter extends BaseFilter {
     private void prepareResponseWithPayload(final FileCacheEntry entry, final HttpResponsePacket response, final boolean isServeCompressed) throws IOException {
         response.addHeader(Header.ETag, entry.Etag);
         response.addHeader(Header.LastModified, entry.lastModifiedHeader);
+        response.addHeader(Header.AcceptRanges, ByteRanges.BYTES_UNIT);
 
         response.setContentLengthLong(entry.getFileSize(isServeCompressed));
 
@@ -135,11 +152,99 @@ public class FileCacheFilter extends BaseFilter {
         }
     }
 
+    /**
+     * Resolves the byte ranges requested by the {@link HttpRequestPacket}.
+     *
+     * @return the list of satisfiable ranges, an empty list if the ranges couldn't be satisfied, or <tt>null</tt> if the
+     * entire entry has to be sent
+     */
+    private static List<ByteRanges.Range> resolveRanges(final FileCacheEntry entry, final HttpRequestPacket request) {
+        final String rangeHeader = request.getHeader(Header.Range);
+        if (rangeHeader == null || !ByteRanges.isIfRangeSatisfied(request.getHeader(Header.IfRange), entry.Etag, entry.lastModified)) {
+            return null;
+        }
+
+        return ByteRanges.parse(rangeHeader, entry.getFileSize(false));
+    }
+
+    /**
+     * Sends the <tt>206</tt> (or <tt>416</tt>) response, ranges are always served from the uncompressed entry
+     * representation. For the {@link ByteBuffer} based entries the payload is sliced without copying.
+     */
+    private NextAction sendRanges(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry entry,
+            final List<ByteRanges.Range> ranges) throws IOException {
+        final long length = entry.getFileSize(false);
+
+        response.addHeader(Header.ETag, entry.Etag);
+        response.addHeader(Header.LastModified, entry.lastModifiedHeader);
+        response.addHeader(Header.AcceptRanges, ByteRanges.BYTES_UNIT);
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpStatus.REQUEST_RANGE_NOT_SATISFIABLE_416);
+            response.setHeader(Header.ContentRange, ByteRanges.unsatisfiedContentRange(length));
+            response.setContentLengthLong(0);
+            ctx.write(HttpContent.builder(response).content(Buffers.EMPTY_BUFFER).last(true).build());
+
+            return flush(ctx);
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT_206);
+
+        if (ranges.size() == 1) {
+            final ByteRanges.Range range = ranges.get(0);
+            response.setHeader(Header.ContentRange, ByteRanges.contentRange(range, length));
+            response.setContentLengthLong(range.getLength());
+
+            if (entry.type != CacheType.FILE) {
+                final Buffer buffer = Buffers.wrap(ctx.getMemoryManager(), slice(entry.getByteBuffer(false), range));
+                ctx.write(HttpContent.builder(response).content(buffer).last(true).build());
+
+                return flush(ctx);
+            }
+
+            return fileCache.isFileSendEnabled() && !response.getRequest().isSecure()
+                    ? sendFileZeroCopy(ctx, response, entry, false, range.getFirst(), range.getLength())
+                    : sendFileUsingBuffers(ctx, response, entry, false, range.getFirst(), range.getLength());
+        }
+
+        // multipart/byteranges, the entry is ByteBuffer based here
+        final MemoryManager mm = ctx.getMemoryManager();
+        final String boundary = ByteRanges.generateBoundary();
+        final String partContentType = response.getContentType();
+        response.setContentType(ByteRanges.multipartContentType(boundary));
+        response.setContentLengthLong(ByteRanges.multipartLength(boundary, partContentType, ranges, length));
+
+        final ByteBuffer bb = entry.getByteBuffer(false);
+        Buffer payload = null;
+        for (ByteRanges.Range range : ranges) {
+            payload = Buffers.appendBuffers(mm, payload, Buffers.wrap(mm, ByteRanges.partHeader(boundary, partContentType, range, length)));
+            payload = Buffers.appendBuffers(mm, payload, Buffers.wrap(mm, slice(bb, range)));
+        }
+        payload = Buffers.appendBuffers(mm, payload, Buffers.wrap(mm, ByteRanges.closeDelimiter(boundary)));
+
+        ctx.write(HttpContent.builder(response).content(payload).last(true).build());
+
+        return flush(ctx);
+    }
+
+    private static ByteBuffer slice(final ByteBuffer bb, final ByteRanges.Range range) {
+        final ByteBuffer slice = bb.duplicate();
+        final int base = slice.position();
+        slice.limit(base + (int) (range.getLast() + 1));
+        slice.position(base + (int) range.getFirst());
+
+        return slice;
+    }
+
     private NextAction sendFileUsingBuffers(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry cacheEntry,
             final boolean isServeCompressed) {
+        return sendFileUsingBuffers(ctx, response, cacheEntry, isServeCompressed, 0, cacheEntry.getFileSize(isServeCompressed));
+    }
+
+    private NextAction sendFileUsingBuffers(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry cacheEntry,
+            final boolean isServeCompressed, final long offset, final long length) {
         try {
-            final FileSendEntry sendEntry = FileSendEntry.create(ctx, response, cacheEntry.getFile(isServeCompressed),
-                    cacheEntry.getFileSize(isServeCompressed));
+            final FileSendEntry sendEntry = FileSendEntry.create(ctx, response, cacheEntry.getFile(isServeCompressed), offset, length);
 
             ctx.suspend();
             sendEntry.send();
@@ -153,12 +258,17 @@ public class FileCacheFilter extends BaseFilter {
 
     private NextAction sendFileZeroCopy(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry cacheEntry,
             final boolean isServeCompressed) {
+        return sendFileZeroCopy(ctx, response, cacheEntry, isServeCompressed, 0, cacheEntry.getFileSize(isServeCompressed));
+    }
+
+    private NextAction sendFileZeroCopy(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry cacheEntry,
+            final boolean isServeCompressed, final long offset, final long length) {
 
         // flush response
         ctx.write(response);
 
         // send-file
-        final FileTransfer f = new FileTransfer(cacheEntry.getFile(isServeCompressed), 0, cacheEntry.getFileSize(isServeCompressed));
+        final FileTransfer f = new FileTransfer(cacheEntry.getFile(isServeCompressed), offset, length);
         ctx.write(f, new EmptyCompletionHandler<WriteResult>() {
             @Override
             public void failed(Throwable throwable) {
@@ -211,14 +321,33 @@ public class FileCacheFilter extends BaseFilter {
         private final OutputSink output;
 
         private long remaining;
+        private long position;
+        // not null, if the file is served as mapped slices (TLS)
+        private MappedFileWindow mappedWindow;
 
         public static FileSendEntry create(final FilterChainContext ctx, final HttpResponsePacket response, final File file, final long size)
                 throws IOException {
+            return create(ctx, response, file, 0, size);
+        }
+
+        public static FileSendEntry create(final FilterChainContext ctx, final HttpResponsePacket response, final File file, final long offset,
+                final long size) throws IOException {
 
             final FileInputStream fis = new FileInputStream(file);
             final FileChannel fc = fis.getChannel();
+            if (offset > 0) {
+                fc.position(offset);
+            }
+
+            final FileSendEntry sendEntry = new FileSendEntry(ctx, response, fis, fc, size);
+            sendEntry.position = offset;
+            if (response.getRequest().isSecure()) {
+                // the file can't be transferred directly over TLS, but it could be passed to the SSLEngine as mapped
+                // slices without copying it to the heap buffers first
+                sendEntry.mappedWindow = new MappedFileWindow(fc, ctx.getMemoryManager());
+            }
 
-            return new FileSendEntry(ctx, response, fis, fc, size);
+            return sendEntry;
         }
 
         public FileSendEntry(final FilterChainContext ctx, final HttpResponsePacket response, final FileInputStream fis, final FileChannel fc,
@@ -243,18 +372,28 @@ public class FileCacheFilter extends BaseFilter {
         }
 
         private void send() {
-            final int chunkSize = 8192;
+            final int chunkSize = mappedWindow != null ? MappedFileWindow.DEFAULT_SLICE_SIZE : 8192;
 
             try {
                 boolean isLast;
                 do {
-                    final Buffer buffer = ctx.getMemoryManager().allocate(chunkSize);
-                    buffer.allowBufferDispose(true);
+                    final Buffer buffer;
+                    final long readNow;
+                    if (mappedWindow != null) {
+                        final Buffer slice = mappedWindow.slice(position, Math.min(chunkSize, remaining));
+                        buffer = slice != null ? slice : Buffers.EMPTY_BUFFER;
+                        readNow = slice != null ? slice.remaining() : -1;
+                    } else {
+                        buffer = ctx.getMemoryManager().allocate(remaining > 0 ? (int) Math.min(chunkSize, remaining) : chunkSize);
+                        buffer.allowBufferDispose(true);
+
+                        readNow = Buffers.readFromFileChannel(fc, buffer);
+                        buffer.trim();
+                    }
 
-                    final long readNow = Buffers.readFromFileChannel(fc, buffer);
                     isLast = readNow <= 0 || (remaining -= readNow) <= 0;
+                    position += Math.max(readNow, 0);
 
-                    buffer.trim();
                     ctx.write(HttpContent.builder(response).content(buffer).last(isLast).build());
 
                 } while (!isLast && output.canWrite());
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,11 +20,16 @@ package org.glassfish.grizzly.http.server;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -49,10 +55,12 @@ import org.glassfish.grizzly.filterchain.TransportFilter;
 import org.glassfish.grizzly.http.CompressionConfig;
 import org.glassfish.grizzly.http.CompressionConfig.CompressionMode;
 import org.glassfish.grizzly.http.ContentEncoding;
+import org.glassfish.grizzly.http.ContentEncodingProvider;
 import org.glassfish.grizzly.http.GZipContentEncoding;
 import org.glassfish.grizzly.http.LZMAContentEncoding;
 import org.glassfish.grizzly.http.server.filecache.FileCache;
 import org.glassfish.grizzly.http.server.jmxbase.JmxEventListener;
+import org.glassfish.grizzly.http.server.metrics.RequestLatencyMonitor;
 import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.jmxbase.GrizzlyJmxManager;
 import org.glassfish.grizzly.memory.MemoryProbe;
@@ -62,6 +70,7 @@ import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.ssl.SSLBaseFilter;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
+import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
 import org.glassfish.grizzly.threadpool.DefaultWorkerThread;
 import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
 import org.glassfish.grizzly.threadpool.ThreadPoolProbe;
@@ -183,6 +192,10 @@ public class HttpServer {
 
         final NetworkListener listener = listeners.remove(name);
         if (listener != null) {
+            if (listener.getLatencyMonitor() != null) {
+                listener.getLatencyMonitor().setQueueWaitProbeRegistered(false);
+            }
+
             if (listener.isStarted()) {
                 try {
                     listener.shutdownNow();
@@ -618,6 +631,14 @@ public class HttpServer {
 
             httpServerFilter.getMonitoringConfig().addProbes(serverConfig.getMonitoringConfig().getWebServerConfig().getProbes());
 
+            final RequestLatencyMonitor latencyMonitor = listener.getLatencyMonitor();
+            if (latencyMonitor != null) {
+                latencyMonitor.setServerConfiguration(serverConfig);
+                latencyMonitor.setQueueWaitProbeRegistered(transport.getIOStrategy() instanceof WorkerThreadIOStrategy);
+                httpServerCodecFilter.getMonitoringConfig().addProbes(latencyMonitor.getHttpProbe());
+                httpServerFilter.getMonitoringConfig().addProbes(latencyMonitor.getHttpServerProbe());
+            }
+
             builder.add(httpServerFilter);
 
             final AddOn[] addons = listener.getAddOnSet().getArray();
@@ -649,19 +670,70 @@ public class HttpServer {
         final CompressionConfig compressionConfig = listener.getCompressionConfig();
 
         if (compressionConfig.getCompressionMode() != CompressionMode.OFF) {
-            final ContentEncoding gzipContentEncoding = new GZipContentEncoding(GZipContentEncoding.DEFAULT_IN_BUFFER_SIZE,
-                    GZipContentEncoding.DEFAULT_OUT_BUFFER_SIZE, new CompressionEncodingFilter(compressionConfig, GZipContentEncoding.getGzipAliases()));
+            final List<ContentEncodingProvider> providers = loadContentEncodingProviders();
+
+            // unless the preference order is set explicitly, the built-in encodings go first
+            final CompressionConfig negotiationConfig = new CompressionConfig(compressionConfig);
+            if (negotiationConfig.getPreferredContentEncodings().isEmpty()) {
+                final List<String> names = new ArrayList<>(providers.size() + 2);
+                names.add(GZipContentEncoding.NAME);
+                names.add(LZMAContentEncoding.NAME);
+                for (ContentEncodingProvider provider : providers) {
+                    names.add(provider.getName());
+                }
+                negotiationConfig.setPreferredContentEncodings(names.toArray(new String[0]));
+            }
+
+            final AdaptiveCompressionPolicy compressionPolicy = listener.getCompressionPolicy();
+            if (compressionPolicy != null) {
+                listener.getTransport().getThreadPoolMonitoringConfig().addProbes(compressionPolicy);
+            }
+
+            final GZipContentEncoding gzipContentEncoding = new GZipContentEncoding(GZipContentEncoding.DEFAULT_IN_BUFFER_SIZE,
+                    GZipContentEncoding.DEFAULT_OUT_BUFFER_SIZE,
+                    new CompressionEncodingFilter(negotiationConfig, GZipContentEncoding.getGzipAliases(), compressionPolicy));
+            gzipContentEncoding.setMaxDecodedSize(compressionConfig.getDecompressionMaxSize());
+            gzipContentEncoding.setMaxDecodingRatio(compressionConfig.getDecompressionMaxRatio());
             final ContentEncoding lzmaEncoding = new LZMAContentEncoding(
-                    new CompressionEncodingFilter(compressionConfig, LZMAContentEncoding.getLzmaAliases()));
-            final Set<ContentEncoding> set = new HashSet<>(2);
+                    new CompressionEncodingFilter(negotiationConfig, LZMAContentEncoding.getLzmaAliases(), compressionPolicy));
+            final Set<ContentEncoding> set = new LinkedHashSet<>(providers.size() + 2);
             set.add(gzipContentEncoding);
             set.add(lzmaEncoding);
+            for (ContentEncodingProvider provider : providers) {
+                set.add(provider.createContentEncoding(new CompressionEncodingFilter(negotiationConfig, provider.getAliases(), compressionPolicy), compressionConfig));
+            }
             return set;
         } else {
             return Collections.emptySet();
         }
     }
 
+    /**
+     * Discovers the {@link ContentEncodingProvider}s registered via {@link ServiceLoader}. The providers, which names clash
+     * with the built-in or previously discovered encodings, are ignored.
+     */
+    private static List<ContentEncodingProvider> loadContentEncodingProviders() {
+        final List<ContentEncodingProvider> providers = new ArrayList<>(2);
+        final Set<String> names = new HashSet<>();
+        names.add(GZipContentEncoding.NAME);
+        names.add(LZMAContentEncoding.NAME);
+
+        try {
+            for (ContentEncodingProvider provider : ServiceLoader.load(ContentEncodingProvider.class, HttpServer.class.getClassLoader())) {
+                if (names.add(provider.getName())) {
+                    providers.add(provider);
+                } else if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Content-encoding provider {0} is ignored, because the {1} content-encoding is already registered",
+                            new Object[] { provider.getClass().getName(), provider.getName() });
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            LOGGER.log(Level.WARNING, "Failed to load the content-encoding providers", e);
+        }
+
+        return providers;
+    }
+
     @SuppressWarnings("unchecked")
     private void configureMonitoring(final NetworkListener listener) {
         final TCPNIOTransport transport = listener.getTransport();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -75,6 +75,7 @@ public class HttpServerFilter extends BaseFilter implements MonitoringAware<Http
     /**
      * Delay queue to control suspended request/response processing timeouts
      */
+    private final DelayedExecutor delayedExecutor;
     private final DelayedExecutor.DelayQueue<Response.SuspendTimeout> suspendedResponseQueue;
 
     /**
@@ -118,6 +119,7 @@ public class HttpServerFilter extends BaseFilter implements MonitoringAware<Http
 
     public HttpServerFilter(final ServerFilterConfiguration config, final DelayedExecutor delayedExecutor) {
         this.config = config;
+        this.delayedExecutor = delayedExecutor;
         suspendedResponseQueue = Response.createDelayQueue(delayedExecutor);
         httpRequestInProgress = Grizzly.DEFAULT_ATTRIBUTE_BUILDER.createAttribute("HttpServerFilter.Request");
     }
@@ -135,6 +137,13 @@ public class HttpServerFilter extends BaseFilter implements MonitoringAware<Http
         return config;
     }
 
+    /**
+     * @return the {@link DelayedExecutor}, which is used to expire the suspended responses
+     */
+    public DelayedExecutor getDelayedExecutor() {
+        return delayedExecutor;
+    }
+
     // ----------------------------------------------------- Methods from Filter
 
     @SuppressWarnings({ "unchecked", "ReturnInsideFinallyBlock" })
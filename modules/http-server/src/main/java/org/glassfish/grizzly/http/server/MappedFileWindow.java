@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.MemoryManager;
+
+/**
+ * Maps a file into memory using bounded windows and returns the window slices wrapped as {@link Buffer}s, so the file
+ * content can be passed down the filter chain (for example to {@link javax.net.ssl.SSLEngine#wrap}) without copying it
+ * to intermediate heap buffers. Used to serve static files over TLS, where
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)} can't be used.
+ *
+ * The windows are not unmapped explicitly, the returned slices might still be referenced by the queued writes (for
+ * example by the HTTP/2 flow control queue), so each window is unmapped by the garbage collector once all its slices
+ * are written. Same as for the {@link org.glassfish.grizzly.http.server.filecache.FileCache} mapped entries, the file
+ * must not be truncated while it's served.
+ */
+final class MappedFileWindow {
+    /**
+     * The default max size of the file region mapped at once.
+     */
+    static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+
+    /**
+     * The default size of the slice, which is written at once. It's a multiple of the max TLS record size.
+     */
+    static final int DEFAULT_SLICE_SIZE = 64 * 1024;
+
+    private final FileChannel fileChannel;
+    private final MemoryManager mm;
+    private final int windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    MappedFileWindow(final FileChannel fileChannel, final MemoryManager mm) {
+        this(fileChannel, mm, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileWindow(final FileChannel fileChannel, final MemoryManager mm, final int windowSize) {
+        this.fileChannel = fileChannel;
+        this.mm = mm;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the {@link Buffer}, which wraps a read-only slice of the file starting at the given position. The returned
+     * slice never crosses the mapped window boundary, so it might be shorter than requested.
+     *
+     * The file size is checked on every call, so the slice doesn't cover the part of the file, which is known to be
+     * truncated since the window was mapped.
+     *
+     * @param position the file position
+     * @param maxLength the max number of bytes to return
+     * @return the {@link Buffer} wrapping the mapped file content, or <tt>null</tt> if the position is beyond the end of
+     * the file
+     */
+    Buffer slice(final long position, final long maxLength) throws IOException {
+        final long fileSize = fileChannel.size();
+        if (position >= fileSize || maxLength <= 0) {
+            return null;
+        }
+
+        if (window == null || position < windowStart || position >= windowStart + window.capacity()) {
+            window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, fileSize - position));
+            windowStart = position;
+        }
+
+        final int offset = (int) (position - windowStart);
+        final int length = (int) Math.min(Math.min(maxLength, window.capacity() - offset), fileSize - position);
+
+        final ByteBuffer slice = window.duplicate();
+        slice.limit(offset + length);
+        slice.position(offset);
+
+        return Buffers.wrap(mm, slice.slice());
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -49,6 +50,7 @@ import org.glassfish.grizzly.http.CompressionConfig.CompressionMode;
 import org.glassfish.grizzly.http.HttpCodecFilter;
 import org.glassfish.grizzly.http.KeepAlive;
 import org.glassfish.grizzly.http.server.filecache.FileCache;
+import org.glassfish.grizzly.http.server.metrics.RequestLatencyMonitor;
 import org.glassfish.grizzly.http.util.MimeHeaders;
 import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.monitoring.MonitoringUtils;
@@ -222,6 +224,16 @@ public class NetworkListener {
     private int maxRequestHeaders = MimeHeaders.MAX_NUM_HEADERS_DEFAULT;
     private int maxResponseHeaders = MimeHeaders.MAX_NUM_HEADERS_DEFAULT;
 
+    /**
+     * The request latency metrics, <tt>null</tt> if disabled.
+     */
+    private RequestLatencyMonitor latencyMonitor;
+
+    /**
+     * The adaptive response compression policy, <tt>null</tt> if disabled.
+     */
+    private AdaptiveCompressionPolicy compressionPolicy;
+
     // ------------------------------------------------------------ Constructors
 
     /**
@@ -699,6 +711,29 @@ public class NetworkListener {
         transport.getAsyncQueueIO().getWriter().setMaxPendingBytesPerConnection(maxPendingBytes);
     }
 
+    /**
+     * @return <code>true</code> if the listener opens one SO_REUSEPORT server socket per selector thread, otherwise
+     * <code>false</code>.
+     *
+     * @see TCPNIOTransport#isReusePortSharding()
+     */
+    public boolean isReusePortSharding() {
+        return transport.isReusePortSharding();
+    }
+
+    /**
+     * Enables or disables SO_REUSEPORT server socket sharding. If enabled, the listener binds one server socket per
+     * selector thread on the same port, the kernel load-balances incoming connections between them, and each selector
+     * thread accepts and serves its own connections. Must be set before the listener is started.
+     *
+     * @param reusePortSharding <code>true</code> to enable SO_REUSEPORT server socket sharding.
+     *
+     * @see TCPNIOTransport#setReusePortSharding(boolean)
+     */
+    public void setReusePortSharding(final boolean reusePortSharding) {
+        transport.setReusePortSharding(reusePortSharding);
+    }
+
     // ---------------------------------------------------------- Public Methods
 
     /**
@@ -824,6 +859,12 @@ public class NetworkListener {
         shutdownEvent = new ShutdownEvent(gracePeriod, timeUnit);
         state = State.STOPPING;
         shutdownFuture = Futures.createSafeFuture();
+        shutdownFuture.addCompletionHandler(new EmptyCompletionHandler<NetworkListener>() {
+            @Override
+            public void completed(final NetworkListener result) {
+                unregisterQueueWaitProbe();
+            }
+        });
         transport.shutdown(gracePeriod, timeUnit);
         return shutdownFuture;
     }
@@ -860,6 +901,7 @@ public class NetworkListener {
             }
         } finally {
             state = State.STOPPED;
+            unregisterQueueWaitProbe();
             if (shutdownFuture != null) {
                 shutdownFuture.result(this);
             }
@@ -976,6 +1018,26 @@ public class NetworkListener {
         return compressionConfig;
     }
 
+    /**
+     * @return the {@link AdaptiveCompressionPolicy}, which chooses the response compression level based on the worker
+     * load, or <tt>null</tt> if the compression level is static
+     */
+    public AdaptiveCompressionPolicy getCompressionPolicy() {
+        return compressionPolicy;
+    }
+
+    /**
+     * Sets the {@link AdaptiveCompressionPolicy}, which chooses the response compression level based on the worker load.
+     * The policy is registered as the transport worker thread pool probe. The change takes effect, when the listener is
+     * (re)configured by the {@link HttpServer} on start.
+     *
+     * @param compressionPolicy the {@link AdaptiveCompressionPolicy}, or <tt>null</tt> to use the static compression
+     * level
+     */
+    public void setCompressionPolicy(final AdaptiveCompressionPolicy compressionPolicy) {
+        this.compressionPolicy = compressionPolicy;
+    }
+
     /**
      * @deprecated use <tt>getCompressionConfig().getCompressionMode().name()</tt>
      */
@@ -1100,6 +1162,39 @@ public class NetworkListener {
         this.traceEnabled = traceEnabled;
     }
 
+    /**
+     * @return <tt>true</tt> if the request latency metrics are collected for this listener, or <tt>false</tt> otherwise
+     */
+    public boolean isLatencyMetricsEnabled() {
+        return latencyMonitor != null;
+    }
+
+    /**
+     * Enables or disables the request latency metrics collection for this listener. The change takes effect, when the
+     * listener is (re)configured by the {@link HttpServer} on start.
+     *
+     * @param latencyMetricsEnabled <tt>true</tt> to collect the request latency metrics, or <tt>false</tt> otherwise
+     */
+    public void setLatencyMetricsEnabled(final boolean latencyMetricsEnabled) {
+        if (latencyMetricsEnabled) {
+            if (latencyMonitor == null) {
+                latencyMonitor = new RequestLatencyMonitor(name);
+            }
+        } else {
+            unregisterQueueWaitProbe();
+            latencyMonitor = null;
+        }
+    }
+
+    /**
+     * @return the {@link RequestLatencyMonitor} collecting this listener's request latency metrics, or <tt>null</tt> if
+     * the metrics are disabled
+     * @see #setLatencyMetricsEnabled(boolean)
+     */
+    public RequestLatencyMonitor getLatencyMonitor() {
+        return latencyMonitor;
+    }
+
     public int getUploadTimeout() {
         return uploadTimeout;
     }
@@ -1191,6 +1286,17 @@ public class NetworkListener {
         return sendFileEnabled != null;
     }
 
+    /**
+     * The {@link org.glassfish.grizzly.strategies.WorkerThreadIOStrategy} queue wait probe is process-wide, so it's
+     * unregistered as soon as the listener is stopped.
+     */
+    private void unregisterQueueWaitProbe() {
+        final RequestLatencyMonitor monitor = latencyMonitor;
+        if (monitor != null) {
+            monitor.setQueueWaitProbeRegistered(false);
+        }
+    }
+
     private boolean isStopped() {
         return state == State.STOPPED || state == State.STOPPING;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -56,6 +56,7 @@ import org.glassfish.grizzly.http.io.InputBuffer;
 import org.glassfish.grizzly.http.io.NIOInputStream;
 import org.glassfish.grizzly.http.io.NIOReader;
 import org.glassfish.grizzly.http.server.http2.PushBuilder;
+import org.glassfish.grizzly.http.server.io.RequestBodyPublisher;
 import org.glassfish.grizzly.http.server.io.ServerInputBuffer;
 import org.glassfish.grizzly.http.server.util.DateTimeFormatters;
 import org.glassfish.grizzly.http.server.util.Globals;
@@ -258,6 +259,11 @@ public class Request {
      */
     protected boolean usingReader = false;
 
+    /**
+     * The request body {@link java.util.concurrent.Flow.Publisher}, if used.
+     */
+    private RequestBodyPublisher bodyPublisher;
+
     /**
      * User principal.
      */
@@ -556,6 +562,7 @@ public class Request {
         reader.recycle();
         usingInputStream = false;
         usingReader = false;
+        bodyPublisher = null;
         userPrincipal = null;
         subject = null;
         sessionParsed = false;
@@ -915,6 +922,39 @@ public class Request {
         return inputStream;
     }
 
+    /**
+     * <p>
+     * Return the {@link java.util.concurrent.Flow.Publisher}, which publishes this {@link Request} body as a sequence of
+     * {@link Buffer}s. The body is read from the network according to the subscriber's demand, see
+     * {@link RequestBodyPublisher} for the details.
+     * </p>
+     *
+     * <p>
+     * NOTE: the {@link Response} has to be suspended as long as the body is consumed asynchronously, and, similarly to
+     * {@link #getNIOInputStream()}, this method must be invoked before the {@link HttpHandler#service(Request, Response)}
+     * method returns.
+     * </p>
+     *
+     * @return the {@link RequestBodyPublisher} for this {@link Request}.
+     *
+     * @exception IllegalStateException if {@link #getReader()} or {@link #getNIOReader()} has already been called for this
+     * request.
+     *
+     * @see Response#setBodyPublisher(java.util.concurrent.Flow.Publisher)
+     */
+    public RequestBodyPublisher getBodyPublisher() {
+        if (usingReader) {
+            throw new IllegalStateException("Illegal attempt to call getBodyPublisher() after getReader() has already been called.");
+        }
+
+        usingInputStream = true;
+        if (bodyPublisher == null) {
+            bodyPublisher = new RequestBodyPublisher(inputBuffer);
+        }
+
+        return bodyPublisher;
+    }
+
 
     /**
      * @return <code>true</code> if this request requires acknowledgment.
@@ -1400,6 +1440,29 @@ public class Request {
 
     }
 
+    /**
+     * Return the value of the first cookie with the given name received with this Request. Unlike {@link #getCookies()},
+     * this method doesn't parse the cookies, which names don't match.
+     *
+     * @param name the cookie name
+     * @return the cookie value, or <tt>null</tt> if there is no cookie with the given name
+     */
+    public String getCookieValue(final String name) {
+        if (!cookiesParsed) {
+            return getRawCookies().findValueByName(name);
+        }
+
+        if (cookies != null) {
+            for (final Cookie cookie : cookies) {
+                if (name.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Set the set of cookies received with this Request.
      */
@@ -2079,13 +2142,9 @@ public class Request {
      * Parses the value of the JROUTE cookie, if present.
      */
     void parseJrouteCookie() {
-        if (!cookiesParsed) {
-            parseCookies();
-        }
-
-        final Cookie cookie = getRawCookies().findByName(Constants.JROUTE_COOKIE);
-        if (cookie != null) {
-            setJrouteId(cookie.getValue());
+        final String jrouteCookieValue = getCookieValue(Constants.JROUTE_COOKIE);
+        if (jrouteCookieValue != null) {
+            setJrouteId(jrouteCookieValue);
         }
     }
 
@@ -2187,16 +2246,10 @@ public class Request {
         session = null;
 
         if (requestedSessionId == null) {
-            final Cookie[] cookiesLocale = getCookies();
-            assert cookiesLocale != null;
-
-            final String sessionCookieNameLocal = obtainSessionCookieName();
-            for (final Cookie c : cookiesLocale) {
-                if (sessionCookieNameLocal.equals(c.getName())) {
-                    setRequestedSessionId(c.getValue());
-                    setRequestedSessionCookie(true);
-                    break;
-                }
+            final String sessionCookieValue = getCookieValue(obtainSessionCookieName());
+            if (sessionCookieValue != null) {
+                setRequestedSessionId(sessionCookieValue);
+                setRequestedSessionCookie(true);
             }
         }
 
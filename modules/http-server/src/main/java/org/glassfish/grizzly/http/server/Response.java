@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -32,10 +32,12 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.CloseListener;
 import org.glassfish.grizzly.CloseType;
 import org.glassfish.grizzly.Closeable;
@@ -52,6 +54,7 @@ import org.glassfish.grizzly.http.io.InputBuffer;
 import org.glassfish.grizzly.http.io.NIOOutputStream;
 import org.glassfish.grizzly.http.io.NIOWriter;
 import org.glassfish.grizzly.http.io.OutputBuffer;
+import org.glassfish.grizzly.http.server.io.ResponseBodySubscriber;
 import org.glassfish.grizzly.http.server.io.ServerOutputBuffer;
 import org.glassfish.grizzly.http.server.util.Globals;
 import org.glassfish.grizzly.http.server.util.HtmlHelper;
@@ -580,6 +583,45 @@ public class Response {
         return outputStream;
     }
 
+    /**
+     * <p>
+     * Return the {@link Flow.Subscriber}, which writes the received {@link Buffer}s as this {@link Response} body. The
+     * subscriber requests the next {@link Buffer} only when the data can be written without blocking, see
+     * {@link ResponseBodySubscriber} for the details.
+     * </p>
+     *
+     * <p>
+     * The {@link Response} is suspended, if it's not suspended yet, and resumed, once the subscriber completes.
+     * </p>
+     *
+     * @throws IllegalStateException if {@link #getWriter()} or {@link #getNIOWriter()} were already invoked.
+     */
+    public Flow.Subscriber<Buffer> getBodySubscriber() {
+        if (usingWriter) {
+            throw new IllegalStateException("Illegal attempt to call getBodySubscriber() after getWriter() has already been called.");
+        }
+
+        usingOutputStream = true;
+        if (!isSuspended()) {
+            suspend();
+        }
+
+        return new ResponseBodySubscriber(this);
+    }
+
+    /**
+     * Writes the {@link Buffer}s published by the given {@link Flow.Publisher} as this {@link Response} body. The
+     * {@link Response} is suspended until the publisher completes.
+     *
+     * @param publisher the {@link Flow.Publisher} of the response body
+     *
+     * @throws IllegalStateException if {@link #getWriter()} or {@link #getNIOWriter()} were already invoked.
+     * @see #getBodySubscriber()
+     */
+    public void setBodyPublisher(final Flow.Publisher<? extends Buffer> publisher) {
+        publisher.subscribe(getBodySubscriber());
+    }
+
     /**
      * <p>
      * Return the {@link OutputStream} associated with this {@link Response}.
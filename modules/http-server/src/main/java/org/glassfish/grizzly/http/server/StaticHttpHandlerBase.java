@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +22,8 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -30,9 +33,11 @@ import org.glassfish.grizzly.WriteHandler;
 import org.glassfish.grizzly.filterchain.Filter;
 import org.glassfish.grizzly.filterchain.FilterChain;
 import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.http.Method;
 import org.glassfish.grizzly.http.io.NIOOutputStream;
 import org.glassfish.grizzly.http.io.OutputBuffer;
 import org.glassfish.grizzly.http.server.filecache.FileCache;
+import org.glassfish.grizzly.http.server.util.ByteRanges;
 import org.glassfish.grizzly.http.util.Header;
 import org.glassfish.grizzly.http.util.HttpStatus;
 import org.glassfish.grizzly.http.util.MimeType;
@@ -89,29 +94,94 @@ public abstract class StaticHttpHandlerBase extends HttpHandler {
         pickupContentType(response, file.getPath());
 
         final long length = file.length();
-        response.setContentLengthLong(length);
+        response.setHeader(Header.AcceptRanges, ByteRanges.BYTES_UNIT);
         response.addDateHeader(Header.Date, System.currentTimeMillis());
-        if (!response.isSendFileEnabled() || response.getRequest().isSecure()) {
-            sendUsingBuffers(response, file);
-        } else {
-            sendZeroCopy(response, file);
+
+        final List<ByteRanges.Range> ranges = resolveRanges(response.getRequest(), file, length);
+        if (ranges == null) {
+            response.setContentLengthLong(length);
+            if (!response.isSendFileEnabled() || response.getRequest().isSecure()) {
+                sendUsingBuffers(response, file, Collections.singletonList(new ByteRanges.Range(0, length - 1)), null);
+            } else {
+                sendZeroCopy(response, file, 0, length);
+            }
+
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpStatus.REQUEST_RANGE_NOT_SATISFIABLE_416);
+            response.setHeader(Header.ContentRange, ByteRanges.unsatisfiedContentRange(length));
+            response.setContentLengthLong(0);
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT_206);
+
+        if (ranges.size() == 1) {
+            final ByteRanges.Range range = ranges.get(0);
+            response.setHeader(Header.ContentRange, ByteRanges.contentRange(range, length));
+            response.setContentLengthLong(range.getLength());
+            if (!response.isSendFileEnabled() || response.getRequest().isSecure()) {
+                sendUsingBuffers(response, file, ranges, null);
+            } else {
+                sendZeroCopy(response, file, range.getFirst(), range.getLength());
+            }
+
+            return;
         }
+
+        // multipart/byteranges are always sent using buffers, because only one file transfer is allowed per request
+        final String boundary = ByteRanges.generateBoundary();
+        final String partContentType = response.getContentType();
+        response.setContentType(ByteRanges.multipartContentType(boundary));
+        response.setContentLengthLong(ByteRanges.multipartLength(boundary, partContentType, ranges, length));
+
+        sendUsingBuffers(response, file, ranges, new MultipartInfo(boundary, partContentType, length));
     }
 
-    private static void sendUsingBuffers(final Response response, final File file) throws FileNotFoundException, IOException {
-        final int chunkSize = 8192;
+    /**
+     * Resolves the byte ranges requested by the {@link Request}.
+     *
+     * @return the list of satisfiable ranges, an empty list if the ranges couldn't be satisfied, or <tt>null</tt> if the
+     * entire file has to be sent
+     */
+    private static List<ByteRanges.Range> resolveRanges(final Request request, final File file, final long length) {
+        if (!Method.GET.equals(request.getMethod())) {
+            return null;
+        }
+
+        final String rangeHeader = request.getHeader(Header.Range);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        final long lastModified = file.lastModified();
+        if (!ByteRanges.isIfRangeSatisfied(request.getHeader(Header.IfRange), getETag(length, lastModified), lastModified)) {
+            return null;
+        }
+
+        return ByteRanges.parse(rangeHeader, length);
+    }
+
+    private static void sendUsingBuffers(final Response response, final File file, final List<ByteRanges.Range> ranges, final MultipartInfo multipartInfo)
+            throws FileNotFoundException, IOException {
+        // over TLS the file can't be transferred directly to the channel, but it could be mapped and passed to the
+        // SSLEngine as is, without copying it to the heap buffers first
+        final boolean isMapped = response.getRequest().isSecure();
+        final int chunkSize = isMapped ? MappedFileWindow.DEFAULT_SLICE_SIZE : 8192;
 
         response.suspend();
 
         final NIOOutputStream outputStream = response.getNIOOutputStream();
 
-        outputStream.notifyCanWrite(new NonBlockingDownloadHandler(response, outputStream, file, chunkSize));
+        outputStream.notifyCanWrite(new NonBlockingDownloadHandler(response, outputStream, file, ranges, multipartInfo, chunkSize, isMapped));
 
     }
 
-    private static void sendZeroCopy(final Response response, final File file) throws IOException {
+    private static void sendZeroCopy(final Response response, final File file, final long offset, final long length) throws IOException {
         final OutputBuffer outputBuffer = response.getOutputBuffer();
-        outputBuffer.sendfile(file, null);
+        outputBuffer.sendfile(file, offset, length, null);
     }
 
     public final boolean addToFileCache(final Request req, final Response res, final File resource) {
@@ -240,29 +310,51 @@ public abstract class StaticHttpHandlerBase extends HttpHandler {
     }
 
     protected static void addCachingHeaders(final Response response, final File file) {
-        final StringBuilder sb = new StringBuilder();
-
         final long fileLength = file.length();
         final long lastModified = file.lastModified();
         if (fileLength >= 0 || lastModified >= 0) {
-            sb.append('"').append(fileLength).append('-').append(lastModified).append('"');
-            response.setHeader(Header.ETag, sb.toString());
+            response.setHeader(Header.ETag, getETag(fileLength, lastModified));
         }
         response.addDateHeader(Header.LastModified, lastModified);
 
     }
 
+    private static String getETag(final long fileLength, final long lastModified) {
+        return new StringBuilder().append('"').append(fileLength).append('-').append(lastModified).append('"').toString();
+    }
+
+    /**
+     * The <tt>multipart/byteranges</tt> response parameters.
+     */
+    private static final class MultipartInfo {
+        final String boundary;
+        final String partContentType;
+        final long fileLength;
+
+        MultipartInfo(final String boundary, final String partContentType, final long fileLength) {
+            this.boundary = boundary;
+            this.partContentType = partContentType;
+            this.fileLength = fileLength;
+        }
+    }
+
     private static class NonBlockingDownloadHandler implements WriteHandler {
-        // keep the remaining size
+        // keep the remaining size of the current range
         private volatile long size;
+        private long position;
+        private int rangeIdx;
 
         private final Response response;
         private final NIOOutputStream outputStream;
         private final FileChannel fileChannel;
         private final MemoryManager mm;
         private final int chunkSize;
+        private final List<ByteRanges.Range> ranges;
+        private final MultipartInfo multipartInfo;
+        private final MappedFileWindow mappedWindow;
 
-        NonBlockingDownloadHandler(final Response response, final NIOOutputStream outputStream, final File file, final int chunkSize) {
+        NonBlockingDownloadHandler(final Response response, final NIOOutputStream outputStream, final File file, final List<ByteRanges.Range> ranges,
+                final MultipartInfo multipartInfo, final int chunkSize, final boolean isMapped) throws IOException {
 
             try {
                 fileChannel = new FileInputStream(file).getChannel();
@@ -270,12 +362,13 @@ public abstract class StaticHttpHandlerBase extends HttpHandler {
                 throw new IllegalStateException("File should have existed", e);
             }
 
-            size = file.length();
-
             this.response = response;
             this.outputStream = outputStream;
+            this.ranges = ranges;
+            this.multipartInfo = multipartInfo;
             mm = response.getRequest().getContext().getMemoryManager();
             this.chunkSize = chunkSize;
+            mappedWindow = isMapped ? new MappedFileWindow(fileChannel, mm) : null;
         }
 
         @Override
@@ -301,35 +394,86 @@ public abstract class StaticHttpHandlerBase extends HttpHandler {
          * Send next CHUNK_SIZE of file
          */
         private boolean sendChunk() throws IOException {
-            // allocate Buffer
-            final Buffer buffer = mm.allocate(chunkSize);
-            // mark it available for disposal after content is written
-            buffer.allowBufferDispose(true);
+            while (size <= 0) {
+                if (!startRange()) {
+                    return finish();
+                }
+            }
 
-            // read file to the Buffer
-            final int justReadBytes = (int) Buffers.readFromFileChannel(fileChannel, buffer);
+            final Buffer buffer = mappedWindow != null ? mappedWindow.slice(position, Math.min(chunkSize, size)) : readChunk();
 
-            if (justReadBytes <= 0) {
+            if (buffer == null) {
                 complete(false);
                 return false;
             }
 
-            // prepare buffer to be written
-            buffer.trim();
+            final int justReadBytes = buffer.remaining();
 
             // write the Buffer
             outputStream.write(buffer);
             size -= justReadBytes;
+            position += justReadBytes;
 
             // check the remaining size here to avoid extra onWritePossible() invocation
-            if (size <= 0) {
-                complete(false);
+            if (size <= 0 && rangeIdx == ranges.size()) {
+                return finish();
+            }
+
+            return true;
+        }
+
+        /**
+         * Read next CHUNK_SIZE of file to the newly allocated {@link Buffer}
+         */
+        private Buffer readChunk() throws IOException {
+            // allocate Buffer
+            final Buffer buffer = mm.allocate((int) Math.min(chunkSize, size));
+            // mark it available for disposal after content is written
+            buffer.allowBufferDispose(true);
+
+            // read file to the Buffer
+            final long justReadBytes = Buffers.readFromFileChannel(fileChannel, buffer);
+
+            if (justReadBytes <= 0) {
+                buffer.dispose();
+                return null;
+            }
+
+            // prepare buffer to be written
+            buffer.trim();
+            return buffer;
+        }
+
+        /**
+         * Switch to the next range, writing the multipart part header if needed.
+         *
+         * @return <tt>false</tt> if there are no more ranges to send
+         */
+        private boolean startRange() throws IOException {
+            if (rangeIdx == ranges.size()) {
                 return false;
             }
 
+            final ByteRanges.Range range = ranges.get(rangeIdx++);
+            if (multipartInfo != null) {
+                outputStream.write(ByteRanges.partHeader(multipartInfo.boundary, multipartInfo.partContentType, range, multipartInfo.fileLength));
+            }
+
+            position = range.getFirst();
+            fileChannel.position(position);
+            size = range.getLength();
             return true;
         }
 
+        private boolean finish() throws IOException {
+            if (multipartInfo != null) {
+                outputStream.write(ByteRanges.closeDelimiter(multipartInfo.boundary));
+            }
+
+            complete(false);
+            return false;
+        }
+
         /**
          * Complete the download
          */
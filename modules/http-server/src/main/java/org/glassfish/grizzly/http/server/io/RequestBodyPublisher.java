@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.io;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.ReadHandler;
+import org.glassfish.grizzly.http.io.InputBuffer;
+
+/**
+ * {@link Flow.Publisher}, which publishes the HTTP request body as a sequence of {@link Buffer}s read from the
+ * {@link InputBuffer}.
+ *
+ * The subscriber's demand is mapped onto the {@link InputBuffer} reads: each requested item is the data chunk, which is
+ * available to be read without blocking. When there is no data available, the publisher registers a {@link ReadHandler}
+ * and waits for the data asynchronously, but only as long as there is an outstanding demand, so the request body is
+ * not read from the network faster than the subscriber consumes it.
+ *
+ * The {@link InputBuffer} is not thread-safe. It's filled by the connection's thread only while the {@link ReadHandler}
+ * is registered, so the publisher never touches the {@link InputBuffer} until the handler is notified: the demand
+ * signalled by the subscriber in the meantime is just recorded, and the data is delivered from the {@link ReadHandler}
+ * callback. Otherwise the reads are suspended, and the {@link InputBuffer} access is serialized by the drain loop.
+ *
+ * The publisher supports a single subscriber. The published {@link Buffer}s are detached from the {@link InputBuffer},
+ * so the subscriber becomes responsible for the {@link Buffer}s life-cycle. The request has to be suspended as long as
+ * the body is consumed asynchronously.
+ *
+ * @see org.glassfish.grizzly.http.server.Request#getBodyPublisher()
+ */
+public class RequestBodyPublisher implements Flow.Publisher<Buffer> {
+    private static final Logger LOGGER = Grizzly.logger(RequestBodyPublisher.class);
+
+    private final InputBuffer inputBuffer;
+    private final AtomicBoolean isSubscribed = new AtomicBoolean();
+
+    public RequestBodyPublisher(final InputBuffer inputBuffer) {
+        this.inputBuffer = inputBuffer;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Buffer> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber can't be null");
+
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The request body publisher supports a single subscriber"));
+            return;
+        }
+
+        final BodySubscription subscription = new BodySubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private final class BodySubscription implements Flow.Subscription, ReadHandler {
+        private final Flow.Subscriber<? super Buffer> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+        // the drain loop work-in-progress counter, which serializes the InputBuffer access and subscriber signals
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // set by the drain loop, when the handler is registered, and reset by the handler callbacks
+        private final AtomicBoolean isAwaitingData = new AtomicBoolean();
+
+        private volatile boolean isCancelled;
+        private volatile Throwable error;
+        // accessed by the drain loop only
+        private boolean isDone;
+
+        private BodySubscription(final Flow.Subscriber<? super Buffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("The requested number of items must be positive: " + n);
+            } else {
+                long current;
+                do {
+                    current = demand.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                } while (!demand.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+        }
+
+        // ---------------------------------------------------- ReadHandler
+
+        @Override
+        public void onDataAvailable() {
+            isAwaitingData.set(false);
+            drain();
+        }
+
+        @Override
+        public void onAllDataRead() {
+            isAwaitingData.set(false);
+            drain();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            isAwaitingData.set(false);
+            error = t;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                // the drain loop is executed by another thread, or the call is reentrant
+                return;
+            }
+
+            int missed = 1;
+            do {
+                try {
+                    drainLoop();
+                } catch (Throwable t) {
+                    // the subscriber violated the specification by throwing an exception
+                    isCancelled = true;
+                    LOGGER.log(Level.WARNING, "The request body subscriber failed", t);
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (!isCancelled && !isDone) {
+                final Throwable localError = error;
+                if (localError != null) {
+                    isDone = true;
+                    subscriber.onError(localError);
+                    return;
+                }
+
+                if (isAwaitingData.get()) {
+                    // the InputBuffer is being filled by the connection's thread, the handler will be notified
+                    return;
+                }
+
+                if (inputBuffer.readyData() > 0) {
+                    if (demand.get() == 0) {
+                        return;
+                    }
+
+                    demand.decrementAndGet();
+                    subscriber.onNext(inputBuffer.readBuffer());
+                    continue;
+                }
+
+                if (inputBuffer.isFinished()) {
+                    isDone = true;
+                    subscriber.onComplete();
+                    return;
+                }
+
+                if (inputBuffer.isClosed()) {
+                    isDone = true;
+                    subscriber.onError(new IOException("The request body input has been closed"));
+                    return;
+                }
+
+                if (demand.get() > 0) {
+                    isAwaitingData.set(true);
+                    // might be notified synchronously, which is handled by the next drain loop iteration
+                    inputBuffer.notifyAvailable(this);
+                }
+
+                return;
+            }
+        }
+    }
+}
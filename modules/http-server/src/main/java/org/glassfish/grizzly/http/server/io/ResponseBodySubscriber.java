@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.io;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.http.io.OutputBuffer;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http.util.HttpStatus;
+
+/**
+ * {@link Flow.Subscriber}, which writes the received {@link Buffer}s as the HTTP response body.
+ *
+ * The subscriber requests the next item only when the {@link OutputBuffer} {@link OutputBuffer#canWrite() can accept}
+ * more data, otherwise it waits for the {@link WriteHandler} notification, so the producer is paced by the network and
+ * the response body is never buffered as a whole. The {@link Response} is expected to be suspended and is resumed,
+ * once the publisher completes. If the publisher fails before the response is committed, the
+ * {@link HttpStatus#INTERNAL_SERVER_ERROR_500} status is sent, otherwise the connection is closed, so the client can
+ * detect the response body is incomplete.
+ *
+ * @see Response#getBodySubscriber()
+ * @see Response#setBodyPublisher(Flow.Publisher)
+ */
+public class ResponseBodySubscriber implements Flow.Subscriber<Buffer> {
+    private static final Logger LOGGER = Grizzly.logger(ResponseBodySubscriber.class);
+
+    private final Response response;
+    private final OutputBuffer outputBuffer;
+    private final WriteHandler writeHandler = new WriteHandler() {
+        @Override
+        public void onWritePossible() {
+            final Flow.Subscription localSubscription = subscription;
+            if (localSubscription != null) {
+                localSubscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            cancel();
+            fail(t);
+        }
+    };
+
+    private volatile Flow.Subscription subscription;
+    private volatile boolean isDone;
+
+    public ResponseBodySubscriber(final Response response) {
+        this.response = response;
+        this.outputBuffer = response.getOutputBuffer();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription can't be null");
+
+        if (this.subscription != null || isDone) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        requestNext();
+    }
+
+    @Override
+    public void onNext(final Buffer buffer) {
+        Objects.requireNonNull(buffer, "buffer can't be null");
+
+        if (isDone) {
+            buffer.tryDispose();
+            return;
+        }
+
+        try {
+            outputBuffer.writeBuffer(buffer);
+        } catch (IOException e) {
+            cancel();
+            fail(e);
+            return;
+        }
+
+        requestNext();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        Objects.requireNonNull(t, "throwable can't be null");
+        fail(t);
+    }
+
+    @Override
+    public void onComplete() {
+        if (isDone) {
+            return;
+        }
+
+        isDone = true;
+        finish();
+    }
+
+    private void requestNext() {
+        if (outputBuffer.canWrite()) {
+            subscription.request(1);
+        } else {
+            outputBuffer.notifyCanWrite(writeHandler);
+        }
+    }
+
+    private void cancel() {
+        final Flow.Subscription localSubscription = subscription;
+        if (localSubscription != null) {
+            localSubscription.cancel();
+        }
+    }
+
+    private void fail(final Throwable t) {
+        if (isDone) {
+            return;
+        }
+
+        isDone = true;
+        LOGGER.log(Level.FINE, "The response body publisher failed", t);
+
+        if (!response.isCommitted()) {
+            response.reset();
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR_500);
+            finish();
+        } else {
+            response.getRequest().getConnection().closeSilently();
+        }
+    }
+
+    private void finish() {
+        if (response.isSuspended()) {
+            response.resume();
+        } else {
+            response.finish();
+        }
+    }
+}
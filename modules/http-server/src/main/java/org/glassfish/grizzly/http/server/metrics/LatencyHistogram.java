@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency histogram with the fixed relative precision, based on the log-linear bucketing approach used by
+ * HdrHistogram. The values are recorded in microseconds in range [0, 1 hour], larger values are clamped.
+ * <p>
+ * Recording is lock-free: the threads record to the fixed set of striped recorders (the stripe is selected by the
+ * thread id, so the contention is low), the recorders are merged when the {@link #getSnapshot() snapshot} is taken. The
+ * number of the recorders depends on the number of CPUs, not on the number of the recording threads.
+ */
+public final class LatencyHistogram {
+    // 32 sub-buckets per bucket, gives ~3% precision
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_BITS = SUB_BUCKET_BITS - 1;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_BITS;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+    /**
+     * The max value (in microseconds), which could be recorded.
+     */
+    public static final long MAX_VALUE = TimeUnit.HOURS.toMicros(1);
+
+    static final int COUNTS_LENGTH = countsIndex(MAX_VALUE) + 1;
+
+    // the recorder's array tail slots
+    private static final int TOTAL_COUNT_IDX = COUNTS_LENGTH;
+    private static final int SUM_IDX = COUNTS_LENGTH + 1;
+    private static final int MIN_IDX = COUNTS_LENGTH + 2;
+    private static final int MAX_IDX = COUNTS_LENGTH + 3;
+
+    private static final int STRIPES = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    /**
+     * The striped recorders, which are created lazily
+     */
+    private final AtomicReferenceArray<AtomicLongArray> recorders = new AtomicReferenceArray<>(STRIPES);
+
+    /**
+     * Records the duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordNanos(final long nanos) {
+        record(nanos / 1000);
+    }
+
+    /**
+     * Records the value.
+     *
+     * @param micros the value in microseconds
+     */
+    public void record(final long micros) {
+        final long value = micros < 0 ? 0 : Math.min(micros, MAX_VALUE);
+        final AtomicLongArray recorder = obtainRecorder();
+
+        recorder.incrementAndGet(countsIndex(value));
+        recorder.addAndGet(SUM_IDX, value);
+        if (value < recorder.get(MIN_IDX)) {
+            recorder.accumulateAndGet(MIN_IDX, value, Math::min);
+        }
+        if (value > recorder.get(MAX_IDX)) {
+            recorder.accumulateAndGet(MAX_IDX, value, Math::max);
+        }
+
+        recorder.incrementAndGet(TOTAL_COUNT_IDX);
+    }
+
+    /**
+     * @return the snapshot of the values recorded by all the threads so far
+     */
+    public LatencySnapshot getSnapshot() {
+        final long[] counts = new long[COUNTS_LENGTH];
+        long totalCount = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+
+        for (int r = 0; r < STRIPES; r++) {
+            final AtomicLongArray recorder = recorders.get(r);
+            if (recorder == null) {
+                continue;
+            }
+
+            // the total count is read first, so the merged buckets are never behind it
+            totalCount += recorder.get(TOTAL_COUNT_IDX);
+            for (int i = 0; i < COUNTS_LENGTH; i++) {
+                counts[i] += recorder.get(i);
+            }
+            sum += recorder.get(SUM_IDX);
+            min = Math.min(min, recorder.get(MIN_IDX));
+            max = Math.max(max, recorder.get(MAX_IDX));
+        }
+
+        return new LatencySnapshot(counts, totalCount, sum, totalCount > 0 ? min : 0, max);
+    }
+
+    private AtomicLongArray obtainRecorder() {
+        final long id = Thread.currentThread().threadId();
+        final int idx = (int) (id ^ id >>> 32) * 0x9E3779B9 >>> 16 & STRIPES - 1;
+
+        final AtomicLongArray recorder = recorders.get(idx);
+        if (recorder != null) {
+            return recorder;
+        }
+
+        final AtomicLongArray newRecorder = new AtomicLongArray(COUNTS_LENGTH + 4);
+        newRecorder.set(MIN_IDX, Long.MAX_VALUE);
+        return recorders.compareAndSet(idx, null, newRecorder) ? newRecorder : recorders.get(idx);
+    }
+
+    static int countsIndex(final long value) {
+        final int bucketIdx = 64 - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK) - SUB_BUCKET_BITS;
+        final int subBucketIdx = (int) (value >>> bucketIdx);
+        return ((bucketIdx + 1) << SUB_BUCKET_HALF_BITS) + subBucketIdx - SUB_BUCKET_HALF_COUNT;
+    }
+
+    /**
+     * @return the highest value, which is counted by the given counts index
+     */
+    static long highestEquivalentValue(final int countsIdx) {
+        final int bucketIdx;
+        final int subBucketIdx;
+        if (countsIdx < SUB_BUCKET_COUNT) {
+            bucketIdx = 0;
+            subBucketIdx = countsIdx;
+        } else {
+            bucketIdx = (countsIdx >> SUB_BUCKET_HALF_BITS) - 1;
+            subBucketIdx = (countsIdx & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        }
+
+        return ((long) subBucketIdx << bucketIdx) + (1L << bucketIdx) - 1;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+/**
+ * The SPI to export the request latency metrics to an external monitoring system.
+ * <p>
+ * Implementations could be registered directly using {@link RequestLatencyMonitor#addExporter(LatencyMetricsExporter)},
+ * or discovered using {@link java.util.ServiceLoader}, in which case they're attached to every
+ * {@link RequestLatencyMonitor}.
+ */
+public interface LatencyMetricsExporter {
+
+    /**
+     * Exports the metrics collected by the {@link RequestLatencyMonitor}. The method is called on
+     * {@link RequestLatencyMonitor#export()}.
+     *
+     * @param monitor the {@link RequestLatencyMonitor}
+     */
+    void export(RequestLatencyMonitor monitor);
+}
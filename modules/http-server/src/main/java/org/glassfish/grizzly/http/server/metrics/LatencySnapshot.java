@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+/**
+ * Immutable snapshot of the {@link LatencyHistogram}. All the values are in microseconds.
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long totalCount;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    LatencySnapshot(final long[] counts, final long totalCount, final long sum, final long min, final long max) {
+        this.counts = counts;
+        this.totalCount = totalCount;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the min recorded value
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * @return the max recorded value
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean of the recorded values
+     */
+    public double getMean() {
+        return totalCount > 0 ? (double) sum / totalCount : 0;
+    }
+
+    /**
+     * Returns the value, which the given percentage of the recorded values are less than or equal to. The result has the
+     * precision of the histogram bucket.
+     *
+     * @param percentile the percentile in range [0, 100]
+     * @return the value at the given percentile, or <tt>0</tt> if there are no recorded values
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        final double p = Math.min(Math.max(percentile, 0), 100);
+        final long target = Math.max(1, (long) Math.ceil(p / 100 * totalCount));
+
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(LatencyHistogram.highestEquivalentValue(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" + "count=" + totalCount + ", min=" + min + ", mean=" + (long) getMean() + ", p50=" + getValueAtPercentile(50)
+                + ", p99=" + getValueAtPercentile(99) + ", p999=" + getValueAtPercentile(99.9) + ", max=" + max + '}';
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
+
+/**
+ * The set of {@link LatencyHistogram}s, one per {@link RequestPhase}, collected either for the whole
+ * {@link org.glassfish.grizzly.http.server.NetworkListener} or for the specific {@link HttpHandlerRegistration}.
+ */
+public final class RequestLatencyMetrics {
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final String listenerName;
+    private final HttpHandlerRegistration registration;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+
+    RequestLatencyMetrics(final String listenerName, final HttpHandlerRegistration registration) {
+        this.listenerName = listenerName;
+        this.registration = registration;
+
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * @return the name of the {@link org.glassfish.grizzly.http.server.NetworkListener} the metrics are collected for
+     */
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    /**
+     * @return the {@link HttpHandlerRegistration} the metrics are collected for, or <tt>null</tt> if these are the
+     * listener-wide metrics
+     */
+    public HttpHandlerRegistration getRegistration() {
+        return registration;
+    }
+
+    /**
+     * @return the {@link LatencyHistogram} of the given {@link RequestPhase}
+     */
+    public LatencyHistogram getHistogram(final RequestPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * @return the {@link LatencySnapshot} of the given {@link RequestPhase}
+     */
+    public LatencySnapshot getSnapshot(final RequestPhase phase) {
+        return histograms[phase.ordinal()].getSnapshot();
+    }
+
+    void record(final RequestPhase phase, final long nanos) {
+        histograms[phase.ordinal()].recordNanos(nanos);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(256);
+        sb.append("RequestLatencyMetrics{listener=").append(listenerName);
+        if (registration != null) {
+            sb.append(", registration=").append(registration.getContextPath()).append(registration.getUrlPattern());
+        }
+        for (RequestPhase phase : PHASES) {
+            sb.append(", ").append(phase).append('=').append(getSnapshot(phase));
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+}
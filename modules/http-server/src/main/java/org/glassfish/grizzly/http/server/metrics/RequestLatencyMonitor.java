@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.WriteResult;
+import org.glassfish.grizzly.attributes.Attribute;
+import org.glassfish.grizzly.http.HttpHeader;
+import org.glassfish.grizzly.http.HttpProbe;
+import org.glassfish.grizzly.http.Note;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
+import org.glassfish.grizzly.http.server.HttpServerFilter;
+import org.glassfish.grizzly.http.server.HttpServerProbe;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http.server.ServerConfiguration;
+import org.glassfish.grizzly.monitoring.MonitoringUtils;
+import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
+
+/**
+ * Collects request latency metrics of a {@link org.glassfish.grizzly.http.server.NetworkListener}: the time spent to
+ * parse the request header, to wait in the worker thread pool queue, to service the request and to flush the response
+ * (see {@link RequestPhase}). The metrics are collected both for the whole listener and per
+ * {@link HttpHandlerRegistration}.
+ * <p>
+ * The monitor is driven by the {@link HttpProbe} and {@link HttpServerProbe} events, so it doesn't add any overhead
+ * unless it's enabled using
+ * {@link org.glassfish.grizzly.http.server.NetworkListener#setLatencyMetricsEnabled(boolean)}.
+ */
+public class RequestLatencyMonitor {
+    private static final Logger LOGGER = Grizzly.logger(RequestLatencyMonitor.class);
+
+    private static final long NOT_MARKED = Long.MIN_VALUE;
+
+    private static final Note<RequestTimer> REQUEST_TIMER_NOTE = Request.createNote(RequestLatencyMonitor.class.getName() + ".timer");
+
+    private final String name;
+    private final RequestLatencyMetrics metrics;
+    private final ConcurrentMap<HttpHandlerRegistration, RequestLatencyMetrics> registrationMetrics = new ConcurrentHashMap<>();
+    private final List<LatencyMetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+    private final Attribute<ConnectionTimer> connectionTimerAttr;
+
+    private final HttpProbe httpProbe = new CodecProbe();
+    private final HttpServerProbe httpServerProbe = new ServerProbe();
+
+    private volatile ServerConfiguration serverConfiguration;
+
+    private final AtomicBoolean isQueueWaitProbeRegistered = new AtomicBoolean();
+
+    public RequestLatencyMonitor(final String name) {
+        this.name = name;
+        metrics = new RequestLatencyMetrics(name, null);
+        connectionTimerAttr = Grizzly.DEFAULT_ATTRIBUTE_BUILDER.createAttribute(RequestLatencyMonitor.class.getName() + '.' + name);
+
+        for (LatencyMetricsExporter exporter : ServiceLoader.load(LatencyMetricsExporter.class)) {
+            exporters.add(exporter);
+        }
+    }
+
+    /**
+     * @return the name of the {@link org.glassfish.grizzly.http.server.NetworkListener} this monitor is collecting
+     * metrics for
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the listener-wide {@link RequestLatencyMetrics}
+     */
+    public RequestLatencyMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the {@link RequestLatencyMetrics} of the given {@link HttpHandlerRegistration}, or <tt>null</tt> if no
+     * requests were served by the registration yet
+     */
+    public RequestLatencyMetrics getMetrics(final HttpHandlerRegistration registration) {
+        return registrationMetrics.get(registration);
+    }
+
+    /**
+     * @return the unmodifiable map of per {@link HttpHandlerRegistration} metrics
+     */
+    public Map<HttpHandlerRegistration, RequestLatencyMetrics> getRegistrationMetrics() {
+        return Collections.unmodifiableMap(registrationMetrics);
+    }
+
+    /**
+     * Adds the {@link LatencyMetricsExporter}.
+     */
+    public void addExporter(final LatencyMetricsExporter exporter) {
+        exporters.add(exporter);
+    }
+
+    /**
+     * Removes the {@link LatencyMetricsExporter}.
+     *
+     * @return <tt>true</tt> if the exporter has been removed, or <tt>false</tt> otherwise
+     */
+    public boolean removeExporter(final LatencyMetricsExporter exporter) {
+        return exporters.remove(exporter);
+    }
+
+    /**
+     * Passes the collected metrics to the registered {@link LatencyMetricsExporter}s.
+     */
+    public void export() {
+        for (LatencyMetricsExporter exporter : exporters) {
+            try {
+                exporter.export(this);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Latency metrics exporter " + exporter + " failed", e);
+            }
+        }
+    }
+
+    /**
+     * @return the {@link HttpProbe} to be registered on the listener's HTTP codec filter
+     */
+    public HttpProbe getHttpProbe() {
+        return httpProbe;
+    }
+
+    /**
+     * @return the {@link HttpServerProbe} to be registered on the listener's {@link HttpServerFilter}
+     */
+    public HttpServerProbe getHttpServerProbe() {
+        return httpServerProbe;
+    }
+
+    /**
+     * Sets the {@link ServerConfiguration}, which is used to resolve the {@link HttpHandlerRegistration} a request has
+     * been mapped to.
+     */
+    public void setServerConfiguration(final ServerConfiguration serverConfiguration) {
+        this.serverConfiguration = serverConfiguration;
+    }
+
+    /**
+     * @return <tt>true</tt>, if this monitor is registered as the {@link WorkerThreadIOStrategy} queue wait probe
+     */
+    public boolean isQueueWaitProbeRegistered() {
+        return isQueueWaitProbeRegistered.get();
+    }
+
+    /**
+     * Registers or unregisters this monitor as the {@link WorkerThreadIOStrategy} queue wait probe, so the transport
+     * worker thread pool queue time is tracked only while the monitor is attached to a listener, which uses the
+     * strategy.
+     *
+     * @param isRegistered <tt>true</tt> to register the probe, or <tt>false</tt> to unregister it
+     */
+    public void setQueueWaitProbeRegistered(final boolean isRegistered) {
+        if (isQueueWaitProbeRegistered.compareAndSet(!isRegistered, isRegistered)) {
+            if (isRegistered) {
+                WorkerThreadIOStrategy.addQueueWaitProbe();
+            } else {
+                WorkerThreadIOStrategy.removeQueueWaitProbe();
+            }
+        }
+    }
+
+    /**
+     * @return the JMX management object
+     */
+    public Object createManagementObject() {
+        return MonitoringUtils.loadJmxObject("org.glassfish.grizzly.http.server.metrics.jmx.RequestLatencyMonitor", this, RequestLatencyMonitor.class);
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private RequestLatencyMetrics resolveRegistrationMetrics(final Request request, final HttpHandler httpHandler) {
+        final ServerConfiguration config = serverConfiguration;
+        if (config == null) {
+            return null;
+        }
+
+        final HttpHandlerRegistration[] registrations = config.getHttpHandlersWithMapping().get(httpHandler);
+        if (registrations == null || registrations.length == 0) {
+            return null;
+        }
+
+        HttpHandlerRegistration registration = registrations[0];
+        if (registrations.length > 1) {
+            final String contextPath = request.getContextPath();
+            for (HttpHandlerRegistration r : registrations) {
+                if (r.getContextPath().equals(contextPath)) {
+                    registration = r;
+                    break;
+                }
+            }
+        }
+
+        RequestLatencyMetrics m = registrationMetrics.get(registration);
+        if (m == null) {
+            final RequestLatencyMetrics newMetrics = new RequestLatencyMetrics(name, registration);
+            m = registrationMetrics.putIfAbsent(registration, newMetrics);
+            if (m == null) {
+                m = newMetrics;
+            }
+        }
+
+        return m;
+    }
+
+    private ConnectionTimer obtainConnectionTimer(final Connection connection) {
+        ConnectionTimer timer = connectionTimerAttr.get(connection);
+        if (timer == null) {
+            timer = new ConnectionTimer();
+            connectionTimerAttr.set(connection, timer);
+        }
+
+        return timer;
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * Per-connection parse state.
+     */
+    private static final class ConnectionTimer {
+        boolean inRequest;
+        long parseStartNanos = -1;
+        long queueWaitNanos = -1;
+        long parseNanos = -1;
+    }
+
+    /**
+     * Per-request timings, also used as the {@link org.glassfish.grizzly.CompletionHandler} of the last response write.
+     */
+    private final class RequestTimer extends EmptyCompletionHandler<WriteResult> {
+        private long receivedNanos;
+        private long serviceStartNanos;
+        private long parseNanos = -1;
+        private long transportQueueWaitNanos = -1;
+        private volatile RequestLatencyMetrics registrationMetrics;
+
+        /**
+         * The service end or the last write completion time, whichever happens first, the other side records the
+         * {@link RequestPhase#FLUSH} latency
+         */
+        private final AtomicLong firstMarkNanos = new AtomicLong(NOT_MARKED);
+
+        @Override
+        public void completed(final WriteResult result) {
+            final long now = System.nanoTime();
+            if (!firstMarkNanos.compareAndSet(NOT_MARKED, now)) {
+                recordFlush(now - firstMarkNanos.get());
+            }
+        }
+
+        void onServiceEnd(final long serviceEndNanos) {
+            if (!firstMarkNanos.compareAndSet(NOT_MARKED, serviceEndNanos)) {
+                // the response has been written before the service has finished
+                recordFlush(0);
+            }
+        }
+
+        private void recordFlush(final long flushNanos) {
+            metrics.record(RequestPhase.FLUSH, flushNanos);
+            final RequestLatencyMetrics m = registrationMetrics;
+            if (m != null) {
+                m.record(RequestPhase.FLUSH, flushNanos);
+            }
+        }
+    }
+
+    private final class CodecProbe extends HttpProbe.Adapter {
+
+        @Override
+        public void onDataReceivedEvent(final Connection connection, final Buffer buffer) {
+            final ConnectionTimer timer = obtainConnectionTimer(connection);
+            if (!timer.inRequest && timer.parseStartNanos == -1) {
+                timer.parseStartNanos = System.nanoTime();
+                timer.queueWaitNanos = WorkerThreadIOStrategy.getQueueWaitNanos();
+            }
+        }
+
+        @Override
+        public void onHeaderParseEvent(final Connection connection, final HttpHeader header, final int size) {
+            if (!header.isRequest()) {
+                return;
+            }
+
+            final ConnectionTimer timer = obtainConnectionTimer(connection);
+            timer.parseNanos = timer.parseStartNanos != -1 ? System.nanoTime() - timer.parseStartNanos : -1;
+            timer.parseStartNanos = -1;
+            timer.inRequest = true;
+        }
+    }
+
+    private final class ServerProbe extends HttpServerProbe.Adapter {
+
+        @Override
+        public void onRequestReceiveEvent(final HttpServerFilter filter, final Connection connection, final Request request) {
+            final RequestTimer requestTimer = new RequestTimer();
+            requestTimer.receivedNanos = System.nanoTime();
+            requestTimer.serviceStartNanos = requestTimer.receivedNanos;
+            request.setNote(REQUEST_TIMER_NOTE, requestTimer);
+            // the flush latency is measured once the last response chunk is written
+            request.getResponse().getOutputBuffer().setLastWriteCompletionHandler(requestTimer);
+
+            final ConnectionTimer timer = connectionTimerAttr.get(connection);
+            if (timer != null) {
+                requestTimer.parseNanos = timer.parseNanos;
+                requestTimer.transportQueueWaitNanos = timer.queueWaitNanos;
+                if (timer.parseNanos != -1) {
+                    metrics.record(RequestPhase.PARSE, timer.parseNanos);
+                }
+            }
+        }
+
+        @Override
+        public void onBeforeServiceEvent(final HttpServerFilter filter, final Connection connection, final Request request, final HttpHandler httpHandler) {
+            final RequestTimer requestTimer = request.getNote(REQUEST_TIMER_NOTE);
+            if (requestTimer == null) {
+                return;
+            }
+
+            requestTimer.serviceStartNanos = System.nanoTime();
+
+            // the time the request spent waiting for the transport worker thread plus the time
+            // it waited in the HttpHandler executor queue (if the handler dispatches requests)
+            long queueWaitNanos = requestTimer.serviceStartNanos - requestTimer.receivedNanos;
+            if (requestTimer.transportQueueWaitNanos > 0) {
+                queueWaitNanos += requestTimer.transportQueueWaitNanos;
+            }
+            metrics.record(RequestPhase.QUEUE_WAIT, queueWaitNanos);
+
+            final RequestLatencyMetrics m = resolveRegistrationMetrics(request, httpHandler);
+            requestTimer.registrationMetrics = m;
+
+            if (m != null) {
+                if (requestTimer.parseNanos != -1) {
+                    m.record(RequestPhase.PARSE, requestTimer.parseNanos);
+                }
+                m.record(RequestPhase.QUEUE_WAIT, queueWaitNanos);
+            }
+        }
+
+        @Override
+        public void onRequestCompleteEvent(final HttpServerFilter filter, final Connection connection, final Response response) {
+            final ConnectionTimer timer = connectionTimerAttr.get(connection);
+            if (timer != null) {
+                timer.inRequest = false;
+                timer.parseStartNanos = -1;
+                timer.queueWaitNanos = -1;
+                timer.parseNanos = -1;
+            }
+
+            final Request request = response.getRequest();
+            final RequestTimer requestTimer = request.removeNote(REQUEST_TIMER_NOTE);
+            if (requestTimer == null) {
+                return;
+            }
+
+            final long serviceEndNanos = System.nanoTime();
+            final long serviceNanos = serviceEndNanos - requestTimer.serviceStartNanos;
+            metrics.record(RequestPhase.SERVICE, serviceNanos);
+            if (requestTimer.registrationMetrics != null) {
+                requestTimer.registrationMetrics.record(RequestPhase.SERVICE, serviceNanos);
+            }
+
+            requestTimer.onServiceEnd(serviceEndNanos);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+/**
+ * The HTTP request processing phases, which latencies are measured by {@link RequestLatencyMonitor}.
+ */
+public enum RequestPhase {
+    /**
+     * From the moment the first request bytes were received until the request header is parsed.
+     */
+    PARSE,
+    /**
+     * The time the request waited for a worker thread: the time the read event spent in the transport worker thread
+     * pool queue (when {@link org.glassfish.grizzly.strategies.WorkerThreadIOStrategy} is used) plus the time the
+     * request spent in the {@link org.glassfish.grizzly.http.server.HttpHandler} executor queue.
+     */
+    QUEUE_WAIT,
+    /**
+     * From the moment the {@link org.glassfish.grizzly.http.server.HttpHandler} starts servicing the request until the
+     * request processing is complete, including the time the request was suspended.
+     */
+    SERVICE,
+    /**
+     * From the moment the request processing is complete until the response is flushed to the network.
+     */
+    FLUSH
+}
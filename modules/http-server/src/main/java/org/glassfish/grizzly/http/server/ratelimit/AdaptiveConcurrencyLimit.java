@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.http.util.HttpStatus;
+
+/**
+ * The concurrency limit, which is adjusted using additive increase/multiplicative decrease (AIMD) basing on the
+ * request processing time. All the counters are updated lock-free.
+ *
+ * The idle state is evicted by switching its in-flight counter from <tt>0</tt> to {@link #EVICTED}, so the request,
+ * which looked the evicted state up concurrently, can't acquire it and retries with the new state.
+ */
+final class AdaptiveConcurrencyLimit extends RequestLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int EVICTED = -1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThreshold;
+
+    private final LimitTable<State> states;
+
+    AdaptiveConcurrencyLimit(final LimitKey key, final int minLimit, final int maxLimit, final long latencyThreshold, final int maxKeys) {
+        super(key, HttpStatus.SERVICE_UNAVAILABLE_503);
+
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit can't be less than 1 or greater than maxLimit");
+        }
+
+        if (latencyThreshold <= 0) {
+            throw new IllegalArgumentException("latencyThreshold has to be positive");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThreshold = latencyThreshold;
+        states = new LimitTable<>(maxKeys, now -> new State());
+    }
+
+    @Override
+    Permit tryAcquire(final String key, final long now) {
+        for (;;) {
+            final State state = states.get(key, now);
+
+            for (;;) {
+                final int inFlight = state.inFlight.get();
+                if (inFlight == EVICTED) {
+                    break;
+                }
+
+                final int limit = state.limit.get();
+                if (inFlight >= limit) {
+                    return null;
+                }
+
+                if (state.inFlight.compareAndSet(inFlight, inFlight + 1)) {
+                    // the limit is increased only if it's actually used
+                    return new ConcurrencyPermit(state, now, inFlight + 1 >= limit / 2);
+                }
+            }
+        }
+    }
+
+    @Override
+    long getRetryAfter(final String key, final long now) {
+        return 0;
+    }
+
+    private final class State implements LimitTable.State {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger limit = new AtomicInteger(maxLimit);
+        private final AtomicInteger successes = new AtomicInteger();
+        private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime() - latencyThreshold);
+
+        @Override
+        public boolean tryEvict(final long now) {
+            return inFlight.compareAndSet(0, EVICTED);
+        }
+
+        void onSuccess() {
+            final int currentLimit = limit.get();
+            if (successes.incrementAndGet() >= currentLimit) {
+                successes.set(0);
+                limit.compareAndSet(currentLimit, Math.min(maxLimit, currentLimit + 1));
+            }
+        }
+
+        void onOverload(final long now) {
+            final long last = lastDecrease.get();
+            // decrease the limit at most once per latency threshold, so a burst of slow responses doesn't collapse it
+            if (now - last >= latencyThreshold && lastDecrease.compareAndSet(last, now)) {
+                successes.set(0);
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * BACKOFF_RATIO)));
+            }
+        }
+    }
+
+    private final class ConcurrencyPermit implements Permit {
+        private final State state;
+        private final long startTime;
+        private final boolean isSaturated;
+
+        ConcurrencyPermit(final State state, final long startTime, final boolean isSaturated) {
+            this.state = state;
+            this.startTime = startTime;
+            this.isSaturated = isSaturated;
+        }
+
+        @Override
+        public void release(final long now, final boolean isOverloaded) {
+            state.inFlight.decrementAndGet();
+
+            if (isOverloaded || now - startTime > latencyThreshold) {
+                state.onOverload(now);
+            } else if (isSaturated) {
+                state.onSuccess();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            state.inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import org.glassfish.grizzly.http.HttpRequestPacket;
+
+/**
+ * Resolves the key, a {@link RequestLimit} is tracked by. The requests with the same key share the same limit state
+ * (like the token bucket).
+ */
+@FunctionalInterface
+public interface LimitKey {
+    /**
+     * All the requests share the same limit state.
+     */
+    LimitKey ROUTE = request -> "";
+
+    /**
+     * The requests are limited per client IP address.
+     */
+    LimitKey CLIENT_ADDRESS = HttpRequestPacket::getRemoteAddress;
+
+    /**
+     * Returns the {@link LimitKey}, which limits the requests per value of the given request header (like the API key).
+     * The requests without the header are not limited.
+     *
+     * @param name the request header name
+     * @return the {@link LimitKey}
+     */
+    static LimitKey header(final String name) {
+        return request -> request.getHeader(name);
+    }
+
+    /**
+     * Returns the key of the request.
+     *
+     * @param request the {@link HttpRequestPacket}
+     * @return the key of the request, or <tt>null</tt>, if the request is not limited
+     */
+    String get(HttpRequestPacket request);
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * The limit states per key. The keys are spread over the stripes, each stripe holds at most
+ * <tt>maxKeys / STRIPES</tt> states. When the stripe is full, a new key advances the stripe clock hand by at most
+ * {@link #SWEEP_SIZE} states evicting the idle ones, so the eviction cost is amortized over the misses. If no room has
+ * been made, the new key shares the stripe overflow state, so the memory used by the table is bounded, and the keys
+ * which don't fit are limited together, separately from the tracked ones.
+ *
+ * @param <S> the limit state type
+ */
+final class LimitTable<S extends LimitTable.State> {
+    private static final int STRIPES = 16;
+    private static final int SWEEP_SIZE = 8;
+
+    private final Stripe<S>[] stripes;
+    private final int maxKeysPerStripe;
+    private final LongFunction<S> factory;
+
+    @SuppressWarnings("unchecked")
+    LimitTable(final int maxKeys, final LongFunction<S> factory) {
+        this.factory = factory;
+        maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        stripes = new Stripe[STRIPES];
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(factory.apply(System.nanoTime()));
+        }
+    }
+
+    S get(final String key, final long now) {
+        final Stripe<S> stripe = stripes[spread(key.hashCode()) & STRIPES - 1];
+
+        final S state = stripe.states.get(key);
+        if (state != null) {
+            return state;
+        }
+
+        if (stripe.states.size() >= maxKeysPerStripe) {
+            stripe.sweep(now);
+            if (stripe.states.size() >= maxKeysPerStripe) {
+                return stripe.overflow;
+            }
+        }
+
+        return stripe.states.computeIfAbsent(key, k -> factory.apply(now));
+    }
+
+    int size() {
+        int size = 0;
+        for (final Stripe<S> stripe : stripes) {
+            size += stripe.states.size();
+        }
+
+        return size;
+    }
+
+    private static int spread(final int h) {
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * The limit state of the key.
+     */
+    interface State {
+        /**
+         * Evicts the state, if no request holds it. Once evicted, the state can still be returned to the concurrent
+         * request, which looked it up before, so the state either has to reject the further use, or the use has to be
+         * harmless.
+         *
+         * @return <tt>true</tt>, if the state has been evicted
+         */
+        boolean tryEvict(long now);
+    }
+
+    private static final class Stripe<S extends State> {
+        private final ConcurrentHashMap<String, S> states = new ConcurrentHashMap<>();
+        private final S overflow;
+
+        // the clock hand, guarded by the stripe monitor
+        private Iterator<Map.Entry<String, S>> hand;
+
+        private Stripe(final S overflow) {
+            this.overflow = overflow;
+        }
+
+        private synchronized void sweep(final long now) {
+            Iterator<Map.Entry<String, S>> it = hand;
+
+            for (int i = 0; i < SWEEP_SIZE; i++) {
+                if (it == null || !it.hasNext()) {
+                    // start over, the iterator is weakly consistent, so it sees the keys added since the last round
+                    it = states.entrySet().iterator();
+                    if (!it.hasNext()) {
+                        break;
+                    }
+                }
+
+                final Map.Entry<String, S> entry = it.next();
+                if (entry.getValue().tryEvict(now)) {
+                    states.remove(entry.getKey(), entry.getValue());
+                }
+            }
+
+            hand = it;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.http.server.AddOn;
+import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
+import org.glassfish.grizzly.http.server.HttpServerFilter;
+import org.glassfish.grizzly.http.server.NetworkListener;
+
+/**
+ * RateLimitAddOn applies the {@link RequestLimit}s to the requests before they're passed to the
+ * {@link HttpServerFilter}. The excess requests are answered right away (with <tt>429</tt> or <tt>503</tt>) in the
+ * thread, which parsed them, so the {@link org.glassfish.grizzly.http.server.HttpHandler} is never executed for them.
+ *
+ * Note, that the filter chain runs in the thread defined by the transport {@link org.glassfish.grizzly.IOStrategy}:
+ * with the default {@link org.glassfish.grizzly.strategies.WorkerThreadIOStrategy} the requests are parsed, and so
+ * rejected, in the worker thread pool. The rejected requests skip the worker thread pool only with the
+ * {@link org.glassfish.grizzly.strategies.SameThreadIOStrategy} or the
+ * {@link org.glassfish.grizzly.strategies.LeaderFollowerNIOStrategy}.
+ *
+ * <ul>
+ * <li>The limits registered without {@link HttpHandlerRegistration} apply to all the requests.</li>
+ * <li>The limits registered for the {@link HttpHandlerRegistration} apply to the requests it maps, if several
+ * registrations match the request, the best match is selected the same way the
+ * {@link org.glassfish.grizzly.http.server.HttpHandler} mapping does.</li>
+ * <li>Each limit is tracked per {@link LimitKey}, like per client IP address, or per request header value.</li>
+ * </ul>
+ *
+ * The payload of the rejected request is skipped, so the connection can be kept alive. The requests served by the
+ * {@link org.glassfish.grizzly.http.server.FileCacheFilter} are not limited.
+ */
+public class RateLimitAddOn implements AddOn {
+    private final RateLimitFilter filter = new RateLimitFilter();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setup(final NetworkListener networkListener, final FilterChainBuilder builder) {
+        final int httpServerFilterIdx = builder.indexOfType(HttpServerFilter.class);
+
+        if (httpServerFilterIdx >= 0) {
+            // Insert the RateLimitFilter right before HttpServerFilter
+            builder.add(httpServerFilterIdx, filter);
+        }
+    }
+
+    /**
+     * Adds the {@link RequestLimit} applied to all the requests.
+     *
+     * @param limit the {@link RequestLimit}
+     */
+    public void addLimit(final RequestLimit limit) {
+        addLimit(null, limit);
+    }
+
+    /**
+     * Adds the {@link RequestLimit} applied to the requests mapped by the given {@link HttpHandlerRegistration}.
+     *
+     * @param registration the {@link HttpHandlerRegistration}, or <tt>null</tt> to apply the limit to all the requests
+     * @param limit the {@link RequestLimit}
+     */
+    public void addLimit(final HttpHandlerRegistration registration, final RequestLimit limit) {
+        if (limit == null) {
+            throw new IllegalArgumentException("limit can't be null");
+        }
+
+        filter.addLimit(registration, limit);
+    }
+
+    /**
+     * @return the number of the rejected requests
+     */
+    public long getRejectedCount() {
+        return filter.getRejectedCount();
+    }
+
+    /**
+     * @return the number of the admitted requests, which are limited and whose responses are not complete yet
+     */
+    public int getActiveCount() {
+        return filter.getActiveCount();
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.OutputSink;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.attributes.Attribute;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.FilterChainEvent;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.HttpContext;
+import org.glassfish.grizzly.http.HttpEvents;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.HttpServerFilter;
+import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.memory.Buffers;
+
+/**
+ * The filter, which admits the parsed requests before they're passed to the
+ * {@link org.glassfish.grizzly.http.server.HttpServerFilter}, and rejects the excess ones right away, so they never
+ * reach the {@link org.glassfish.grizzly.http.server.HttpHandler}.
+ *
+ * @see RateLimitAddOn
+ */
+final class RateLimitFilter extends BaseFilter {
+    private static final Admission REJECTED = new Admission(null);
+
+    /**
+     * The limits applied to all the requests
+     */
+    private final List<RequestLimit> limits = new CopyOnWriteArrayList<>();
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    /**
+     * The {@link Admission} of the request, it's stored on the {@link HttpRequestPacket}, so the requests processed
+     * concurrently on the same connection don't interfere
+     */
+    private final Attribute<Admission> admissionAttr = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(RateLimitFilter.class.getName() + ".admission");
+
+    // ----------------------------------------------------- Methods from Filter
+
+    @Override
+    public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+        final Object message = ctx.getMessage();
+        if (!(message instanceof HttpContent)) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpContent content = (HttpContent) message;
+        final HttpRequestPacket request = (HttpRequestPacket) content.getHttpHeader();
+
+        final Admission admission = admissionAttr.get(request);
+        if (admission == REJECTED) {
+            // the payload of the rejected request
+            if (content.isLast()) {
+                admissionAttr.remove(request);
+            }
+
+            return ctx.getStopAction();
+        } else if (admission != null) {
+            // the payload of the admitted request
+            return ctx.getInvokeAction();
+        }
+
+        final List<RequestLimit> requestLimits = getLimits(request);
+        if (requestLimits.isEmpty()) {
+            return ctx.getInvokeAction();
+        }
+
+        final long now = System.nanoTime();
+        final RequestLimit.Permit[] permits = new RequestLimit.Permit[requestLimits.size()];
+
+        for (int i = 0; i < permits.length; i++) {
+            final RequestLimit limit = requestLimits.get(i);
+            final String key = limit.getKey().get(request);
+            if (key == null) {
+                permits[i] = RequestLimit.Permit.NONE;
+                continue;
+            }
+
+            final RequestLimit.Permit permit = limit.tryAcquire(key, now);
+            if (permit == null) {
+                for (int j = 0; j < i; j++) {
+                    permits[j].cancel();
+                }
+
+                return reject(ctx, content, limit, limit.getRetryAfter(key, now));
+            }
+
+            permits[i] = permit;
+        }
+
+        admissionAttr.set(request, new Admission(permits));
+        activeCount.incrementAndGet();
+        return ctx.getInvokeAction();
+    }
+
+    @Override
+    public NextAction handleEvent(final FilterChainContext ctx, final FilterChainEvent event) throws IOException {
+        if (event.type() == HttpEvents.ResponseCompleteEvent.TYPE) {
+            final HttpContext httpContext = HttpContext.get(ctx);
+            final HttpRequestPacket request = httpContext != null ? httpContext.getRequest() : null;
+            final Admission admission = request != null ? admissionAttr.remove(request) : null;
+
+            if (admission != null && admission != REJECTED) {
+                final int status = request.getResponse().getStatus();
+                admission.release(System.nanoTime(), status == 503 || status == 504);
+                activeCount.decrementAndGet();
+            }
+        }
+
+        return ctx.getInvokeAction();
+    }
+
+    // ---------------------------------------------------------- Limit methods
+
+    void addLimit(final HttpHandlerRegistration registration, final RequestLimit limit) {
+        if (registration == null) {
+            limits.add(limit);
+            return;
+        }
+
+        synchronized (routes) {
+            for (final Route route : routes) {
+                if (route.registration.equals(registration)) {
+                    route.limits.add(limit);
+                    return;
+                }
+            }
+
+            final Route route = new Route(registration);
+            route.limits.add(limit);
+            routes.add(route);
+        }
+    }
+
+    long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    int getActiveCount() {
+        return activeCount.get();
+    }
+
+    // -------------------------------------------------------- Private methods
+
+    /**
+     * @return the limits applied to all the requests followed by the limits of the best matching route
+     */
+    private List<RequestLimit> getLimits(final HttpRequestPacket request) {
+        Route bestRoute = null;
+        long bestScore = -1;
+
+        if (!routes.isEmpty()) {
+            final String uri = request.getRequestURI();
+            for (final Route route : routes) {
+                final long score = route.match(uri);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestRoute = route;
+                }
+            }
+        }
+
+        if (bestRoute == null) {
+            return limits;
+        }
+
+        if (limits.isEmpty()) {
+            return bestRoute.limits;
+        }
+
+        final List<RequestLimit> result = new ArrayList<>(limits.size() + bestRoute.limits.size());
+        result.addAll(limits);
+        result.addAll(bestRoute.limits);
+        return result;
+    }
+
+    private NextAction reject(final FilterChainContext ctx, final HttpContent content, final RequestLimit limit, final long retryAfter) {
+        rejectedCount.incrementAndGet();
+
+        final HttpRequestPacket request = (HttpRequestPacket) content.getHttpHeader();
+        if (!content.isLast()) {
+            // skip the request payload
+            admissionAttr.set(request, REJECTED);
+        }
+
+        final HttpResponsePacket response = request.getResponse();
+        response.setStatus(limit.getRejectStatus());
+        if (retryAfter > 0) {
+            response.setHeader(Header.RetryAfter, Long.toString(retryAfter));
+        }
+
+        response.setContentLength(0);
+        ctx.write(HttpContent.builder(response).content(Buffers.EMPTY_BUFFER).last(true).build());
+
+        // Notify about response complete event, so the connection is returned to the keep-alive queue or closed
+        ctx.notifyDownstream(HttpServerFilter.RESPONSE_COMPLETE_EVENT);
+
+        return flush(ctx);
+    }
+
+    private NextAction flush(final FilterChainContext ctx) {
+        final HttpContext httpContext = HttpContext.get(ctx);
+        assert httpContext != null;
+        final OutputSink output = httpContext.getOutputSink();
+
+        if (output.canWrite()) { // if connection write queue is not overloaded
+            return ctx.getStopAction();
+        } else { // if connection write queue is overloaded
+
+            // prepare context for suspend
+            final NextAction suspendAction = ctx.getSuspendAction();
+            ctx.suspend();
+
+            // notify when connection becomes writable, so we can resume it
+            output.notifyCanWrite(new WriteHandler() {
+                @Override
+                public void onWritePossible() throws Exception {
+                    finish();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    finish();
+                }
+
+                private void finish() {
+                    ctx.completeAndRecycle();
+                }
+            });
+
+            return suspendAction;
+        }
+    }
+
+    /**
+     * The permits of the admitted request.
+     */
+    private static final class Admission {
+        private final RequestLimit.Permit[] permits;
+
+        Admission(final RequestLimit.Permit[] permits) {
+            this.permits = permits;
+        }
+
+        void release(final long now, final boolean isOverloaded) {
+            for (final RequestLimit.Permit permit : permits) {
+                permit.release(now, isOverloaded);
+            }
+        }
+    }
+
+    /**
+     * The limits of the {@link HttpHandlerRegistration}.
+     */
+    private static final class Route {
+        private final HttpHandlerRegistration registration;
+        private final List<RequestLimit> limits = new CopyOnWriteArrayList<>();
+
+        Route(final HttpHandlerRegistration registration) {
+            this.registration = registration;
+        }
+
+        /**
+         * Matches the request URI the same way the servlet mapping does: the longest context path wins, then the exact
+         * match, the longest path prefix, the extension and the default mapping.
+         *
+         * @return the match score, the higher is the better, or <tt>-1</tt>, if the URI doesn't match
+         */
+        long match(final String uri) {
+            final String contextPath = registration.getContextPath();
+            if (!uri.startsWith(contextPath) || uri.length() > contextPath.length() && uri.charAt(contextPath.length()) != '/') {
+                return -1;
+            }
+
+            final String path = uri.length() == contextPath.length() ? "/" : uri.substring(contextPath.length());
+            final String pattern = registration.getUrlPattern();
+            final long contextScore = (long) contextPath.length() << 32;
+
+            if (pattern.isEmpty() || "/".equals(pattern)) {
+                return contextScore;
+            }
+
+            if (pattern.startsWith("*.")) {
+                return path.endsWith(pattern.substring(1)) ? contextScore | 1L << 30 : -1;
+            }
+
+            if (pattern.endsWith("/*")) {
+                final String prefix = pattern.substring(0, pattern.length() - 2);
+                return path.equals(prefix) || path.startsWith(prefix) && path.charAt(prefix.length()) == '/'
+                        ? contextScore | 2L << 30 | prefix.length()
+                        : -1;
+            }
+
+            return path.equals(pattern) ? contextScore | 3L << 30 : -1;
+        }
+    }
+}
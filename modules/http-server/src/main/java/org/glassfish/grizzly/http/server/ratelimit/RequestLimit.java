@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.http.util.HttpStatus;
+
+/**
+ * The limit applied to the requests by the {@link RateLimitAddOn}. The limit state is tracked per {@link LimitKey}.
+ * The same <tt>RequestLimit</tt> instance registered for several routes shares its state between them.
+ */
+public abstract class RequestLimit {
+    /**
+     * The default max number of the keys, which are tracked separately
+     */
+    public static final int DEFAULT_MAX_KEYS = 65536;
+
+    private final LimitKey key;
+    private final HttpStatus rejectStatus;
+
+    RequestLimit(final LimitKey key, final HttpStatus rejectStatus) {
+        if (key == null) {
+            throw new IllegalArgumentException("key can't be null");
+        }
+
+        this.key = key;
+        this.rejectStatus = rejectStatus;
+    }
+
+    /**
+     * Returns the token bucket limit, which allows <tt>burst</tt> requests at once, and refills at the rate of
+     * <tt>permitsPerSecond</tt>. The rejected requests get the <tt>429</tt> response with the <tt>Retry-After</tt>
+     * header.
+     *
+     * @param key the {@link LimitKey}
+     * @param permitsPerSecond the number of requests allowed per second
+     * @param burst the bucket capacity
+     * @return the token bucket {@link RequestLimit}
+     */
+    public static RequestLimit tokenBucket(final LimitKey key, final double permitsPerSecond, final int burst) {
+        return new TokenBucketLimit(key, permitsPerSecond, burst, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * Returns the adaptive concurrency limit, which limits the number of requests processed at the same time. The limit
+     * is adjusted using AIMD: it's increased by one, once the limit's worth of requests complete in time, and is
+     * multiplied by <tt>0.9</tt> once a request takes longer than <tt>latencyThreshold</tt> or completes with
+     * <tt>503</tt> or <tt>504</tt>. The rejected requests get the <tt>503</tt> response.
+     *
+     * @param key the {@link LimitKey}
+     * @param minLimit the min concurrency limit
+     * @param maxLimit the max concurrency limit, which is also the initial limit
+     * @param latencyThreshold the request processing time, which is considered as overload
+     * @param timeUnit the <tt>latencyThreshold</tt> {@link TimeUnit}
+     * @return the adaptive concurrency {@link RequestLimit}
+     */
+    public static RequestLimit adaptiveConcurrency(final LimitKey key, final int minLimit, final int maxLimit, final long latencyThreshold,
+            final TimeUnit timeUnit) {
+        return new AdaptiveConcurrencyLimit(key, minLimit, maxLimit, timeUnit.toNanos(latencyThreshold), DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * @return the {@link LimitKey}
+     */
+    public LimitKey getKey() {
+        return key;
+    }
+
+    /**
+     * @return the status of the response to the rejected request
+     */
+    public HttpStatus getRejectStatus() {
+        return rejectStatus;
+    }
+
+    /**
+     * Tries to admit the request with the given key.
+     *
+     * @return the {@link Permit} to be released once the response is complete, or <tt>null</tt>, if the request is
+     * rejected
+     */
+    abstract Permit tryAcquire(String key, long now);
+
+    /**
+     * @return the number of seconds the client should wait before repeating the rejected request, or <tt>0</tt>, if
+     * unknown
+     */
+    abstract long getRetryAfter(String key, long now);
+
+    /**
+     * The admitted request.
+     */
+    interface Permit {
+        Permit NONE = new Permit() {
+            @Override
+            public void release(final long now, final boolean isOverloaded) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+
+        /**
+         * Releases the permit, once the response is complete.
+         *
+         * @param now the current {@link System#nanoTime()}
+         * @param isOverloaded <tt>true</tt>, if the response indicates the server is overloaded
+         */
+        void release(long now, boolean isOverloaded);
+
+        /**
+         * Releases the permit of the request, which hasn't been processed.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.http.util.HttpStatus;
+
+/**
+ * The token bucket limit. The bucket is implemented as the generic cell rate algorithm, so its state is a single
+ * <tt>long</tt> (the time the bucket gets full again), which is updated lock-free.
+ *
+ * Only the full bucket is evicted. The request, which takes the token from the evicted bucket concurrently, is not
+ * retried: the next request of the key gets the new full bucket, which is at most one token more than the key would
+ * have had.
+ */
+final class TokenBucketLimit extends RequestLimit {
+    /**
+     * The time to add one token to the bucket
+     */
+    private final long interval;
+
+    /**
+     * The time to fill the empty bucket, less one token
+     */
+    private final long tolerance;
+
+    private final LimitTable<Bucket> buckets;
+
+    TokenBucketLimit(final LimitKey key, final double permitsPerSecond, final int burst, final int maxKeys) {
+        super(key, HttpStatus.TOO_MANY_REQUESTS_429);
+
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond has to be positive");
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst can't be less than 1");
+        }
+
+        interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        tolerance = interval * (burst - 1);
+        buckets = new LimitTable<>(maxKeys, Bucket::new);
+    }
+
+    @Override
+    Permit tryAcquire(final String key, final long now) {
+        final AtomicLong fullTime = buckets.get(key, now).fullTime;
+
+        for (;;) {
+            final long current = fullTime.get();
+            final long start = current - now > 0 ? current : now;
+            if (start - now > tolerance) {
+                return null;
+            }
+
+            if (fullTime.compareAndSet(current, start + interval)) {
+                return Permit.NONE;
+            }
+        }
+    }
+
+    @Override
+    long getRetryAfter(final String key, final long now) {
+        final long wait = buckets.get(key, now).fullTime.get() - tolerance - now;
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static final class Bucket implements LimitTable.State {
+        private final AtomicLong fullTime;
+
+        Bucket(final long now) {
+            fullTime = new AtomicLong(now);
+        }
+
+        @Override
+        public boolean tryEvict(final long now) {
+            return fullTime.get() - now <= 0;
+        }
+    }
+}
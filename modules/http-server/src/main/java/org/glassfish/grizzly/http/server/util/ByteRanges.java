@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.glassfish.grizzly.http.util.HttpDateFormat;
+
+/**
+ * Utility methods to parse HTTP <tt>Range</tt> requests (RFC 7233) for static resources and to build single- and
+ * multi-part (<tt>multipart/byteranges</tt>) partial responses.
+ */
+public final class ByteRanges {
+
+    /**
+     * The only range unit supported by the static resource handlers.
+     */
+    public static final String BYTES_UNIT = "bytes";
+
+    /**
+     * The max number of ranges a single <tt>Range</tt> header is allowed to request (after coalescing). Requests asking
+     * for more ranges are served as if there was no <tt>Range</tt> header at all.
+     */
+    public static final int MAX_RANGES = 16;
+
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges; boundary=";
+
+    private ByteRanges() {
+    }
+
+    /**
+     * Parses the <tt>Range</tt> header value against the resource of the given length.
+     *
+     * @param rangeHeader the <tt>Range</tt> header value
+     * @param length the resource length
+     * @return the sorted and coalesced list of satisfiable ranges, an empty list if none of the ranges could be satisfied
+     * (<tt>416</tt> should be sent), or <tt>null</tt> if the header is absent, malformed or requests too many ranges, so
+     * the whole resource has to be served.
+     */
+    public static List<Range> parse(final String rangeHeader, final long length) {
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        final int eqIdx = rangeHeader.indexOf('=');
+        if (eqIdx == -1 || !BYTES_UNIT.equalsIgnoreCase(rangeHeader.substring(0, eqIdx).trim())) {
+            return null;
+        }
+
+        final List<Range> ranges = new ArrayList<>(2);
+        int start = eqIdx + 1;
+        final int headerLen = rangeHeader.length();
+        boolean hasSpec = false;
+
+        while (start <= headerLen) {
+            int end = rangeHeader.indexOf(',', start);
+            if (end == -1) {
+                end = headerLen;
+            }
+
+            final String spec = rangeHeader.substring(start, end).trim();
+            start = end + 1;
+
+            if (spec.isEmpty()) {
+                continue;
+            }
+
+            final int dashIdx = spec.indexOf('-');
+            if (dashIdx == -1) {
+                return null;
+            }
+
+            final long first;
+            final long last;
+            try {
+                if (dashIdx == 0) {
+                    // suffix-byte-range-spec: "-N" means the last N bytes
+                    final long suffixLength = parseLong(spec.substring(1));
+                    if (suffixLength < 0) {
+                        return null;
+                    }
+
+                    hasSpec = true;
+                    if (suffixLength == 0 || length == 0) {
+                        continue;
+                    }
+
+                    first = Math.max(0, length - suffixLength);
+                    last = length - 1;
+                } else {
+                    first = parseLong(spec.substring(0, dashIdx));
+                    final String lastStr = spec.substring(dashIdx + 1).trim();
+                    final long lastPos = lastStr.isEmpty() ? Long.MAX_VALUE : parseLong(lastStr);
+                    if (first < 0 || lastPos < 0 || lastPos < first) {
+                        return null;
+                    }
+
+                    hasSpec = true;
+                    if (first >= length) {
+                        continue;
+                    }
+
+                    last = Math.min(lastPos, length - 1);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            ranges.add(new Range(first, last));
+        }
+
+        if (!hasSpec) {
+            return null;
+        }
+
+        final List<Range> coalesced = coalesce(ranges);
+        return coalesced.size() > MAX_RANGES ? null : coalesced;
+    }
+
+    /**
+     * Checks the <tt>If-Range</tt> precondition.
+     *
+     * @param ifRange the <tt>If-Range</tt> header value, might be <tt>null</tt>
+     * @param eTag the current resource entity tag, might be <tt>null</tt>
+     * @param lastModified the current resource last-modified timestamp (in milliseconds), or <tt>-1</tt> if unknown
+     * @return <tt>true</tt> if the <tt>Range</tt> header has to be honored, or <tt>false</tt> if the whole resource has to
+     * be served
+     */
+    public static boolean isIfRangeSatisfied(final String ifRange, final String eTag, final long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+
+        final String value = ifRange.trim();
+        if (value.startsWith("W/")) {
+            // weak validators never match
+            return false;
+        }
+
+        if (value.startsWith("\"")) {
+            return value.equals(eTag);
+        }
+
+        if (lastModified < 0) {
+            return false;
+        }
+
+        final DateTimeFormatters formats = DateTimeFormatters.create();
+        try {
+            final long date = HttpDateFormat.parseDate(value, formats.getFormats());
+            return date != -1 && date / 1000 == lastModified / 1000;
+        } finally {
+            formats.recycle();
+        }
+    }
+
+    /**
+     * @return the <tt>Content-Range</tt> header value for the given range
+     */
+    public static String contentRange(final Range range, final long length) {
+        return BYTES_UNIT + ' ' + range.first + '-' + range.last + '/' + length;
+    }
+
+    /**
+     * @return the <tt>Content-Range</tt> header value to be sent with <tt>416</tt> response
+     */
+    public static String unsatisfiedContentRange(final long length) {
+        return BYTES_UNIT + " */" + length;
+    }
+
+    /**
+     * @return new random multipart boundary
+     */
+    public static String generateBoundary() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "GRIZZLY_" + Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+    }
+
+    /**
+     * @return the <tt>Content-Type</tt> header value of the <tt>multipart/byteranges</tt> response
+     */
+    public static String multipartContentType(final String boundary) {
+        return MULTIPART_BYTERANGES + boundary;
+    }
+
+    /**
+     * @return the multipart part header (including the leading delimiter), which precedes the range payload
+     */
+    public static byte[] partHeader(final String boundary, final String contentType, final Range range, final long length) {
+        final StringBuilder sb = new StringBuilder(96);
+        sb.append("\r\n--").append(boundary).append("\r\n");
+        if (contentType != null) {
+            sb.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        sb.append("Content-Range: ").append(contentRange(range, length)).append("\r\n\r\n");
+
+        return sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return the multipart close delimiter
+     */
+    public static byte[] closeDelimiter(final String boundary) {
+        return ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return the exact <tt>Content-Length</tt> of the <tt>multipart/byteranges</tt> response
+     */
+    public static long multipartLength(final String boundary, final String contentType, final List<Range> ranges, final long length) {
+        long total = closeDelimiter(boundary).length;
+        for (Range range : ranges) {
+            total += partHeader(boundary, contentType, range, length).length + range.getLength();
+        }
+
+        return total;
+    }
+
+    private static List<Range> coalesce(final List<Range> ranges) {
+        if (ranges.size() <= 1) {
+            return ranges;
+        }
+
+        Collections.sort(ranges);
+        final List<Range> result = new ArrayList<>(ranges.size());
+        Range current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            final Range next = ranges.get(i);
+            if (next.first <= current.last + 1) {
+                current = new Range(current.first, Math.max(current.last, next.last));
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        result.add(current);
+
+        return result;
+    }
+
+    private static long parseLong(final String s) {
+        final String value = s.trim();
+        if (value.isEmpty() || value.charAt(0) == '+') {
+            throw new NumberFormatException(value);
+        }
+
+        return Long.parseLong(value);
+    }
+
+    /**
+     * The satisfiable byte range, both positions are inclusive.
+     */
+    public static final class Range implements Comparable<Range> {
+        private final long first;
+        private final long last;
+
+        public Range(final long first, final long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        /**
+         * @return the position of the first byte in the range
+         */
+        public long getFirst() {
+            return first;
+        }
+
+        /**
+         * @return the position of the last byte in the range
+         */
+        public long getLast() {
+            return last;
+        }
+
+        /**
+         * @return the number of bytes in the range
+         */
+        public long getLength() {
+            return last - first + 1;
+        }
+
+        @Override
+        public int compareTo(final Range o) {
+            return Long.compare(first, o.first);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Range)) {
+                return false;
+            }
+
+            final Range range = (Range) o;
+            return first == range.first && last == range.last;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(first) + Long.hashCode(last);
+        }
+
+        @Override
+        public String toString() {
+            return first + "-" + last;
+        }
+    }
+}
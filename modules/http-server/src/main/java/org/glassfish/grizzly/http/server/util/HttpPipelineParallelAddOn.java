@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.http.HttpServerFilter;
+import org.glassfish.grizzly.http.server.AddOn;
+import org.glassfish.grizzly.http.server.NetworkListener;
+
+/**
+ * The plugin, that processes pipelined HTTP/1.1 requests in parallel. By default the requests pipelined on a connection
+ * are processed one by one: the next request is not parsed until the response to the previous one is complete. With
+ * this addon the safe requests (<tt>GET</tt>, <tt>HEAD</tt> and <tt>OPTIONS</tt> without a payload) are dispatched to
+ * the worker thread pool as soon as they're parsed, so the slow request doesn't delay the requests pipelined after it.
+ *
+ * <ul>
+ * <li>The responses are written in the order of the requests. The response, which is ready before the responses to
+ * the earlier requests, is kept in the per-connection reorder buffer.</li>
+ * <li>At most <tt>maxConcurrentRequests</tt> requests per connection are processed at the same time, the connection is
+ * not read while the limit is reached.</li>
+ * <li>If the reorder buffer exceeds <tt>maxBufferSize</tt> bytes, no more requests are dispatched and the out-of-order
+ * responses can't be written until the buffered responses are written, the same way as if the connection was slow:
+ * {@link org.glassfish.grizzly.http.io.NIOOutputStream#canWrite()} returns <tt>false</tt>, and the blocking writes
+ * wait. The buffer may exceed the limit by one write per response.</li>
+ * <li>Any other request (with a payload, not safe, or waiting for <tt>100-Continue</tt>) waits for the earlier
+ * requests to complete, so it's never processed concurrently with them. The upgrade requests disable the reordering
+ * for the connection.</li>
+ * </ul>
+ *
+ * The addon requires the worker thread pool, without it the requests are processed one by one. Please note, it
+ * can't be used together with the {@link HttpPipelineOptAddOn}, which is not thread-safe, and with the
+ * {@link ResponseCacheAddOn}, which expects one request per connection at a time.
+ */
+public class HttpPipelineParallelAddOn implements AddOn {
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    private static final int DEFAULT_MAX_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * max number of requests processed concurrently per connection
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * max number of the out-of-order response bytes buffered per connection
+     */
+    private final int maxBufferSize;
+
+    /**
+     * Constructs <tt>HttpPipelineParallelAddOn</tt>.
+     */
+    public HttpPipelineParallelAddOn() {
+        this(DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs <tt>HttpPipelineParallelAddOn</tt>.
+     *
+     * @param maxConcurrentRequests the max number of requests processed concurrently per connection
+     * @param maxBufferSize the max number of the out-of-order response bytes buffered per connection, before the
+     * requests stop being dispatched and the out-of-order responses stop being written
+     */
+    public HttpPipelineParallelAddOn(final int maxConcurrentRequests, final int maxBufferSize) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests can't be less than 1");
+        }
+
+        if (maxBufferSize < 0) {
+            throw new IllegalArgumentException("maxBufferSize can't be negative");
+        }
+
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * @return the max number of requests processed concurrently per connection
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return the max number of the out-of-order response bytes buffered per connection
+     */
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setup(final NetworkListener networkListener, final FilterChainBuilder builder) {
+        final int codecFilterIdx = builder.indexOfType(HttpServerFilter.class);
+
+        if (codecFilterIdx >= 0) {
+            final ParallelPipelineFilter filter = new ParallelPipelineFilter(maxConcurrentRequests, maxBufferSize);
+
+            // the requests are dispatched right after they're parsed, and the responses are reordered
+            // right after they're serialized, so the transport (and SSL) filters see them in order
+            builder.add(codecFilterIdx + 1, filter);
+            builder.add(codecFilterIdx, filter.getSequenceFilter());
+        }
+    }
+}
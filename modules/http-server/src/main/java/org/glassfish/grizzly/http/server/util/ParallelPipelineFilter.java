@@ -0,0 +1,685 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.FileTransfer;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.OutputSink;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.asyncqueue.MessageCloner;
+import org.glassfish.grizzly.attributes.Attribute;
+import org.glassfish.grizzly.attributes.AttributeHolder;
+import org.glassfish.grizzly.attributes.AttributeStorage;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.FilterChainEvent;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.HttpContext;
+import org.glassfish.grizzly.http.HttpEvents;
+import org.glassfish.grizzly.http.HttpHeader;
+import org.glassfish.grizzly.http.HttpPacket;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.Method;
+import org.glassfish.grizzly.http.Protocol;
+
+/**
+ * The filter, which dispatches the pipelined HTTP requests to the worker thread pool right after they're parsed. Its
+ * {@link SequenceFilter} sits right below the HTTP codec and writes the serialized responses in the order of the
+ * requests.
+ *
+ * Each request gets a response {@link Slot} in the per-connection {@link Pipeline}, the slot is attached to the
+ * request {@link FilterChainContext}, so it's inherited by all the writes and events initiated by the request
+ * processing. Only the oldest slot (the head) writes to the network directly, the messages of the other slots are
+ * kept suspended until the head response is complete. Once the held messages exceed the buffer size, the next requests
+ * are not dispatched and the requests, which are being processed out of order, can't write, until the held messages
+ * are written. The worker threads aren't blocked by the filter itself: each request gets its own {@link OutputSink},
+ * which reports the held messages as the write backpressure, so the non-blocking writers are notified once the head
+ * response is drained, while the blocking writers wait the same way as they do on a slow connection.
+ *
+ * @see HttpPipelineParallelAddOn
+ */
+final class ParallelPipelineFilter extends BaseFilter {
+    private enum Mode {
+        /**
+         * The safe request, which is processed concurrently with the other requests
+         */
+        PARALLEL,
+        /**
+         * The request, which is processed once the earlier requests are complete
+         */
+        SEQUENTIAL,
+        /**
+         * The upgrade request, after which the connection is processed as usual
+         */
+        EXCLUSIVE
+    }
+
+    private final int maxConcurrentRequests;
+    private final int maxBufferSize;
+
+    private final SequenceFilter sequenceFilter = new SequenceFilter();
+
+    private final Attribute<Pipeline> pipelineAttr = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(ParallelPipelineFilter.class.getName() + ".pipeline");
+
+    /**
+     * The response slot, the {@link FilterChainContext} (and the writes initiated with it) belongs to
+     */
+    private final Attribute<Slot> slotAttr = Grizzly.DEFAULT_ATTRIBUTE_BUILDER.createAttribute(ParallelPipelineFilter.class.getName() + ".slot");
+
+    ParallelPipelineFilter(final int maxConcurrentRequests, final int maxBufferSize) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * @return the filter, which has to be placed right below the HTTP codec filter to reorder the responses
+     */
+    SequenceFilter getSequenceFilter() {
+        return sequenceFilter;
+    }
+
+    // ----------------------------------------------------- Methods from Filter
+
+    @Override
+    public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+        final Object message = ctx.getMessage();
+        // blocking mode means this read is initiated from HttpHandler
+        if (!(message instanceof HttpContent) || ctx.getTransportContext().isBlocking()) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpContent content = (HttpContent) message;
+        final HttpHeader header = content.getHttpHeader();
+        if (!header.isRequest() || header.getProtocol() == Protocol.HTTP_2_0) {
+            return ctx.getInvokeAction();
+        }
+
+        final Connection connection = ctx.getConnection();
+        Pipeline pipeline = pipelineAttr.get(connection);
+        if (pipeline == null) {
+            pipeline = new Pipeline();
+            pipelineAttr.set(connection, pipeline);
+        }
+
+        final HttpContext httpContext = header.getProcessingState().getHttpContext();
+        if (pipeline.httpContext == httpContext) {
+            // the payload of the request, which is being processed
+            return ctx.getInvokeAction();
+        }
+
+        pipeline.httpContext = httpContext;
+
+        final Mode mode = getMode(connection, (HttpRequestPacket) header, content);
+        final Slot slot;
+        synchronized (pipeline) {
+            if (pipeline.isDisabled) {
+                return ctx.getInvokeAction();
+            }
+
+            if (!pipeline.canStart(mode)) {
+                // don't parse the next requests, until this one can be processed
+                pipeline.pendingCtx = ctx;
+                pipeline.pendingMode = mode;
+                ctx.suspend();
+                return ctx.getSuspendAction();
+            }
+
+            slot = pipeline.start(mode);
+        }
+
+        return start(ctx, mode, slot);
+    }
+
+    @Override
+    public NextAction handleWrite(final FilterChainContext ctx) throws IOException {
+        final Slot slot = slotAttr.get(ctx);
+        if (slot == null || !isLast(ctx.getMessage())) {
+            return ctx.getInvokeAction();
+        }
+
+        // pass the last message down to the SequenceFilter first, then complete the response
+        final NextAction suspendAction = ctx.getSuspendAction();
+        ctx.suspend();
+        ctx.resume(ctx.getInvokeAction());
+
+        slot.pipeline.complete(slot);
+        return suspendAction;
+    }
+
+    @Override
+    public NextAction handleEvent(final FilterChainContext ctx, final FilterChainEvent event) throws IOException {
+        if (event.type() != HttpEvents.ResponseCompleteEvent.TYPE) {
+            return ctx.getInvokeAction();
+        }
+
+        final Slot slot = slotAttr.get(ctx);
+        if (slot == null) {
+            return ctx.getInvokeAction();
+        }
+
+        // the HTTP codec might close the connection on response complete,
+        // so the event follows the response messages, which are not written yet
+        final NextAction suspendAction = ctx.getSuspendAction();
+        if (!slot.pipeline.holdEvent(ctx, slot)) {
+            return ctx.getInvokeAction();
+        }
+
+        slot.pipeline.drain();
+        return suspendAction;
+    }
+
+    @Override
+    public NextAction handleClose(final FilterChainContext ctx) throws IOException {
+        final Pipeline pipeline = pipelineAttr.get(ctx.getConnection());
+        if (pipeline != null) {
+            pipeline.close();
+        }
+
+        return ctx.getInvokeAction();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static Mode getMode(final Connection connection, final HttpRequestPacket request, final HttpContent content) {
+        final Method method = request.getMethod();
+        if (request.isUpgrade() || Method.CONNECT.equals(method) || Method.PRI.equals(method)) {
+            return Mode.EXCLUSIVE;
+        }
+
+        if ((Method.GET.equals(method) || Method.HEAD.equals(method) || Method.OPTIONS.equals(method)) && content.isLast()
+                && request.getContentLength() <= 0 && !request.isChunked() && !request.requiresAcknowledgement()
+                && connection.getTransport().getWorkerThreadPool() != null) {
+            return Mode.PARALLEL;
+        }
+
+        return Mode.SEQUENTIAL;
+    }
+
+    private static boolean isLast(final Object message) {
+        if (HttpPacket.isHttp(message)) {
+            final HttpPacket packet = (HttpPacket) message;
+            return HttpContent.isContent(packet) && ((HttpContent) packet).isLast();
+        }
+
+        // the FileCacheFilter sends the file after the response header
+        return message instanceof FileTransfer;
+    }
+
+    /**
+     * Starts the request processing.
+     *
+     * @return {@link NextAction} for the request {@link FilterChainContext}
+     */
+    private NextAction start(final FilterChainContext ctx, final Mode mode, final Slot slot) {
+        final HttpRequestPacket request = (HttpRequestPacket) ((HttpContent) ctx.getMessage()).getHttpHeader();
+
+        switch (mode) {
+        case PARALLEL:
+            final FilterChainContext copy = ctx.copy();
+            copy.setMessage(ctx.getMessage());
+            // the remainder (next pipelined requests) is processed with the original context
+            copy.setStartIdx(copy.getFilterIdx());
+            slotAttr.set(copy, slot);
+            slotAttr.remove(ctx);
+            isolate(copy, request, slot);
+
+            execute(ctx.getConnection(), () -> copy.resume(copy.getInvokeAction()));
+
+            // parse the next request
+            return ctx.getStopAction();
+        case SEQUENTIAL:
+            slotAttr.set(ctx, slot);
+            slot.pipeline.httpContext = isolate(ctx, request, slot);
+            return ctx.getInvokeAction();
+        default:
+            slotAttr.remove(ctx);
+            return ctx.getInvokeAction();
+        }
+    }
+
+    /**
+     * Attaches the stand-in request to the held event, because the request is recycled once its response is complete.
+     * The stand-in keeps the request keep-alive state, so the HTTP codec closes the connection, if needed.
+     */
+    private static void detach(final FilterChainContext ctx) {
+        final HttpContext httpContext = HttpContext.get(ctx);
+        final HttpRequestPacket request = httpContext.getRequest();
+
+        final HttpRequestPacket standIn = HttpRequestPacket.builder().method(request.getMethod()).uri(request.getRequestURI())
+                .protocol(request.getProtocol()).build();
+        standIn.setExpectContent(false);
+        standIn.getProcessingState().setKeepAlive(request.getProcessingState().isKeepAlive());
+
+        final HttpContext standInContext = HttpContext.newInstance(httpContext.getContextStorage(), httpContext.getOutputSink(),
+                httpContext.getCloseable(), standIn);
+        // the HTTP codec closes the connection using the request context
+        standIn.getProcessingState().setHttpContext(standInContext);
+        standInContext.attach(ctx);
+    }
+
+    /**
+     * Attaches the request own {@link HttpContext}, so the concurrent requests don't share the attributes, which are
+     * normally stored on the {@link Connection} (like the request being processed by the <tt>HttpServerFilter</tt>).
+     * The request writes are checked against the slot {@link SlotOutputSink}.
+     */
+    private static HttpContext isolate(final FilterChainContext ctx, final HttpRequestPacket request, final Slot slot) {
+        final HttpContext connectionContext = request.getProcessingState().getHttpContext();
+        slot.outputSink = connectionContext.getOutputSink();
+        final HttpContext httpContext = HttpContext.newInstance(new RequestAttributes(connectionContext.getContextStorage()),
+                new SlotOutputSink(slot), connectionContext.getCloseable(), request);
+
+        request.getProcessingState().setHttpContext(httpContext);
+        return httpContext.attach(ctx);
+    }
+
+    /**
+     * Starts the processing of the request, which waited for the earlier requests to complete.
+     */
+    private void resume(final FilterChainContext ctx, final Mode mode, final Slot slot) {
+        execute(ctx.getConnection(), () -> ctx.resume(start(ctx, mode, slot)));
+    }
+
+    private static void execute(final Connection connection, final Runnable task) {
+        final ExecutorService executor = connection.getTransport().getWorkerThreadPool();
+        if (executor != null) {
+            executor.execute(task);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * The filter, which keeps the serialized out-of-order responses, until the responses to the earlier requests are
+     * written.
+     */
+    final class SequenceFilter extends BaseFilter {
+
+        @Override
+        public NextAction handleWrite(final FilterChainContext ctx) throws IOException {
+            final Slot slot = slotAttr.get(ctx);
+            if (slot == null) {
+                return ctx.getInvokeAction();
+            }
+
+            final NextAction suspendAction = ctx.getSuspendAction();
+            return slot.pipeline.holdWrite(ctx, slot) ? suspendAction : ctx.getInvokeAction();
+        }
+    }
+
+    /**
+     * The response to the single request.
+     */
+    private static final class Slot {
+        private final Pipeline pipeline;
+
+        /**
+         * The suspended write and event contexts, which wait for the earlier responses to be written
+         */
+        private final Deque<HeldMessage> held = new ArrayDeque<>();
+
+        /**
+         * true, if this is the head slot and its messages are written directly
+         */
+        private boolean isLive;
+
+        /**
+         * true, if the response last message has been written (or held)
+         */
+        private boolean isComplete;
+
+        /**
+         * true, if the slot has been removed from the pipeline
+         */
+        private boolean isDone;
+
+        /**
+         * The connection {@link OutputSink}
+         */
+        private OutputSink outputSink;
+
+        /**
+         * The handler, which waits for the held messages to be written
+         */
+        private WriteHandler writeHandler;
+
+        Slot(final Pipeline pipeline) {
+            this.pipeline = pipeline;
+        }
+    }
+
+    /**
+     * The request {@link OutputSink}, which doesn't allow the out-of-order response to write, once the held messages
+     * exceed the buffer size.
+     */
+    private static final class SlotOutputSink implements OutputSink {
+        private final Slot slot;
+
+        SlotOutputSink(final Slot slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public void notifyCanWrite(final WriteHandler handler) {
+            if (!slot.pipeline.holdWriteHandler(slot, handler)) {
+                slot.outputSink.notifyCanWrite(handler);
+            }
+        }
+
+        @Deprecated
+        @Override
+        public void notifyCanWrite(final WriteHandler handler, final int length) {
+            notifyCanWrite(handler);
+        }
+
+        @Override
+        public boolean canWrite() {
+            return !slot.pipeline.isWriteBlocked(slot) && slot.outputSink.canWrite();
+        }
+
+        @Deprecated
+        @Override
+        public boolean canWrite(final int length) {
+            return canWrite();
+        }
+    }
+
+    /**
+     * The request attributes, initialized with the connection attributes (like the HTTP keep-alive state).
+     */
+    private static final class RequestAttributes implements AttributeStorage {
+        private final AttributeHolder attributes = Grizzly.DEFAULT_ATTRIBUTE_BUILDER.createSafeAttributeHolder();
+
+        RequestAttributes(final AttributeStorage connectionStorage) {
+            connectionStorage.getAttributes().copyTo(attributes);
+        }
+
+        @Override
+        public AttributeHolder getAttributes() {
+            return attributes;
+        }
+    }
+
+    private static final class HeldMessage {
+        private final FilterChainContext ctx;
+        private final int size;
+
+        HeldMessage(final FilterChainContext ctx, final int size) {
+            this.ctx = ctx;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The per-connection state: the slots of the requests being processed in the order of the requests, and the
+     * request, which waits to be processed.
+     */
+    private final class Pipeline {
+        private final Deque<Slot> slots = new ArrayDeque<>();
+
+        /**
+         * The HTTP context of the last request, accessed from the connection read only
+         */
+        private HttpContext httpContext;
+
+        private FilterChainContext pendingCtx;
+        private Mode pendingMode;
+
+        private int heldBytes;
+        private boolean isDraining;
+        private boolean isDisabled;
+
+        boolean canStart(final Mode mode) {
+            if (mode == Mode.PARALLEL) {
+                return slots.size() < maxConcurrentRequests && heldBytes <= maxBufferSize;
+            }
+
+            return slots.isEmpty();
+        }
+
+        Slot start(final Mode mode) {
+            if (mode == Mode.EXCLUSIVE) {
+                isDisabled = true;
+                return null;
+            }
+
+            final Slot slot = new Slot(this);
+            slot.isLive = slots.isEmpty();
+            slots.addLast(slot);
+            return slot;
+        }
+
+        /**
+         * @return true, if the write has been suspended
+         */
+        synchronized boolean holdWrite(final FilterChainContext ctx, final Slot slot) {
+            if (slot.isLive || slot.isDone) {
+                return false;
+            }
+
+            Object message = ctx.getMessage();
+            int size = 0;
+            if (message instanceof Buffer) {
+                // the caller expects the message to be either written, or cloned before it's queued
+                @SuppressWarnings("unchecked")
+                final MessageCloner<Buffer> cloner = ctx.getTransportContext().getMessageCloner();
+                if (cloner != null) {
+                    message = cloner.clone(ctx.getConnection(), (Buffer) message);
+                    ctx.setMessage(message);
+                    ctx.getTransportContext().setMessageCloner(null);
+                }
+
+                size = ((Buffer) message).remaining();
+            }
+
+            // if the reorder buffer is full, the next requests are not dispatched (see canStart),
+            // and the slot can't write (see isWriteBlocked), but the message, which is being written, is still held
+            ctx.suspend();
+            slot.held.add(new HeldMessage(ctx, size));
+            heldBytes += size;
+            return true;
+        }
+
+        /**
+         * @return true, if the slot writes have to wait for the held messages to be written
+         */
+        synchronized boolean isWriteBlocked(final Slot slot) {
+            return !slot.isLive && !slot.isDone && heldBytes > maxBufferSize;
+        }
+
+        /**
+         * @return true, if the handler will be notified by {@link #drain()}
+         */
+        synchronized boolean holdWriteHandler(final Slot slot, final WriteHandler handler) {
+            if (!isWriteBlocked(slot)) {
+                return false;
+            }
+
+            if (slot.writeHandler != null && slot.writeHandler != handler) {
+                throw new IllegalStateException("Illegal attempt to set a new handler before the existing handler has been notified.");
+            }
+
+            slot.writeHandler = handler;
+            return true;
+        }
+
+        /**
+         * Collects the handlers of the slots, which can write now, as the tasks passing them to the connection
+         * {@link OutputSink}.
+         */
+        private void releaseWriteHandlers(final List<Runnable> released) {
+            for (final Slot slot : slots) {
+                if (!isWriteBlocked(slot)) {
+                    releaseWriteHandler(slot, released);
+                }
+            }
+        }
+
+        private void releaseWriteHandler(final Slot slot, final List<Runnable> released) {
+            final WriteHandler handler = slot.writeHandler;
+            if (handler != null) {
+                slot.writeHandler = null;
+                final OutputSink outputSink = slot.outputSink;
+                released.add(() -> outputSink.notifyCanWrite(handler));
+            }
+        }
+
+        /**
+         * Runs the tasks in the current thread, because the blocking writers might occupy all the worker threads.
+         */
+        private void notifyWriteHandlers(final List<Runnable> released) {
+            for (final Runnable task : released) {
+                task.run();
+            }
+        }
+
+        /**
+         * @return true, if the event has been suspended
+         */
+        synchronized boolean holdEvent(final FilterChainContext ctx, final Slot slot) {
+            if (slot.isDone) {
+                return false;
+            }
+
+            slot.isComplete = true;
+            detach(ctx);
+            ctx.suspend();
+            slot.held.add(new HeldMessage(ctx, 0));
+            return true;
+        }
+
+        void complete(final Slot slot) {
+            synchronized (this) {
+                if (slot.isDone) {
+                    return;
+                }
+
+                slot.isComplete = true;
+            }
+
+            drain();
+        }
+
+        /**
+         * Writes the held messages of the head slot, and moves to the next slot once the head response is complete.
+         * Only one thread drains the pipeline at a time.
+         */
+        void drain() {
+            synchronized (this) {
+                if (isDraining) {
+                    return;
+                }
+
+                isDraining = true;
+            }
+
+            for (;;) {
+                final HeldMessage message;
+                FilterChainContext pending = null;
+                Mode mode = null;
+                Slot slot = null;
+                final List<Runnable> released = new ArrayList<>(0);
+                boolean isIdle = false;
+
+                synchronized (this) {
+                    final Slot head = slots.peekFirst();
+                    if (head == null) {
+                        isDraining = false;
+                        return;
+                    }
+
+                    message = head.held.poll();
+                    if (message != null) {
+                        heldBytes -= message.size;
+                    } else if (head.isComplete) {
+                        slots.pollFirst();
+                        head.isDone = true;
+                        releaseWriteHandler(head, released);
+                    } else {
+                        head.isLive = true;
+                        isDraining = false;
+                        isIdle = true;
+                    }
+
+                    // the request waits for either the earlier requests to complete, or the reorder buffer to drain
+                    if (pendingCtx != null && canStart(pendingMode)) {
+                        pending = pendingCtx;
+                        mode = pendingMode;
+                        slot = start(mode);
+                        pendingCtx = null;
+                        pendingMode = null;
+                    }
+
+                    releaseWriteHandlers(released);
+                }
+
+                notifyWriteHandlers(released);
+
+                if (pending != null) {
+                    resume(pending, mode, slot);
+                }
+
+                if (message != null) {
+                    message.ctx.resume(message.ctx.getInvokeAction());
+                } else if (isIdle) {
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            final List<HeldMessage> messages = new ArrayList<>();
+            final FilterChainContext pending;
+            final List<Runnable> released = new ArrayList<>(0);
+
+            synchronized (this) {
+                isDisabled = true;
+                for (final Slot slot : slots) {
+                    slot.isDone = true;
+                    releaseWriteHandler(slot, released);
+                    messages.addAll(slot.held);
+                    slot.held.clear();
+                }
+
+                slots.clear();
+                heldBytes = 0;
+                pending = pendingCtx;
+                pendingCtx = null;
+            }
+
+            // the writes will fail, as the connection is closed
+            notifyWriteHandlers(released);
+            for (final HeldMessage message : messages) {
+                message.ctx.resume(message.ctx.getInvokeAction());
+            }
+
+            if (pending != null) {
+                pending.completeAndRecycle();
+            }
+        }
+    }
+}
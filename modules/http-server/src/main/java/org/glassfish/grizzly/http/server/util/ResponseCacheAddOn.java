@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.http.server.AddOn;
+import org.glassfish.grizzly.http.server.HttpServerFilter;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http.server.filecache.FileCache;
+
+/**
+ * ResponseCacheAddOn installs the shared HTTP response cache in front of the {@link HttpServerFilter}. Unlike the
+ * {@link FileCache}, which caches static files only, the cache stores the responses produced by any
+ * {@link org.glassfish.grizzly.http.server.HttpHandler}, if they are cacheable according to their
+ * <tt>Cache-Control</tt>, <tt>Expires</tt>, <tt>ETag</tt> and <tt>Last-Modified</tt> headers.
+ *
+ * <ul>
+ * <li>Only <tt>GET</tt> responses are stored, <tt>HEAD</tt> requests are served from the stored <tt>GET</tt>
+ * responses. The entries are keyed by the method, <tt>Host</tt>, request URI and query, and by the values of the
+ * request headers listed in the response <tt>Vary</tt> header.</li>
+ * <li>The payload is stored in a direct (off-heap) buffer, before the content encodings (like gzip) are applied, so
+ * the same entry is served to clients accepting different content encodings.</li>
+ * <li>The conditional requests (<tt>If-None-Match</tt>, <tt>If-Modified-Since</tt>) are answered from the cache. The
+ * expired entry is revalidated with the conditional request, if the <tt>HttpHandler</tt> responds with <tt>304</tt>
+ * the stored payload is reused.</li>
+ * <li>The expired entry is still served within the <tt>stale-while-revalidate</tt> window, while a single request
+ * revalidates it.</li>
+ * <li>The concurrent requests missing the same entry are coalesced: only one of them runs the <tt>HttpHandler</tt>,
+ * the others wait for its response to be stored and are served from the cache. The number of the waiting requests
+ * and the time they wait are limited, the requests over the limits are passed to the <tt>HttpHandler</tt>.</li>
+ * <li>If the response turns out to be not cacheable (<tt>Cache-Control: no-store</tt> or <tt>private</tt>,
+ * <tt>Set-Cookie</tt>, <tt>Vary: *</tt>), the cache remembers it for the hit-for-pass timeout, so the following requests
+ * for the URI are passed to the <tt>HttpHandler</tt> right away, without being coalesced.</li>
+ * <li>When the cache is full, the expired entries are removed first, then the entries, which expire the soonest.</li>
+ * </ul>
+ *
+ * The response being captured is tracked per request, so the cache works with the requests processed concurrently on
+ * the same connection (see {@link HttpPipelineParallelAddOn}).
+ *
+ * Requests with the <tt>Authorization</tt> header or a body, and responses with the <tt>Set-Cookie</tt> header or
+ * <tt>Cache-Control: private</tt> or <tt>no-store</tt> are never cached.
+ */
+public class ResponseCacheAddOn implements AddOn {
+    private static final int DEFAULT_MAX_CACHE_ENTRIES = 1024;
+    private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+    private static final long DEFAULT_MAX_CACHE_SIZE = 64L * 1024 * 1024;
+    private static final int DEFAULT_MAX_COALESCED_REQUESTS = 256;
+    private static final long DEFAULT_COALESCING_TIMEOUT_MILLIS = 10000;
+    private static final long DEFAULT_HIT_FOR_PASS_TIMEOUT_MILLIS = 120000;
+
+    private volatile int maxCacheEntries = DEFAULT_MAX_CACHE_ENTRIES;
+    private volatile int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+    private volatile long maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+    private volatile int maxCoalescedRequests = DEFAULT_MAX_COALESCED_REQUESTS;
+    private volatile long coalescingTimeoutMillis = DEFAULT_COALESCING_TIMEOUT_MILLIS;
+    private volatile long hitForPassTimeoutMillis = DEFAULT_HIT_FOR_PASS_TIMEOUT_MILLIS;
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(this);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setup(final NetworkListener networkListener, final FilterChainBuilder builder) {
+        final int httpServerFilterIdx = builder.indexOfType(HttpServerFilter.class);
+
+        if (httpServerFilterIdx >= 0) {
+            filter.initialize(((HttpServerFilter) builder.get(httpServerFilterIdx)).getDelayedExecutor());
+
+            // Insert the ResponseCacheFilter right before HttpServerFilter
+            builder.add(httpServerFilterIdx, filter);
+        }
+    }
+
+    /**
+     * @return the max number of the cached responses
+     */
+    public int getMaxCacheEntries() {
+        return maxCacheEntries;
+    }
+
+    /**
+     * Sets the max number of the cached responses.
+     *
+     * @param maxCacheEntries the max number of the cached responses
+     */
+    public void setMaxCacheEntries(final int maxCacheEntries) {
+        this.maxCacheEntries = maxCacheEntries;
+    }
+
+    /**
+     * @return the max payload size of the response to be cached
+     */
+    public int getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * Sets the max payload size of the response to be cached. The larger responses are passed through.
+     *
+     * @param maxEntrySize the max payload size in bytes
+     */
+    public void setMaxEntrySize(final int maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    /**
+     * @return the max total payload size of the cached responses
+     */
+    public long getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    /**
+     * Sets the max total payload size of the cached responses, which is the max amount of the direct memory used by the
+     * cache.
+     *
+     * @param maxCacheSize the max total payload size in bytes
+     */
+    public void setMaxCacheSize(final long maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * @return the max number of the requests, which wait for the concurrent request to fetch the same response
+     */
+    public int getMaxCoalescedRequests() {
+        return maxCoalescedRequests;
+    }
+
+    /**
+     * Sets the max number of the requests, which wait for the concurrent request to fetch the same response. The
+     * requests over the limit are passed to the {@link org.glassfish.grizzly.http.server.HttpHandler}.
+     *
+     * @param maxCoalescedRequests the max number of the waiting requests per cached URI
+     */
+    public void setMaxCoalescedRequests(final int maxCoalescedRequests) {
+        this.maxCoalescedRequests = maxCoalescedRequests;
+    }
+
+    /**
+     * @return the max time in milliseconds the requests wait for the concurrent request to fetch the same response
+     */
+    public long getCoalescingTimeoutMillis() {
+        return coalescingTimeoutMillis;
+    }
+
+    /**
+     * Sets the max time the requests wait for the concurrent request to fetch the same response. Once the time is
+     * over, the waiting requests are passed to the {@link org.glassfish.grizzly.http.server.HttpHandler}.
+     *
+     * @param coalescingTimeoutMillis the max wait time in milliseconds
+     */
+    public void setCoalescingTimeoutMillis(final long coalescingTimeoutMillis) {
+        this.coalescingTimeoutMillis = coalescingTimeoutMillis;
+    }
+
+    /**
+     * @return the time in milliseconds the cache remembers the request URI, which response is not cacheable
+     */
+    public long getHitForPassTimeoutMillis() {
+        return hitForPassTimeoutMillis;
+    }
+
+    /**
+     * Sets the time the cache remembers the request URI, which response is not cacheable. During that time the
+     * requests for the URI are passed to the {@link org.glassfish.grizzly.http.server.HttpHandler} without being
+     * coalesced. The value of <tt>0</tt> disables the hit-for-pass.
+     *
+     * @param hitForPassTimeoutMillis the hit-for-pass timeout in milliseconds
+     */
+    public void setHitForPassTimeoutMillis(final long hitForPassTimeoutMillis) {
+        this.hitForPassTimeoutMillis = hitForPassTimeoutMillis;
+    }
+
+    /**
+     * @return the number of the cached responses
+     */
+    public int getEntriesCount() {
+        return filter.getEntriesCount();
+    }
+
+    /**
+     * @return the total payload size of the cached responses
+     */
+    public long getCacheSize() {
+        return filter.getCacheSize();
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public void clear() {
+        filter.clear();
+    }
+}
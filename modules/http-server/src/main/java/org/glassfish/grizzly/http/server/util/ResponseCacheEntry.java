@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.http.HttpRequestPacket;
+
+/**
+ * The cached HTTP response: the status, headers and the payload stored in a direct (off-heap) {@link ByteBuffer}.
+ * The entry is immutable, the revalidated entry is replaced with a copy, which shares the payload.
+ *
+ * @see ResponseCacheAddOn
+ */
+final class ResponseCacheEntry {
+    private static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+    /**
+     * Orders the entries by the time they can't be served anymore, the soonest first
+     */
+    static final Comparator<ResponseCacheEntry> EXPIRY_ORDER = Comparator.<ResponseCacheEntry> comparingLong(e -> e.staleTime)
+            .thenComparingLong(e -> e.id);
+
+    /**
+     * The cache key of the request URI, the entry has been stored for
+     */
+    final String key;
+    final long id = ID_GENERATOR.incrementAndGet();
+
+    final int status;
+    final String reasonPhrase;
+    final String contentType;
+    final String[] headerNames;
+    final String[] headerValues;
+
+    /**
+     * The names of the request headers listed in the response <tt>Vary</tt> header and their values, the entry has been
+     * stored for
+     */
+    final String[] varyNames;
+    final String[] varyValues;
+
+    final ByteBuffer payload;
+
+    final String etag;
+    final String lastModifiedHeader;
+    final long lastModified;
+
+    /**
+     * The time the entry has been stored or revalidated
+     */
+    final long storedTime;
+
+    /**
+     * The time, until which the entry may be served without revalidation
+     */
+    final long expirationTime;
+
+    /**
+     * The time, until which the stale entry may be served, while it's being revalidated
+     */
+    final long staleTime;
+
+    ResponseCacheEntry(final String key, final int status, final String reasonPhrase, final String contentType, final String[] headerNames, final String[] headerValues,
+            final String[] varyNames, final String[] varyValues, final ByteBuffer payload, final String etag, final String lastModifiedHeader,
+            final long lastModified, final long storedTime, final long expirationTime, final long staleTime) {
+        this.key = key;
+        this.status = status;
+        this.reasonPhrase = reasonPhrase;
+        this.contentType = contentType;
+        this.headerNames = headerNames;
+        this.headerValues = headerValues;
+        this.varyNames = varyNames;
+        this.varyValues = varyValues;
+        this.payload = payload;
+        this.etag = etag;
+        this.lastModifiedHeader = lastModifiedHeader;
+        this.lastModified = lastModified;
+        this.storedTime = storedTime;
+        this.expirationTime = expirationTime;
+        this.staleTime = staleTime;
+    }
+
+    /**
+     * @return the copy of this entry with the updated freshness, the payload is shared
+     */
+    ResponseCacheEntry revalidate(final long storedTime, final long expirationTime, final long staleTime) {
+        return new ResponseCacheEntry(key, status, reasonPhrase, contentType, headerNames, headerValues, varyNames, varyValues, payload, etag,
+                lastModifiedHeader, lastModified, storedTime, expirationTime, staleTime);
+    }
+
+    /**
+     * @return <tt>true</tt> if the request headers, listed in the response <tt>Vary</tt> header, have the same values as
+     * the ones this entry has been stored for
+     */
+    boolean matches(final HttpRequestPacket request) {
+        for (int i = 0; i < varyNames.length; i++) {
+            if (!Objects.equals(varyValues[i], request.getHeader(varyNames[i]))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    boolean isVariantOf(final ResponseCacheEntry entry) {
+        if (varyNames.length != entry.varyNames.length) {
+            return false;
+        }
+
+        for (int i = 0; i < varyNames.length; i++) {
+            if (!varyNames[i].equalsIgnoreCase(entry.varyNames[i]) || !Objects.equals(varyValues[i], entry.varyValues[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    boolean isFresh(final long now) {
+        return now < expirationTime;
+    }
+
+    boolean isStaleUsable(final long now) {
+        return now < staleTime;
+    }
+
+    boolean hasValidators() {
+        return etag != null || lastModifiedHeader != null;
+    }
+
+    /**
+     * @return the number of payload bytes
+     */
+    int size() {
+        return payload.capacity();
+    }
+}
@@ -0,0 +1,1115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.CloseListener;
+import org.glassfish.grizzly.CloseType;
+import org.glassfish.grizzly.Closeable;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.OutputSink;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.attributes.Attribute;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.HttpContext;
+import org.glassfish.grizzly.http.HttpHeader;
+import org.glassfish.grizzly.http.HttpPacket;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.Method;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.http.util.HttpDateFormat;
+import org.glassfish.grizzly.http.util.HttpStatus;
+import org.glassfish.grizzly.http.util.MimeHeaders;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+
+/**
+ * The filter, which serves the cached responses and captures the cacheable responses produced by the
+ * {@link org.glassfish.grizzly.http.server.HttpHandler}s.
+ *
+ * @see ResponseCacheAddOn
+ */
+final class ResponseCacheFilter extends BaseFilter {
+    private static final Logger LOGGER = Grizzly.logger(ResponseCacheFilter.class);
+
+    private static final ResponseCacheEntry[] NO_ENTRIES = new ResponseCacheEntry[0];
+    private static final String[] NO_STRINGS = new String[0];
+
+    /**
+     * The max number of the response variants (see the <tt>Vary</tt> header) stored per request URI
+     */
+    private static final int MAX_VARIANTS = 8;
+
+    private static final int INITIAL_PAYLOAD_SIZE = 4096;
+
+    /**
+     * The response headers, which are not stored, because they're either hop-by-hop, or generated for each response
+     */
+    private static final Set<String> UNSTORED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    static {
+        for (final Header header : new Header[] { Header.Connection, Header.KeepAlive, Header.ProxyConnection, Header.TE, Header.Trailer,
+                Header.TransferEncoding, Header.Upgrade, Header.ContentLength, Header.ContentType, Header.Date, Header.Age }) {
+            UNSTORED_HEADERS.add(header.toString());
+        }
+    }
+
+    private final ResponseCacheAddOn config;
+    private final ConcurrentMap<String, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger entriesCount = new AtomicInteger();
+    private final AtomicLong cacheSize = new AtomicLong();
+
+    /**
+     * The stored entries ordered by their expiration, so the expired entries are found without scanning the cache, and
+     * the entries, which expire the soonest, are evicted first, when the cache is full
+     */
+    private final ConcurrentSkipListSet<ResponseCacheEntry> expiryOrder = new ConcurrentSkipListSet<>(ResponseCacheEntry.EXPIRY_ORDER);
+
+    /**
+     * The hit-for-pass markers in the order they expire (they all have the same timeout)
+     */
+    private final ConcurrentLinkedQueue<PassMarker> passMarkers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger passMarkersCount = new AtomicInteger();
+
+    /**
+     * The response being captured, it's stored on the {@link HttpRequestPacket}, so the requests processed
+     * concurrently on the same connection don't interfere
+     */
+    private final Attribute<ResponseCapture> captureAttr = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(ResponseCacheFilter.class.getName() + ".capture");
+
+    /**
+     * Expires the requests waiting for the concurrent fetch, <tt>null</tt> if there is no {@link DelayedExecutor}
+     */
+    private volatile DelayedExecutor.DelayQueue<Slot> coalescingTimeoutQueue;
+
+    ResponseCacheFilter(final ResponseCacheAddOn config) {
+        this.config = config;
+    }
+
+    void initialize(final DelayedExecutor delayedExecutor) {
+        if (delayedExecutor != null) {
+            coalescingTimeoutQueue = delayedExecutor.createDelayQueue(new CoalescingTimeoutWorker(), new CoalescingTimeoutResolver());
+        }
+    }
+
+    // ----------------------------------------------------- Methods from Filter
+
+    @Override
+    public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+        final Object message = ctx.getMessage();
+        if (!(message instanceof HttpContent)) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpContent requestContent = (HttpContent) message;
+        final HttpRequestPacket request = (HttpRequestPacket) requestContent.getHttpHeader();
+        final Method method = request.getMethod();
+        final boolean isHead = Method.HEAD.equals(method);
+
+        if (!isHead && !Method.GET.equals(method) || !requestContent.isLast() || request.getContentLength() > 0 || request.isChunked()
+                || request.getHeader(Header.Authorization) != null) {
+            return ctx.getInvokeAction();
+        }
+
+        final String cacheControl = request.getHeader(Header.CacheControl);
+        if (hasDirective(cacheControl, "no-store")) {
+            return ctx.getInvokeAction();
+        }
+
+        final boolean isNoCache = hasDirective(cacheControl, "no-cache") || "no-cache".equalsIgnoreCase(request.getHeader(Header.Pragma));
+        final String key = getKey(request);
+        final long now = System.currentTimeMillis();
+
+        final Slot cachedSlot = slots.get(key);
+        if (cachedSlot != null && cachedSlot.isPass(now)) {
+            // hit-for-pass: the response is known to be not cacheable
+            return ctx.getInvokeAction();
+        }
+
+        if (!isNoCache) {
+            final ResponseCacheEntry entry = cachedSlot != null ? cachedSlot.select(request) : null;
+            if (entry != null) {
+                if (entry.isFresh(now)) {
+                    return serve(ctx, request, entry, now);
+                }
+
+                if (entry.isStaleUsable(now)) {
+                    // serve the stale entry, unless this request can revalidate it
+                    if (isHead || cachedSlot.tryStartFetch(null, now) != FetchAction.FETCH) {
+                        return serve(ctx, request, entry, now);
+                    }
+
+                    startCapture(ctx, cachedSlot, request, entry);
+                    return ctx.getInvokeAction();
+                }
+            }
+        }
+
+        if (isHead) {
+            return ctx.getInvokeAction();
+        }
+
+        while (true) {
+            final Slot slot = slots.computeIfAbsent(key, Slot::new);
+            switch (slot.tryStartFetch(isNoCache ? null : ctx, now)) {
+            case RETRY:
+                continue;
+            case WAIT:
+                // the context has been suspended, it's resumed once the concurrent request completes
+                return ctx.getSuspendAction();
+            case PASS:
+                // the response is being fetched by another request already
+                return ctx.getInvokeAction();
+            default:
+                startCapture(ctx, slot, request, slot.select(request));
+                return ctx.getInvokeAction();
+            }
+        }
+    }
+
+    @Override
+    public NextAction handleWrite(final FilterChainContext ctx) throws IOException {
+        final Object message = ctx.getMessage();
+        if (!(message instanceof HttpPacket)) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpPacket packet = (HttpPacket) message;
+        final HttpHeader header = packet.getHttpHeader();
+        if (header.isRequest()) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpRequestPacket request = ((HttpResponsePacket) header).getRequest();
+        final ResponseCapture capture = request != null ? captureAttr.get(request) : null;
+        if (capture == null) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpResponsePacket response = (HttpResponsePacket) header;
+        final long now = System.currentTimeMillis();
+
+        if (capture.state == CaptureState.NEW) {
+            beginCapture(capture, response, now);
+        }
+
+        if (!(packet instanceof HttpContent)) {
+            return ctx.getInvokeAction();
+        }
+
+        final HttpContent httpContent = (HttpContent) packet;
+
+        switch (capture.state) {
+        case REVALIDATED:
+            if (httpContent.isLast()) {
+                if (capture.isRewrite) {
+                    // the client hasn't sent the conditional request, so send the stored payload
+                    ctx.setMessage(HttpContent.builder(response).content(wrap(ctx, capture.revalidatedEntry)).last(true).build());
+                }
+
+                complete(capture, capture.revalidatedEntry, now);
+            }
+            break;
+        case STORING:
+            if (!append(capture, httpContent.getContent())) {
+                capture.payload = null;
+                capture.state = CaptureState.PASSING;
+            }
+
+            if (httpContent.isLast()) {
+                complete(capture, capture.state == CaptureState.STORING ? createEntry(capture, now) : null, now);
+            }
+            break;
+        default:
+            if (httpContent.isLast()) {
+                complete(capture, null, now);
+            }
+        }
+
+        return ctx.getInvokeAction();
+    }
+
+    // ---------------------------------------------------------- Cache methods
+
+    int getEntriesCount() {
+        return entriesCount.get();
+    }
+
+    long getCacheSize() {
+        return cacheSize.get();
+    }
+
+    void clear() {
+        final long now = System.currentTimeMillis();
+        for (final Slot slot : slots.values()) {
+            synchronized (slot) {
+                for (final ResponseCacheEntry entry : slot.variants) {
+                    slot.remove(entry);
+                }
+
+                removeIfEmpty(slot, now);
+            }
+        }
+    }
+
+    // -------------------------------------------------------- Private methods
+
+    private NextAction serve(final FilterChainContext ctx, final HttpRequestPacket request, final ResponseCacheEntry entry, final long now) {
+        final HttpResponsePacket response = request.getResponse();
+
+        if (entry.status == HttpStatus.OK_200.getStatusCode() && isNotModified(request, entry)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED_304);
+            applyHeaders(response, entry, now);
+            ctx.write(HttpContent.builder(response).content(Buffers.EMPTY_BUFFER).last(true).build());
+            return flush(ctx);
+        }
+
+        applyEntry(response, entry, now);
+        ctx.write(HttpContent.builder(response).content(wrap(ctx, entry)).last(true).build());
+        return flush(ctx);
+    }
+
+    private void startCapture(final FilterChainContext ctx, final Slot slot, final HttpRequestPacket request,
+            final ResponseCacheEntry entry) {
+        final MimeHeaders headers = request.getHeaders();
+        final boolean isConditional = headers.getValue(Header.IfNoneMatch) != null || headers.getValue(Header.IfModifiedSince) != null;
+
+        boolean isValidatorAdded = false;
+        if (entry != null && entry.hasValidators() && !isConditional) {
+            // revalidate the stored entry, instead of fetching it again
+            if (entry.etag != null) {
+                headers.setValue(Header.IfNoneMatch).setString(entry.etag);
+            }
+
+            if (entry.lastModifiedHeader != null) {
+                headers.setValue(Header.IfModifiedSince).setString(entry.lastModifiedHeader);
+            }
+
+            isValidatorAdded = true;
+        }
+
+        final ResponseCapture capture = new ResponseCapture(this, ctx.getConnection(), slot, request, entry, isValidatorAdded);
+        captureAttr.set(request, capture);
+        // complete the capture, if the connection is closed before the response is written
+        capture.connection.addCloseListener(capture);
+    }
+
+    /**
+     * Checks the response, once it's committed, and decides whether it has to be stored.
+     */
+    private void beginCapture(final ResponseCapture capture, final HttpResponsePacket response, final long now) {
+        capture.state = CaptureState.PASSING;
+
+        final int status = response.getStatus();
+        final ResponseCacheEntry entry = capture.entry;
+
+        if (status == HttpStatus.NOT_MODIFIED_304.getStatusCode()) {
+            if (entry != null) {
+                long[] freshness = getFreshness(response, now);
+                if (freshness == null) {
+                    // keep the original freshness lifetime
+                    freshness = new long[] { now + entry.expirationTime - entry.storedTime, now + entry.staleTime - entry.storedTime };
+                }
+
+                capture.revalidatedEntry = entry.revalidate(now, freshness[0], freshness[1]);
+                capture.state = CaptureState.REVALIDATED;
+
+                if (capture.isValidatorAdded) {
+                    applyEntry(response, capture.revalidatedEntry, now);
+                    capture.isRewrite = true;
+                }
+            }
+
+            return;
+        }
+
+        if (!isCacheable(response)) {
+            capture.isPass = true;
+            return;
+        }
+
+        if (!isStorable(response)) {
+            return;
+        }
+
+        long[] freshness = getFreshness(response, now);
+        final String etag = response.getHeader(Header.ETag);
+        final String lastModifiedHeader = response.getHeader(Header.LastModified);
+        if (freshness == null) {
+            if (etag == null && lastModifiedHeader == null) {
+                return;
+            }
+
+            // the entry can't be served without revalidation
+            freshness = new long[] { now, now };
+        }
+
+        final String vary = response.getHeader(Header.Vary);
+        final String[] varyNames = vary != null ? splitList(vary) : NO_STRINGS;
+        final String[] varyValues = new String[varyNames.length];
+        for (int i = 0; i < varyNames.length; i++) {
+            varyValues[i] = capture.request.getHeader(varyNames[i]);
+        }
+
+        final long contentLength = response.getContentLength();
+        final int maxEntrySize = config.getMaxEntrySize();
+        if (contentLength > maxEntrySize) {
+            return;
+        }
+
+        final MimeHeaders headers = response.getHeaders();
+        final List<String> headerNames = new ArrayList<>(headers.size());
+        final List<String> headerValues = new ArrayList<>(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            final String name = headers.getName(i).toString();
+            if (!UNSTORED_HEADERS.contains(name)) {
+                headerNames.add(name);
+                headerValues.add(headers.getValue(i).toString());
+            }
+        }
+
+        capture.status = status;
+        capture.reasonPhrase = response.getReasonPhrase();
+        capture.contentType = response.getContentType();
+        capture.headerNames = headerNames.toArray(NO_STRINGS);
+        capture.headerValues = headerValues.toArray(NO_STRINGS);
+        capture.varyNames = varyNames;
+        capture.varyValues = varyValues;
+        capture.etag = etag;
+        capture.lastModifiedHeader = lastModifiedHeader;
+        capture.expirationTime = freshness[0];
+        capture.staleTime = freshness[1];
+        capture.payload = ByteBuffer.allocateDirect((int) (contentLength >= 0 ? contentLength : Math.min(INITIAL_PAYLOAD_SIZE, maxEntrySize)));
+        capture.state = CaptureState.STORING;
+    }
+
+    private boolean append(final ResponseCapture capture, final Buffer content) {
+        final int remaining = content.remaining();
+        if (remaining == 0) {
+            return true;
+        }
+
+        ByteBuffer payload = capture.payload;
+        if (payload.remaining() < remaining) {
+            final int maxEntrySize = config.getMaxEntrySize();
+            final long required = (long) payload.position() + remaining;
+            if (required > maxEntrySize) {
+                return false;
+            }
+
+            final ByteBuffer newPayload = ByteBuffer.allocateDirect((int) Math.min(Math.max(required, payload.capacity() * 2L), maxEntrySize));
+            payload.flip();
+            newPayload.put(payload);
+            capture.payload = payload = newPayload;
+        }
+
+        // the view is duplicated, so the content position isn't changed
+        payload.put(content.toByteBuffer().duplicate());
+        return true;
+    }
+
+    private static ResponseCacheEntry createEntry(final ResponseCapture capture, final long now) {
+        ByteBuffer payload = capture.payload;
+        payload.flip();
+        if (payload.limit() != payload.capacity()) {
+            // don't keep the unused direct memory
+            final ByteBuffer exactPayload = ByteBuffer.allocateDirect(payload.limit());
+            exactPayload.put(payload);
+            exactPayload.flip();
+            payload = exactPayload;
+        }
+
+        return new ResponseCacheEntry(capture.slot.key, capture.status, capture.reasonPhrase, capture.contentType, capture.headerNames, capture.headerValues,
+                capture.varyNames, capture.varyValues, payload, capture.etag, capture.lastModifiedHeader,
+                capture.lastModifiedHeader != null ? HttpDateFormat.parseDate(capture.lastModifiedHeader, null) : -1, now,
+                capture.expirationTime, capture.staleTime);
+    }
+
+    /**
+     * Completes the response capture: stores the entry, if it's not <tt>null</tt>, and resumes the requests waiting for
+     * the response.
+     */
+    private void complete(final ResponseCapture capture, final ResponseCacheEntry entry, final long now) {
+        if (!capture.markCompleted()) {
+            return;
+        }
+
+        if (captureAttr.get(capture.request) == capture) {
+            captureAttr.remove(capture.request);
+        }
+        capture.connection.removeCloseListener(capture);
+
+        if (entry != null && !hasCapacity(entry.size()) && entry.size() <= config.getMaxCacheSize()) {
+            evict(entry.size(), now);
+        }
+
+        final boolean isPassMarked = capture.isPass && markPass(capture.slot, now);
+
+        final Slot slot = capture.slot;
+        final boolean isStored;
+        final List<FilterChainContext> waiters;
+
+        synchronized (slot) {
+            slot.isFetching = false;
+            isStored = entry != null && store(slot, entry);
+            if (!isStored && capture.entry != null && capture.entry != entry) {
+                // the stored entry is not valid anymore
+                slot.remove(capture.entry);
+            }
+
+            if (isPassMarked) {
+                slot.passUntil = now + config.getHitForPassTimeoutMillis();
+            }
+
+            waiters = slot.waiters;
+            slot.waiters = null;
+            removeIfEmpty(slot, now);
+        }
+
+        final DelayedExecutor.DelayQueue<Slot> timeoutQueue = coalescingTimeoutQueue;
+        if (waiters != null && timeoutQueue != null) {
+            timeoutQueue.remove(slot);
+        }
+
+        if (waiters != null) {
+            for (final FilterChainContext waiter : waiters) {
+                resume(waiter, isStored);
+            }
+        }
+    }
+
+    private boolean hasCapacity(final int size) {
+        return entriesCount.get() < config.getMaxCacheEntries() && cacheSize.get() + size <= config.getMaxCacheSize();
+    }
+
+    /**
+     * Must be called holding the {@link Slot} lock.
+     */
+    private boolean store(final Slot slot, final ResponseCacheEntry entry) {
+        if (slot.isRemoved) {
+            return false;
+        }
+
+        final ResponseCacheEntry[] variants = slot.variants;
+        for (int i = 0; i < variants.length; i++) {
+            if (variants[i].isVariantOf(entry)) {
+                final int sizeDelta = entry.size() - variants[i].size();
+                if (sizeDelta > 0 && cacheSize.get() + sizeDelta > config.getMaxCacheSize()) {
+                    return false;
+                }
+
+                final ResponseCacheEntry[] newVariants = variants.clone();
+                expiryOrder.remove(newVariants[i]);
+                newVariants[i] = entry;
+                slot.variants = newVariants;
+                expiryOrder.add(entry);
+                cacheSize.addAndGet(sizeDelta);
+                return true;
+            }
+        }
+
+        if (variants.length >= MAX_VARIANTS || !hasCapacity(entry.size())) {
+            return false;
+        }
+
+        final ResponseCacheEntry[] newVariants = Arrays.copyOf(variants, variants.length + 1);
+        newVariants[variants.length] = entry;
+        slot.variants = newVariants;
+        expiryOrder.add(entry);
+        entriesCount.incrementAndGet();
+        cacheSize.addAndGet(entry.size());
+        return true;
+    }
+
+    /**
+     * Must be called holding the {@link Slot} lock.
+     */
+    private void removeIfEmpty(final Slot slot, final long now) {
+        if (slot.variants.length == 0 && !slot.isFetching && !slot.isPass(now)) {
+            slot.isRemoved = true;
+            slots.remove(slot.key, slot);
+        }
+    }
+
+    /**
+     * Removes the expired entries, and if it's not enough to store the entry of the given size, the entries which expire
+     * the soonest. Only the entries, which have to be removed, are visited.
+     */
+    private void evict(final int size, final long now) {
+        ResponseCacheEntry entry;
+        while ((entry = expiryOrder.pollFirst()) != null) {
+            if (entry.isStaleUsable(now) && hasCapacity(size)) {
+                // the entry doesn't have to be removed, put it back
+                expiryOrder.add(entry);
+                return;
+            }
+
+            final Slot slot = slots.get(entry.key);
+            if (slot != null) {
+                synchronized (slot) {
+                    slot.remove(entry);
+                    removeIfEmpty(slot, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the hit-for-pass marker of the {@link Slot}, first the expired markers are removed. The number of the
+     * markers is limited by the max number of the cache entries.
+     *
+     * @return <tt>true</tt> if the marker can be set
+     */
+    private boolean markPass(final Slot slot, final long now) {
+        final long timeout = config.getHitForPassTimeoutMillis();
+        if (timeout <= 0) {
+            return false;
+        }
+
+        PassMarker marker;
+        while ((marker = passMarkers.peek()) != null && marker.passUntil - now <= 0) {
+            if (passMarkers.remove(marker)) {
+                passMarkersCount.decrementAndGet();
+                final Slot markedSlot = marker.slot;
+                synchronized (markedSlot) {
+                    if (markedSlot.passUntil == marker.passUntil) {
+                        markedSlot.passUntil = 0;
+                    }
+
+                    removeIfEmpty(markedSlot, now);
+                }
+            }
+        }
+
+        if (passMarkersCount.incrementAndGet() > config.getMaxCacheEntries()) {
+            passMarkersCount.decrementAndGet();
+            return false;
+        }
+
+        passMarkers.add(new PassMarker(slot, now + timeout));
+        return true;
+    }
+
+    /**
+     * Resumes the requests waiting for the slow concurrent fetch, they're passed to the HttpHandler.
+     */
+    private void expireWaiters(final Slot slot) {
+        final List<FilterChainContext> waiters;
+        synchronized (slot) {
+            waiters = slot.waiters;
+            slot.waiters = null;
+        }
+
+        if (waiters != null) {
+            for (final FilterChainContext waiter : waiters) {
+                resume(waiter, false);
+            }
+        }
+    }
+
+    /**
+     * Resumes the request, which waited for the concurrent request to fetch the response. If the response has been
+     * stored - the request is served from the cache, otherwise it's passed to the HttpHandler.
+     */
+    private void resume(final FilterChainContext ctx, final boolean isStored) {
+        final Runnable task = () -> {
+            NextAction action = ctx.getInvokeAction();
+            if (isStored) {
+                try {
+                    action = handleRead(ctx);
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Can't serve the cached response", e);
+                }
+            }
+
+            // the suspend action means the request is either waiting again, or is being served asynchronously
+            if (action != ctx.getSuspendAction()) {
+                ctx.resume(action);
+            }
+        };
+
+        final ExecutorService executor = ctx.getConnection().getTransport().getWorkerThreadPool();
+        if (executor != null) {
+            executor.execute(task);
+        } else {
+            task.run();
+        }
+    }
+
+    private static void applyEntry(final HttpResponsePacket response, final ResponseCacheEntry entry, final long now) {
+        response.setStatus(entry.status);
+        if (entry.reasonPhrase != null) {
+            response.setReasonPhrase(entry.reasonPhrase);
+        }
+
+        if (entry.contentType != null) {
+            response.setContentType(entry.contentType);
+        }
+
+        applyHeaders(response, entry, now);
+        response.setContentLengthLong(entry.size());
+    }
+
+    private static void applyHeaders(final HttpResponsePacket response, final ResponseCacheEntry entry, final long now) {
+        final MimeHeaders headers = response.getHeaders();
+        for (final String name : entry.headerNames) {
+            headers.removeHeader(name);
+        }
+
+        for (int i = 0; i < entry.headerNames.length; i++) {
+            headers.addValue(entry.headerNames[i]).setString(entry.headerValues[i]);
+        }
+
+        headers.setValue(Header.Age).setString(Long.toString(Math.max(0, now - entry.storedTime) / 1000));
+    }
+
+    private static Buffer wrap(final FilterChainContext ctx, final ResponseCacheEntry entry) {
+        return Buffers.wrap(ctx.getMemoryManager(), entry.payload.duplicate());
+    }
+
+    private static boolean isNotModified(final HttpRequestPacket request, final ResponseCacheEntry entry) {
+        final String ifNoneMatch = request.getHeader(Header.IfNoneMatch);
+        if (ifNoneMatch != null) {
+            if (entry.etag == null) {
+                return false;
+            }
+
+            for (final String etag : splitList(ifNoneMatch)) {
+                if ("*".equals(etag) || weakEtag(etag).equals(weakEtag(entry.etag))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        final String ifModifiedSince = request.getHeader(Header.IfModifiedSince);
+        if (ifModifiedSince != null && entry.lastModified != -1) {
+            final long since = HttpDateFormat.parseDate(ifModifiedSince, null);
+            return since != -1 && entry.lastModified <= since;
+        }
+
+        return false;
+    }
+
+    private static String weakEtag(final String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * @return <tt>false</tt> if the response is explicitly marked as not cacheable, so the following requests for the
+     * same URI shouldn't wait for the response to be fetched
+     */
+    private static boolean isCacheable(final HttpResponsePacket response) {
+        final String cacheControl = response.getHeader(Header.CacheControl);
+        if (response.getHeader(Header.SetCookie) != null || hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "private")) {
+            return false;
+        }
+
+        final String vary = response.getHeader(Header.Vary);
+        if (vary != null) {
+            for (final String name : splitList(vary)) {
+                if ("*".equals(name)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isStorable(final HttpResponsePacket response) {
+        switch (response.getStatus()) {
+        case 200:
+        case 203:
+        case 300:
+        case 301:
+        case 404:
+        case 410:
+            break;
+        default:
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the expiration and the stale-while-revalidate times, or <tt>null</tt> if the response doesn't define its
+     * freshness lifetime
+     */
+    private static long[] getFreshness(final HttpResponsePacket response, final long now) {
+        final String cacheControl = response.getHeader(Header.CacheControl);
+
+        long maxAge = hasDirective(cacheControl, "no-cache") ? 0 : getDirectiveValue(cacheControl, "s-maxage");
+        if (maxAge < 0) {
+            maxAge = getDirectiveValue(cacheControl, "max-age");
+        }
+
+        final long expirationTime;
+        if (maxAge >= 0) {
+            expirationTime = now + maxAge * 1000;
+        } else {
+            final String expires = response.getHeader(Header.Expires);
+            final long expiresTime = expires != null ? HttpDateFormat.parseDate(expires, null) : -1;
+            if (expiresTime == -1) {
+                return null;
+            }
+
+            expirationTime = expiresTime;
+        }
+
+        final long staleWhileRevalidate = hasDirective(cacheControl, "must-revalidate") || hasDirective(cacheControl, "proxy-revalidate") ? 0
+                : getDirectiveValue(cacheControl, "stale-while-revalidate");
+
+        return new long[] { expirationTime, expirationTime + Math.max(0, staleWhileRevalidate) * 1000 };
+    }
+
+    private static boolean hasDirective(final String cacheControl, final String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+
+        for (final String token : splitList(cacheControl)) {
+            final int eq = token.indexOf('=');
+            if ((eq == -1 ? token : token.substring(0, eq).trim()).equalsIgnoreCase(directive)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the directive value in seconds, or <tt>-1</tt> if the directive is not present or invalid
+     */
+    private static long getDirectiveValue(final String cacheControl, final String directive) {
+        if (cacheControl == null) {
+            return -1;
+        }
+
+        for (final String token : splitList(cacheControl)) {
+            final int eq = token.indexOf('=');
+            if (eq != -1 && token.substring(0, eq).trim().equalsIgnoreCase(directive)) {
+                String value = token.substring(eq + 1).trim();
+                if (value.length() > 1 && value.charAt(0) == '"') {
+                    value = value.substring(1, value.length() - 1);
+                }
+
+                try {
+                    return Math.max(0, Long.parseLong(value));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private static String[] splitList(final String value) {
+        final String[] tokens = value.split(",");
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokens[i].trim();
+        }
+
+        return tokens;
+    }
+
+    private static String getKey(final HttpRequestPacket request) {
+        final StringBuilder sb = new StringBuilder(64);
+        sb.append(Method.GET.getMethodString()).append(' ');
+
+        final String host = request.getHeader(Header.Host);
+        if (host != null) {
+            sb.append(host);
+        }
+
+        sb.append(request.getRequestURI());
+
+        final String query = request.getQueryString();
+        if (query != null) {
+            sb.append('?').append(query);
+        }
+
+        return sb.toString();
+    }
+
+    private NextAction flush(final FilterChainContext ctx) {
+        final HttpContext httpContext = HttpContext.get(ctx);
+        assert httpContext != null;
+        final OutputSink output = httpContext.getOutputSink();
+
+        if (output.canWrite()) { // if connection write queue is not overloaded
+            return ctx.getStopAction();
+        } else { // if connection write queue is overloaded
+
+            // prepare context for suspend
+            final NextAction suspendAction = ctx.getSuspendAction();
+            ctx.suspend();
+
+            // notify when connection becomes writable, so we can resume it
+            output.notifyCanWrite(new WriteHandler() {
+                @Override
+                public void onWritePossible() throws Exception {
+                    finish();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    finish();
+                }
+
+                private void finish() {
+                    ctx.completeAndRecycle();
+                }
+            });
+
+            return suspendAction;
+        }
+    }
+
+    /**
+     * The cached variants of the single request URI, and the state of the request fetching the response for the URI.
+     */
+    private final class Slot {
+        private final String key;
+        private volatile ResponseCacheEntry[] variants = NO_ENTRIES;
+        private volatile boolean isRemoved;
+
+        /**
+         * The time until which the requests are passed through, <tt>0</tt> if the response is cacheable
+         */
+        private volatile long passUntil;
+
+        private boolean isFetching;
+        private long fetchStartTime;
+        private List<FilterChainContext> waiters;
+
+        /**
+         * The time the waiting requests expire, see {@link CoalescingTimeoutResolver}
+         */
+        private volatile long coalescingTimeout = DelayedExecutor.UNSET_TIMEOUT;
+
+        Slot(final String key) {
+            this.key = key;
+        }
+
+        boolean isPass(final long now) {
+            final long until = passUntil;
+            return until != 0 && until - now > 0;
+        }
+
+        ResponseCacheEntry select(final HttpRequestPacket request) {
+            for (final ResponseCacheEntry entry : variants) {
+                if (entry.matches(request)) {
+                    return entry;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * @param waiter the {@link FilterChainContext} to be suspended and resumed once the concurrent fetch is
+         * completed, or <tt>null</tt>
+         * @return {@link FetchAction#FETCH} if the caller is responsible for fetching the response,
+         * {@link FetchAction#WAIT} if the waiter has been suspended, {@link FetchAction#PASS} if the request has to be
+         * passed to the HttpHandler, or {@link FetchAction#RETRY} if the slot has been removed
+         */
+        synchronized FetchAction tryStartFetch(final FilterChainContext waiter, final long now) {
+            if (isRemoved) {
+                return FetchAction.RETRY;
+            }
+
+            if (!isFetching) {
+                isFetching = true;
+                fetchStartTime = now;
+                return FetchAction.FETCH;
+            }
+
+            final long timeout = config.getCoalescingTimeoutMillis();
+            if (waiter == null || now - fetchStartTime >= timeout || waiters != null && waiters.size() >= config.getMaxCoalescedRequests()) {
+                return FetchAction.PASS;
+            }
+
+            if (waiters == null) {
+                waiters = new ArrayList<>(4);
+                final DelayedExecutor.DelayQueue<Slot> timeoutQueue = coalescingTimeoutQueue;
+                if (timeoutQueue != null) {
+                    timeoutQueue.add(this, fetchStartTime + timeout - now, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            // suspend before the waiter is visible to the fetching request, which resumes it
+            waiter.suspend();
+            waiters.add(waiter);
+            return FetchAction.WAIT;
+        }
+
+        /**
+         * Must be called holding the {@link Slot} lock.
+         */
+        void remove(final ResponseCacheEntry entry) {
+            final List<ResponseCacheEntry> list = new ArrayList<>(Arrays.asList(variants));
+            if (list.remove(entry)) {
+                variants = list.toArray(NO_ENTRIES);
+                expiryOrder.remove(entry);
+                entriesCount.decrementAndGet();
+                cacheSize.addAndGet(-entry.size());
+            }
+        }
+    }
+
+    private enum CaptureState {
+        NEW, STORING, REVALIDATED, PASSING
+    }
+
+    private enum FetchAction {
+        FETCH, WAIT, PASS, RETRY
+    }
+
+    private static final class PassMarker {
+        final Slot slot;
+        final long passUntil;
+
+        PassMarker(final Slot slot, final long passUntil) {
+            this.slot = slot;
+            this.passUntil = passUntil;
+        }
+    }
+
+    private final class CoalescingTimeoutWorker implements DelayedExecutor.Worker<Slot> {
+        @Override
+        public boolean doWork(final Slot slot) {
+            expireWaiters(slot);
+            return true;
+        }
+    }
+
+    private static final class CoalescingTimeoutResolver implements DelayedExecutor.Resolver<Slot> {
+        @Override
+        public boolean removeTimeout(final Slot slot) {
+            if (slot.coalescingTimeout != DelayedExecutor.UNSET_TIMEOUT) {
+                slot.coalescingTimeout = DelayedExecutor.UNSET_TIMEOUT;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public long getTimeoutMillis(final Slot slot) {
+            return slot.coalescingTimeout;
+        }
+
+        @Override
+        public void setTimeoutMillis(final Slot slot, final long timeoutMillis) {
+            slot.coalescingTimeout = timeoutMillis;
+        }
+    }
+
+    /**
+     * The response of the request, which fetches or revalidates the cache entry.
+     */
+    private static final class ResponseCapture implements CloseListener<Closeable, CloseType> {
+        final ResponseCacheFilter filter;
+        final Connection connection;
+        final Slot slot;
+        final HttpRequestPacket request;
+
+        /**
+         * The stored entry being revalidated, or <tt>null</tt>
+         */
+        final ResponseCacheEntry entry;
+
+        /**
+         * <tt>true</tt> if the validators have been added by the cache, so the client expects the full response
+         */
+        final boolean isValidatorAdded;
+
+        /**
+         * <tt>true</tt> if the response is not cacheable, so the hit-for-pass marker has to be set
+         */
+        boolean isPass;
+
+        private final AtomicBoolean isCompleted = new AtomicBoolean();
+
+        CaptureState state = CaptureState.NEW;
+        ResponseCacheEntry revalidatedEntry;
+        boolean isRewrite;
+
+        int status;
+        String reasonPhrase;
+        String contentType;
+        String[] headerNames;
+        String[] headerValues;
+        String[] varyNames;
+        String[] varyValues;
+        String etag;
+        String lastModifiedHeader;
+        long expirationTime;
+        long staleTime;
+        ByteBuffer payload;
+
+        ResponseCapture(final ResponseCacheFilter filter, final Connection connection, final Slot slot, final HttpRequestPacket request,
+                final ResponseCacheEntry entry, final boolean isValidatorAdded) {
+            this.filter = filter;
+            this.connection = connection;
+            this.slot = slot;
+            this.request = request;
+            this.entry = entry;
+            this.isValidatorAdded = isValidatorAdded;
+        }
+
+        /**
+         * @return <tt>true</tt> if the capture is completed by the caller
+         */
+        boolean markCompleted() {
+            return isCompleted.compareAndSet(false, true);
+        }
+
+        @Override
+        public void onClosed(final Closeable closeable, final CloseType type) throws IOException {
+            filter.complete(this, null, System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.glassfish.grizzly.http.server.NetworkListener.DEFAULT_NETWORK_HOST;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link Request#getBodyPublisher()} and {@link Response#setBodyPublisher(Flow.Publisher)} tests.
+ */
+public class BodyFlowTest {
+    private static final int PORT = 18913;
+
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    @Before
+    public void before() throws Exception {
+        httpServer = new HttpServer();
+        httpServer.addListener(new NetworkListener("grizzly", DEFAULT_NETWORK_HOST, PORT));
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void after() throws Exception {
+        httpServer.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEchoLargeBody() throws Exception {
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                response.setContentType("application/octet-stream");
+                response.setContentLengthLong(request.getContentLengthLong());
+                response.setBodyPublisher(request.getBodyPublisher());
+            }
+        }, "/echo");
+        httpServer.start();
+
+        final int length = 16 * 1024 * 1024;
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.setSoTimeout(30000);
+
+            // the body is sent and received concurrently, otherwise the echo would stall once the socket buffers are full
+            final Future<Long> sentChecksum = executor.submit(new Callable<Long>() {
+                @Override
+                public Long call() throws Exception {
+                    final OutputStream out = socket.getOutputStream();
+                    out.write(("POST /echo HTTP/1.1\r\nHost: localhost:" + PORT + "\r\nContent-Length: " + length + "\r\n\r\n")
+                            .getBytes(StandardCharsets.US_ASCII));
+
+                    final Random random = new Random(1);
+                    final CRC32 crc32 = new CRC32();
+                    final byte[] chunk = new byte[8192];
+                    for (int sent = 0; sent < length; sent += chunk.length) {
+                        random.nextBytes(chunk);
+                        crc32.update(chunk);
+                        out.write(chunk);
+                    }
+                    out.flush();
+                    return crc32.getValue();
+                }
+            });
+
+            final InputStream in = socket.getInputStream();
+            assertEquals("HTTP/1.1 200 OK", readHead(in).split("\r\n")[0]);
+
+            final CRC32 crc32 = new CRC32();
+            final byte[] chunk = new byte[8192];
+            int received = 0;
+            while (received < length) {
+                final int len = in.read(chunk, 0, Math.min(chunk.length, length - received));
+                if (len == -1) {
+                    break;
+                }
+                crc32.update(chunk, 0, len);
+                received += len;
+            }
+
+            assertEquals(length, received);
+            assertEquals((long) sentChecksum.get(10, TimeUnit.SECONDS), crc32.getValue());
+        }
+    }
+
+    @Test
+    public void testSubmissionPublisher() throws Exception {
+        final int count = 1000;
+        final String item = "0123456789abcdef";
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final SubmissionPublisher<Buffer> publisher = new SubmissionPublisher<>(executor, 4);
+                response.setContentLength(count * item.length());
+                response.setBodyPublisher(publisher);
+
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int i = 0; i < count; i++) {
+                            // blocks, when the subscriber falls behind
+                            publisher.submit(Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, item));
+                        }
+                        publisher.close();
+                    }
+                });
+            }
+        }, "/publish");
+        httpServer.start();
+
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.setSoTimeout(30000);
+            socket.getOutputStream().write(("GET /publish HTTP/1.1\r\nHost: localhost:" + PORT + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+
+            final InputStream in = socket.getInputStream();
+            assertEquals("HTTP/1.1 200 OK", readHead(in).split("\r\n")[0]);
+
+            final byte[] body = new byte[count * item.length()];
+            int received = 0;
+            while (received < body.length) {
+                final int len = in.read(body, received, body.length - received);
+                if (len == -1) {
+                    break;
+                }
+                received += len;
+            }
+
+            assertEquals(body.length, received);
+            for (int i = 0; i < count; i++) {
+                assertEquals(item, new String(body, i * item.length(), item.length(), StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    @Test
+    public void testPublisherFailure() throws Exception {
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                response.setBodyPublisher(new Flow.Publisher<Buffer>() {
+                    @Override
+                    public void subscribe(final Flow.Subscriber<? super Buffer> subscriber) {
+                        subscriber.onSubscribe(new Flow.Subscription() {
+                            @Override
+                            public void request(final long n) {
+                                executor.execute(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        subscriber.onError(new IOException("Failure"));
+                                    }
+                                });
+                            }
+
+                            @Override
+                            public void cancel() {
+                            }
+                        });
+                    }
+                });
+            }
+        }, "/fail");
+        httpServer.start();
+
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.setSoTimeout(30000);
+            socket.getOutputStream().write(("GET /fail HTTP/1.1\r\nHost: localhost:" + PORT + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+
+            assertEquals("HTTP/1.1 500 Internal Server Error", readHead(socket.getInputStream()).split("\r\n")[0]);
+        }
+    }
+
+    private static String readHead(final InputStream in) throws IOException {
+        final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        int state = 0;
+        while (state < 4) {
+            final int b = in.read();
+            if (b == -1) {
+                throw new IOException("Unexpected end of stream");
+            }
+            head.write(b);
+            state = b == (state % 2 == 0 ? '\r' : '\n') ? state + 1 : b == '\r' ? 1 : 0;
+        }
+
+        return head.toString(StandardCharsets.US_ASCII.name());
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,7 @@
 
 package org.glassfish.grizzly.http.server;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -24,6 +26,7 @@ import java.util.Collection;
 import java.util.Random;
 
 import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.http.CompressionConfig;
 import org.glassfish.grizzly.http.CompressionConfig.CompressionMode;
 import org.glassfish.grizzly.http.HttpRequestPacket;
 import org.glassfish.grizzly.http.HttpResponsePacket;
@@ -32,6 +35,10 @@ import org.glassfish.grizzly.http.Protocol;
 import org.glassfish.grizzly.http.util.Header;
 import org.glassfish.grizzly.memory.Buffers;
 import org.glassfish.grizzly.memory.MemoryManager;
+import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.grizzly.threadpool.ThreadPoolInfo;
+import org.glassfish.grizzly.threadpool.ThreadPoolProbe;
 import org.glassfish.grizzly.utils.Charsets;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -92,6 +99,34 @@ public class CompressionEncodingFilterTest {
         assertFalse(filter.applyEncoding(response));
     }
 
+    @Test
+    public void testAcceptEncodingNegotiation() throws Exception {
+        final CompressionConfig config = new CompressionConfig();
+        config.setCompressionMode(CompressionMode.ON);
+        config.setCompressionMinSize(1);
+        config.setPreferredContentEncodings("br", "gzip");
+
+        final CompressionEncodingFilter gzipFilter = new CompressionEncodingFilter(config, new String[] { "gzip" });
+        final CompressionEncodingFilter brFilter = new CompressionEncodingFilter(config, new String[] { "br" });
+
+        // equally acceptable - server preference order wins
+        assertNegotiated("gzip, br", gzipFilter, brFilter, false, true);
+        // client quality values win
+        assertNegotiated("gzip;q=1.0, br;q=0.5", gzipFilter, brFilter, true, false);
+        assertNegotiated("gzip", gzipFilter, brFilter, true, false);
+        assertNegotiated("br;q=0, *", gzipFilter, brFilter, true, false);
+        assertNegotiated("*;q=0.5, gzip;q=0.4", gzipFilter, brFilter, false, true);
+        assertNegotiated("identity", gzipFilter, brFilter, false, false);
+    }
+
+    private void assertNegotiated(final String acceptEncoding, final CompressionEncodingFilter gzipFilter, final CompressionEncodingFilter brFilter,
+            final boolean expectGzip, final boolean expectBr) {
+        HttpRequestPacket request = setAcceptEncoding(HttpRequestPacket.builder().method(Method.GET).protocol(Protocol.HTTP_1_1).uri("/").build(),
+                acceptEncoding);
+        assertEquals(acceptEncoding, expectGzip, gzipFilter.applyEncoding(HttpResponsePacket.builder(request).protocol(Protocol.HTTP_1_1).build()));
+        assertEquals(acceptEncoding, expectBr, brFilter.applyEncoding(HttpResponsePacket.builder(request).protocol(Protocol.HTTP_1_1).build()));
+    }
+
     @Test
     public void testMinSizeSetting() throws Exception {
 
@@ -125,6 +160,95 @@ public class CompressionEncodingFilterTest {
         assertFalse(filter.applyDecoding(request));
     }
 
+    @Test
+    public void testAdaptiveCompressionPolicy() throws Exception {
+        final AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy();
+        policy.setMinCompressionLevel(1);
+        policy.setMaxCompressionLevel(9);
+        policy.setLowLoadThreshold(0.2f);
+        policy.setHighLoadThreshold(1.0f);
+        policy.setLargeResponseSize(1024 * 1024);
+
+        final ThreadPoolInfo threadPool = new ThreadPoolInfo() {
+            private final ThreadPoolConfig config = ThreadPoolConfig.defaultConfig().setMaxPoolSize(10);
+
+            @Override
+            public int getSize() {
+                return 10;
+            }
+
+            @Override
+            public ThreadPoolConfig getConfig() {
+                return config;
+            }
+
+            @Override
+            public DefaultMonitoringConfig<ThreadPoolProbe> getMonitoringConfig() {
+                return null;
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return false;
+            }
+
+            @Override
+            public int getQueueSize() {
+                return 0;
+            }
+        };
+        policy.onThreadPoolStartEvent(threadPool);
+
+        final CompressionConfig config = new CompressionConfig();
+        config.setCompressionMode(CompressionMode.ON);
+        config.setCompressionMinSize(1);
+        final CompressionEncodingFilter filter = new CompressionEncodingFilter(config, new String[] { "gzip" }, policy);
+
+        // idle workers: max level, capped for the large responses
+        HttpResponsePacket response = createResponse("text/html", 4096);
+        assertTrue(filter.applyEncoding(response));
+        assertEquals(9, filter.getCompressionLevel(response));
+        response = createResponse("text/html", 2 * 1024 * 1024);
+        assertTrue(filter.applyEncoding(response));
+        assertEquals(5, filter.getCompressionLevel(response));
+        assertTrue(filter.applyEncoding(createResponse("application/pdf", 4096)));
+
+        // 6 out of 10 workers are busy: interpolated level
+        for (int i = 0; i < 6; i++) {
+            policy.onTaskDequeueEvent(threadPool, null);
+        }
+        response = createResponse("text/html", 4096);
+        assertTrue(filter.applyEncoding(response));
+        assertEquals(5, filter.getCompressionLevel(response));
+        assertTrue(filter.applyEncoding(createResponse("application/pdf", 4096)));
+
+        // all the workers are busy: min level, marginally compressible content is not compressed
+        for (int i = 0; i < 4; i++) {
+            policy.onTaskDequeueEvent(threadPool, null);
+        }
+        response = createResponse("text/html", -1);
+        assertTrue(filter.applyEncoding(response));
+        assertEquals(1, filter.getCompressionLevel(response));
+        response = createResponse("application/pdf", 4096);
+        assertFalse(filter.applyEncoding(response));
+        assertEquals(4096, response.getContentLength());
+
+        // the load goes down
+        for (int i = 0; i < 10; i++) {
+            policy.onTaskCompleteEvent(threadPool, null);
+        }
+        assertEquals(0, policy.getLoad(), 0);
+        assertTrue(filter.applyEncoding(createResponse("application/pdf", 4096)));
+    }
+
+    private HttpResponsePacket createResponse(final String contentType, final long contentLength) {
+        final HttpRequestPacket request = setAcceptEncoding(HttpRequestPacket.builder().method(Method.GET).protocol(Protocol.HTTP_1_1).uri("/").build(),
+                "gzip");
+        final HttpResponsePacket response = HttpResponsePacket.builder(request).protocol(Protocol.HTTP_1_1).contentType(contentType).build();
+        response.setContentLengthLong(contentLength);
+        return response;
+    }
+
     private HttpRequestPacket setAcceptEncoding(HttpRequestPacket request, String acceptEncoding) {
         return setHeader(request, Header.AcceptEncoding, acceptEncoding);
     }
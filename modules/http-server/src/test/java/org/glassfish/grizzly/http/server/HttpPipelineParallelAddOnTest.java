@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.glassfish.grizzly.http.server.NetworkListener.DEFAULT_NETWORK_HOST;
+import static org.glassfish.grizzly.http.server.RawHttpClient.get;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.http.io.NIOOutputStream;
+import org.glassfish.grizzly.http.server.util.HttpPipelineParallelAddOn;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * {@link HttpPipelineParallelAddOn} tests.
+ */
+public class HttpPipelineParallelAddOnTest {
+    private static final int PORT = 18915;
+
+    private HttpServer httpServer;
+
+    private final AtomicInteger concurrency = new AtomicInteger();
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger written = new AtomicInteger();
+
+    @After
+    public void after() throws Exception {
+        if (httpServer != null) {
+            httpServer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testResponsesAreWrittenInRequestOrder() throws Exception {
+        startServer(new HttpPipelineParallelAddOn());
+
+        try (RawHttpClient client = new RawHttpClient(PORT)) {
+            final long start = System.currentTimeMillis();
+            client.send(get("/r?id=1&delay=600") + get("/r?id=2&delay=400") + get("/r?id=3&delay=200") + get("/r?id=4"));
+
+            for (int i = 1; i <= 4; i++) {
+                assertEquals("response " + i, client.readResponse().body);
+            }
+
+            final long time = System.currentTimeMillis() - start;
+            // the requests are processed concurrently, so it takes as long as the slowest one
+            assertTrue("time=" + time, time < 1100);
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsLimit() throws Exception {
+        startServer(new HttpPipelineParallelAddOn(2, 1024 * 1024));
+
+        try (RawHttpClient client = new RawHttpClient(PORT)) {
+            final StringBuilder requests = new StringBuilder();
+            for (int i = 1; i <= 6; i++) {
+                requests.append(get("/r?id=" + i + "&delay=100"));
+            }
+            client.send(requests.toString());
+
+            for (int i = 1; i <= 6; i++) {
+                assertEquals("response " + i, client.readResponse().body);
+            }
+        }
+
+        assertEquals(2, maxConcurrency.get());
+    }
+
+    @Test
+    public void testUnsafeRequestWaitsForEarlierRequests() throws Exception {
+        startServer(new HttpPipelineParallelAddOn());
+
+        try (RawHttpClient client = new RawHttpClient(PORT)) {
+            final String post = "POST /r?id=2 HTTP/1.1\r\nHost: localhost\r\nContent-Length: 4\r\n\r\ndata";
+            client.send(get("/r?id=1&delay=300") + post + get("/r?id=3"));
+
+            assertEquals("response 1", client.readResponse().body);
+            assertEquals("response 2 data", client.readResponse().body);
+            assertEquals("response 3", client.readResponse().body);
+        }
+
+        // the POST isn't processed concurrently with the earlier GET
+        assertEquals(Arrays.asList("start 1", "end 1", "start 2"), events.subList(0, 3));
+    }
+
+    @Test
+    public void testReorderBufferLimit() throws Exception {
+        startServer(new HttpPipelineParallelAddOn(8, 1024));
+
+        try (RawHttpClient client = new RawHttpClient(PORT)) {
+            client.send(get("/r?id=1&delay=300") + get("/r?id=2&size=65536") + get("/r?id=3&size=10000") + get("/r?id=4"));
+
+            assertEquals("response 1", client.readResponse().body);
+            assertEquals(65536, client.readResponse().body.length());
+            assertEquals(10000, client.readResponse().body.length());
+            assertEquals("response 4", client.readResponse().body);
+        }
+    }
+
+    @Test
+    public void testOutOfOrderResponseIsPausedByReorderBuffer() throws Exception {
+        final int maxBufferSize = 64 * 1024;
+        final int size = 4 * 1024 * 1024;
+        startServer(new HttpPipelineParallelAddOn(8, maxBufferSize));
+
+        try (RawHttpClient client = new RawHttpClient(PORT)) {
+            client.send(get("/r?id=1&wait=true") + get("/large?size=" + size));
+
+            // the large response is written behind the head, which waits to be released
+            final long deadline = System.currentTimeMillis() + 10000;
+            int last = -1;
+            while (written.get() != last && System.currentTimeMillis() < deadline) {
+                last = written.get();
+                Thread.sleep(300);
+            }
+
+            assertTrue("written=" + last, last > 0 && last < 4 * maxBufferSize);
+
+            release.countDown();
+            assertEquals("response 1", client.readResponse().body);
+
+            final String body = client.readResponse().body;
+            assertEquals(size, body.length());
+            for (int i = 0; i < size; i++) {
+                if (body.charAt(i) != (char) ('a' + i % 26)) {
+                    throw new AssertionError("Unexpected content at " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConnectionIsClosedAfterEarlierResponses() throws Exception {
+        startServer(new HttpPipelineParallelAddOn());
+
+        try (RawHttpClient client = new RawHttpClient(PORT)) {
+            final String close = "GET /r?id=3 HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n";
+            client.send(get("/r?id=1&delay=300") + get("/r?id=2") + close);
+
+            assertEquals("response 1", client.readResponse().body);
+            assertEquals("response 2", client.readResponse().body);
+            assertEquals("response 3", client.readResponse().body);
+            assertTrue(client.isClosedByServer());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxBufferSize() {
+        new HttpPipelineParallelAddOn(8, -1);
+    }
+
+    private void startServer(final HttpPipelineParallelAddOn addOn) throws IOException {
+        httpServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("grizzly", DEFAULT_NETWORK_HOST, PORT);
+        listener.registerAddOn(addOn);
+        httpServer.addListener(listener);
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final String id = request.getParameter("id");
+                events.add("start " + id);
+                maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+
+                try {
+                    final String delay = request.getParameter("delay");
+                    if (delay != null) {
+                        Thread.sleep(Long.parseLong(delay));
+                    }
+
+                    if (request.getParameter("wait") != null) {
+                        release.await(10, TimeUnit.SECONDS);
+                    }
+
+                    final String size = request.getParameter("size");
+                    final byte[] body;
+                    if (size != null) {
+                        body = new byte[Integer.parseInt(size)];
+                        Arrays.fill(body, (byte) ('0' + Integer.parseInt(id)));
+                    } else {
+                        String s = "response " + id;
+                        if ("POST".equals(request.getMethod().getMethodString())) {
+                            s += " " + readBody(request.getInputStream());
+                        }
+                        body = s.getBytes(StandardCharsets.US_ASCII);
+                    }
+
+                    response.setContentType("text/plain");
+                    response.setContentLength(body.length);
+                    response.getOutputStream().write(body);
+                } finally {
+                    concurrency.decrementAndGet();
+                    events.add("end " + id);
+                }
+            }
+        }, "/r");
+
+        // writes the large response without blocking, as long as the output can take more data
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int size = Integer.parseInt(request.getParameter("size"));
+                final byte[] chunk = new byte[8192];
+
+                response.setContentType("text/plain");
+                response.setContentLength(size);
+                response.suspend();
+
+                final NIOOutputStream out = response.getNIOOutputStream();
+                out.notifyCanWrite(new WriteHandler() {
+                    @Override
+                    public void onWritePossible() throws Exception {
+                        while (written.get() < size) {
+                            final int offset = written.get();
+                            final int len = Math.min(chunk.length, size - offset);
+                            for (int i = 0; i < len; i++) {
+                                chunk[i] = (byte) ('a' + (offset + i) % 26);
+                            }
+
+                            out.write(chunk, 0, len);
+                            written.addAndGet(len);
+                            if (!out.canWrite()) {
+                                out.notifyCanWrite(this);
+                                return;
+                            }
+                        }
+
+                        response.resume();
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                        response.resume();
+                    }
+                });
+            }
+        }, "/large");
+
+        httpServer.start();
+    }
+
+    private static String readBody(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[1024];
+        int len;
+        while ((len = in.read(buf)) != -1) {
+            out.write(buf, 0, len);
+        }
+        return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+    }
+}
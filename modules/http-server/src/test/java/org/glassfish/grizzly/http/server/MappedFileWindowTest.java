@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.http.server.filecache.FileCache;
+import org.glassfish.grizzly.http.server.filecache.FileCacheEntry;
+import org.glassfish.grizzly.http.server.filecache.FileCacheProbe;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.glassfish.grizzly.ssl.SSLContextConfigurator;
+import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
+import org.junit.Test;
+
+/**
+ * {@link MappedFileWindow} test.
+ */
+public class MappedFileWindowTest {
+
+    @Test
+    public void testSlicesAcrossWindows() throws Exception {
+        final byte[] content = new byte[10000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        final File file = File.createTempFile("mapped-window", ".bin");
+        file.deleteOnExit();
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(content);
+        }
+
+        try (FileInputStream fis = new FileInputStream(file)) {
+            final FileChannel fc = fis.getChannel();
+            final MappedFileWindow window = new MappedFileWindow(fc, MemoryManager.DEFAULT_MEMORY_MANAGER, 3000);
+
+            final ByteArrayOutputStream result = new ByteArrayOutputStream();
+            long position = 100;
+            Buffer slice;
+            while ((slice = window.slice(position, 1024)) != null) {
+                assertTrue(slice.remaining() <= 1024);
+                assertTrue(slice.isDirect());
+                final byte[] bytes = new byte[slice.remaining()];
+                slice.get(bytes);
+                result.write(bytes);
+                position += bytes.length;
+            }
+
+            assertEquals(content.length, position);
+            final byte[] expected = new byte[content.length - 100];
+            System.arraycopy(content, 100, expected, 0, expected.length);
+            assertArrayEquals(expected, result.toByteArray());
+
+            // the slice never crosses the window boundary
+            assertEquals(1024, window.slice(0, 1024).remaining());
+            assertEquals(100, window.slice(2900, 1024).remaining());
+            assertNull(window.slice(content.length, 1024));
+        }
+    }
+
+    @Test
+    public void testTruncatedFile() throws Exception {
+        final File file = createTempFile(10000);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            final FileChannel fc = raf.getChannel();
+            final MappedFileWindow window = new MappedFileWindow(fc, MemoryManager.DEFAULT_MEMORY_MANAGER, 8192);
+
+            assertEquals(1024, window.slice(0, 1024).remaining());
+
+            // the file is truncated within the mapped window
+            fc.truncate(1500);
+            final Buffer slice = window.slice(1024, 1024);
+            assertEquals(476, slice.remaining());
+            slice.get(new byte[slice.remaining()]);
+
+            // the file is truncated before the position
+            fc.truncate(100);
+            assertNull(window.slice(1024, 1024));
+            assertNull(window.slice(8192, 1024));
+        }
+    }
+
+    /**
+     * Serves the file, which spans several mapped windows, over TLS, first by the {@link StaticHttpHandler}, then from
+     * the {@link FileCache}, both pass the mapped slices to the <tt>SSLEngine</tt>.
+     */
+    @Test
+    public void testServeOverTls() throws Exception {
+        final File dir = Files.createTempDirectory("mapped-window").toFile();
+        dir.deleteOnExit();
+        final File file = new File(dir, "mapped.txt");
+        file.deleteOnExit();
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 3 * MappedFileWindow.DEFAULT_WINDOW_SIZE + 123; i++) {
+            sb.append(i).append('\n');
+        }
+        final String content = sb.toString();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+
+        final HttpServer server = new HttpServer();
+        final NetworkListener listener = new NetworkListener("tls", NetworkListener.DEFAULT_NETWORK_HOST, 0);
+        listener.setSecure(true);
+        listener.setSSLEngineConfig(new SSLEngineConfigurator(createSSLConfig().createSSLContext(true), false, false, false));
+        // the file isn't mapped by the cache, so the cached entry is served using the buffers
+        listener.getFileCache().setEnabled(true);
+        listener.getFileCache().setMaxEntrySize(1);
+        server.addListener(listener);
+        server.getServerConfiguration().addHttpHandler(new StaticHttpHandler(dir.getAbsolutePath()), "/");
+
+        final AtomicInteger cacheHits = new AtomicInteger();
+        server.getServerConfiguration().getMonitoringConfig().getFileCacheConfig().addProbes(new FileCacheProbe.Adapter() {
+            @Override
+            public void onEntryHitEvent(final FileCache fileCache, final FileCacheEntry entry) {
+                cacheHits.incrementAndGet();
+            }
+        });
+
+        try {
+            server.start();
+
+            final SSLContext sslContext = createSSLConfig().createSSLContext(true);
+            try (RawHttpClient client = new RawHttpClient(sslContext.getSocketFactory().createSocket("localhost", listener.getPort()))) {
+                for (int i = 0; i < 2; i++) {
+                    client.send(RawHttpClient.get("/mapped.txt"));
+                    final RawHttpClient.TestResponse response = client.readResponse();
+                    assertEquals(200, response.status);
+                    assertEquals(content, response.body);
+                }
+            }
+
+            assertEquals(1, cacheHits.get());
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    private static File createTempFile(final int size) throws Exception {
+        final File file = File.createTempFile("mapped-window", ".bin");
+        file.deleteOnExit();
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(new byte[size]);
+        }
+
+        return file;
+    }
+
+    private static SSLContextConfigurator createSSLConfig() {
+        final SSLContextConfigurator sslContextConfigurator = new SSLContextConfigurator();
+        final ClassLoader cl = MappedFileWindowTest.class.getClassLoader();
+        final URL cacertsUrl = cl.getResource("ssltest-cacerts.jks");
+        if (cacertsUrl != null) {
+            sslContextConfigurator.setTrustStoreFile(cacertsUrl.getFile());
+            sslContextConfigurator.setTrustStorePass("changeit");
+        }
+
+        final URL keystoreUrl = cl.getResource("ssltest-keystore.jks");
+        if (keystoreUrl != null) {
+            sslContextConfigurator.setKeyStoreFile(keystoreUrl.getFile());
+            sslContextConfigurator.setKeyStorePass("changeit");
+        }
+
+        return sslContextConfigurator;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.glassfish.grizzly.http.server.util.ByteRanges;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * HTTP <tt>Range</tt> requests support test.
+ */
+public class RangeRequestTest {
+    private static final int PORT = 18911;
+
+    private HttpServer httpServer;
+    private File docRoot;
+    private File file;
+    private byte[] content;
+
+    @Before
+    public void before() throws Exception {
+        docRoot = Files.createTempDirectory("range-test").toFile();
+        file = new File(docRoot, "data.txt");
+        content = new byte[10000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(content);
+        }
+    }
+
+    @After
+    public void after() throws Exception {
+        if (httpServer != null) {
+            httpServer.shutdownNow();
+        }
+        file.delete();
+        docRoot.delete();
+    }
+
+    @Test
+    public void testParse() {
+        assertNull(ByteRanges.parse(null, 100));
+        assertNull(ByteRanges.parse("items=0-5", 100));
+        assertNull(ByteRanges.parse("bytes=5-1", 100));
+        assertNull(ByteRanges.parse("bytes=abc", 100));
+
+        assertEquals(Arrays.asList(new ByteRanges.Range(0, 9)), ByteRanges.parse("bytes=0-9", 100));
+        assertEquals(Arrays.asList(new ByteRanges.Range(90, 99)), ByteRanges.parse("bytes=90-", 100));
+        assertEquals(Arrays.asList(new ByteRanges.Range(80, 99)), ByteRanges.parse("bytes=-20", 100));
+        assertEquals(Arrays.asList(new ByteRanges.Range(0, 99)), ByteRanges.parse("bytes=-200", 100));
+        assertEquals(Arrays.asList(new ByteRanges.Range(50, 99)), ByteRanges.parse("bytes=50-1000", 100));
+
+        // sorted and coalesced
+        assertEquals(Arrays.asList(new ByteRanges.Range(0, 20), new ByteRanges.Range(50, 59)),
+                ByteRanges.parse("bytes=50-59, 10-20,0-9", 100));
+
+        // unsatisfiable
+        assertTrue(ByteRanges.parse("bytes=100-200", 100).isEmpty());
+        assertTrue(ByteRanges.parse("bytes=-0", 100).isEmpty());
+
+        final StringBuilder sb = new StringBuilder("bytes=");
+        for (int i = 0; i <= ByteRanges.MAX_RANGES; i++) {
+            sb.append(i * 2).append('-').append(i * 2).append(',');
+        }
+        assertNull(ByteRanges.parse(sb.toString(), 100));
+    }
+
+    @Test
+    public void testIfRange() {
+        assertTrue(ByteRanges.isIfRangeSatisfied(null, "\"1-2\"", 1000));
+        assertTrue(ByteRanges.isIfRangeSatisfied("\"1-2\"", "\"1-2\"", 1000));
+        assertTrue(!ByteRanges.isIfRangeSatisfied("\"1-3\"", "\"1-2\"", 1000));
+        assertTrue(!ByteRanges.isIfRangeSatisfied("W/\"1-2\"", "\"1-2\"", 1000));
+        assertTrue(ByteRanges.isIfRangeSatisfied("Thu, 01 Jan 1970 00:00:01 GMT", null, 1500));
+        assertTrue(!ByteRanges.isIfRangeSatisfied("Thu, 01 Jan 1970 00:00:02 GMT", null, 1500));
+    }
+
+    @Test
+    public void testStaticHandlerRanges() throws Exception {
+        startServer(false);
+        checkRanges();
+    }
+
+    @Test
+    public void testFileCacheRanges() throws Exception {
+        startServer(true);
+
+        // populate the cache
+        final HttpURLConnection connection = open("bytes=0-0", null);
+        assertEquals(206, connection.getResponseCode());
+        readBody(connection);
+        connection.disconnect();
+
+        checkRanges();
+    }
+
+    private void checkRanges() throws Exception {
+        // single range
+        HttpURLConnection connection = open("bytes=100-199", null);
+        assertEquals(206, connection.getResponseCode());
+        assertEquals("bytes 100-199/10000", connection.getHeaderField("Content-Range"));
+        assertEquals("bytes", connection.getHeaderField("Accept-Ranges"));
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), readBody(connection));
+        connection.disconnect();
+
+        // suffix range
+        connection = open("bytes=-10", null);
+        assertEquals(206, connection.getResponseCode());
+        assertArrayEquals(Arrays.copyOfRange(content, 9990, 10000), readBody(connection));
+        connection.disconnect();
+
+        // multiple ranges
+        connection = open("bytes=0-9,5000-5009", null);
+        assertEquals(206, connection.getResponseCode());
+        final String contentType = connection.getContentType();
+        assertTrue(contentType, contentType.startsWith("multipart/byteranges; boundary="));
+        final String boundary = contentType.substring(contentType.indexOf('=') + 1);
+        final byte[] body = readBody(connection);
+        assertEquals(connection.getContentLengthLong(), body.length);
+        final String bodyStr = new String(body, StandardCharsets.ISO_8859_1);
+        assertTrue(bodyStr.contains("Content-Range: bytes 0-9/10000\r\n\r\n" + new String(content, 0, 10, StandardCharsets.ISO_8859_1)));
+        assertTrue(bodyStr.contains("Content-Range: bytes 5000-5009/10000\r\n\r\n" + new String(content, 5000, 10, StandardCharsets.ISO_8859_1)));
+        assertTrue(bodyStr.endsWith("\r\n--" + boundary + "--\r\n"));
+        connection.disconnect();
+
+        // unsatisfiable
+        connection = open("bytes=20000-", null);
+        assertEquals(416, connection.getResponseCode());
+        assertEquals("bytes */10000", connection.getHeaderField("Content-Range"));
+        connection.disconnect();
+
+        // If-Range mismatch - entire file expected
+        connection = open("bytes=0-9", "\"stale\"");
+        assertEquals(200, connection.getResponseCode());
+        assertArrayEquals(content, readBody(connection));
+        connection.disconnect();
+    }
+
+    private void startServer(final boolean isFileCacheEnabled) throws Exception {
+        httpServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("grizzly", NetworkListener.DEFAULT_NETWORK_HOST, PORT);
+        listener.getFileCache().setEnabled(isFileCacheEnabled);
+        httpServer.addListener(listener);
+
+        final StaticHttpHandler handler = new StaticHttpHandler(docRoot.getAbsolutePath());
+        handler.setFileCacheEnabled(isFileCacheEnabled);
+        httpServer.getServerConfiguration().addHttpHandler(handler, "/");
+        httpServer.start();
+    }
+
+    private HttpURLConnection open(final String range, final String ifRange) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + "/data.txt").openConnection();
+        connection.setRequestProperty("Range", range);
+        if (ifRange != null) {
+            connection.setRequestProperty("If-Range", ifRange);
+        }
+
+        return connection;
+    }
+
+    private static byte[] readBody(final HttpURLConnection connection) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (InputStream is = connection.getInputStream()) {
+            final byte[] buf = new byte[4096];
+            int len;
+            while ((len = is.read(buf)) != -1) {
+                baos.write(buf, 0, len);
+            }
+        }
+
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.glassfish.grizzly.http.server.NetworkListener.DEFAULT_NETWORK_HOST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.http.server.RawHttpClient.TestResponse;
+import org.glassfish.grizzly.http.server.ratelimit.LimitKey;
+import org.glassfish.grizzly.http.server.ratelimit.RateLimitAddOn;
+import org.glassfish.grizzly.http.server.ratelimit.RequestLimit;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * {@link RateLimitAddOn} tests.
+ */
+public class RateLimitAddOnTest {
+    private HttpServer httpServer;
+    private int port;
+
+    private final AtomicInteger serviceCount = new AtomicInteger();
+    private final CountDownLatch serviceStarted = new CountDownLatch(1);
+
+    @After
+    public void after() throws Exception {
+        if (httpServer != null) {
+            httpServer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTokenBucket() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(RequestLimit.tokenBucket(LimitKey.CLIENT_ADDRESS, 0.01, 2));
+        startServer(addOn);
+
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            client.send(get("/r", null) + get("/r", null) + get("/r", null));
+
+            assertEquals(200, client.readResponse().status);
+            assertEquals(200, client.readResponse().status);
+
+            final TestResponse rejected = client.readResponse();
+            assertEquals(429, rejected.status);
+            assertNotNull(rejected.headers.get("retry-after"));
+            assertTrue(Long.parseLong(rejected.headers.get("retry-after")) > 0);
+        }
+
+        assertEquals(2, serviceCount.get());
+        assertEquals(1, addOn.getRejectedCount());
+    }
+
+    @Test
+    public void testRouteLimit() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(HttpHandlerRegistration.fromString("/r/limited/*"), RequestLimit.tokenBucket(LimitKey.ROUTE, 0.01, 1));
+        startServer(addOn);
+
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            client.send(get("/r/limited/a", null) + get("/r/limited/b", null) + get("/r/other", null));
+
+            assertEquals(200, client.readResponse().status);
+            assertEquals(429, client.readResponse().status);
+            assertEquals(200, client.readResponse().status);
+        }
+    }
+
+    @Test
+    public void testHeaderKey() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(RequestLimit.tokenBucket(LimitKey.header("X-Api-Key"), 0.01, 1));
+        startServer(addOn);
+
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            client.send(get("/r", "a") + get("/r", "a") + get("/r", "b") + get("/r", null) + get("/r", null));
+
+            assertEquals(200, client.readResponse().status);
+            assertEquals(429, client.readResponse().status);
+            assertEquals(200, client.readResponse().status);
+            // the requests without the key are not limited
+            assertEquals(200, client.readResponse().status);
+            assertEquals(200, client.readResponse().status);
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(RequestLimit.adaptiveConcurrency(LimitKey.ROUTE, 1, 1, 10, TimeUnit.SECONDS));
+        startServer(addOn);
+
+        try (RawHttpClient slowClient = new RawHttpClient(port); RawHttpClient client = new RawHttpClient(port)) {
+            slowClient.send(get("/r?delay=500", null));
+            assertTrue(serviceStarted.await(10, TimeUnit.SECONDS));
+
+            client.send(get("/r", null));
+            assertEquals(503, client.readResponse().status);
+            // 503 drops the connection
+            assertTrue(client.isClosedByServer());
+
+            assertEquals(200, slowClient.readResponse().status);
+        }
+
+        // the permit is released once the response is complete, which might happen after the client got it
+        awaitActiveCount(addOn, 0);
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            client.send(get("/r", null));
+            assertEquals(200, client.readResponse().status);
+        }
+    }
+
+    @Test
+    public void testRejectedRequestPayloadIsSkipped() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(HttpHandlerRegistration.fromString("/r/limited/*"), RequestLimit.tokenBucket(LimitKey.ROUTE, 0.01, 1));
+        startServer(addOn);
+
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            final String post = "POST /r/limited/b HTTP/1.1\r\nHost: localhost\r\nContent-Length: 20\r\n\r\nGET /r/x HTTP/1.1\r\n\r\n";
+            client.send(get("/r/limited/a", null) + post + get("/r/other", null));
+
+            assertEquals(200, client.readResponse().status);
+            assertEquals(429, client.readResponse().status);
+
+            final TestResponse response = client.readResponse();
+            assertEquals(200, response.status);
+            assertEquals("/r/other", response.body);
+        }
+
+        assertEquals(2, serviceCount.get());
+    }
+
+    @Test
+    public void testRejectedKeepAliveConnectionIdlesOut() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(RequestLimit.tokenBucket(LimitKey.CLIENT_ADDRESS, 0.01, 1));
+        startServer(addOn, 1);
+
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            client.send(get("/r", null));
+            assertEquals(200, client.readResponse().status);
+
+            client.send(get("/r", null));
+            assertEquals(429, client.readResponse().status);
+
+            // the rejected keep-alive connection is closed once it is idle
+            assertTrue(client.isClosedByServer());
+        }
+    }
+
+    @Test
+    public void testRejectedConnectionCloseRequestIsClosed() throws Exception {
+        final RateLimitAddOn addOn = new RateLimitAddOn();
+        addOn.addLimit(RequestLimit.tokenBucket(LimitKey.CLIENT_ADDRESS, 0.01, 1));
+        startServer(addOn);
+
+        try (RawHttpClient client = new RawHttpClient(port)) {
+            client.send(get("/r", null) + "GET /r HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n");
+
+            assertEquals(200, client.readResponse().status);
+            assertEquals(429, client.readResponse().status);
+            assertTrue(client.isClosedByServer());
+        }
+    }
+
+    private void startServer(final RateLimitAddOn addOn) throws IOException {
+        startServer(addOn, -1);
+    }
+
+    private void startServer(final RateLimitAddOn addOn, final int idleTimeoutInSeconds) throws IOException {
+        httpServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("grizzly", DEFAULT_NETWORK_HOST, 0);
+        if (idleTimeoutInSeconds > 0) {
+            listener.getKeepAlive().setIdleTimeoutInSeconds(idleTimeoutInSeconds);
+        }
+        listener.registerAddOn(addOn);
+        httpServer.addListener(listener);
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                serviceCount.incrementAndGet();
+                serviceStarted.countDown();
+
+                final String delay = request.getParameter("delay");
+                if (delay != null) {
+                    Thread.sleep(Long.parseLong(delay));
+                }
+
+                final byte[] body = request.getRequestURI().getBytes(StandardCharsets.US_ASCII);
+                response.setContentType("text/plain");
+                response.setContentLength(body.length);
+                response.getOutputStream().write(body);
+            }
+        }, "/r");
+
+        httpServer.start();
+        port = listener.getPort();
+    }
+
+    private static void awaitActiveCount(final RateLimitAddOn addOn, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (addOn.getActiveCount() != count) {
+            assertTrue("Unexpected active count: " + addOn.getActiveCount(), System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static String get(final String uri, final String apiKey) {
+        return "GET " + uri + " HTTP/1.1\r\nHost: localhost\r\n" + (apiKey != null ? "X-Api-Key: " + apiKey + "\r\n" : "") + "\r\n";
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The blocking HTTP/1.1 client, which writes the raw requests as is, so the tests can pipeline them, and reads the
+ * responses with the <tt>Content-Length</tt> header one by one.
+ */
+final class RawHttpClient implements Closeable {
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    private final Socket socket;
+    private final InputStream in;
+
+    RawHttpClient(final int port) throws IOException {
+        this(new Socket("localhost", port));
+    }
+
+    /**
+     * @param socket the connected socket, for example {@link javax.net.ssl.SSLSocket}
+     */
+    RawHttpClient(final Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setSoTimeout(TIMEOUT_MILLIS);
+        in = socket.getInputStream();
+    }
+
+    /**
+     * @return the <tt>GET</tt> request to the URI
+     */
+    static String get(final String uri) {
+        return "GET " + uri + " HTTP/1.1\r\nHost: localhost\r\n\r\n";
+    }
+
+    void send(final String requests) throws IOException {
+        final OutputStream out = socket.getOutputStream();
+        out.write(requests.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    TestResponse readResponse() throws IOException {
+        final String status = readLine();
+
+        final Map<String, String> headers = new HashMap<>();
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            final int idx = line.indexOf(':');
+            headers.put(line.substring(0, idx).toLowerCase(), line.substring(idx + 1).trim());
+        }
+
+        final String contentLength = headers.get("content-length");
+        if (contentLength == null) {
+            throw new IOException("The response without Content-Length: " + status);
+        }
+
+        final byte[] body = new byte[Integer.parseInt(contentLength)];
+        int offset = 0;
+        while (offset < body.length) {
+            final int len = in.read(body, offset, body.length - offset);
+            if (len == -1) {
+                throw new EOFException();
+            }
+            offset += len;
+        }
+
+        return new TestResponse(Integer.parseInt(status.split(" ")[1]), headers, new String(body, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return <tt>true</tt>, if the server has closed the connection
+     */
+    boolean isClosedByServer() throws IOException {
+        return in.read() == -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private String readLine() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1) {
+                throw new EOFException();
+            }
+
+            if (c != '\r') {
+                sb.append((char) c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static final class TestResponse {
+        final int status;
+        /**
+         * The headers with the lower case names
+         */
+        final Map<String, String> headers;
+        final String body;
+
+        TestResponse(final int status, final Map<String, String> headers, final String body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.glassfish.grizzly.http.server.NetworkListener.DEFAULT_NETWORK_HOST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.http.Cookie;
+import org.glassfish.grizzly.http.server.util.ResponseCacheAddOn;
+import org.glassfish.grizzly.http.util.Header;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link ResponseCacheAddOn} tests.
+ */
+public class ResponseCacheAddOnTest {
+    private static final int PORT = 18914;
+
+    private HttpServer httpServer;
+    private ResponseCacheAddOn cacheAddOn;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Before
+    public void before() throws Exception {
+        httpServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("grizzly", DEFAULT_NETWORK_HOST, PORT);
+        cacheAddOn = new ResponseCacheAddOn();
+        listener.registerAddOn(cacheAddOn);
+        httpServer.addListener(listener);
+    }
+
+    @After
+    public void after() throws Exception {
+        httpServer.shutdownNow();
+    }
+
+    @Test
+    public void testFreshResponseIsServedFromCache() throws Exception {
+        startServer("public, max-age=60", null);
+
+        for (int i = 0; i < 3; i++) {
+            final HttpURLConnection c = open("/data", "GET");
+            assertEquals(200, c.getResponseCode());
+            assertEquals("text/plain;charset=UTF-8", c.getContentType());
+            assertEquals("\"v1\"", c.getHeaderField("ETag"));
+            assertEquals("response 1", read(c));
+        }
+
+        final HttpURLConnection head = open("/data", "HEAD");
+        assertEquals(200, head.getResponseCode());
+        assertEquals(10, head.getContentLength());
+        assertNotNull(head.getHeaderField("Age"));
+
+        assertEquals(1, invocations.get());
+        assertEquals(1, cacheAddOn.getEntriesCount());
+        assertEquals(10, cacheAddOn.getCacheSize());
+
+        // the query is a part of the key
+        assertEquals("response 2", read(open("/data?x=1", "GET")));
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testConditionalRequestIsServedFromCache() throws Exception {
+        startServer("max-age=60", null);
+
+        assertEquals("response 1", read(open("/data", "GET")));
+
+        final HttpURLConnection c = open("/data", "GET");
+        c.setRequestProperty("If-None-Match", "\"v0\", \"v1\"");
+        assertEquals(304, c.getResponseCode());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void testExpiredResponseIsRevalidated() throws Exception {
+        startServer("no-cache", null);
+
+        assertEquals("response 1", read(open("/data", "GET")));
+
+        // the handler responds 304 to the conditional request added by the cache,
+        // so the client gets the stored payload
+        final HttpURLConnection c = open("/data", "GET");
+        assertEquals(200, c.getResponseCode());
+        assertEquals("response 1", read(c));
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testStaleResponseIsServedWhileRevalidating() throws Exception {
+        final CountDownLatch revalidationStarted = new CountDownLatch(1);
+        final CountDownLatch revalidationAllowed = new CountDownLatch(1);
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int n = invocations.incrementAndGet();
+                if (n > 1) {
+                    revalidationStarted.countDown();
+                    revalidationAllowed.await(10, TimeUnit.SECONDS);
+                }
+
+                response.setHeader(Header.CacheControl, "max-age=1, stale-while-revalidate=60");
+                response.getWriter().write("response " + n);
+            }
+        }, "/data");
+        httpServer.start();
+
+        assertEquals("response 1", read(open("/data", "GET")));
+        Thread.sleep(1100);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> revalidation = executor.submit(() -> read(open("/data", "GET")));
+            revalidationStarted.await(10, TimeUnit.SECONDS);
+
+            // the stale response is served while the entry is being revalidated
+            assertEquals("response 1", read(open("/data", "GET")));
+
+            revalidationAllowed.countDown();
+            assertEquals("response 2", revalidation.get(10, TimeUnit.SECONDS));
+            assertEquals("response 2", read(open("/data", "GET")));
+            assertEquals(2, invocations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() throws Exception {
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int n = invocations.incrementAndGet();
+                Thread.sleep(500);
+                response.setHeader(Header.CacheControl, "max-age=60");
+                response.getWriter().write("response " + n);
+            }
+        }, "/data");
+        httpServer.start();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> read(open("/data", "GET"))));
+            }
+
+            for (final Future<String> result : results) {
+                assertEquals("response 1", result.get(10, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, invocations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVaryHeader() throws Exception {
+        startServer("max-age=60", "Accept-Language");
+
+        final HttpURLConnection en1 = open("/data", "GET");
+        en1.setRequestProperty("Accept-Language", "en");
+        assertEquals("response 1", read(en1));
+
+        final HttpURLConnection de = open("/data", "GET");
+        de.setRequestProperty("Accept-Language", "de");
+        assertEquals("response 2", read(de));
+
+        final HttpURLConnection en2 = open("/data", "GET");
+        en2.setRequestProperty("Accept-Language", "en");
+        assertEquals("response 1", read(en2));
+
+        assertEquals(2, invocations.get());
+        assertEquals(2, cacheAddOn.getEntriesCount());
+    }
+
+    @Test
+    public void testNotCacheableResponses() throws Exception {
+        startServer("no-store", null);
+
+        assertEquals("response 1", read(open("/data", "GET")));
+        assertEquals("response 2", read(open("/data", "GET")));
+
+        final HttpURLConnection c = open("/data", "POST");
+        c.setDoOutput(true);
+        c.getOutputStream().write(1);
+        assertEquals("response 3", read(c));
+
+        assertEquals(0, cacheAddOn.getEntriesCount());
+    }
+
+    @Test
+    public void testMaxEntrySize() throws Exception {
+        cacheAddOn.setMaxEntrySize(5);
+        startServer("max-age=60", null);
+
+        assertEquals("response 1", read(open("/data", "GET")));
+        assertEquals("response 2", read(open("/data", "GET")));
+        assertEquals(0, cacheAddOn.getEntriesCount());
+    }
+
+    @Test
+    public void testHitForPass() throws Exception {
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int n = invocations.incrementAndGet();
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(300);
+                } finally {
+                    concurrent.decrementAndGet();
+                }
+
+                response.setHeader(Header.CacheControl, "max-age=60");
+                response.addCookie(new Cookie("session", Integer.toString(n)));
+                response.getWriter().write("response " + n);
+            }
+        }, "/data");
+        httpServer.start();
+
+        assertEquals("response 1", read(open("/data", "GET")));
+
+        // the response is known to be not cacheable, so the concurrent requests are not coalesced
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> read(open("/data", "GET"))));
+            }
+
+            for (final Future<String> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(5, invocations.get());
+            assertTrue(maxConcurrent.get() > 1);
+            assertEquals(0, cacheAddOn.getEntriesCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalescingTimeout() throws Exception {
+        cacheAddOn.setCoalescingTimeoutMillis(200);
+        final CountDownLatch fetchStarted = new CountDownLatch(1);
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int n = invocations.incrementAndGet();
+                if (n == 1) {
+                    fetchStarted.countDown();
+                    Thread.sleep(5000);
+                }
+
+                response.setHeader(Header.CacheControl, "max-age=60");
+                response.getWriter().write("response " + n);
+            }
+        }, "/data");
+        httpServer.start();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> fetch = executor.submit(() -> read(open("/data", "GET")));
+            assertTrue(fetchStarted.await(10, TimeUnit.SECONDS));
+
+            // the waiting request is passed to the handler, once the coalescing timeout is over
+            final long start = System.currentTimeMillis();
+            final Future<String> waiter = executor.submit(() -> read(open("/data", "GET")));
+            assertEquals("response 2", waiter.get(4, TimeUnit.SECONDS));
+            assertTrue(System.currentTimeMillis() - start < 4000);
+            assertFalse(fetch.isDone());
+
+            assertEquals("response 1", fetch.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMaxCoalescedRequests() throws Exception {
+        cacheAddOn.setMaxCoalescedRequests(1);
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int n = invocations.incrementAndGet();
+                Thread.sleep(500);
+                response.setHeader(Header.CacheControl, "max-age=60");
+                response.getWriter().write("response " + n);
+            }
+        }, "/data");
+        httpServer.start();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> read(open("/data", "GET"))));
+            }
+
+            for (final Future<String> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+
+            // the single request waits for the fetch, the others over the limit are passed to the handler
+            assertTrue(invocations.get() >= 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        cacheAddOn.setMaxCacheEntries(2);
+        startServer("max-age=60", null);
+
+        assertEquals("response 1", read(open("/data?a", "GET")));
+        assertEquals("response 2", read(open("/data?b", "GET")));
+        assertEquals("response 3", read(open("/data?c", "GET")));
+        assertEquals(2, cacheAddOn.getEntriesCount());
+
+        // the entry, which expires the soonest, has been evicted
+        assertEquals("response 2", read(open("/data?b", "GET")));
+        assertEquals("response 3", read(open("/data?c", "GET")));
+        assertEquals("response 4", read(open("/data?a", "GET")));
+        assertEquals(2, cacheAddOn.getEntriesCount());
+    }
+
+    private void startServer(final String cacheControl, final String vary) throws IOException {
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                final int n = invocations.incrementAndGet();
+                response.setHeader(Header.CacheControl, cacheControl);
+                response.setHeader(Header.ETag, "\"v1\"");
+                if (vary != null) {
+                    response.setHeader(Header.Vary, vary);
+                }
+
+                if ("\"v1\"".equals(request.getHeader(Header.IfNoneMatch))) {
+                    response.setStatus(304);
+                    return;
+                }
+
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().write("response " + n);
+            }
+        }, "/data");
+        httpServer.start();
+    }
+
+    private static HttpURLConnection open(final String path, final String method) throws IOException {
+        final HttpURLConnection c = (HttpURLConnection) new URL("http://localhost:" + PORT + path).openConnection();
+        c.setRequestMethod(method);
+        c.setReadTimeout(10000);
+        // the server is restarted for each test, so the client connections must not be cached
+        c.setRequestProperty("Connection", "close");
+        return c;
+    }
+
+    private static String read(final HttpURLConnection c) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = c.getInputStream()) {
+            final byte[] buffer = new byte[1024];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * {@link LatencyHistogram} test.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testIndexRoundTrip() {
+        for (long value = 0; value < 10_000_000; value = value * 3 / 2 + 1) {
+            final int idx = LatencyHistogram.countsIndex(value);
+            final long highest = LatencyHistogram.highestEquivalentValue(idx);
+            assertTrue(value + " > " + highest, value <= highest);
+            // the relative error stays within the sub-bucket precision
+            assertTrue(value + " vs " + highest, highest - value <= Math.max(1, value / 16));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(i);
+        }
+
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        assertEquals(10000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(10000, snapshot.getMax());
+        assertEquals(5000.5, snapshot.getMean(), 0.001);
+        assertWithin(5000, snapshot.getValueAtPercentile(50));
+        assertWithin(9900, snapshot.getValueAtPercentile(99));
+        assertWithin(9990, snapshot.getValueAtPercentile(99.9));
+        assertEquals(10000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testMergeThreadRecorders() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final int threads = 4;
+        final int perThread = 50000;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final long value = (t + 1) * 100;
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(value);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        assertEquals(threads * perThread, snapshot.getCount());
+        assertEquals(100, snapshot.getMin());
+        assertEquals(400, snapshot.getMax());
+        assertWithin(200, snapshot.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testClamp() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        assertEquals(0, snapshot.getMin());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMax());
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue("expected ~" + expected + " but was " + actual, Math.abs(expected - actual) <= expected / 16 + 1);
+    }
+}
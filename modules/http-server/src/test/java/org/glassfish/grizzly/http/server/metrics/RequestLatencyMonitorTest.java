@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * {@link RequestLatencyMonitor} test.
+ */
+public class RequestLatencyMonitorTest {
+    private static final int PORT = 18912;
+
+    private HttpServer httpServer;
+
+    @After
+    public void after() {
+        if (httpServer != null) {
+            httpServer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testListenerAndRegistrationMetrics() throws Exception {
+        httpServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("grizzly", NetworkListener.DEFAULT_NETWORK_HOST, PORT);
+        listener.setLatencyMetricsEnabled(true);
+        httpServer.addListener(listener);
+
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                Thread.sleep(20);
+                response.getWriter().write("slow");
+            }
+        }, "/slow");
+        httpServer.getServerConfiguration().addHttpHandler(new HttpHandler() {
+            @Override
+            public void service(final Request request, final Response response) throws Exception {
+                response.getWriter().write("fast");
+            }
+        }, "/fast");
+        httpServer.start();
+
+        for (int i = 0; i < 5; i++) {
+            get("/slow");
+            get("/fast");
+        }
+
+        final RequestLatencyMonitor monitor = listener.getLatencyMonitor();
+        assertNotNull(monitor);
+
+        final RequestLatencyMetrics slow = monitor.getMetrics(HttpHandlerRegistration.fromString("/slow"));
+        final RequestLatencyMetrics fast = monitor.getMetrics(HttpHandlerRegistration.fromString("/fast"));
+        assertNotNull(slow);
+        assertNotNull(fast);
+
+        // the flush is measured asynchronously
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (monitor.getMetrics().getSnapshot(RequestPhase.FLUSH).getCount() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(10, monitor.getMetrics().getSnapshot(RequestPhase.SERVICE).getCount());
+        assertEquals(10, monitor.getMetrics().getSnapshot(RequestPhase.FLUSH).getCount());
+        assertEquals(10, monitor.getMetrics().getSnapshot(RequestPhase.PARSE).getCount());
+        assertEquals(10, monitor.getMetrics().getSnapshot(RequestPhase.QUEUE_WAIT).getCount());
+        assertEquals(5, slow.getSnapshot(RequestPhase.SERVICE).getCount());
+        assertEquals(5, fast.getSnapshot(RequestPhase.SERVICE).getCount());
+
+        assertTrue(slow.getSnapshot(RequestPhase.SERVICE).getValueAtPercentile(50) >= TimeUnit.MILLISECONDS.toMicros(19));
+        assertTrue(fast.getSnapshot(RequestPhase.SERVICE).getValueAtPercentile(50) < TimeUnit.MILLISECONDS.toMicros(19));
+
+        final AtomicReference<RequestLatencyMonitor> exported = new AtomicReference<>();
+        monitor.addExporter(exported::set);
+        monitor.export();
+        assertSame(monitor, exported.get());
+    }
+
+    @Test
+    public void testQueueWaitProbeIsUnregisteredOnShutdown() throws Exception {
+        httpServer = new HttpServer();
+        final NetworkListener listener = new NetworkListener("grizzly", NetworkListener.DEFAULT_NETWORK_HOST, PORT);
+        listener.setLatencyMetricsEnabled(true);
+        listener.getTransport().setIOStrategy(WorkerThreadIOStrategy.getInstance());
+        httpServer.addListener(listener);
+        httpServer.start();
+
+        final RequestLatencyMonitor monitor = listener.getLatencyMonitor();
+        assertTrue(monitor.isQueueWaitProbeRegistered());
+
+        // the graceful shutdown doesn't remove the listener
+        httpServer.shutdown().get(10, TimeUnit.SECONDS);
+        assertFalse(monitor.isQueueWaitProbeRegistered());
+    }
+
+    private static void get(final String path) throws Exception {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + path).openConnection();
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream is = connection.getInputStream()) {
+            while (is.read() != -1) {
+            }
+        }
+    }
+}
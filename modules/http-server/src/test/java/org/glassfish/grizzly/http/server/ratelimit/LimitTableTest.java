@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.ratelimit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * {@link LimitTable} tests.
+ */
+public class LimitTableTest {
+    // one state per stripe
+    private static final int MAX_KEYS = 16;
+
+    @Test
+    public void testOverflowAndEviction() {
+        final LimitTable<TestState> table = new LimitTable<>(MAX_KEYS, now -> new TestState());
+        final String[] keys = sameStripeKeys(3);
+
+        final TestState first = table.get(keys[0], 0);
+        assertSame(first, table.get(keys[0], 0));
+
+        // the stripe is full, the new keys share the overflow state
+        final TestState overflow = table.get(keys[1], 0);
+        assertNotSame(first, overflow);
+        assertSame(overflow, table.get(keys[2], 0));
+        assertEquals(1, table.size());
+
+        // the idle state is evicted to make room for the new key
+        first.isIdle = true;
+        final TestState second = table.get(keys[1], 0);
+        assertNotSame(overflow, second);
+        assertSame(second, table.get(keys[1], 0));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testEvictedConcurrencyStateIsNotAcquired() {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(LimitKey.ROUTE, 1, 1, TimeUnit.SECONDS.toNanos(10), MAX_KEYS);
+        final String[] keys = sameStripeKeys(2);
+
+        final RequestLimit.Permit permit = limit.tryAcquire(keys[0], 0);
+        assertNotNull(permit);
+        assertNull(limit.tryAcquire(keys[0], 0));
+        permit.release(0, false);
+
+        // the idle state of the first key is evicted by the second one
+        final RequestLimit.Permit secondPermit = limit.tryAcquire(keys[1], 0);
+        assertNotNull(secondPermit);
+
+        // the first key doesn't fit anymore and gets the overflow state, which is limited on its own
+        final RequestLimit.Permit overflowPermit = limit.tryAcquire(keys[0], 0);
+        assertNotNull(overflowPermit);
+        assertNull(limit.tryAcquire(keys[0], 0));
+
+        secondPermit.release(0, false);
+        overflowPermit.release(0, false);
+    }
+
+    /**
+     * @return the keys, which belong to the same {@link LimitTable} stripe
+     */
+    private static String[] sameStripeKeys(final int count) {
+        final String[] keys = new String[count];
+        int found = 0;
+        for (int i = 0; found < count; i++) {
+            final String key = "key-" + i;
+            if (stripe(key) == 0) {
+                keys[found++] = key;
+            }
+        }
+
+        return keys;
+    }
+
+    private static int stripe(final String key) {
+        final int h = key.hashCode();
+        return (h ^ h >>> 16) & MAX_KEYS - 1;
+    }
+
+    private static final class TestState implements LimitTable.State {
+        private boolean isIdle;
+
+        @Override
+        public boolean tryEvict(final long now) {
+            return isIdle;
+        }
+    }
+}
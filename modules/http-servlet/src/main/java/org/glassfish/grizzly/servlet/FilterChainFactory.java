@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -17,8 +18,11 @@
 
 package org.glassfish.grizzly.servlet;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.util.Globals;
@@ -31,21 +35,35 @@ import jakarta.servlet.ServletRequest;
  * <code>FilterChainFactory</code> is responsible for building a {@link jakarta.servlet.FilterChain} instance with the
  * Filters that need to be invoked for a particular request URI.
  *
- * TODO: We should look into how to cache these. They currently are re-built on each request.
+ * The filter mappings are compiled once per {@link DispatcherType} and the resolved filter lists are cached per servlet
+ * name and the set of URL patterns the request path matches, so building a chain for a request is reduced to matching
+ * the precompiled URL patterns, a cache lookup and the allocation of a lightweight {@link FilterChainImpl} cursor. The
+ * cache is invalidated by {@link #invalidate()}, whenever the filter registrations or mappings change.
  *
  * @since 2.2
  */
 public class FilterChainFactory {
 
-//    private final Collection<FilterRegistration> registrations;
+    private static final FilterRegistration[] EMPTY_FILTERS = new FilterRegistration[0];
+
+    /**
+     * The max number of URL pattern mappings per dispatcher type, for which the resolved filter lists are cached.
+     */
+    private static final int MAX_CACHED_URL_MAPPINGS = Long.SIZE;
+
     private final WebappContext ctx;
 
+    /**
+     * The compiled filter mappings indexed by {@link DispatcherType#ordinal()}, or <tt>null</tt>, if they have to be
+     * (re)compiled.
+     */
+    private volatile CompiledMappings[] compiledMappings;
+
     // ------------------------------------------------------------ Constructors
 
     public FilterChainFactory(final WebappContext ctx) {
 
         this.ctx = ctx;
-//        this.registrations = registrations;
 
     }
 
@@ -77,6 +95,14 @@ public class FilterChainFactory {
 
     }
 
+    /**
+     * Drops the compiled filter mappings and the cached filter lists. Must be called whenever the filter registrations
+     * or mappings change.
+     */
+    public void invalidate() {
+        compiledMappings = null;
+    }
+
     // -------------------------------------------------------- Private Methods
     private FilterChainImpl buildFilterChain(final Servlet servlet, final String requestPath, final DispatcherType dispatcherType) {
         // If there is no servlet to execute, return null
@@ -84,47 +110,56 @@ public class FilterChainFactory {
             return null;
         }
 
-        // Create and initialize a filter chain object
-        FilterChainImpl filterChain = new FilterChainImpl(servlet, ctx);
-
-        final Map<String, ? extends FilterRegistration> registrations = ctx.getFilterRegistrations();
+        final CompiledMappings mappings = getCompiledMappings()[dispatcherType.ordinal()];
 
         // If there are no filter mappings, we are done
-        if (registrations.isEmpty()) {
-            return filterChain;
+        if (mappings.isEmpty()) {
+            return new FilterChainImpl(servlet, ctx, EMPTY_FILTERS);
         }
 
-        final List<FilterMap> filterMaps = ctx.getFilterMaps();
+        final String servletName = servlet.getServletConfig().getServletName();
+        final UrlMapping[] urlMappings = mappings.urlMappings;
 
-        // Add the relevant path-mapped filters to this filter chain
-        for (final FilterMap filterMap : filterMaps) {
-            if (!filterMap.getDispatcherTypes().contains(dispatcherType)) {
-                continue;
-            }
+        if (urlMappings.length > MAX_CACHED_URL_MAPPINGS) {
+            return new FilterChainImpl(servlet, ctx, mappings.resolve(servletName, requestPath));
+        }
 
-            if (!matchFiltersURL(filterMap, requestPath)) {
-                continue;
+        // The set of matching URL patterns is the path-pattern class of the request path
+        long matchMask = 0;
+        if (requestPath != null) {
+            for (int i = 0; i < urlMappings.length; i++) {
+                if (urlMappings[i].matches(requestPath)) {
+                    matchMask |= 1L << i;
+                }
             }
+        }
 
-            filterChain.addFilter(registrations.get(filterMap.getFilterName()));
+        final ChainKey key = new ChainKey(servletName, matchMask);
+        FilterRegistration[] filters = mappings.chains.get(key);
+        if (filters == null) {
+            filters = mappings.resolve(servletName, matchMask);
+            mappings.chains.putIfAbsent(key, filters);
         }
 
-        // Add filters that match on servlet name second
-        String servletName = servlet.getServletConfig().getServletName();
-        for (final FilterMap filterMap : filterMaps) {
-            if (!filterMap.getDispatcherTypes().contains(dispatcherType)) {
-                continue;
-            }
+        return new FilterChainImpl(servlet, ctx, filters);
+    }
+
+    private CompiledMappings[] getCompiledMappings() {
+        CompiledMappings[] mappings = compiledMappings;
+        if (mappings == null) {
+            final Map<String, ? extends FilterRegistration> registrations = ctx.getFilterRegistrations();
+            final List<FilterMap> filterMaps = ctx.getFilterMaps();
 
-            if (!matchFiltersServlet(filterMap, servletName)) {
-                continue;
+            final DispatcherType[] dispatcherTypes = DispatcherType.values();
+            mappings = new CompiledMappings[dispatcherTypes.length];
+            for (DispatcherType dispatcherType : dispatcherTypes) {
+                mappings[dispatcherType.ordinal()] = new CompiledMappings(registrations.isEmpty() ? null : filterMaps, registrations, dispatcherType);
             }
 
-            filterChain.addFilter(registrations.get(filterMap.getFilterName()));
+            compiledMappings = mappings;
         }
 
-        // Return the completed filter chain
-        return filterChain;
+        return mappings;
     }
 
     private String getRequestPath(ServletRequest request) {
@@ -148,80 +183,203 @@ public class FilterChainFactory {
     }
 
     /**
-     * Return <code>true</code> if the context-relative request path matches the requirements of the specified filter
-     * mapping; otherwise, return <code>null</code>.
+     * Return <code>true</code> if the specified servlet name matches the requirements of the specified filter mapping;
+     * otherwise return <code>false</code>.
      *
      * @param filterMap Filter mapping being checked
-     * @param requestPath Context-relative request path of this request
-     */
-    /*
-     * SJSWS 6324431 private boolean matchFiltersURL(FilterMap filterMap, String requestPath) {
+     * @param servletName Servlet name being checked
      */
-    // START SJSWS 6324431
-    private boolean matchFiltersURL(FilterMap filterMap, String requestPath) {
-        // END SJSWS 6324431
+    private static boolean matchFiltersServlet(FilterMap filterMap, String servletName) {
 
-        if (requestPath == null) {
+        if (servletName == null) {
             return false;
+        } else {
+            if (servletName.equals(filterMap.getServletName()) || "*".equals(filterMap.getServletName())) {
+                return true;
+            } else {
+                return false;
+            }
         }
+    }
 
-        // Match on context relative request path
-        String testPath = filterMap.getURLPattern();
-        if (testPath == null) {
-            return false;
+    // ----------------------------------------------------------- Inner Classes
+
+    /**
+     * The filter mappings for a single {@link DispatcherType}.
+     */
+    private static final class CompiledMappings {
+        private final UrlMapping[] urlMappings;
+        private final FilterMap[] servletMappings;
+        private final FilterRegistration[] servletRegistrations;
+
+        private final ConcurrentMap<ChainKey, FilterRegistration[]> chains = new ConcurrentHashMap<>();
+
+        private CompiledMappings(final List<FilterMap> filterMaps, final Map<String, ? extends FilterRegistration> registrations,
+                final DispatcherType dispatcherType) {
+            final List<UrlMapping> urls = new ArrayList<>();
+            final List<FilterMap> servlets = new ArrayList<>();
+            final List<FilterRegistration> servletRegs = new ArrayList<>();
+
+            if (filterMaps != null) {
+                for (final FilterMap filterMap : filterMaps) {
+                    if (!filterMap.getDispatcherTypes().contains(dispatcherType)) {
+                        continue;
+                    }
+
+                    final FilterRegistration registration = registrations.get(filterMap.getFilterName());
+                    if (filterMap.getURLPattern() != null) {
+                        urls.add(new UrlMapping(filterMap.getURLPattern(), registration));
+                    }
+
+                    if (filterMap.getServletName() != null) {
+                        servlets.add(filterMap);
+                        servletRegs.add(registration);
+                    }
+                }
+            }
+
+            urlMappings = urls.toArray(new UrlMapping[0]);
+            servletMappings = servlets.toArray(new FilterMap[0]);
+            servletRegistrations = servletRegs.toArray(EMPTY_FILTERS);
         }
 
-        // Case 1 - Exact Match
-        if (testPath.equals(requestPath)) {
-            return true;
+        private boolean isEmpty() {
+            return urlMappings.length == 0 && servletMappings.length == 0;
         }
 
-        // Case 2 - Path Match ("/.../*")
-        if (testPath.equals("/*")) {
-            return true;
+        /**
+         * Resolves the filters for the given servlet name and the mask of the matching URL mappings: the path-mapped
+         * filters first, the filters that match on servlet name second.
+         */
+        private FilterRegistration[] resolve(final String servletName, final long matchMask) {
+            final List<FilterRegistration> filters = new ArrayList<>();
+            for (int i = 0; i < urlMappings.length; i++) {
+                if ((matchMask & 1L << i) != 0) {
+                    filters.add(urlMappings[i].registration);
+                }
+            }
+
+            addServletFilters(servletName, filters);
+            return filters.toArray(EMPTY_FILTERS);
         }
-        if (testPath.endsWith("/*")) {
-            if (testPath.regionMatches(0, requestPath, 0, testPath.length() - 2)) {
-                if (requestPath.length() == testPath.length() - 2) {
-                    return true;
-                } else if ('/' == requestPath.charAt(testPath.length() - 2)) {
-                    return true;
+
+        /**
+         * Resolves the filters for the given servlet name and request path without caching.
+         */
+        private FilterRegistration[] resolve(final String servletName, final String requestPath) {
+            final List<FilterRegistration> filters = new ArrayList<>();
+            if (requestPath != null) {
+                for (final UrlMapping urlMapping : urlMappings) {
+                    if (urlMapping.matches(requestPath)) {
+                        filters.add(urlMapping.registration);
+                    }
                 }
             }
-            return false;
+
+            addServletFilters(servletName, filters);
+            return filters.toArray(EMPTY_FILTERS);
         }
 
-        // Case 3 - Extension Match
-        if (testPath.startsWith("*.")) {
-            int slash = requestPath.lastIndexOf('/');
-            int period = requestPath.lastIndexOf('.');
-            if (slash >= 0 && period > slash && period != requestPath.length() - 1 && requestPath.length() - period == testPath.length() - 1) {
-                return testPath.regionMatches(2, requestPath, period + 1, testPath.length() - 2);
+        private void addServletFilters(final String servletName, final List<FilterRegistration> filters) {
+            for (int i = 0; i < servletMappings.length; i++) {
+                if (matchFiltersServlet(servletMappings[i], servletName)) {
+                    filters.add(servletRegistrations[i]);
+                }
             }
         }
+    }
 
-        // Case 4 - "Default" Match
-        return false; // NOTE - Not relevant for selecting filters
+    /**
+     * Precompiled URL pattern filter mapping.
+     */
+    private static final class UrlMapping {
+        private static final int EXACT = 0;
+        private static final int ALL = 1;
+        private static final int PATH = 2;
+        private static final int EXTENSION = 3;
+
+        private final String pattern;
+        private final int type;
+        private final FilterRegistration registration;
+
+        private UrlMapping(final String pattern, final FilterRegistration registration) {
+            this.pattern = pattern;
+            this.registration = registration;
+
+            if (pattern.equals("/*")) {
+                type = ALL;
+            } else if (pattern.endsWith("/*")) {
+                type = PATH;
+            } else if (pattern.startsWith("*.")) {
+                type = EXTENSION;
+            } else {
+                type = EXACT;
+            }
+        }
 
+        /**
+         * Return <code>true</code> if the context-relative request path matches the URL pattern; otherwise, return
+         * <code>false</code>.
+         *
+         * @param requestPath Context-relative request path of this request
+         */
+        private boolean matches(final String requestPath) {
+            // Case 1 - Exact Match
+            if (pattern.equals(requestPath)) {
+                return true;
+            }
+
+            switch (type) {
+            case ALL:
+                return true;
+            case PATH:
+                // Case 2 - Path Match ("/.../*")
+                final int prefixLength = pattern.length() - 2;
+                return pattern.regionMatches(0, requestPath, 0, prefixLength)
+                        && (requestPath.length() == prefixLength || '/' == requestPath.charAt(prefixLength));
+            case EXTENSION:
+                // Case 3 - Extension Match
+                final int slash = requestPath.lastIndexOf('/');
+                final int period = requestPath.lastIndexOf('.');
+                if (slash >= 0 && period > slash && period != requestPath.length() - 1 && requestPath.length() - period == pattern.length() - 1) {
+                    return pattern.regionMatches(2, requestPath, period + 1, pattern.length() - 2);
+                }
+                return false;
+            default:
+                // Case 4 - "Default" Match
+                return false; // NOTE - Not relevant for selecting filters
+            }
+        }
     }
 
     /**
-     * Return <code>true</code> if the specified servlet name matches the requirements of the specified filter mapping;
-     * otherwise return <code>false</code>.
-     *
-     * @param filterMap Filter mapping being checked
-     * @param servletName Servlet name being checked
+     * The filter chain cache key.
      */
-    private boolean matchFiltersServlet(FilterMap filterMap, String servletName) {
+    private static final class ChainKey {
+        private final String servletName;
+        private final long matchMask;
 
-        if (servletName == null) {
-            return false;
-        } else {
-            if (servletName.equals(filterMap.getServletName()) || "*".equals(filterMap.getServletName())) {
+        private ChainKey(final String servletName, final long matchMask) {
+            this.servletName = servletName;
+            this.matchMask = matchMask;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
                 return true;
-            } else {
+            }
+            if (!(o instanceof ChainKey)) {
                 return false;
             }
+
+            final ChainKey other = (ChainKey) o;
+            return matchMask == other.matchMask && (servletName == null ? other.servletName == null : servletName.equals(other.servletName));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (servletName != null ? servletName.hashCode() : 0) + Long.hashCode(matchMask);
         }
     }
 
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -66,6 +67,18 @@ final class FilterChainImpl implements FilterChain, FilterChainInvoker {
         this.ctx = ctx;
     }
 
+    /**
+     * Creates the chain over the resolved filters. The array is shared between chains and must not be modified, the
+     * chain copies it before adding more filters.
+     */
+    FilterChainImpl(final Servlet servlet, final WebappContext ctx, final FilterRegistration[] filters) {
+
+        this.servlet = servlet;
+        this.ctx = ctx;
+        this.filters = filters;
+        this.n = filters.length;
+    }
+
     // ---------------------------------------------------- FilterChain Methods
 
     @Override
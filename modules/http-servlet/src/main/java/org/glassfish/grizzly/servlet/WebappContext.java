@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -391,6 +391,7 @@ public class WebappContext implements ServletContext {
         if (registration == null) {
             registration = new FilterRegistration(this, filterName, filterClass);
             filterRegistrations.put(filterName, registration);
+            filterChainFactory.invalidate();
         } else {
             if (registration.filterClass != filterClass) {
                 registration.filter = null;
@@ -439,6 +440,7 @@ public class WebappContext implements ServletContext {
         if (registration == null) {
             registration = new FilterRegistration(this, filterName, filter);
             filterRegistrations.put(filterName, registration);
+            filterChainFactory.invalidate();
         } else {
             if (registration.filter != filter) {
                 registration.filter = filter;
@@ -487,6 +489,7 @@ public class WebappContext implements ServletContext {
         if (registration == null) {
             registration = new FilterRegistration(this, filterName, className);
             filterRegistrations.put(filterName, registration);
+            filterChainFactory.invalidate();
         } else {
             if (!registration.className.equals(className)) {
                 registration.className = className;
@@ -1561,6 +1564,7 @@ public class WebappContext implements ServletContext {
         } else {
             filterMaps.add(0, filterMap);
         }
+        filterChainFactory.invalidate();
 
 //        if (notifyContainerListeners) {
 //            fireContainerEvent("addFilterMap", filterMap);
@@ -1583,6 +1587,7 @@ public class WebappContext implements ServletContext {
 //            }
 //        }
         filterMaps.clear();
+        filterChainFactory.invalidate();
     }
 
     /**
@@ -1633,6 +1638,7 @@ public class WebappContext implements ServletContext {
                     }
                     f.destroy();
                     i.remove();
+                    filterChainFactory.invalidate();
                 }
             }
         }
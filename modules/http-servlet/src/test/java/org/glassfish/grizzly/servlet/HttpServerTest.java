@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2009, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -387,6 +387,58 @@ public class HttpServerTest extends HttpServerAbstractTest {
         }
     }
 
+    @Test
+    public void testFilterChainPerMatchedUrlPatterns() throws IOException {
+        System.out.println("testFilterChainPerMatchedUrlPatterns");
+        try {
+            int port = PORT + 11;
+            httpServer = HttpServer.createSimpleServer(".", port);
+            WebappContext ctx = new WebappContext("Test");
+            ServletRegistration servletReg = ctx.addServlet("app", new HttpServlet() {
+                @Override
+                protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                    resp.setStatus(HttpServletResponse.SC_OK);
+                    resp.getWriter().write(String.valueOf(req.getAttribute("chain")));
+                }
+            });
+            servletReg.addMapping("/app/*");
+            addChainFilter(ctx, "prefix").addMappingForUrlPatterns(null, "/app/*");
+            addChainFilter(ctx, "ext").addMappingForUrlPatterns(null, "*.do");
+            addChainFilter(ctx, "exact").addMappingForUrlPatterns(null, "/app/x.do");
+            addChainFilter(ctx, "servlet").addMappingForServletNames(null, "app");
+            ctx.deploy(httpServer);
+            httpServer.start();
+
+            // repeat the requests to make sure the memoized chains are the same as the initially built ones
+            for (int i = 0; i < 2; i++) {
+                HttpURLConnection conn = getConnection("/app/x.do", port);
+                assertEquals(HttpServletResponse.SC_OK, getResponseCodeFromAlias(conn));
+                assertEquals("prefix,ext,exact,servlet", readResponse(conn));
+
+                conn = getConnection("/app/y.do", port);
+                assertEquals(HttpServletResponse.SC_OK, getResponseCodeFromAlias(conn));
+                assertEquals("prefix,ext,servlet", readResponse(conn));
+
+                conn = getConnection("/app/y", port);
+                assertEquals(HttpServletResponse.SC_OK, getResponseCodeFromAlias(conn));
+                assertEquals("prefix,servlet", readResponse(conn));
+            }
+        } finally {
+            stopHttpServer();
+        }
+    }
+
+    private FilterRegistration addChainFilter(WebappContext ctx, String name) {
+        return ctx.addFilter(name, new Filter() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+                Object current = request.getAttribute("chain");
+                request.setAttribute("chain", current == null ? name : current + "," + name);
+                chain.doFilter(request, response);
+            }
+        });
+    }
+
     private ServletRegistration addServlet(WebappContext ctx, String alias) {
         ServletRegistration reg = ctx.addServlet(alias, new HttpServlet() {
 
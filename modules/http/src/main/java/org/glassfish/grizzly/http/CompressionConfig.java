@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,7 @@ package org.glassfish.grizzly.http;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.glassfish.grizzly.http.util.DataChunk;
@@ -72,6 +74,12 @@ public final class CompressionConfig {
     private final ArraySet<String> noCompressionUserAgents = new ArraySet<>(String.class);
     // Allow decompression of incoming data
     private boolean decompressionEnabled;
+    // the max size of the decompressed incoming data
+    private long decompressionMaxSize = -1;
+    // the max ratio between decompressed and compressed incoming data sizes
+    private int decompressionMaxRatio = -1;
+    // the content-encoding names in the server preference order
+    private String[] preferredContentEncodings = new String[0];
 
     public CompressionConfig() {
         compressionMode = CompressionMode.OFF;
@@ -111,6 +119,9 @@ public final class CompressionConfig {
         setCompressibleMimeTypes(compression.compressibleMimeTypes);
         setNoCompressionUserAgents(compression.noCompressionUserAgents);
         decompressionEnabled = compression.isDecompressionEnabled();
+        decompressionMaxSize = compression.decompressionMaxSize;
+        decompressionMaxRatio = compression.decompressionMaxRatio;
+        preferredContentEncodings = compression.preferredContentEncodings;
     }
 
     /**
@@ -282,6 +293,56 @@ public final class CompressionConfig {
         this.decompressionEnabled = decompressionEnabled;
     }
 
+    /**
+     * @return the max number of bytes, which could be decompressed from a single incoming HTTP message, or <tt>-1</tt>
+     * if the decompressed size is not limited.
+     */
+    public long getDecompressionMaxSize() {
+        return decompressionMaxSize;
+    }
+
+    /**
+     * Sets the max number of bytes, which could be decompressed from a single incoming HTTP message. If the limit is
+     * exceeded, the message content is considered broken. The value <tt>-1</tt> (default) means the decompressed size is
+     * not limited.
+     */
+    public void setDecompressionMaxSize(final long decompressionMaxSize) {
+        this.decompressionMaxSize = decompressionMaxSize;
+    }
+
+    /**
+     * @return the max allowed ratio between the decompressed and compressed incoming HTTP message sizes, or <tt>-1</tt>
+     * if the ratio is not limited.
+     */
+    public int getDecompressionMaxRatio() {
+        return decompressionMaxRatio;
+    }
+
+    /**
+     * Sets the max allowed ratio between the decompressed and compressed incoming HTTP message sizes. If the ratio is
+     * exceeded, the message content is considered broken. The value <tt>-1</tt> (default) means the ratio is not limited.
+     */
+    public void setDecompressionMaxRatio(final int decompressionMaxRatio) {
+        this.decompressionMaxRatio = decompressionMaxRatio;
+    }
+
+    /**
+     * Returns the read-only list of the content-encoding names in the server preference order.
+     */
+    public List<String> getPreferredContentEncodings() {
+        return Collections.unmodifiableList(Arrays.asList(preferredContentEncodings));
+    }
+
+    /**
+     * Sets the content-encoding names in the server preference order. The content-encoding is negotiated using the
+     * <tt>Accept-Encoding</tt> request header quality values, and if several content-encodings are equally acceptable for
+     * the client - the one, which comes first in this list, is chosen. The content-encodings, which are not listed, are
+     * less preferred than the listed ones.
+     */
+    public void setPreferredContentEncodings(final String... preferredContentEncodings) {
+        this.preferredContentEncodings = preferredContentEncodings != null ? preferredContentEncodings.clone() : new String[0];
+    }
+
     /**
      * Returns <tt>true</tt> if a client, based on its {@link HttpRequestPacket}, could be responded with compressed data,
      * or <tt>false</tt> otherwise.
@@ -304,7 +365,7 @@ public final class CompressionConfig {
                 return false;
             }
 
-            if (!isClientSupportContentEncoding(request, aliases)) {
+            if (!isClientSupportContentEncoding(request, aliases, compressionConfig.preferredContentEncodings)) {
                 return false;
             }
 
@@ -338,36 +399,36 @@ public final class CompressionConfig {
 
     }
 
-    private static boolean isClientSupportContentEncoding(HttpRequestPacket request, final String[] aliases) {
-        // Check if browser support gzip encoding
-        final DataChunk acceptEncodingDC = request.getHeaders().getValue(Header.AcceptEncoding);
-        if (acceptEncodingDC == null) {
+    private static boolean isClientSupportContentEncoding(final HttpRequestPacket request, final String[] aliases,
+            final String[] preferredContentEncodings) {
+        final String acceptEncoding = request.getHeader(Header.AcceptEncoding);
+        if (acceptEncoding == null) {
             return false;
         }
-        String alias = null;
-        int idx = -1;
-        for (int i = 0, len = aliases.length; i < len; i++) {
-            alias = aliases[i];
-            idx = acceptEncodingDC.indexOf(alias, 0);
-            if (idx != -1) {
-                break;
-            }
-        }
 
-        if (idx == -1) {
+        // q=0 means the user-agent doesn't support this particular compression
+        final float qvalue = getAcceptEncodingQValue(acceptEncoding, aliases);
+        if (qvalue <= 0) {
             return false;
         }
 
-        assert alias != null;
+        // make sure there is no other preferred content-encoding, which is either more acceptable for the client,
+        // or equally acceptable, but goes first in the server preference order
+        int preferenceIdx = preferredContentEncodings.length;
+        for (int i = 0; i < preferredContentEncodings.length; i++) {
+            if (indexOf(aliases, preferredContentEncodings[i]) != -1) {
+                preferenceIdx = i;
+                break;
+            }
+        }
+
+        for (int i = 0; i < preferredContentEncodings.length; i++) {
+            if (i == preferenceIdx) {
+                continue;
+            }
 
-        // we only care about q=0/q=0.0. If present, the user-agent
-        // doesn't support this particular compression.
-        int qvalueStart = acceptEncodingDC.indexOf(';', idx + alias.length());
-        if (qvalueStart != -1) {
-            qvalueStart = acceptEncodingDC.indexOf('=', qvalueStart);
-            final int commaIdx = acceptEncodingDC.indexOf(',', qvalueStart);
-            final int qvalueEnd = commaIdx != -1 ? commaIdx : acceptEncodingDC.getLength();
-            if (HttpUtils.convertQValueToFloat(acceptEncodingDC, qvalueStart + 1, qvalueEnd) == 0.0f) {
+            final float otherQvalue = getAcceptEncodingQValue(acceptEncoding, preferredContentEncodings[i]);
+            if (otherQvalue > qvalue || otherQvalue == qvalue && i < preferenceIdx) {
                 return false;
             }
         }
@@ -375,6 +436,78 @@ public final class CompressionConfig {
         return true;
     }
 
+    /**
+     * Returns the quality value of the content-encoding with the given aliases according to the <tt>Accept-Encoding</tt>
+     * header value. If the content-encoding isn't listed explicitly, the quality value of <tt>*</tt> is returned, if
+     * listed, otherwise <tt>0</tt>.
+     */
+    static float getAcceptEncodingQValue(final String acceptEncoding, final String... aliases) {
+        float qvalue = -1;
+        float wildcardQvalue = 0;
+
+        final int length = acceptEncoding.length();
+        int start = 0;
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+
+            int paramsIdx = acceptEncoding.indexOf(';', start);
+            if (paramsIdx == -1 || paramsIdx > end) {
+                paramsIdx = end;
+            }
+
+            final String coding = acceptEncoding.substring(start, paramsIdx).trim();
+
+            float codingQvalue = 1;
+            if (paramsIdx < end) {
+                final int qvalueIdx = acceptEncoding.indexOf('=', paramsIdx);
+                if (qvalueIdx != -1 && qvalueIdx < end) {
+                    codingQvalue = convertQValue(acceptEncoding.substring(qvalueIdx + 1, end).trim());
+                }
+            }
+
+            if ("*".equals(coding)) {
+                wildcardQvalue = codingQvalue;
+            } else if (indexOfIgnoreCase(aliases, coding) != -1) {
+                qvalue = Math.max(qvalue, codingQvalue);
+            }
+
+            start = end + 1;
+        }
+
+        return qvalue != -1 ? qvalue : wildcardQvalue;
+    }
+
+    private static float convertQValue(final String qvalue) {
+        try {
+            return HttpUtils.convertQValueToFloat(qvalue, 0, qvalue.length());
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static int indexOf(final String[] aliases, final String name) {
+        for (int i = 0; i < aliases.length; i++) {
+            if (aliases[i].equals(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int indexOfIgnoreCase(final String[] aliases, final String name) {
+        for (int i = 0; i < aliases.length; i++) {
+            if (aliases[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
     private static int indexOf(String[] aliases, DataChunk dc) {
         if (dc == null || dc.isNull()) {
             return -1;
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -72,6 +73,15 @@ public interface ContentEncoding {
      */
     ParsingResult decode(Connection connection, HttpContent httpContent);
 
+    /**
+     * Method is called, once the last content chunk of the HTTP packet has been decoded, so the <tt>ContentEncoding</tt>
+     * could release the decoding resources associated with the HTTP packet without waiting for the packet to be recycled.
+     *
+     * @param header HTTP packet header.
+     */
+    default void releaseDecodingState(HttpHeader header) {
+    }
+
     /**
      * Encode HTTP packet content represented by {@link HttpContent}.
      *
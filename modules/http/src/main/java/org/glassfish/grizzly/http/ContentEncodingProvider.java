@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http;
+
+/**
+ * The service provider interface for pluggable {@link ContentEncoding}s (for example zstd or brotli, which require
+ * third-party codecs). The providers are discovered using {@link java.util.ServiceLoader}, so in order to register a
+ * provider, its class name has to be listed in the
+ * <tt>META-INF/services/org.glassfish.grizzly.http.ContentEncodingProvider</tt> resource. The server creates a
+ * {@link ContentEncoding} using every discovered provider, once the compression is enabled.
+ *
+ * @see CompressionConfig#setPreferredContentEncodings(String...)
+ */
+public interface ContentEncodingProvider {
+
+    /**
+     * Get the name of the {@link ContentEncoding} created by this provider.
+     *
+     * @return the {@link ContentEncoding} name.
+     */
+    String getName();
+
+    /**
+     * Get the aliases of the {@link ContentEncoding} created by this provider, which are matched against the
+     * <tt>Accept-Encoding</tt> and <tt>Content-Encoding</tt> header values.
+     *
+     * @return the {@link ContentEncoding} aliases.
+     */
+    String[] getAliases();
+
+    /**
+     * Creates the {@link ContentEncoding}.
+     *
+     * @param encodingFilter {@link EncodingFilter}, which decides if the {@link ContentEncoding} should be applied to
+     * encode or decode specific {@link HttpHeader} packet.
+     * @param compressionConfig the {@link CompressionConfig}, the {@link ContentEncoding} is created for.
+     *
+     * @return the {@link ContentEncoding}.
+     */
+    ContentEncoding createContentEncoding(EncodingFilter encodingFilter, CompressionConfig compressionConfig);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -501,7 +501,10 @@ public class Cookie implements Cloneable, Cacheable {
     }
 
     protected boolean lazyNameEquals(String name) {
-        return this.name.equals(name);
+        if (this.name == null && usingLazyCookieState) {
+            return lazyCookieState.getName().equals(name);
+        }
+        return name.equals(this.name);
     }
 
     // Note -- disabled for now to allow full Netscape compatibility
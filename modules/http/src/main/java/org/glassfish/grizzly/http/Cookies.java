@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.http.util.BufferChunk;
 import org.glassfish.grizzly.http.util.ByteChunk;
@@ -35,6 +36,11 @@ import org.glassfish.grizzly.http.util.MimeHeaders;
 /**
  * A collection of cookies - reusable and tuned for server side performance. Based on RFC2965 ( and 2109 )
  *
+ * Request cookies could be looked up by name using {@link #findByName(String)} or {@link #findValueByName(String)}
+ * without parsing the entire <tt>Cookie</tt> header: the first lookup scans the raw header bytes once and records the
+ * offsets of every cookie name and pair, then only the pair, which name matches, gets parsed. The complete parsing
+ * happens only when all the cookies are requested via {@link #get()}.
+ *
  * This class is not synchronized.
  *
  * @author Costin Manolache
@@ -57,6 +63,17 @@ public final class Cookies {
     private int nextUnusedCookieIndex = 0;
     private int storedCookieCount;
 
+    // the cookie name index, built on the first lookup by name
+    // every entry is represented by INDEX_ENTRY_SIZE ints: header index, name start, name end, pair end
+    private static final int INDEX_ENTRY_SIZE = 4;
+    private int[] index = new int[INITIAL_SIZE * INDEX_ENTRY_SIZE];
+    private int indexedCookieCount;
+    private boolean isIndexed;
+    private boolean isIndexable;
+
+    // the cookies materialized by name lookups
+    private Cookies lookupCookies;
+
     /*
      * List of Separator Characters (see isSeparator()) Excluding the '/' char violates the RFC, but it looks like a lot of
      * people put '/' in unquoted values: '/': ; //47 '\t':9 ' ':32 '\"':34 '\'':39 '(':40 ')':41 ',':44 ':':58 ';':59
@@ -131,6 +148,12 @@ public final class Cookies {
         headers = null;
         isRequest = false;
         isProcessed = false;
+        indexedCookieCount = 0;
+        isIndexed = false;
+        isIndexable = false;
+        if (lookupCookies != null) {
+            lookupCookies.recycle();
+        }
     }
 
     private Cookie[] copyTo(Cookie[] destination) {
@@ -170,19 +193,14 @@ public final class Cookies {
                 }
 
                 final ByteChunk byteChunk = cookieValue.getByteChunk();
-
-                if (CookieUtils.USE_LEGACY_PARSER) {
-                    CookieParserUtils.parseClientCookies(this, byteChunk.getBuffer(), byteChunk.getStart(), byteChunk.getLength());
-                } else {
-                    CookieHeaderParser.parseCookie(byteChunk.getBuffer(), byteChunk.getStart(), byteChunk.getLength(), this);
-                }
+                parseClientCookies(this, cookieValue, byteChunk.getStart(), byteChunk.getLength());
             } else if (cookieValue.getType() == DataChunk.Type.Buffer) {
                 if (logger.isLoggable(Level.FINE)) {
                     log("Parsing buffer: " + cookieValue.toString());
                 }
 
                 final BufferChunk bufferChunk = cookieValue.getBufferChunk();
-                CookieParserUtils.parseClientCookies(this, bufferChunk.getBuffer(), bufferChunk.getStart(), bufferChunk.getLength());
+                parseClientCookies(this, cookieValue, bufferChunk.getStart(), bufferChunk.getLength());
             } else {
                 if (logger.isLoggable(Level.FINE)) {
                     log("Parsing string: " + cookieValue.toString());
@@ -263,7 +281,37 @@ public final class Cookies {
         }
     }
 
+    /**
+     * Parses the cookies of the <tt>Cookie</tt> header value (either {@link DataChunk.Type#Bytes} or
+     * {@link DataChunk.Type#Buffer}) region.
+     */
+    private static void parseClientCookies(final Cookies cookies, final DataChunk cookieValue, final int offset, final int length) {
+        if (cookieValue.getType() == DataChunk.Type.Bytes) {
+            final byte[] bytes = cookieValue.getByteChunk().getBuffer();
+
+            if (CookieUtils.USE_LEGACY_PARSER) {
+                CookieParserUtils.parseClientCookies(cookies, bytes, offset, length);
+            } else {
+                CookieHeaderParser.parseCookie(bytes, offset, length, cookies);
+            }
+        } else {
+            CookieParserUtils.parseClientCookies(cookies, cookieValue.getBufferChunk().getBuffer(), offset, length);
+        }
+    }
+
+    /**
+     * Returns the first cookie with the given name. If the cookies have not been parsed yet - only the cookie with the
+     * given name is parsed, so the returned {@link Cookie} might not carry the <tt>$Version</tt>, <tt>$Path</tt> and
+     * <tt>$Domain</tt> attributes of the legacy cookie header format.
+     *
+     * @param cookieName the cookie name
+     * @return the first cookie with the given name, or <tt>null</tt> if there is no such cookie
+     */
     public Cookie findByName(String cookieName) {
+        if (!isProcessed && isRequest && index()) {
+            return findIndexed(cookieName);
+        }
+
         final Cookie[] cookiesArray = get();
         for (Cookie cookie : cookiesArray) {
             if (cookie.lazyNameEquals(cookieName)) {
@@ -272,4 +320,168 @@ public final class Cookies {
         }
         return null;
     }
+
+    /**
+     * Returns the value of the first cookie with the given name. If the cookies have not been parsed yet - only the
+     * cookie with the given name is parsed, the rest of the cookies are left untouched.
+     *
+     * @param cookieName the cookie name
+     * @return the value of the first cookie with the given name, or <tt>null</tt> if there is no such cookie
+     */
+    public String findValueByName(String cookieName) {
+        final Cookie cookie = findByName(cookieName);
+        return cookie != null ? cookie.getValue() : null;
+    }
+
+    private Cookie findIndexed(final String cookieName) {
+        for (int i = 0; i < indexedCookieCount; i++) {
+            final int entry = i * INDEX_ENTRY_SIZE;
+            final DataChunk cookieValue = headers.getValue(index[entry]);
+
+            if (!nameEquals(cookieValue, index[entry + 1], index[entry + 2], cookieName)) {
+                continue;
+            }
+
+            if (lookupCookies == null) {
+                lookupCookies = new Cookies();
+            }
+
+            final int cookieIdx = lookupCookies.nextUnusedCookieIndex;
+            final int pairStart = index[entry + 1];
+            parseClientCookies(lookupCookies, cookieValue, pairStart, index[entry + 3] - pairStart);
+
+            // the pair might be rejected by the parser
+            if (lookupCookies.nextUnusedCookieIndex > cookieIdx) {
+                final Cookie cookie = lookupCookies.cookies[cookieIdx];
+                if (cookie.lazyNameEquals(cookieName)) {
+                    return cookie;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Builds the cookie name index, if it hasn't been built yet.
+     *
+     * @return <tt>true</tt> if the index could be used, or <tt>false</tt> if the cookie headers have to be parsed
+     * completely
+     */
+    private boolean index() {
+        if (isIndexed) {
+            return isIndexable;
+        }
+
+        isIndexed = true;
+        isIndexable = false;
+        if (headers == null) {
+            return false;
+        }
+
+        int pos = 0;
+        while ((pos = headers.indexOf(Header.Cookie, pos)) >= 0) {
+            final DataChunk cookieValue = headers.getValue(pos);
+            if (cookieValue != null && !cookieValue.isNull()) {
+                if (cookieValue.getType() == DataChunk.Type.Bytes) {
+                    final ByteChunk byteChunk = cookieValue.getByteChunk();
+                    indexPairs(pos, byteChunk.getBuffer(), 0, byteChunk.getStart(), byteChunk.getEnd(), CookieUtils.USE_LEGACY_PARSER);
+                } else if (cookieValue.getType() == DataChunk.Type.Buffer && cookieValue.getBufferChunk().getBuffer().hasArray()) {
+                    final BufferChunk bufferChunk = cookieValue.getBufferChunk();
+                    final Buffer buffer = bufferChunk.getBuffer();
+                    indexPairs(pos, buffer.array(), buffer.arrayOffset(), bufferChunk.getStart(), bufferChunk.getEnd(), true);
+                } else {
+                    // String, chars or direct Buffer
+                    indexedCookieCount = 0;
+                    return false;
+                }
+            }
+
+            pos++;
+        }
+
+        isIndexable = true;
+        return true;
+    }
+
+    /**
+     * Records the name and pair offsets of every cookie in the given header value region. The offsets are relative to
+     * the header value {@link ByteChunk} or {@link Buffer}, which is backed by the <tt>bytes</tt> array with the given
+     * <tt>arrayOffset</tt>. The pairs are validated later by the actual parser, so here we only need to split them the
+     * same way the parser does: the legacy parser treats ',' as a separator and respects quoted values.
+     */
+    private void indexPairs(final int headerIdx, final byte[] bytes, final int arrayOffset, final int start, final int end, final boolean isLegacy) {
+        int pos = start + arrayOffset;
+        final int limit = end + arrayOffset;
+
+        while (pos < limit) {
+            byte b = bytes[pos];
+            if (b == ' ' || b == '\t' || b == ';' || isLegacy && b == ',') {
+                pos++;
+                continue;
+            }
+
+            final int pairStart = pos;
+            while (pos < limit && (b = bytes[pos]) != '=' && b != ';' && b != ' ' && b != '\t' && !(isLegacy && b == ',')) {
+                pos++;
+            }
+            final int nameEnd = pos;
+
+            boolean isQuoted = false;
+            while (pos < limit) {
+                b = bytes[pos];
+                if (isLegacy && b == '"') {
+                    isQuoted = !isQuoted;
+                } else if (isQuoted && b == '\\') {
+                    pos++;
+                } else if (!isQuoted && (b == ';' || isLegacy && b == ',')) {
+                    break;
+                }
+                pos++;
+            }
+
+            // the legacy parser doesn't treat the special $Version, $Path and $Domain pairs as cookies
+            if (nameEnd > pairStart && !(isLegacy && bytes[pairStart] == '$')) {
+                addIndexEntry(headerIdx, pairStart - arrayOffset, nameEnd - arrayOffset, Math.min(pos, limit) - arrayOffset);
+            }
+        }
+    }
+
+    private void addIndexEntry(final int headerIdx, final int nameStart, final int nameEnd, final int pairEnd) {
+        final int entry = indexedCookieCount * INDEX_ENTRY_SIZE;
+        if (entry == index.length) {
+            index = Arrays.copyOf(index, index.length + INITIAL_SIZE * INDEX_ENTRY_SIZE);
+        }
+
+        index[entry] = headerIdx;
+        index[entry + 1] = nameStart;
+        index[entry + 2] = nameEnd;
+        index[entry + 3] = pairEnd;
+        indexedCookieCount++;
+    }
+
+    private static boolean nameEquals(final DataChunk cookieValue, final int nameStart, final int nameEnd, final String name) {
+        final int length = nameEnd - nameStart;
+        if (length != name.length()) {
+            return false;
+        }
+
+        if (cookieValue.getType() == DataChunk.Type.Bytes) {
+            final byte[] bytes = cookieValue.getByteChunk().getBuffer();
+            for (int i = 0; i < length; i++) {
+                if (bytes[nameStart + i] != name.charAt(i)) {
+                    return false;
+                }
+            }
+        } else {
+            final Buffer buffer = cookieValue.getBufferChunk().getBuffer();
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(nameStart + i) != name.charAt(i)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,7 +22,25 @@ package org.glassfish.grizzly.http;
  * @author oleksiys
  */
 public interface EncodingFilter {
+    /**
+     * The {@link #getCompressionLevel(HttpHeader)} result, which means the content-encoding has to use its own configured
+     * compression level.
+     */
+    int DEFAULT_COMPRESSION_LEVEL = Integer.MIN_VALUE;
+
     boolean applyEncoding(final HttpHeader httpPacket);
 
     boolean applyDecoding(final HttpHeader httpPacket);
+
+    /**
+     * Returns the compression level the content-encoding should use for the given {@link HttpHeader}'s content, which
+     * {@link #applyEncoding(HttpHeader)} has been approved. The content-encodings, which don't support the compression
+     * level tuning, may ignore the result.
+     *
+     * @param httpPacket the {@link HttpHeader}, which content is about to be encoded
+     * @return the compression level (0-9) or {@link #DEFAULT_COMPRESSION_LEVEL}
+     */
+    default int getCompressionLevel(final HttpHeader httpPacket) {
+        return DEFAULT_COMPRESSION_LEVEL;
+    }
 }
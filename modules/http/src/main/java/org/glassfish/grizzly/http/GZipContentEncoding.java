@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -118,6 +119,44 @@ public class GZipContentEncoding implements ContentEncoding {
         return ALIASES.clone();
     }
 
+    /**
+     * @return the max number of bytes, which could be decoded from a single HTTP message content, or <tt>-1</tt> if the
+     * decoded size is not limited.
+     */
+    public long getMaxDecodedSize() {
+        return decoder.getMaxDecodedSize();
+    }
+
+    /**
+     * Sets the max number of bytes, which could be decoded from a single HTTP message content. If the limit is exceeded,
+     * the content decoding fails and the HTTP message content is considered broken. The value <tt>-1</tt> (default) means
+     * the decoded size is not limited.
+     *
+     * @param maxDecodedSize the max number of bytes, which could be decoded from a single HTTP message content
+     */
+    public void setMaxDecodedSize(final long maxDecodedSize) {
+        decoder.setMaxDecodedSize(maxDecodedSize);
+    }
+
+    /**
+     * @return the max allowed ratio between the decoded and encoded HTTP message content sizes, or <tt>-1</tt> if the
+     * ratio is not limited.
+     */
+    public int getMaxDecodingRatio() {
+        return decoder.getMaxDecodingRatio();
+    }
+
+    /**
+     * Sets the max allowed ratio between the decoded and encoded HTTP message content sizes. If the ratio is exceeded,
+     * the content decoding fails and the HTTP message content is considered broken. The value <tt>-1</tt> (default)
+     * means the ratio is not limited.
+     *
+     * @param maxDecodingRatio the max allowed ratio between the decoded and encoded HTTP message content sizes
+     */
+    public void setMaxDecodingRatio(final int maxDecodingRatio) {
+        decoder.setMaxDecodingRatio(maxDecodingRatio);
+    }
+
     @Override
     public final boolean wantDecode(final HttpHeader header) {
         return encoderFilter.applyDecoding(header);
@@ -133,7 +172,13 @@ public class GZipContentEncoding implements ContentEncoding {
         final HttpHeader httpHeader = httpContent.getHttpHeader();
 
         final Buffer input = httpContent.getContent();
-        final TransformationResult<Buffer, Buffer> result = decoder.transform(httpHeader, input);
+        final TransformationResult<Buffer, Buffer> result;
+        try {
+            result = decoder.transform(httpHeader, input);
+        } catch (RuntimeException e) {
+            decoder.release(httpHeader);
+            throw e;
+        }
 
         Buffer remainder = result.getExternalRemainder();
 
@@ -156,6 +201,7 @@ public class GZipContentEncoding implements ContentEncoding {
             }
 
             case ERROR: {
+                decoder.release(httpHeader);
                 throw new IllegalStateException("GZip decode error. Code: " + result.getErrorCode() + " Description: " + result.getErrorDescription());
             }
 
@@ -167,6 +213,11 @@ public class GZipContentEncoding implements ContentEncoding {
         }
     }
 
+    @Override
+    public void releaseDecodingState(final HttpHeader header) {
+        decoder.release(header);
+    }
+
     @Override
     public HttpContent encode(Connection connection, HttpContent httpContent) {
         final HttpHeader httpHeader = httpContent.getHttpHeader();
@@ -179,6 +230,11 @@ public class GZipContentEncoding implements ContentEncoding {
             return httpContent;
         }
 
+        final int compressionLevel = encoderFilter.getCompressionLevel(httpHeader);
+        if (compressionLevel != EncodingFilter.DEFAULT_COMPRESSION_LEVEL) {
+            encoder.setCompressionLevel(httpHeader, compressionLevel);
+        }
+
         final TransformationResult<Buffer, Buffer> result = encoder.transform(httpHeader, input);
 
         input.tryDispose();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -1344,6 +1344,7 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         if (!httpContent.getContent().hasRemaining() || isResponseToHeadRequest(httpContent.getHttpHeader())) {
 
             if (httpContent.isLast()) {
+                releaseDecodingState(httpContent.getHttpHeader());
                 // If it's HttpContent is empty, but it's the last one - return it
                 // so it would be passed upstream to next filter
                 return httpContent;
@@ -1360,6 +1361,7 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         final HttpHeader httpHeader = httpContent.getHttpHeader();
         final ContentParsingState parsingState = ((HttpPacketParsing) httpHeader).getContentParsingState();
         final List<ContentEncoding> encodings = httpHeader.getContentEncodings(true);
+        final boolean isLast = httpContent.isLast();
 
         final int encodingsNum = encodings.size();
         for (int i = 0; i < encodingsNum; i++) {
@@ -1390,6 +1392,9 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
             result.recycle();
 
             if (decodedContent == null) {
+                if (isLast) {
+                    releaseDecodingState(httpHeader);
+                }
                 httpContent.recycle();
                 return null;
             }
@@ -1398,10 +1403,25 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
 
             httpContent = decodedContent;
         }
+        if (isLast) {
+            releaseDecodingState(httpHeader);
+        }
         onHttpContentParsed(httpContent, ctx);
         return httpContent;
     }
 
+    /**
+     * Lets the {@link ContentEncoding}s, applied to the HTTP packet, release their decoding state once the packet content
+     * has been completely decoded.
+     */
+    private static void releaseDecodingState(final HttpHeader httpHeader) {
+        final List<ContentEncoding> encodings = httpHeader.getContentEncodings(true);
+        final int encodingsNum = encodings.size();
+        for (int i = 0; i < encodingsNum; i++) {
+            encodings.get(i).releaseDecodingState(httpHeader);
+        }
+    }
+
     // ------------------------------------------------ Serializing
 
     /**
@@ -128,6 +128,8 @@ public class OutputBuffer {
 
     private InternalWriteHandler asyncWriteHandler;
 
+    private CompletionHandler<WriteResult> lastWriteCompletionHandler;
+
     private boolean fileTransferRequested;
 
     private int bufferSize = DEFAULT_BUFFER_SIZE;
@@ -214,6 +216,16 @@ public class OutputBuffer {
         return lifeCycleListeners.remove(listener);
     }
 
+    /**
+     * Sets the {@link CompletionHandler}, which will be notified, when the last chunk of the response, which completes
+     * it, is written.
+     *
+     * @param lastWriteCompletionHandler the {@link CompletionHandler} or <tt>null</tt>
+     */
+    public void setLastWriteCompletionHandler(final CompletionHandler<WriteResult> lastWriteCompletionHandler) {
+        this.lastWriteCompletionHandler = lastWriteCompletionHandler;
+    }
+
     public void setBufferSize(final int bufferSize) {
 
         if (committed) {
@@ -327,6 +339,7 @@ public class OutputBuffer {
         isNonBlockingWriteGuaranteed = false;
         isLastWriteNonBlocking = false;
         asyncWriteHandler = null;
+        lastWriteCompletionHandler = null;
         trailersSupplier = null;
 
         committed = false;
@@ -1002,7 +1015,7 @@ public class OutputBuffer {
         } else {
             content = builder.content(bufferToFlush).last(isLast).build();
         }
-        ctx.write(null, content, null, messageCloner, IS_BLOCKING);
+        ctx.write(null, content, isLast ? lastWriteCompletionHandler : null, messageCloner, IS_BLOCKING);
     }
 
     private void checkCharBuffer() {
@@ -1078,7 +1091,7 @@ public class OutputBuffer {
             if (isLast) {
                 if (outputHeader != null) {
                     builder.last(true).content(null);
-                    ctx.write(builder.build(), IS_BLOCKING);
+                    ctx.write(builder.build(), lastWriteCompletionHandler, IS_BLOCKING);
                 }
             } else {
                 ctx.write(outputHeader, IS_BLOCKING);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -69,6 +70,7 @@ public class HttpStatus {
     public static final HttpStatus REQUEST_RANGE_NOT_SATISFIABLE_416 = register(416, "Request Range Not Satisfiable");
     public static final HttpStatus EXPECTATION_FAILED_417 = register(417, "Expectation Failed");
     public static final HttpStatus MISDIRECTED_REQUEST = register(421, "Misdirected Request");
+    public static final HttpStatus TOO_MANY_REQUESTS_429 = register(429, "Too Many Requests");
     public static final HttpStatus REQUEST_HEADER_FIELDS_TOO_LARGE = register(431, "Request Header Fields Too Large");
     public static final HttpStatus INTERNAL_SERVER_ERROR_500 = register(500, "Internal Server Error");
     public static final HttpStatus NOT_IMPLEMENTED_501 = register(501, "Not Implemented");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,6 +25,8 @@ import java.time.format.DateTimeParseException;
 
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.http.util.CookieUtils;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.http.util.MimeHeaders;
 import org.glassfish.grizzly.memory.Buffers;
 import org.glassfish.grizzly.memory.MemoryManager;
 import org.glassfish.grizzly.utils.Charsets;
@@ -130,6 +132,55 @@ public class CookiesTest extends TestCase {
         }
     }
 
+    public void testFindByName() {
+        final String cookieHeader1 = "tracking1=a1; tracking2=\"b2\"; JSESSIONID=session1; flag; tracking3=c3";
+        final String cookieHeader2 = "JROUTE=route1; JSESSIONID=session2";
+
+        // byte[] based headers
+        MimeHeaders headers = new MimeHeaders();
+        headers.addValue(Header.Cookie).setBytes(cookieHeader1.getBytes(Charsets.ASCII_CHARSET));
+        headers.addValue(Header.Cookie).setBytes(cookieHeader2.getBytes(Charsets.ASCII_CHARSET));
+        checkFindByName(headers);
+
+        // Buffer based headers
+        headers = new MimeHeaders();
+        final byte[] bytes = ("xx" + cookieHeader1 + "xx").getBytes(Charsets.ASCII_CHARSET);
+        final Buffer buffer = Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, bytes);
+        buffer.position(1);
+        final Buffer slice = buffer.slice(); // array offset != 0
+        headers.addValue(Header.Cookie).setBuffer(slice, 1, 1 + cookieHeader1.length());
+        headers.addValue(Header.Cookie).setString(cookieHeader2);
+        checkFindByName(headers);
+    }
+
+    private void checkFindByName(final MimeHeaders headers) {
+        final Cookies cookies = new Cookies();
+        for (int i = 0; i < 2; i++) {
+            cookies.setHeaders(headers);
+
+            assertEquals("session1", cookies.findValueByName("JSESSIONID"));
+            assertEquals("route1", cookies.findValueByName("JROUTE"));
+            assertEquals("c3", cookies.findValueByName("tracking3"));
+            assertEquals("", cookies.findValueByName("flag"));
+            assertNull(cookies.findValueByName("Version"));
+            assertNull(cookies.findValueByName("jsessionid"));
+            assertNull(cookies.findValueByName("tracking"));
+            assertEquals("tracking1", cookies.findByName("tracking1").getName());
+
+            // the name lookups must not affect the complete parsing
+            final Cookie[] all = cookies.get();
+            assertEquals(7, all.length);
+            assertEquals("tracking2", all[1].getName());
+            assertEquals("JSESSIONID", all[2].getName());
+            assertEquals("session1", all[2].getValue());
+            assertEquals("JSESSIONID", all[6].getName());
+            assertEquals("session2", all[6].getValue());
+            assertEquals("session1", cookies.findValueByName("JSESSIONID"));
+
+            cookies.recycle();
+        }
+    }
+
     private void validateServerCookies(Pair<String, Checker[]> testCase, Cookie[] cookies, Checker[] checkers) {
         for (Checker checker : checkers) {
             final Cookie cookie = cookies[checker.getCookieIdx()];
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -31,6 +32,7 @@ import java.util.zip.GZIPOutputStream;
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.TransformationException;
 import org.glassfish.grizzly.filterchain.BaseFilter;
 import org.glassfish.grizzly.filterchain.FilterChain;
 import org.glassfish.grizzly.filterchain.FilterChainBuilder;
@@ -441,6 +443,60 @@ public class GZipEncodingTest extends TestCase {
         }
     }
 
+    public void testGZipDecodingLimits() throws Throwable {
+        // ~1K of gzipped zeros
+        final byte[] gzippedContent = gzip(new byte[1024 * 1024]);
+
+        final GZipContentEncoding encoding = new GZipContentEncoding();
+        assertEquals(1024 * 1024, decode(encoding, gzippedContent));
+
+        encoding.setMaxDecodedSize(512 * 1024);
+        try {
+            decode(encoding, gzippedContent);
+            fail("The decoded size limit has to be exceeded");
+        } catch (TransformationException expected) {
+        }
+
+        encoding.setMaxDecodedSize(1024 * 1024);
+        assertEquals(1024 * 1024, decode(encoding, gzippedContent));
+
+        encoding.setMaxDecodingRatio(100);
+        try {
+            decode(encoding, gzippedContent);
+            fail("The decoding ratio limit has to be exceeded");
+        } catch (TransformationException expected) {
+        }
+
+        encoding.setMaxDecodingRatio(2000);
+        assertEquals(1024 * 1024, decode(encoding, gzippedContent));
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final GZIPOutputStream go = new GZIPOutputStream(baos);
+        go.write(content);
+        go.finish();
+        go.close();
+
+        return baos.toByteArray();
+    }
+
+    private static int decode(final GZipContentEncoding encoding, final byte[] gzippedContent) {
+        final HttpRequestPacket request = HttpRequestPacket.builder().method("POST").uri("/path").protocol(Protocol.HTTP_1_1)
+                .header("content-encoding", "gzip").contentLength(gzippedContent.length).build();
+        final HttpContent content = HttpContent.builder(request).last(true).content(Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, gzippedContent))
+                .build();
+
+        final ParsingResult result = encoding.decode(null, content);
+        try {
+            final HttpContent decodedContent = result.getHttpContent();
+            return decodedContent != null ? decodedContent.getContent().remaining() : 0;
+        } finally {
+            result.recycle();
+            encoding.releaseDecodingState(request);
+        }
+    }
+
     private String generateBigString(int size) {
         final Random r = new Random();
 
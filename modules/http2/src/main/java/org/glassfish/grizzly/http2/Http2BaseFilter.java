@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -531,6 +532,7 @@ public abstract class Http2BaseFilter extends HttpBaseFilter {
         PingFrame pingFrame = (PingFrame) frame;
 
         if (pingFrame.isAckSet()) {
+            http2Session.onPingAck(pingFrame.getOpaqueData());
             return;
         }
 
@@ -882,6 +884,8 @@ public abstract class Http2BaseFilter extends HttpBaseFilter {
             dataFrame.recycle();
         }
 
+        http2Session.onDataReceived(data.remaining());
+
         // Always ACK the data to maintain flow-control state
         http2Session.ackConsumedData(data.remaining());
 
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -33,6 +34,7 @@ public class Http2Configuration {
     public static final float DEFAULT_STREAMS_HIGH_WATER_MARK = 0.5f;
     public static final float DEFAULT_STREAMS_CLEAN_PERCENTAGE = 0.5f;
     public static final int DEFAULT_CLEAN_FREQUENCY_CHECK = 50;
+    public static final int DEFAULT_MAX_AUTO_TUNED_WINDOW_SIZE = 16 * 1024 * 1024;
 
     private volatile int maxConcurrentStreams;
     private volatile int initialWindowSize;
@@ -44,6 +46,10 @@ public class Http2Configuration {
     private volatile boolean disableCipherCheck;
     private volatile boolean priorKnowledge;
     private volatile boolean pushEnabled;
+    private volatile boolean windowAutoTuning;
+    private volatile int maxSessionWindowSize;
+    private volatile int maxStreamWindowSize;
+    private final ReceiveWindowBudget receiveWindowBudget;
     private final ExecutorService executorService;
     private final ThreadPoolConfig threadPoolConfig;
 
@@ -62,6 +68,10 @@ public class Http2Configuration {
         streamsHighWaterMark = builder.streamsHighWaterMark;
         cleanPercentage = builder.cleanPercentage;
         cleanFrequencyCheck = builder.cleanFrequencyCheck;
+        windowAutoTuning = builder.windowAutoTuning;
+        maxSessionWindowSize = builder.maxSessionWindowSize;
+        maxStreamWindowSize = builder.maxStreamWindowSize;
+        receiveWindowBudget = new ReceiveWindowBudget(builder.maxTotalReceiveWindowSize);
     }
 
     // --------------------------------------------------------- Public Methods
@@ -230,6 +240,62 @@ public class Http2Configuration {
         this.cleanFrequencyCheck = cleanFrequencyCheck;
     }
 
+    /**
+     * @return <code>true</code> if the receive flow-control windows are adjusted automatically, based on the estimated
+     * bandwidth-delay product of the connection, otherwise <code>false</code>.
+     */
+    public boolean isWindowAutoTuning() {
+        return windowAutoTuning;
+    }
+
+    /**
+     * Enables or disables the receive window auto-tuning. When enabled, each session periodically measures the round-trip
+     * time using PING frames, estimates the bandwidth-delay product from the amount of data received during one round
+     * trip and grows its connection and stream receive windows, if the peer appears to be limited by them. The windows
+     * never grow beyond {@link #getMaxSessionWindowSize()} and {@link #getMaxStreamWindowSize()} and, all together, are
+     * bounded by the {@link #getReceiveWindowBudget() receive window budget}.
+     */
+    public void setWindowAutoTuning(final boolean windowAutoTuning) {
+        this.windowAutoTuning = windowAutoTuning;
+    }
+
+    /**
+     * @return the maximum size (in bytes) an auto-tuned session (connection) receive window may grow to. If not explicitly
+     * configured, this returns {@value #DEFAULT_MAX_AUTO_TUNED_WINDOW_SIZE}.
+     */
+    public int getMaxSessionWindowSize() {
+        return maxSessionWindowSize;
+    }
+
+    /**
+     * Sets the maximum size (in bytes) an auto-tuned session (connection) receive window may grow to.
+     */
+    public void setMaxSessionWindowSize(final int maxSessionWindowSize) {
+        this.maxSessionWindowSize = maxSessionWindowSize;
+    }
+
+    /**
+     * @return the maximum size (in bytes) an auto-tuned stream receive window may grow to. If not explicitly configured,
+     * this returns {@value #DEFAULT_MAX_AUTO_TUNED_WINDOW_SIZE}.
+     */
+    public int getMaxStreamWindowSize() {
+        return maxStreamWindowSize;
+    }
+
+    /**
+     * Sets the maximum size (in bytes) an auto-tuned stream receive window may grow to.
+     */
+    public void setMaxStreamWindowSize(final int maxStreamWindowSize) {
+        this.maxStreamWindowSize = maxStreamWindowSize;
+    }
+
+    /**
+     * @return the {@link ReceiveWindowBudget} shared by all the sessions created using this configuration.
+     */
+    public ReceiveWindowBudget getReceiveWindowBudget() {
+        return receiveWindowBudget;
+    }
+
     /**
      * @return the thread pool configuration for servicing HTTP/2 streams, if any.
      */
@@ -257,6 +323,10 @@ public class Http2Configuration {
         private float streamsHighWaterMark = DEFAULT_STREAMS_HIGH_WATER_MARK;
         private float cleanPercentage = DEFAULT_STREAMS_CLEAN_PERCENTAGE;
         private int cleanFrequencyCheck = DEFAULT_CLEAN_FREQUENCY_CHECK;
+        private boolean windowAutoTuning;
+        private int maxSessionWindowSize = DEFAULT_MAX_AUTO_TUNED_WINDOW_SIZE;
+        private int maxStreamWindowSize = DEFAULT_MAX_AUTO_TUNED_WINDOW_SIZE;
+        private long maxTotalReceiveWindowSize = -1;
         private ThreadPoolConfig threadPoolConfig;
         private ExecutorService executorService;
 
@@ -362,6 +432,39 @@ public class Http2Configuration {
             return this;
         }
 
+        /**
+         * @see #setWindowAutoTuning(boolean)
+         */
+        public Http2ConfigurationBuilder windowAutoTuning(final boolean val) {
+            windowAutoTuning = val;
+            return this;
+        }
+
+        /**
+         * @see #setMaxSessionWindowSize(int)
+         */
+        public Http2ConfigurationBuilder maxSessionWindowSize(final int val) {
+            maxSessionWindowSize = val;
+            return this;
+        }
+
+        /**
+         * @see #setMaxStreamWindowSize(int)
+         */
+        public Http2ConfigurationBuilder maxStreamWindowSize(final int val) {
+            maxStreamWindowSize = val;
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of memory (in bytes) the auto-tuned receive windows of all the sessions, sharing the
+         * built configuration, may commit on top of the default HTTP/2 windows. Negative value means "unlimited".
+         */
+        public Http2ConfigurationBuilder maxTotalReceiveWindowSize(final long val) {
+            maxTotalReceiveWindowSize = val;
+            return this;
+        }
+
         /**
          * @return a new {@link Http2Configuration} instances based on the values of this builder.
          */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
@@ -168,6 +168,9 @@ public class Http2Session {
 
     private final AtomicInteger unackedReadBytes = new AtomicInteger();
 
+    // not null, if receive window auto-tuning is enabled
+    private final Http2WindowTuner windowTuner;
+
     public Http2Session(final Connection<?> connection, final boolean isServer, final Http2BaseFilter handlerFilter) {
         this.connection = connection;
         final FilterChain chain = (FilterChain) connection.getProcessor();
@@ -199,6 +202,8 @@ public class Http2Session {
 
         this.maxHeaderListSize = handlerFilter.getConfiguration().getMaxHeaderListSize();
 
+        this.windowTuner = http2Configuration.isWindowAutoTuning() ? new Http2WindowTuner(this, http2Configuration) : null;
+
         if (isServer) {
             this.lastLocalStreamId = 0;
             this.lastPeerStreamId = -1;
@@ -448,6 +453,30 @@ public class Http2Session {
         this.localConnectionWindowSize = localConnectionWindowSize;
     }
 
+    /**
+     * Grows the local connection (session) receive window and notifies the peer using the WINDOW_UPDATE frame.
+     *
+     * @param delta the number of bytes the window has to be grown by.
+     */
+    void increaseLocalConnectionWindowSize(final int delta) {
+        localConnectionWindowSize += delta;
+        sendWindowUpdate(0, delta);
+    }
+
+    /**
+     * Grows the local initial stream receive window and notifies the peer using the SETTINGS frame. According to the
+     * HTTP/2 spec. the change is applied to all the streams, including the active ones.
+     *
+     * @param newWindowSize the new initial stream window size.
+     */
+    void increaseLocalStreamWindowSize(final int newWindowSize) {
+        localStreamWindowSize = newWindowSize;
+
+        final SettingsFrame f = SettingsFrame.builder().setting(SETTINGS_INITIAL_WINDOW_SIZE, newWindowSize).build();
+        NetLogger.log(NetLogger.Context.TX, this, f);
+        outputSink.writeDownStream(f);
+    }
+
     public int getAvailablePeerConnectionWindowSize() {
         return outputSink.getAvailablePeerConnectionWindowSize();
     }
@@ -666,7 +695,12 @@ public class Http2Session {
         }
     }
 
-    boolean isGoingAway() {
+    /**
+     * @return <code>true</code> if the session is being closed, either because GOAWAY has been sent or received, or the
+     * underlying connection has been closed, otherwise returns <code>false</code>. No new streams should be initiated on
+     * a session, which is going away.
+     */
+    public boolean isGoingAway() {
         return closeFlag != null;
     }
 
@@ -680,6 +714,34 @@ public class Http2Session {
         outputSink.writeDownStream(f);
     }
 
+    protected void sendPing(final long opaqueData) {
+        final PingFrame f = PingFrame.builder().opaqueData(opaqueData).build();
+        NetLogger.log(NetLogger.Context.TX, this, f);
+        outputSink.writeDownStream(f);
+    }
+
+    /**
+     * Is called when a DATA frame is received, before the data is passed to the corresponding stream.
+     *
+     * @param sz the DATA frame payload size.
+     */
+    void onDataReceived(final int sz) {
+        if (windowTuner != null && isPrefaceSent) {
+            windowTuner.onDataReceived(sz);
+        }
+    }
+
+    /**
+     * Is called when a PING acknowledgement is received.
+     *
+     * @param opaqueData the PING opaque data.
+     */
+    void onPingAck(final long opaqueData) {
+        if (windowTuner != null) {
+            windowTuner.onPingAck(opaqueData);
+        }
+    }
+
     void sendPreface() {
         if (!isPrefaceSent) {
             synchronized (sessionLock) {
@@ -1247,6 +1309,10 @@ public class Http2Session {
         public void onClosed(final Closeable closeable, final CloseType type) throws IOException {
 
             NetLogger.logClose(Http2Session.this);
+            if (windowTuner != null) {
+                windowTuner.release();
+            }
+
             final boolean isClosing;
             synchronized (sessionLock) {
                 isClosing = !isClosed();
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+
+/**
+ * Receive window auto-tuning based on the bandwidth-delay product (BDP) estimation.
+ *
+ * When DATA is being received, the tuner sends a PING frame and counts the bytes received until the PING is
+ * acknowledged. The amount of data received during one round trip is the BDP sample. If the sample gets close to the
+ * current receive window, the peer is most likely blocked by our flow control, so the connection window (using
+ * WINDOW_UPDATE) and the initial stream window (using SETTINGS) are grown to twice the sample, but never beyond the
+ * configured per-session and per-stream caps and the shared {@link ReceiveWindowBudget}.
+ *
+ * @see Http2Configuration#isWindowAutoTuning()
+ */
+final class Http2WindowTuner {
+    private static final Logger LOGGER = Grizzly.logger(Http2WindowTuner.class);
+
+    // "BDP_PING" - distinguishes our PINGs from the ones initiated by the application
+    static final long BDP_PING_DATA = 0x4244505F50494E47L;
+
+    // the weight of the last RTT sample in the smoothed RTT
+    private static final double RTT_ALPHA = 0.125;
+
+    private final Http2Session http2Session;
+    private final ReceiveWindowBudget budget;
+    private final int maxSessionWindowSize;
+    private final int maxStreamWindowSize;
+
+    private boolean isPingOutstanding;
+    private long pingSentNanos;
+    private long lastPingAckNanos;
+    private long bytesSincePing;
+    private long smoothedRttNanos;
+
+    // the amount of bytes reserved from the budget by this session
+    private int reserved;
+    private boolean isReleased;
+
+    Http2WindowTuner(final Http2Session http2Session, final Http2Configuration configuration) {
+        this.http2Session = http2Session;
+        this.budget = configuration.getReceiveWindowBudget();
+        this.maxSessionWindowSize = configuration.getMaxSessionWindowSize();
+        this.maxStreamWindowSize = configuration.getMaxStreamWindowSize();
+    }
+
+    /**
+     * @return the smoothed round-trip time (in nanoseconds) or <tt>0</tt>, if it hasn't been measured yet.
+     */
+    synchronized long getSmoothedRttNanos() {
+        return smoothedRttNanos;
+    }
+
+    /**
+     * @return the amount of bytes reserved from the {@link ReceiveWindowBudget} by the session.
+     */
+    synchronized int getReserved() {
+        return reserved;
+    }
+
+    /**
+     * Is called each time a DATA frame is received by the session.
+     *
+     * @param size the DATA frame payload size.
+     */
+    void onDataReceived(final int size) {
+        final boolean sendPing;
+        synchronized (this) {
+            if (isReleased) {
+                return;
+            }
+
+            if (isPingOutstanding) {
+                bytesSincePing += size;
+                return;
+            }
+
+            final long now = System.nanoTime();
+            // don't measure more often than once per RTT and stop measuring once the windows are maxed out
+            sendPing = now - lastPingAckNanos >= smoothedRttNanos && !isMaxedOut();
+            if (sendPing) {
+                isPingOutstanding = true;
+                pingSentNanos = now;
+                bytesSincePing = size;
+            }
+        }
+
+        if (sendPing) {
+            http2Session.sendPing(BDP_PING_DATA);
+        }
+    }
+
+    /**
+     * Is called when a PING acknowledgement is received by the session.
+     *
+     * @param opaqueData the PING opaque data.
+     * @return <tt>true</tt> if the PING was initiated by the tuner, or <tt>false</tt> otherwise.
+     */
+    boolean onPingAck(final long opaqueData) {
+        if (opaqueData != BDP_PING_DATA) {
+            return false;
+        }
+
+        final long sample;
+        final int sessionWindowDelta;
+        synchronized (this) {
+            if (!isPingOutstanding) {
+                return false;
+            }
+
+            isPingOutstanding = false;
+            lastPingAckNanos = System.nanoTime();
+
+            final long rtt = lastPingAckNanos - pingSentNanos;
+            smoothedRttNanos = smoothedRttNanos == 0 ? rtt : (long) (smoothedRttNanos * (1 - RTT_ALPHA) + rtt * RTT_ALPHA);
+
+            sample = bytesSincePing;
+            bytesSincePing = 0;
+
+            if (isReleased) {
+                return true;
+            }
+
+            final int currentWindowSize = http2Session.getLocalConnectionWindowSize();
+            sessionWindowDelta = budget.reserve(targetWindowSize(sample, currentWindowSize, maxSessionWindowSize) - currentWindowSize);
+            reserved += sessionWindowDelta;
+        }
+
+        if (sessionWindowDelta > 0) {
+            http2Session.increaseLocalConnectionWindowSize(sessionWindowDelta);
+        }
+
+        final int streamWindowSize = targetWindowSize(sample, http2Session.getLocalStreamWindowSize(), maxStreamWindowSize);
+        if (streamWindowSize > http2Session.getLocalStreamWindowSize()) {
+            http2Session.increaseLocalStreamWindowSize(streamWindowSize);
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "{0} BDP sample={1} rtt={2}ns connection-window={3} stream-window={4}",
+                    new Object[] { http2Session.getConnection(), sample, smoothedRttNanos, http2Session.getLocalConnectionWindowSize(),
+                            http2Session.getLocalStreamWindowSize() });
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the reserved window back to the {@link ReceiveWindowBudget}. Is called once the session is closed.
+     */
+    void release() {
+        final int toRelease;
+        synchronized (this) {
+            if (isReleased) {
+                return;
+            }
+
+            isReleased = true;
+            toRelease = reserved;
+            reserved = 0;
+        }
+
+        budget.release(toRelease);
+    }
+
+    /**
+     * Computes the window size based on the BDP sample. The window is grown only if the sample exceeds 2/3 of the
+     * current window, which means the peer was (almost) blocked by flow control during the last round trip.
+     *
+     * @param bdpSample the amount of bytes received during one round trip.
+     * @param currentWindowSize the current window size.
+     * @param maxWindowSize the window size cap.
+     * @return the new window size, which is never less than the current one.
+     */
+    static int targetWindowSize(final long bdpSample, final int currentWindowSize, final int maxWindowSize) {
+        if (bdpSample * 3 < (long) currentWindowSize * 2) {
+            return currentWindowSize;
+        }
+
+        final long target = Math.min(bdpSample * 2, maxWindowSize);
+        return (int) Math.max(target, currentWindowSize);
+    }
+
+    private boolean isMaxedOut() {
+        return http2Session.getLocalConnectionWindowSize() >= maxSessionWindowSize
+                && http2Session.getLocalStreamWindowSize() >= maxStreamWindowSize;
+    }
+}
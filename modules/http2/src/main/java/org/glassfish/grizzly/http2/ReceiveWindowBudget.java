@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The global memory budget for auto-tuned HTTP/2 receive windows. The budget is shared by all the {@link Http2Session}s
+ * created using the same {@link Http2Configuration} and bounds the total amount of receive window (on top of the
+ * default HTTP/2 windows) committed by these sessions.
+ *
+ * @see Http2Configuration#isWindowAutoTuning()
+ */
+public final class ReceiveWindowBudget {
+    private final long limit;
+    private final AtomicLong committed = new AtomicLong();
+
+    ReceiveWindowBudget(final long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * @return the maximum amount of receive window (in bytes) which could be committed. Negative value means "unlimited".
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the amount of receive window (in bytes) currently committed by the sessions.
+     */
+    public long getCommitted() {
+        return committed.get();
+    }
+
+    /**
+     * Tries to reserve the requested amount of receive window.
+     *
+     * @param size the amount of bytes to reserve.
+     * @return the amount of bytes actually reserved, which could be less than requested (or even <tt>0</tt>) if the
+     * budget is close to be exhausted.
+     */
+    int reserve(final int size) {
+        if (size <= 0) {
+            return 0;
+        }
+
+        if (limit < 0) {
+            committed.addAndGet(size);
+            return size;
+        }
+
+        while (true) {
+            final long current = committed.get();
+            final int granted = (int) Math.min(size, limit - current);
+            if (granted <= 0) {
+                return 0;
+            }
+
+            if (committed.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Returns the previously reserved amount of receive window back to the budget.
+     *
+     * @param size the amount of bytes to release.
+     */
+    void release(final int size) {
+        if (size > 0) {
+            committed.addAndGet(-size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReceiveWindowBudget{limit=" + limit + ", committed=" + committed.get() + '}';
+    }
+}
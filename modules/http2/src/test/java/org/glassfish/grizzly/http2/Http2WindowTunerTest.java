@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Test {@link Http2WindowTuner} and {@link ReceiveWindowBudget}.
+ */
+public class Http2WindowTunerTest {
+
+    @Test
+    public void testWindowIsNotGrownIfPeerIsNotBlocked() {
+        assertEquals(65535, Http2WindowTuner.targetWindowSize(1000, 65535, 1 << 24));
+        assertEquals(65535, Http2WindowTuner.targetWindowSize(43000, 65535, 1 << 24));
+    }
+
+    @Test
+    public void testWindowIsGrownToTwiceTheSample() {
+        assertEquals(131070, Http2WindowTuner.targetWindowSize(65535, 65535, 1 << 24));
+        assertEquals(100000, Http2WindowTuner.targetWindowSize(50000, 65535, 1 << 24));
+    }
+
+    @Test
+    public void testWindowIsCapped() {
+        assertEquals(1 << 20, Http2WindowTuner.targetWindowSize(10L << 20, 65535, 1 << 20));
+        // the window is never shrunk
+        assertEquals(1 << 21, Http2WindowTuner.targetWindowSize(10L << 20, 1 << 21, 1 << 20));
+    }
+
+    @Test
+    public void testBudgetReservation() {
+        final ReceiveWindowBudget budget = new ReceiveWindowBudget(100);
+
+        assertEquals(60, budget.reserve(60));
+        assertEquals(40, budget.reserve(60));
+        assertEquals(0, budget.reserve(1));
+        assertEquals(100, budget.getCommitted());
+
+        budget.release(60);
+        assertEquals(40, budget.getCommitted());
+        assertEquals(10, budget.reserve(10));
+    }
+
+    @Test
+    public void testUnlimitedBudget() {
+        final ReceiveWindowBudget budget = Http2Configuration.builder().build().getReceiveWindowBudget();
+
+        assertEquals(Integer.MAX_VALUE, budget.reserve(Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, budget.reserve(Integer.MAX_VALUE));
+        assertEquals(0, budget.reserve(0));
+    }
+}
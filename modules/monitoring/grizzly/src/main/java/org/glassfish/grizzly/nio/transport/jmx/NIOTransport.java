@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2017 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -66,6 +67,11 @@ public class NIOTransport extends JmxObject {
     private final AtomicInteger openConnectionsNum = new AtomicInteger();
     private final AtomicLong totalConnectionsNum = new AtomicLong();
 
+    private final AtomicLong acceptBatchesNum = new AtomicLong();
+    private final AtomicLong acceptedInBatchesNum = new AtomicLong();
+    private final AtomicInteger maxAcceptBatchSize = new AtomicInteger();
+    private final AtomicLong acceptErrorsNum = new AtomicLong();
+
     private GrizzlyJmxManager mom;
     
     private MemoryManager currentMemoryManager;
@@ -205,6 +211,27 @@ public class NIOTransport extends JmxObject {
         return totalConnectionsNum.get();
     }
 
+    @ManagedAttribute(id="accept-batches-count")
+    public long getAcceptBatchesCount() {
+        return acceptBatchesNum.get();
+    }
+
+    @ManagedAttribute(id="average-accept-batch-size")
+    public double getAverageAcceptBatchSize() {
+        final long batches = acceptBatchesNum.get();
+        return batches > 0 ? (double) acceptedInBatchesNum.get() / batches : 0;
+    }
+
+    @ManagedAttribute(id="max-accept-batch-size")
+    public int getMaxAcceptBatchSize() {
+        return maxAcceptBatchSize.get();
+    }
+
+    @ManagedAttribute(id="accept-errors-count")
+    public long getAcceptErrorsCount() {
+        return acceptErrorsNum.get();
+    }
+
     private static String getType(Object o) {
         return o != null ? o.getClass().getName() : "N/A";
     }
@@ -328,6 +355,24 @@ public class NIOTransport extends JmxObject {
                 rebuildSubTree();
             }
         }
+
+        @Override
+        public void onAcceptBatchEvent(Transport transport, Connection serverConnection, int acceptedCount) {
+            acceptBatchesNum.incrementAndGet();
+            acceptedInBatchesNum.addAndGet(acceptedCount);
+
+            int max;
+            while (acceptedCount > (max = maxAcceptBatchSize.get())) {
+                if (maxAcceptBatchSize.compareAndSet(max, acceptedCount)) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void onAcceptErrorEvent(Transport transport, Connection serverConnection, Throwable error) {
+            acceptErrorsNum.incrementAndGet();
+        }
     }
 
     private class JmxConnectionProbe implements ConnectionProbe {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2017 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +22,7 @@ import org.glassfish.grizzly.http.HttpCodecFilter;
 import org.glassfish.grizzly.http.KeepAlive;
 import org.glassfish.grizzly.http.server.filecache.FileCache;
 import org.glassfish.grizzly.http.server.HttpServerFilter;
+import org.glassfish.grizzly.http.server.metrics.RequestLatencyMonitor;
 import org.glassfish.grizzly.monitoring.jmx.JmxObject;
 import org.glassfish.gmbal.Description;
 import org.glassfish.gmbal.GmbalMBean;
@@ -53,6 +55,9 @@ public class NetworkListener extends JmxObject {
     private HttpCodecFilter currentHttpCodecFilter;
     private Object httpCodecFilterJmx;
 
+    private RequestLatencyMonitor currentLatencyMonitor;
+    private Object latencyMonitorJmx;
+
     private GrizzlyJmxManager mom;
 
 
@@ -292,6 +297,23 @@ public class NetworkListener extends JmxObject {
                 httpCodecFilterJmx = jmx;
             }
         }
+
+        final RequestLatencyMonitor latencyMonitor = listener.getLatencyMonitor();
+        if (currentLatencyMonitor != latencyMonitor) {
+            if (currentLatencyMonitor != null) {
+                mom.deregister(latencyMonitorJmx);
+
+                currentLatencyMonitor = null;
+                latencyMonitorJmx = null;
+            }
+
+            if (latencyMonitor != null) {
+                final Object jmx = latencyMonitor.createManagementObject();
+                mom.register(this, jmx);
+                currentLatencyMonitor = latencyMonitor;
+                latencyMonitorJmx = jmx;
+            }
+        }
         
     }
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.metrics.jmx;
+
+import java.util.Map;
+
+import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
+import org.glassfish.grizzly.http.server.metrics.LatencySnapshot;
+import org.glassfish.grizzly.http.server.metrics.RequestLatencyMetrics;
+import org.glassfish.grizzly.http.server.metrics.RequestPhase;
+import org.glassfish.grizzly.monitoring.jmx.JmxObject;
+import org.glassfish.gmbal.Description;
+import org.glassfish.gmbal.GmbalMBean;
+import org.glassfish.gmbal.ManagedAttribute;
+import org.glassfish.gmbal.ManagedObject;
+import org.glassfish.grizzly.jmxbase.GrizzlyJmxManager;
+
+/**
+ * JMX management object for the {@link org.glassfish.grizzly.http.server.metrics.RequestLatencyMonitor}.
+ * All the latencies are reported in microseconds.
+ */
+@ManagedObject
+@Description("Request latency percentiles of the NetworkListener: header parse, worker queue wait, service and response flush.")
+public class RequestLatencyMonitor extends JmxObject {
+
+    private final org.glassfish.grizzly.http.server.metrics.RequestLatencyMonitor monitor;
+
+    // ------------------------------------------------------------ Constructors
+
+
+    public RequestLatencyMonitor(org.glassfish.grizzly.http.server.metrics.RequestLatencyMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+
+    // -------------------------------------------------- Methods from JmxObject
+
+
+    @Override
+    public String getJmxName() {
+        return "RequestLatency";
+    }
+
+    @Override
+    protected void onRegister(GrizzlyJmxManager mom, GmbalMBean bean) {
+    }
+
+    @Override
+    protected void onDeregister(GrizzlyJmxManager mom) {
+    }
+
+
+    // -------------------------------------------------------------- Attributes
+
+
+    @ManagedAttribute(id="requests-count")
+    @Description("The total number of requests, which latencies have been recorded.")
+    public long getRequestsCount() {
+        return snapshot(RequestPhase.SERVICE).getCount();
+    }
+
+    @ManagedAttribute(id="parse-p50")
+    @Description("The median time spent to parse the request header.")
+    public long getParseP50() {
+        return snapshot(RequestPhase.PARSE).getValueAtPercentile(50);
+    }
+
+    @ManagedAttribute(id="parse-p99")
+    @Description("The 99th percentile of the time spent to parse the request header.")
+    public long getParseP99() {
+        return snapshot(RequestPhase.PARSE).getValueAtPercentile(99);
+    }
+
+    @ManagedAttribute(id="queue-wait-p50")
+    @Description("The median time requests waited in the worker thread pool queue.")
+    public long getQueueWaitP50() {
+        return snapshot(RequestPhase.QUEUE_WAIT).getValueAtPercentile(50);
+    }
+
+    @ManagedAttribute(id="queue-wait-p99")
+    @Description("The 99th percentile of the time requests waited in the worker thread pool queue.")
+    public long getQueueWaitP99() {
+        return snapshot(RequestPhase.QUEUE_WAIT).getValueAtPercentile(99);
+    }
+
+    @ManagedAttribute(id="service-p50")
+    @Description("The median request service time.")
+    public long getServiceP50() {
+        return snapshot(RequestPhase.SERVICE).getValueAtPercentile(50);
+    }
+
+    @ManagedAttribute(id="service-p99")
+    @Description("The 99th percentile of the request service time.")
+    public long getServiceP99() {
+        return snapshot(RequestPhase.SERVICE).getValueAtPercentile(99);
+    }
+
+    @ManagedAttribute(id="service-p999")
+    @Description("The 99.9th percentile of the request service time.")
+    public long getServiceP999() {
+        return snapshot(RequestPhase.SERVICE).getValueAtPercentile(99.9);
+    }
+
+    @ManagedAttribute(id="service-max")
+    @Description("The max request service time.")
+    public long getServiceMax() {
+        return snapshot(RequestPhase.SERVICE).getMax();
+    }
+
+    @ManagedAttribute(id="flush-p50")
+    @Description("The median time spent to flush the response.")
+    public long getFlushP50() {
+        return snapshot(RequestPhase.FLUSH).getValueAtPercentile(50);
+    }
+
+    @ManagedAttribute(id="flush-p99")
+    @Description("The 99th percentile of the time spent to flush the response.")
+    public long getFlushP99() {
+        return snapshot(RequestPhase.FLUSH).getValueAtPercentile(99);
+    }
+
+    @ManagedAttribute(id="registration-latencies")
+    @Description("The per HttpHandler registration latency summary.")
+    public String[] getRegistrationLatencies() {
+        final Map<HttpHandlerRegistration, RequestLatencyMetrics> metrics = monitor.getRegistrationMetrics();
+        final String[] result = new String[metrics.size()];
+        int i = 0;
+        for (RequestLatencyMetrics m : metrics.values()) {
+            if (i == result.length) {
+                break;
+            }
+            result[i++] = m.toString();
+        }
+
+        return result;
+    }
+
+
+    // --------------------------------------------------------- Private Methods
+
+
+    private LatencySnapshot snapshot(final RequestPhase phase) {
+        return monitor.getMetrics().getSnapshot(phase);
+    }
+
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,6 +23,7 @@ import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.CompletionHandler;
 import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.Context;
@@ -43,6 +45,12 @@ import org.glassfish.grizzly.utils.ArraySet;
 /**
  * Port unification filter.
  *
+ * The first bytes of a new {@link Connection} are classified by the well-known protocol prefixes, so the Grizzly
+ * {@link ProtocolFinder}s, which can't recognize the prefix, are not run. Once the protocol is found, every read is
+ * still processed by the protocol {@link FilterChain} in the child {@link FilterChainContext}, because the
+ * {@link FilterChain}s keep the incomplete messages per {@link Connection}, so a {@link Connection} can't be moved to
+ * another {@link FilterChain} while it's being read.
+ *
  * @author Alexey Stashok
  */
 public class PUFilter extends BaseFilter {
@@ -53,6 +61,8 @@ public class PUFilter extends BaseFilter {
     private final BackChannelFilter backChannelFilter = new BackChannelFilter(this);
     private final ArraySet<PUProtocol> protocols = new ArraySet<>(PUProtocol.class);
 
+    private final InternalProcessingHandler internalProcessingHandler = new InternalProcessingHandler();
+
     final Attribute<PUContext> puContextAttribute;
     final Attribute<FilterChainContext> suspendedContextAttribute;
 
@@ -217,7 +227,7 @@ public class PUFilter extends BaseFilter {
         final FilterChainContext filterChainContext = filterChain.obtainFilterChainContext(connection);
         final Context context = filterChainContext.getInternalContext();
         context.setIoEvent(IOEvent.READ);
-        context.addLifeCycleListener(new InternalProcessingHandler(ctx));
+        context.addLifeCycleListener(internalProcessingHandler);
         filterChainContext.setAddressHolder(ctx.getAddressHolder());
         filterChainContext.setMessage(ctx.getMessage());
         return filterChainContext;
@@ -260,37 +270,64 @@ public class PUFilter extends BaseFilter {
     protected void findProtocol(final PUContext puContext, final FilterChainContext ctx) {
         final PUProtocol[] protocolArray = protocols.getArray();
 
+        // fast path: if the connection starts with a well-known prefix, skip the finders,
+        // which are known to never recognize it, the same way as if they reported NOT_FOUND,
+        // so the remaining finders are checked in the registration order
+        final Object message = ctx.getMessage();
+        final int family = message instanceof Buffer ? ProtocolPrefixTable.classify((Buffer) message) : ProtocolPrefixTable.UNKNOWN;
+        if (family != ProtocolPrefixTable.UNKNOWN) {
+            for (int i = 0; i < protocolArray.length; i++) {
+                if ((ProtocolPrefixTable.getFamilies(protocolArray[i].getProtocolFinder()) & 1 << family) == 0) {
+                    puContext.skippedProtocolFinders |= 1 << i;
+                }
+            }
+        }
+
         for (int i = 0; i < protocolArray.length; i++) {
-            final PUProtocol protocol = protocolArray[i];
-            if ((puContext.skippedProtocolFinders & 1 << i) != 0) {
-                continue;
+            if (checkProtocol(puContext, ctx, protocolArray, i)) {
+                return;
             }
-            try {
-                final ProtocolFinder.Result result = protocol.getProtocolFinder().find(puContext, ctx);
-
-                switch (result) {
-                case FOUND:
-                    puContext.protocol = protocol;
-                    return;
-                case NOT_FOUND:
-                    puContext.skippedProtocolFinders ^= 1 << i;
-                }
-            } catch (Exception e) {
-                LOGGER.log(Level.WARNING, "ProtocolFinder " + protocol.getProtocolFinder() + " reported error", e);
+        }
+    }
+
+    /**
+     * Runs the {@link ProtocolFinder} of the protocol with the given index, unless it has already reported the protocol
+     * is not found.
+     *
+     * @return <tt>true</tt> if the protocol has been found, or <tt>false</tt> otherwise
+     */
+    private static boolean checkProtocol(final PUContext puContext, final FilterChainContext ctx, final PUProtocol[] protocolArray, final int idx) {
+        if ((puContext.skippedProtocolFinders & 1 << idx) != 0) {
+            return false;
+        }
+
+        final PUProtocol protocol = protocolArray[idx];
+        try {
+            final ProtocolFinder.Result result = protocol.getProtocolFinder().find(puContext, ctx);
+
+            switch (result) {
+            case FOUND:
+                puContext.protocol = protocol;
+                return true;
+            case NOT_FOUND:
+                puContext.skippedProtocolFinders ^= 1 << idx;
             }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "ProtocolFinder " + protocol.getProtocolFinder() + " reported error", e);
         }
+
+        return false;
     }
 
     private static boolean isUpstream(final FilterChainContext context) {
         return context.getStartIdx() < context.getEndIdx();
     }
 
+    /**
+     * The child {@link Context} life-cycle listener, which resumes the suspended parent {@link FilterChainContext}. It's
+     * stateless, so the same instance is shared by all the child contexts.
+     */
     private class InternalProcessingHandler extends IOEventLifeCycleListener.Adapter {
-        private final FilterChainContext parentContext;
-
-        private InternalProcessingHandler(final FilterChainContext parentContext) {
-            this.parentContext = parentContext;
-        }
 
         @Override
         public void onReregister(final Context context) throws IOException {
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.portunif;
+
+import java.nio.charset.StandardCharsets;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.portunif.finders.HttpProtocolFinder;
+import org.glassfish.grizzly.portunif.finders.SSLProtocolFinder;
+
+/**
+ * The table of well-known protocol prefixes, which lets {@link PUFilter} classify the first bytes of a
+ * {@link org.glassfish.grizzly.Connection} and skip the {@link ProtocolFinder}s, which are known to never recognize the
+ * protocol family. The classification is only used to rule the finders out: the remaining {@link ProtocolFinder}s still
+ * have to confirm the protocol, and they are checked in the registration order.
+ */
+final class ProtocolPrefixTable {
+    static final int UNKNOWN = -1;
+
+    static final int TLS = 0;
+    static final int HTTP = 1;
+    static final int HTTP2 = 2;
+    static final int AJP = 3;
+
+    /**
+     * The number of protocol families
+     */
+    static final int SIZE = 4;
+
+    /**
+     * The bit mask of all the protocol families
+     */
+    static final int ALL_FAMILIES = (1 << SIZE) - 1;
+
+    // the HTTP/2 connection preface, RFC 7540 section 3.5
+    private static final byte[] HTTP2_PREFACE = ascii("PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n");
+
+    private static final byte[][] PREFIXES;
+    private static final int[] FAMILIES;
+
+    /**
+     * Maps the first byte to the indexes in {@link #PREFIXES}, starting with that byte
+     */
+    private static final int[][] INDEX = new int[256][];
+
+    static {
+        final Object[][] table = { { new byte[] { 0x16, 0x03 }, TLS }, // TLS handshake record
+                { ascii("GET "), HTTP }, { ascii("POST "), HTTP }, { ascii("PUT "), HTTP }, { ascii("HEAD "), HTTP }, { ascii("DELETE "), HTTP },
+                { ascii("OPTIONS "), HTTP }, { ascii("PATCH "), HTTP }, { ascii("TRACE "), HTTP }, { ascii("CONNECT "), HTTP }, { HTTP2_PREFACE, HTTP2 },
+                { new byte[] { 0x12, 0x34 }, AJP } // AJP13 packet sent by a web server
+        };
+
+        PREFIXES = new byte[table.length][];
+        FAMILIES = new int[table.length];
+
+        for (int i = 0; i < table.length; i++) {
+            PREFIXES[i] = (byte[]) table[i][0];
+            FAMILIES[i] = (Integer) table[i][1];
+
+            final int firstByte = PREFIXES[i][0] & 0xFF;
+            final int[] indexes = INDEX[firstByte];
+            if (indexes == null) {
+                INDEX[firstByte] = new int[] { i };
+            } else {
+                final int[] newIndexes = new int[indexes.length + 1];
+                System.arraycopy(indexes, 0, newIndexes, 0, indexes.length);
+                newIndexes[indexes.length] = i;
+                INDEX[firstByte] = newIndexes;
+            }
+        }
+    }
+
+    private ProtocolPrefixTable() {
+    }
+
+    /**
+     * Classifies the {@link Buffer} content by its prefix. The {@link Buffer} position is not changed. If there is not
+     * enough data to match a prefix completely - the method returns {@link #UNKNOWN}.
+     *
+     * @param buffer the {@link Buffer}
+     * @return the protocol family, or {@link #UNKNOWN} if none matches
+     */
+    static int classify(final Buffer buffer) {
+        final int position = buffer.position();
+        if (buffer.remaining() == 0) {
+            return UNKNOWN;
+        }
+
+        final int[] indexes = INDEX[buffer.get(position) & 0xFF];
+        if (indexes == null) {
+            return UNKNOWN;
+        }
+
+        for (int index : indexes) {
+            if (startsWith(buffer, position, PREFIXES[index])) {
+                return FAMILIES[index];
+            }
+        }
+
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the protocol families, which the {@link ProtocolFinder} may recognize. Only the finders provided by Grizzly
+     * are known, the subclasses and custom finders may recognize any family.
+     *
+     * @param finder the {@link ProtocolFinder}
+     * @return the bit mask of the protocol families
+     */
+    static int getFamilies(final ProtocolFinder finder) {
+        final Class<?> finderClass = finder.getClass();
+        if (finderClass == SSLProtocolFinder.class) {
+            return 1 << TLS;
+        }
+
+        if (finderClass == HttpProtocolFinder.class) {
+            // the HTTP/2 preface looks like the HTTP/1.x request line
+            return 1 << HTTP | 1 << HTTP2;
+        }
+
+        return ALL_FAMILIES;
+    }
+
+    private static boolean startsWith(final Buffer buffer, final int position, final byte[] prefix) {
+        if (buffer.limit() - position < prefix.length) {
+            return false;
+        }
+
+        for (int i = 1; i < prefix.length; i++) {
+            if (buffer.get(position + i) != prefix[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static byte[] ascii(final String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +18,7 @@
 package org.glassfish.grizzly.portunif;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -28,8 +30,14 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
+import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.SocketConnectorHandler;
 import org.glassfish.grizzly.filterchain.BaseFilter;
 import org.glassfish.grizzly.filterchain.Filter;
@@ -40,9 +48,15 @@ import org.glassfish.grizzly.filterchain.NextAction;
 import org.glassfish.grizzly.filterchain.TransportFilter;
 import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.impl.SafeFutureImpl;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.nio.transport.TCPNIOConnection;
 import org.glassfish.grizzly.nio.transport.TCPNIOConnectorHandler;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.glassfish.grizzly.portunif.finders.HttpProtocolFinder;
+import org.glassfish.grizzly.portunif.finders.SSLProtocolFinder;
+import org.glassfish.grizzly.ssl.SSLContextConfigurator;
+import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
 import org.glassfish.grizzly.utils.EchoFilter;
 import org.glassfish.grizzly.utils.StringFilter;
 import org.junit.Test;
@@ -208,6 +222,126 @@ public class BasicPUTest {
         }
     }
 
+    /**
+     * The protocols sharing the HTTP request prefix have to be recognized in the registration order, no matter which
+     * protocol has been recognized for the previous connection with the same prefix.
+     */
+    @Test
+    public void protocolsSharingPrefix() throws Exception {
+        final String[] requests = { "GET / HTTP/1.1", "GET /ws HTTP/1.1", "GET / HTTP/1.1", "GET /ws HTTP/1.1" };
+        final String[] expectedProtocols = { "HTTP", "WS", "HTTP", "WS" };
+
+        Connection connection = null;
+
+        final PUFilter puFilter = new PUFilter();
+        final ProtocolFinder wsFinder = new ProtocolFinder() {
+            @Override
+            public Result find(PUContext puContext, FilterChainContext ctx) {
+                final Buffer buffer = ctx.getMessage();
+                final String prefix = "GET /ws ";
+                if (buffer.remaining() < prefix.length()) {
+                    return Result.NEED_MORE_DATA;
+                }
+
+                return buffer.toStringContent(CHARSET, buffer.position(), buffer.position() + prefix.length()).equals(prefix)
+                        ? Result.FOUND
+                        : Result.NOT_FOUND;
+            }
+        };
+
+        // the SSL finder is skipped for the HTTP requests
+        puFilter.register(new SSLProtocolFinder(new SSLEngineConfigurator(new SSLContextConfigurator())),
+                puFilter.getPUFilterChainBuilder().add(new SimpleResponseFilter("SSL", false)).build());
+        puFilter.register(wsFinder, puFilter.getPUFilterChainBuilder().add(new StringFilter(CHARSET, "\r\n"))
+                .add(new SimpleResponseFilter("WS", false)).build());
+        puFilter.register(new HttpProtocolFinder(), puFilter.getPUFilterChainBuilder().add(new StringFilter(CHARSET, "\r\n"))
+                .add(new SimpleResponseFilter("HTTP", false)).build());
+
+        FilterChainBuilder puFilterChainBuilder = FilterChainBuilder.stateless().add(new TransportFilter()).add(puFilter);
+
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(puFilterChainBuilder.build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            for (int i = 0; i < requests.length; i++) {
+                final FutureImpl<String> resultFuture = SafeFutureImpl.create();
+                connection = openConnection(transport, resultFuture, new StringFilter(CHARSET, "\r\n"));
+
+                connection.write(requests[i]);
+
+                assertEquals(makeResponseMessage(expectedProtocols[i]), resultFuture.get(10, TimeUnit.SECONDS));
+                connection.closeSilently();
+            }
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
+    /**
+     * The finders, which are known to never recognize the connection prefix, are not run at all.
+     */
+    @Test
+    public void wellKnownPrefixSkipsFinders() throws Exception {
+        final PUFilter puFilter = new TestPUFilter();
+        final TestFinder customFinder = new TestFinder() {
+            @Override
+            public Result find(PUContext puContext, FilterChainContext ctx) {
+                invocationCount++;
+                return Result.NOT_FOUND;
+            }
+        };
+
+        puFilter.register(new SSLProtocolFinder(new SSLEngineConfigurator(new SSLContextConfigurator())),
+                puFilter.getPUFilterChainBuilder().build());
+        puFilter.register(customFinder, puFilter.getPUFilterChainBuilder().build());
+        final PUProtocol http = puFilter.register(new HttpProtocolFinder(), puFilter.getPUFilterChainBuilder().build());
+
+        // the SSL finder logs every connection it doesn't recognize
+        final AtomicInteger sslFinderRecords = new AtomicInteger();
+        final Logger sslFinderLogger = Grizzly.logger(SSLProtocolFinder.class);
+        final Level level = sslFinderLogger.getLevel();
+        final Handler handler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                sslFinderRecords.incrementAndGet();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        sslFinderLogger.setLevel(Level.FINE);
+        sslFinderLogger.addHandler(handler);
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        try {
+            final FilterChainContext ctx = FilterChainContext.create(new TCPNIOConnection(transport, null));
+            ctx.setMessage(Buffers.wrap(transport.getMemoryManager(), "GET / HTTP/1.1\r\n\r\n", CHARSET));
+            final PUContext puContext = new PUContext(puFilter);
+
+            puFilter.findProtocol(puContext, ctx);
+
+            assertSame(http, puContext.protocol);
+            assertEquals(0, sslFinderRecords.get());
+            // the custom finders are always run
+            assertEquals(1, customFinder.invocationCount);
+        } finally {
+            sslFinderLogger.removeHandler(handler);
+            sslFinderLogger.setLevel(level);
+        }
+    }
+
     @Test
     public void testGrizzly1031_001() throws Exception {
 
@@ -370,8 +504,13 @@ public class BasicPUTest {
 
     private Connection openConnection(TCPNIOTransport transport, final FutureImpl<String> resultFuture)
             throws TimeoutException, IOException, ExecutionException, InterruptedException {
+        return openConnection(transport, resultFuture, new StringFilter(CHARSET));
+    }
+
+    private Connection openConnection(TCPNIOTransport transport, final FutureImpl<String> resultFuture, final StringFilter stringFilter)
+            throws TimeoutException, IOException, ExecutionException, InterruptedException {
 
-        final FilterChain clientFilterChain = FilterChainBuilder.stateless().add(new TransportFilter()).add(new StringFilter(CHARSET))
+        final FilterChain clientFilterChain = FilterChainBuilder.stateless().add(new TransportFilter()).add(stringFilter)
                 .add(new ClientResultFilter(resultFuture)).build();
 
         final SocketConnectorHandler connectorHandler = TCPNIOConnectorHandler.builder(transport).processor(clientFilterChain).build();
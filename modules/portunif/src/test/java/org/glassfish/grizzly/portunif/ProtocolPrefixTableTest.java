@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.portunif;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.glassfish.grizzly.portunif.finders.HttpProtocolFinder;
+import org.glassfish.grizzly.portunif.finders.SSLProtocolFinder;
+import org.glassfish.grizzly.ssl.SSLContextConfigurator;
+import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
+import org.junit.Test;
+
+/**
+ * {@link ProtocolPrefixTable} tests.
+ */
+public class ProtocolPrefixTableTest {
+
+    @Test
+    public void testWellKnownPrefixes() {
+        assertEquals(ProtocolPrefixTable.TLS, classify(new byte[] { 0x16, 0x03, 0x01, 0x02, 0x00 }));
+        assertEquals(ProtocolPrefixTable.HTTP, classify("GET / HTTP/1.1\r\n"));
+        assertEquals(ProtocolPrefixTable.HTTP, classify("POST /form HTTP/1.1\r\n"));
+        assertEquals(ProtocolPrefixTable.HTTP, classify("OPTIONS * HTTP/1.1\r\n"));
+        assertEquals(ProtocolPrefixTable.HTTP2, classify("PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n"));
+        assertEquals(ProtocolPrefixTable.AJP, classify(new byte[] { 0x12, 0x34, 0x00, 0x10, 0x02 }));
+    }
+
+    @Test
+    public void testUnknownPrefixes() {
+        assertEquals(ProtocolPrefixTable.UNKNOWN, classify(""));
+        assertEquals(ProtocolPrefixTable.UNKNOWN, classify("X"));
+        assertEquals(ProtocolPrefixTable.UNKNOWN, classify("GETX / HTTP/1.1"));
+        assertEquals(ProtocolPrefixTable.UNKNOWN, classify(new byte[] { 0x16, 0x04 }));
+        // incomplete prefixes are not guessed
+        assertEquals(ProtocolPrefixTable.UNKNOWN, classify("GE"));
+        assertEquals(ProtocolPrefixTable.UNKNOWN, classify("PRI * HTTP/2.0\r\n"));
+    }
+
+    @Test
+    public void testPositionIsRespected() {
+        final Buffer buffer = Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, "xxGET / HTTP/1.1".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+
+        assertEquals(ProtocolPrefixTable.HTTP, ProtocolPrefixTable.classify(buffer));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void testFinderFamilies() {
+        final SSLEngineConfigurator sslEngineConfigurator = new SSLEngineConfigurator(new SSLContextConfigurator());
+
+        assertEquals(1 << ProtocolPrefixTable.TLS, ProtocolPrefixTable.getFamilies(new SSLProtocolFinder(sslEngineConfigurator)));
+        assertEquals(1 << ProtocolPrefixTable.HTTP | 1 << ProtocolPrefixTable.HTTP2, ProtocolPrefixTable.getFamilies(new HttpProtocolFinder()));
+
+        // the subclasses may recognize anything
+        assertEquals(ProtocolPrefixTable.ALL_FAMILIES, ProtocolPrefixTable.getFamilies(new HttpProtocolFinder() {
+        }));
+        assertEquals(ProtocolPrefixTable.ALL_FAMILIES, ProtocolPrefixTable.getFamilies(new ProtocolFinder() {
+            @Override
+            public Result find(final PUContext puContext, final FilterChainContext ctx) {
+                return Result.NOT_FOUND;
+            }
+        }));
+    }
+
+    private static int classify(final String s) {
+        return classify(s.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static int classify(final byte[] bytes) {
+        return ProtocolPrefixTable.classify(Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, bytes));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.glassfish.grizzly.samples.httpserver.flow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+
+/**
+ * The benchmark streams large request bodies through the {@link Request#getBodyPublisher()} -&gt;
+ * {@link Response#setBodyPublisher(java.util.concurrent.Flow.Publisher)} bridge, the way a streaming proxy would do,
+ * and reports the throughput and the peak heap usage, which is expected to stay constant no matter how large the
+ * bodies are.
+ *
+ * Usage: <tt>FlowProxyBenchmark [body size in MB (default 1024)] [iterations (default 5)]</tt>
+ */
+public class FlowProxyBenchmark {
+    private static final Logger LOGGER = Grizzly.logger(FlowProxyBenchmark.class);
+
+    private static final int PORT = 8080;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        final long bodySize = (args.length > 0 ? Long.parseLong(args[0]) : 1024) * 1024 * 1024;
+        final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        final HttpServer server = new HttpServer();
+        server.addListener(new NetworkListener("flow", NetworkListener.DEFAULT_NETWORK_HOST, PORT));
+        server.getServerConfiguration().addHttpHandler(new StreamingProxyHandler(), "/proxy");
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        final AtomicLong peakHeap = new AtomicLong();
+        sampler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                final long used = memoryBean.getHeapMemoryUsage().getUsed();
+                peakHeap.accumulateAndGet(used, Math::max);
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        try {
+            server.start();
+
+            for (int i = 0; i < iterations; i++) {
+                System.gc();
+                final long baseHeap = memoryBean.getHeapMemoryUsage().getUsed();
+                peakHeap.set(baseHeap);
+
+                final long start = System.nanoTime();
+                final long transferred = proxy(executor, bodySize);
+                final long elapsed = System.nanoTime() - start;
+
+                LOGGER.info(String.format("Iteration %d: %d MB proxied in %d ms, %.1f MB/s, peak heap growth %d KB", i + 1, transferred >> 20,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), transferred / 1048576.0 / (elapsed / 1e9), (peakHeap.get() - baseHeap) >> 10));
+            }
+        } finally {
+            sampler.shutdownNow();
+            executor.shutdownNow();
+            server.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends the body of the given size and concurrently reads it back.
+     *
+     * @return the number of bytes received
+     */
+    private static long proxy(final ExecutorService executor, final long bodySize) throws Exception {
+        try (Socket socket = new Socket("localhost", PORT)) {
+            final Future<?> sender = executor.submit(() -> {
+                final OutputStream out = socket.getOutputStream();
+                out.write(("POST /proxy HTTP/1.1\r\nHost: localhost:" + PORT + "\r\nContent-Length: " + bodySize + "\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+
+                final byte[] chunk = new byte[CHUNK_SIZE];
+                for (long sent = 0; sent < bodySize; sent += chunk.length) {
+                    out.write(chunk, 0, (int) Math.min(chunk.length, bodySize - sent));
+                }
+
+                out.flush();
+                return null;
+            });
+
+            final InputStream in = socket.getInputStream();
+            skipHead(in);
+
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            long received = 0;
+            while (received < bodySize) {
+                final int len = in.read(chunk);
+                if (len == -1) {
+                    break;
+                }
+                received += len;
+            }
+
+            sender.get();
+            return received;
+        }
+    }
+
+    private static void skipHead(final InputStream in) throws IOException {
+        int state = 0;
+        while (state < 4) {
+            final int b = in.read();
+            if (b == -1) {
+                throw new IOException("Unexpected end of stream");
+            }
+            state = b == (state % 2 == 0 ? '\r' : '\n') ? state + 1 : b == '\r' ? 1 : 0;
+        }
+    }
+
+    /**
+     * Streams the request body back as the response body, reading the request body only as fast as the response body
+     * can be written.
+     */
+    private static class StreamingProxyHandler extends HttpHandler {
+        @Override
+        public void service(final Request request, final Response response) throws Exception {
+            response.setContentType(request.getContentType());
+            response.setContentLengthLong(request.getContentLengthLong());
+            response.setBodyPublisher(request.getBodyPublisher());
+        }
+    }
+}